@@ -0,0 +1,26 @@
+package com.sprint.omnibook.broker.api;
+
+import com.sprint.omnibook.broker.ingestion.EventIngestionService;
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 노드 간 이벤트 전달 수신 컨트롤러 (클러스터 내부용).
+ * 처리 실패도 200으로 IngestionResult를 돌려주며, 응답 코드 변환은 최초 수신 노드의 EventController가 한다.
+ */
+@RestController
+@RequestMapping("/internal/cluster")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "broker.cluster.enabled", havingValue = "true")
+public class ClusterController {
+
+    private final EventIngestionService ingestionService;
+
+    @PostMapping("/events")
+    public IngestionResult receiveForwarded(@RequestBody IngestRequest request) {
+        return ingestionService.ingestForwarded(request);
+    }
+}
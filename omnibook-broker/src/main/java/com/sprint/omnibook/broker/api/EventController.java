@@ -1,18 +1,21 @@
 package com.sprint.omnibook.broker.api;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.sprint.omnibook.broker.api.dto.ErrorResponse;
 import com.sprint.omnibook.broker.api.dto.EventResponse;
+import com.sprint.omnibook.broker.bulkhead.PlatformBulkheads;
 import com.sprint.omnibook.broker.ingestion.EventHeaders;
 import com.sprint.omnibook.broker.ingestion.EventIngestionService;
 import com.sprint.omnibook.broker.ingestion.EventTypeHeaderAlias;
 import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import com.sprint.omnibook.broker.support.ServerTiming;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 외부 이벤트 수신 컨트롤러.
@@ -24,25 +27,53 @@ import java.util.Map;
 public class EventController {
 
     private static final String MDC_CORRELATION_ID = "correlationId";
+    private static final String QUERY_COUNT_HEADER = "X-Query-Count";
 
     private final EventIngestionService ingestionService;
+    private final PlatformBulkheads bulkheads;
+
+    @Value("${broker.server-timing.enabled:false}")
+    private boolean serverTimingEnabled;
+
+    @Value("${broker.query-count.header-enabled:false}")
+    private boolean queryCountHeaderEnabled;
 
     /**
      * 외부 플랫폼으로부터 예약 이벤트를 수신하고 처리 결과를 반환한다.
+     * handoff 모드(ingest 프로필)에서는 처리 전에 202 QUEUED를 반환한다.
+     * 처리는 X-Platform에 해당하는 플랫폼 격벽에서 실행된다 (격벽이 가득 차면 429).
+     * broker.server-timing.enabled=true 이면 단계별 소요 시간을 Server-Timing 헤더로 돌려준다.
+     * broker.query-count.header-enabled=true 이면 예약 처리에서 실행된 SQL 문 수를 X-Query-Count 헤더로 돌려준다.
      */
     @PostMapping
-    public ResponseEntity<?> receiveEvent(
+    public CompletableFuture<ResponseEntity<?>> receiveEvent(
             @RequestHeader(value = "X-Event-Id", required = false) String eventId,
             @RequestHeader(value = "X-Platform", required = true) String platform,
             @RequestHeader(value = "X-Event-Type", required = false, defaultValue = EventTypeHeaderAlias.BOOKING) String eventType,
             @RequestHeader(value = "X-Correlation-Id", required = false) String correlationId,
-            @RequestBody String rawBody) throws JsonProcessingException {
+            @RequestBody String rawBody) {
 
         EventHeaders headers = new EventHeaders(eventId, platform, eventType, correlationId);
-        IngestionResult result = ingestionService.process(rawBody, headers);
+        if (!serverTimingEnabled && !queryCountHeaderEnabled) {
+            return bulkheads.submit(platform, () -> toResponse(ingestionService.process(rawBody, headers), null));
+        }
+        return bulkheads.submit(platform, () -> {
+            ServerTiming timing = ServerTiming.begin();
+            try {
+                return toResponse(ingestionService.process(rawBody, headers), timing);
+            } finally {
+                ServerTiming.detach();
+            }
+        });
+    }
+
+    private ResponseEntity<?> toResponse(IngestionResult result, ServerTiming timing) {
+        if (result.queued()) {
+            return withTiming(ResponseEntity.accepted(), timing).body(EventResponse.queued(result.eventId()));
+        }
 
         if (result.success()) {
-            return ResponseEntity.ok(EventResponse.accepted(result.eventId()));
+            return withTiming(ResponseEntity.ok(), timing).body(EventResponse.accepted(result.eventId()));
         }
 
         ErrorResponse errorResponse = ErrorResponse.of(
@@ -52,8 +83,20 @@ public class EventController {
                 MDC.get(MDC_CORRELATION_ID)
         );
 
-        return ResponseEntity
-                .status(result.errorCode().getHttpStatus())
+        return withTiming(ResponseEntity.status(result.errorCode().getHttpStatus()), timing)
                 .body(errorResponse);
     }
+
+    private ResponseEntity.BodyBuilder withTiming(ResponseEntity.BodyBuilder builder, ServerTiming timing) {
+        if (timing == null) {
+            return builder;
+        }
+        if (serverTimingEnabled) {
+            builder.header(ServerTiming.HEADER, timing.toHeaderValue());
+        }
+        if (queryCountHeaderEnabled) {
+            builder.header(QUERY_COUNT_HEADER, timing.queries().toHeaderValue());
+        }
+        return builder;
+    }
 }
@@ -0,0 +1,80 @@
+package com.sprint.omnibook.broker.api;
+
+import com.sprint.omnibook.broker.api.dto.FailedEventBulkResponse;
+import com.sprint.omnibook.broker.api.dto.FailedEventPageResponse;
+import com.sprint.omnibook.broker.api.dto.FailedEventSummaryResponse;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService.FailedEventPage;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService.RetryOutcome;
+import com.sprint.omnibook.broker.failedevent.FailedEventFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+/**
+ * 실패 이벤트 운영 API.
+ *
+ * GET  /api/failed-events           목록 (최신순, keyset 커서)
+ * GET  /api/failed-events/summary   플랫폼/에러 접두어별 집계
+ * POST /api/failed-events/resolve   필터 일치 미해결 건 일괄 해결
+ * POST /api/failed-events/retry     필터 일치 미해결 건 일괄 재처리
+ *
+ * 필터는 모두 query parameter로 받는다: platform, error, resolved, from, to (ISO-8601)
+ */
+@RestController
+@Profile("!ingest")
+@RequestMapping("/api/failed-events")
+@RequiredArgsConstructor
+public class FailedEventController {
+
+    private final FailedEventAdminService failedEventAdminService;
+
+    @GetMapping
+    public ResponseEntity<FailedEventPageResponse> list(
+            @RequestParam(required = false) String platform,
+            @RequestParam(required = false) String error,
+            @RequestParam(required = false) Boolean resolved,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        FailedEventFilter filter = new FailedEventFilter(platform, error, resolved, from, to);
+        FailedEventPage page = failedEventAdminService.list(filter, cursor, limit);
+        return ResponseEntity.ok(FailedEventPageResponse.from(page));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<FailedEventSummaryResponse> summary() {
+        return ResponseEntity.ok(FailedEventSummaryResponse.from(failedEventAdminService.summary()));
+    }
+
+    @PostMapping("/resolve")
+    public ResponseEntity<FailedEventBulkResponse> resolve(
+            @RequestParam(required = false) String platform,
+            @RequestParam(required = false) String error,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+
+        FailedEventFilter filter = new FailedEventFilter(platform, error, false, from, to);
+        int resolved = failedEventAdminService.resolve(filter);
+        return ResponseEntity.ok(FailedEventBulkResponse.resolved(resolved));
+    }
+
+    @PostMapping("/retry")
+    public ResponseEntity<FailedEventBulkResponse> retry(
+            @RequestParam(required = false) String platform,
+            @RequestParam(required = false) String error,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        FailedEventFilter filter = new FailedEventFilter(platform, error, false, from, to);
+        RetryOutcome outcome = failedEventAdminService.retry(filter, limit);
+        return ResponseEntity.ok(FailedEventBulkResponse.retried(outcome));
+    }
+}
@@ -21,6 +21,13 @@ public class EventResponse {
         return new EventResponse(eventId, Status.ACCEPTED, Message.ACCEPTED);
     }
 
+    /**
+     * 처리 대기열 등록 응답을 생성한다.
+     */
+    public static EventResponse queued(String eventId) {
+        return new EventResponse(eventId, Status.QUEUED, Message.QUEUED);
+    }
+
     /**
      * 실패 응답을 생성한다.
      */
@@ -44,12 +51,14 @@ public class EventResponse {
 
     private static class Status {
         static final String ACCEPTED = "ACCEPTED";
+        static final String QUEUED = "QUEUED";
         static final String FAILED = "FAILED";
         static final String SAVED_FOR_RETRY = "SAVED_FOR_RETRY";
     }
 
     private static class Message {
         static final String ACCEPTED = "이벤트가 정상 처리되었습니다.";
+        static final String QUEUED = "이벤트가 처리 대기열에 등록되었습니다.";
         static final String SAVED_FOR_RETRY = "변환 실패. 원본이 저장되었습니다.";
     }
 }
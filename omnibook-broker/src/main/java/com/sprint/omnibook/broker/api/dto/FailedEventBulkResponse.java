@@ -0,0 +1,38 @@
+package com.sprint.omnibook.broker.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService.RetryFailure;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService.RetryOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 실패 이벤트 일괄 처리 응답.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FailedEventBulkResponse {
+
+    private final String action;
+    private final int matched;
+    private final Integer succeeded;
+    private final Integer failed;
+    private final List<RetryFailure> failures;
+
+    public static FailedEventBulkResponse resolved(int count) {
+        return new FailedEventBulkResponse(Action.RESOLVE, count, null, null, null);
+    }
+
+    public static FailedEventBulkResponse retried(RetryOutcome outcome) {
+        return new FailedEventBulkResponse(Action.RETRY, outcome.attempted(), outcome.succeeded(), outcome.failed(),
+                outcome.failures().isEmpty() ? null : outcome.failures());
+    }
+
+    private static class Action {
+        static final String RESOLVE = "RESOLVE";
+        static final String RETRY = "RETRY";
+    }
+}
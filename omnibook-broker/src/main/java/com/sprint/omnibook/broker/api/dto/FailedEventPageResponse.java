@@ -0,0 +1,52 @@
+package com.sprint.omnibook.broker.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService.FailedEventPage;
+import com.sprint.omnibook.broker.failedevent.FailedEventRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 실패 이벤트 목록 응답.
+ * nextCursor가 null이면 마지막 페이지다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FailedEventPageResponse {
+
+    private final List<Item> items;
+    private final String nextCursor;
+
+    public static FailedEventPageResponse from(FailedEventPage page) {
+        List<Item> items = page.items().stream()
+                .map(Item::from)
+                .toList();
+        return new FailedEventPageResponse(items, page.nextCursor());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private final long id;
+        private final String eventId;
+        private final String platform;
+        private final String eventType;
+        private final String correlationId;
+        private final String reservationId;
+        private final String errorPrefix;
+        private final String errorMessage;
+        private final Instant failedAt;
+        private final int retryCount;
+        private final boolean resolved;
+
+        static Item from(FailedEventRow row) {
+            return new Item(row.id(), row.eventId(), row.platform(), row.eventType(),
+                    row.correlationId(), row.reservationId(), row.errorPrefix(), row.errorMessage(),
+                    row.failedAt(), row.retryCount(), row.resolved());
+        }
+    }
+}
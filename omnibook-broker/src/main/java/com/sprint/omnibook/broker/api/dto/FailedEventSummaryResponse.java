@@ -0,0 +1,35 @@
+package com.sprint.omnibook.broker.api.dto;
+
+import com.sprint.omnibook.broker.failedevent.FailedEventCounter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실패 이벤트 집계 응답.
+ * failed_event_counter 값을 그대로 노출하며, 플랫폼 합계만 응답 시점에 계산한다.
+ */
+@Getter
+@AllArgsConstructor
+public class FailedEventSummaryResponse {
+
+    private final long total;
+    private final long unresolved;
+    private final Map<String, Long> unresolvedByPlatform;
+    private final List<FailedEventCounter> counters;
+
+    public static FailedEventSummaryResponse from(List<FailedEventCounter> counters) {
+        long total = 0;
+        long unresolved = 0;
+        Map<String, Long> byPlatform = new LinkedHashMap<>();
+        for (FailedEventCounter c : counters) {
+            total += c.total();
+            unresolved += c.unresolved();
+            byPlatform.merge(c.platform(), c.unresolved(), Long::sum);
+        }
+        return new FailedEventSummaryResponse(total, unresolved, byPlatform, counters);
+    }
+}
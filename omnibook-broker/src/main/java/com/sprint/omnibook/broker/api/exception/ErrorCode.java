@@ -20,6 +20,10 @@ public enum ErrorCode {
     TRANSLATOR_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "해당 플랫폼의 Translator가 등록되지 않았습니다."),
     PAYLOAD_SERIALIZATION_FAILED(HttpStatus.BAD_REQUEST, "페이로드 직렬화에 실패했습니다."),
     PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "이벤트 처리에 실패했습니다."),
+    HANDOFF_FULL(HttpStatus.SERVICE_UNAVAILABLE, "처리 대기열이 가득 찼습니다. 잠시 후 재시도하세요."),
+    PARTITION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "객실 담당 노드를 확인할 수 없습니다. 잠시 후 재시도하세요."),
+    INGESTION_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "처리 중인 요청이 많습니다. 잠시 후 재시도하세요."),
+    PLATFORM_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "해당 플랫폼의 처리 한도를 초과했습니다. 잠시 후 재시도하세요."),
 
     // === Reservations ===
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다."),
@@ -1,10 +1,13 @@
 package com.sprint.omnibook.broker.api.exception;
 
 import com.sprint.omnibook.broker.api.dto.ErrorResponse;
+import com.sprint.omnibook.broker.bulkhead.BulkheadRejectedException;
 import com.sprint.omnibook.broker.config.CorrelationIdFilter;
+import com.sprint.omnibook.broker.support.TimeOrderedIds;
 import com.sprint.omnibook.broker.translator.TranslationException;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingRequestHeaderException;
@@ -14,7 +17,6 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 전역 예외 처리기.
@@ -46,6 +48,28 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * 플랫폼 격벽 거절. 재시도 시점을 Retry-After로 알려준다.
+     */
+    @ExceptionHandler(BulkheadRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadRejected(BulkheadRejectedException ex) {
+        String traceId = getTraceId();
+
+        log.warn("BulkheadRejectedException: details={}", ex.getDetails());
+
+        ErrorResponse response = ErrorResponse.of(
+                ex.getErrorCode(),
+                ex.getMessage(),
+                ex.getDetails(),
+                traceId
+        );
+
+        return ResponseEntity
+                .status(ex.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * TranslationException 처리 (payload 변환 실패).
      */
@@ -205,6 +229,6 @@ public class GlobalExceptionHandler {
         if (correlationId != null && !correlationId.isBlank()) {
             return correlationId;
         }
-        return UUID.randomUUID().toString().substring(0, 8);
+        return TimeOrderedIds.newCompactId();
     }
 }
@@ -0,0 +1,22 @@
+package com.sprint.omnibook.broker.bulkhead;
+
+import com.sprint.omnibook.broker.api.exception.BrokerException;
+import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.event.PlatformType;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 플랫폼 격벽(bulkhead)이 가득 차거나 처리율 한도를 넘어 요청을 받지 못한 경우.
+ */
+@Getter
+public class BulkheadRejectedException extends BrokerException {
+
+    private final long retryAfterSeconds;
+
+    public BulkheadRejectedException(PlatformType platform, String reason, long retryAfterSeconds) {
+        super(ErrorCode.PLATFORM_OVERLOADED, Map.of("platform", platform.name(), "reason", reason));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,94 @@
+package com.sprint.omnibook.broker.bulkhead;
+
+import com.sprint.omnibook.broker.event.PlatformType;
+import com.sprint.omnibook.broker.support.TokenBucket;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 한 플랫폼 전용 격벽. 고정 크기 스레드 풀 + 유한 대기열 + (선택) 토큰 버킷.
+ *
+ * 대기열이 가득 차거나 토큰이 없으면 즉시 거절한다. 작업 스레드에는 제출 시점의 MDC를 복사한다.
+ */
+class PlatformBulkhead {
+
+    static final String REJECTED_QUEUE_FULL = "queue_full";
+    static final String REJECTED_RATE_LIMITED = "rate_limited";
+
+    private final PlatformType platform;
+    private final ThreadPoolExecutor executor;
+    private final TokenBucket rateLimiter;
+    private final long retryAfterSeconds;
+
+    PlatformBulkhead(PlatformType platform, int concurrency, int queueCapacity, TokenBucket rateLimiter, long retryAfterSeconds) {
+        this.platform = platform;
+        this.rateLimiter = rateLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        AtomicInteger sequence = new AtomicInteger();
+        String prefix = "bulkhead-" + platform.name().toLowerCase() + "-";
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, prefix + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @throws BulkheadRejectedException 처리율 한도를 넘었거나 대기열이 가득 찬 경우
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+            throw new BulkheadRejectedException(platform, REJECTED_RATE_LIMITED, retryAfterSeconds);
+        }
+
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    future.complete(task.get());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new BulkheadRejectedException(platform, REJECTED_QUEUE_FULL, retryAfterSeconds);
+        }
+        return future;
+    }
+
+    PlatformType platform() {
+        return platform;
+    }
+
+    int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(timeout, unit)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.sprint.omnibook.broker.bulkhead;
+
+import com.sprint.omnibook.broker.event.PlatformType;
+import com.sprint.omnibook.broker.ingestion.PlatformHeaderAlias;
+import com.sprint.omnibook.broker.support.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 플랫폼별 격벽 모음.
+ *
+ * 이벤트 처리를 X-Platform 헤더에 해당하는 플랫폼 전용 스레드 풀에서 실행해,
+ * 한 플랫폼의 폭주가 Tomcat 스레드와 커넥션 풀을 다 차지하지 못하게 한다.
+ * 격벽마다 동시 처리 수(concurrency), 대기열 크기(queue-capacity), 선택적 초당 처리율(rate-per-second)을 둔다.
+ *
+ * broker.bulkhead.enabled=false 이거나 플랫폼을 알 수 없는 요청은 호출 스레드에서 바로 실행한다.
+ */
+@Slf4j
+@Component
+public class PlatformBulkheads {
+
+    private static final String PLATFORM_PREFIX = "broker.bulkhead.platform.";
+
+    private final boolean enabled;
+    private final Map<PlatformType, PlatformBulkhead> bulkheads = new EnumMap<>(PlatformType.class);
+    private final Map<PlatformType, Counter> rejectedQueueFull = new EnumMap<>(PlatformType.class);
+    private final Map<PlatformType, Counter> rejectedRateLimited = new EnumMap<>(PlatformType.class);
+
+    public PlatformBulkheads(
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${broker.bulkhead.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            return;
+        }
+
+        long retryAfterSeconds = environment.getProperty("broker.bulkhead.retry-after-seconds", Long.class, 1L);
+        for (PlatformType platform : PlatformType.values()) {
+            String prefix = PLATFORM_PREFIX + platform.name().toLowerCase() + ".";
+            int concurrency = environment.getProperty(prefix + "concurrency", Integer.class, 8);
+            int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, 200);
+            double rate = environment.getProperty(prefix + "rate-per-second", Double.class, 0.0);
+            TokenBucket rateLimiter = rate > 0 ? new TokenBucket(rate, Math.max(1, (int) rate)) : null;
+
+            PlatformBulkhead bulkhead = new PlatformBulkhead(platform, Math.max(1, concurrency), queueCapacity, rateLimiter, retryAfterSeconds);
+            bulkheads.put(platform, bulkhead);
+            registerMetrics(meterRegistry, bulkhead);
+            log.info("[Bulkhead] {}: concurrency={}, queueCapacity={}, ratePerSecond={}",
+                    platform, concurrency, queueCapacity, rate > 0 ? rate : "unlimited");
+        }
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, PlatformBulkhead bulkhead) {
+        String platform = bulkhead.platform().name();
+        Gauge.builder("broker.bulkhead.queue.depth", bulkhead, PlatformBulkhead::queueDepth)
+                .tag("platform", platform)
+                .register(meterRegistry);
+        Gauge.builder("broker.bulkhead.active", bulkhead, PlatformBulkhead::activeCount)
+                .tag("platform", platform)
+                .register(meterRegistry);
+        rejectedQueueFull.put(bulkhead.platform(), Counter.builder("broker.bulkhead.rejected")
+                .tag("platform", platform).tag("reason", PlatformBulkhead.REJECTED_QUEUE_FULL)
+                .register(meterRegistry));
+        rejectedRateLimited.put(bulkhead.platform(), Counter.builder("broker.bulkhead.rejected")
+                .tag("platform", platform).tag("reason", PlatformBulkhead.REJECTED_RATE_LIMITED)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 플랫폼 헤더에 해당하는 격벽에서 작업을 실행한다.
+     *
+     * @throws BulkheadRejectedException 해당 플랫폼 격벽이 요청을 받지 못한 경우
+     */
+    public <T> CompletableFuture<T> submit(String platformHeader, Supplier<T> task) {
+        PlatformBulkhead bulkhead = enabled ? bulkheads.get(PlatformHeaderAlias.toPlatformType(platformHeader)) : null;
+        if (bulkhead == null) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+
+        try {
+            return bulkhead.submit(task);
+        } catch (BulkheadRejectedException e) {
+            Map<PlatformType, Counter> counters = PlatformBulkhead.REJECTED_RATE_LIMITED.equals(e.getDetails().get("reason"))
+                    ? rejectedRateLimited
+                    : rejectedQueueFull;
+            counters.get(bulkhead.platform()).increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (PlatformBulkhead bulkhead : bulkheads.values()) {
+            bulkhead.shutdown(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sprint.omnibook.broker.channelsync;
+
+import com.sprint.omnibook.broker.domain.AvailabilityAction;
+import com.sprint.omnibook.broker.domain.ChannelSyncOutbox;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outbox 행을 대상 방/날짜 단위로 병합한다.
+ *
+ * 같은 방의 같은 날짜에 대한 변경은 마지막(id 순) 변경만 남기고,
+ * 연속된 날짜에 같은 action이 이어지면 하나의 범위로 합친다.
+ * 예) CLOSE 1~3일, OPEN 1~3일, CLOSE 2~5일 → OPEN 1일, CLOSE 2~5일
+ */
+final class AvailabilityCoalescer {
+
+    private AvailabilityCoalescer() {
+    }
+
+    /**
+     * @param rows 한 대상 플랫폼의 Outbox 행 (id 오름차순)
+     */
+    static List<AvailabilityUpdate> coalesce(List<ChannelSyncOutbox> rows) {
+        Map<String, TreeMap<LocalDate, DayState>> byRoom = new LinkedHashMap<>();
+
+        for (ChannelSyncOutbox row : rows) {
+            TreeMap<LocalDate, DayState> days = byRoom.computeIfAbsent(row.getPlatformRoomId(), k -> new TreeMap<>());
+            for (LocalDate d = row.getStartDate(); d.isBefore(row.getEndDate()); d = d.plusDays(1)) {
+                days.put(d, new DayState(row.getAction(), row.getCreatedAt()));
+            }
+        }
+
+        List<AvailabilityUpdate> updates = new ArrayList<>();
+        byRoom.forEach((platformRoomId, days) -> mergeRanges(platformRoomId, days, updates));
+        return updates;
+    }
+
+    private static void mergeRanges(String platformRoomId, TreeMap<LocalDate, DayState> days,
+                                    List<AvailabilityUpdate> out) {
+        LocalDate rangeStart = null;
+        LocalDate rangeEnd = null;
+        AvailabilityAction rangeAction = null;
+        Instant rangeChangedAt = null;
+
+        for (Map.Entry<LocalDate, DayState> entry : days.entrySet()) {
+            LocalDate date = entry.getKey();
+            DayState state = entry.getValue();
+
+            boolean contiguous = rangeStart != null && date.equals(rangeEnd) && state.action() == rangeAction;
+            if (contiguous) {
+                rangeEnd = date.plusDays(1);
+                rangeChangedAt = earliest(rangeChangedAt, state.changedAt());
+                continue;
+            }
+            if (rangeStart != null) {
+                out.add(new AvailabilityUpdate(platformRoomId, rangeStart, rangeEnd, rangeAction, rangeChangedAt));
+            }
+            rangeStart = date;
+            rangeEnd = date.plusDays(1);
+            rangeAction = state.action();
+            rangeChangedAt = state.changedAt();
+        }
+        if (rangeStart != null) {
+            out.add(new AvailabilityUpdate(platformRoomId, rangeStart, rangeEnd, rangeAction, rangeChangedAt));
+        }
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore(b) ? a : b;
+    }
+
+    private record DayState(AvailabilityAction action, Instant changedAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.sprint.omnibook.broker.channelsync;
+
+import com.sprint.omnibook.broker.domain.AvailabilityAction;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 대상 플랫폼으로 전송되는 병합된 가용성 변경.
+ *
+ * @param platformRoomId 대상 플랫폼의 방 ID
+ * @param startDate      시작일 (포함)
+ * @param endDate        종료일 (미포함)
+ * @param action         CLOSE / OPEN
+ * @param changedAt      병합된 변경 중 가장 이른 기록 시각 (전파 지연 측정 기준)
+ */
+public record AvailabilityUpdate(
+        String platformRoomId,
+        LocalDate startDate,
+        LocalDate endDate,
+        AvailabilityAction action,
+        Instant changedAt
+) {
+}
@@ -0,0 +1,68 @@
+package com.sprint.omnibook.broker.channelsync;
+
+import com.sprint.omnibook.broker.event.PlatformType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 대상 플랫폼 엔드포인트로 가용성 변경 배치를 전송한다.
+ * 2xx가 아니거나 연결/응답 시간을 넘기면 RestClientException을 던지며, 호출자는 claim을 풀어 재시도한다.
+ */
+@Component
+public class ChannelSyncClient {
+
+    private final RestClient restClient;
+    private final Duration timeout;
+
+    public ChannelSyncClient(
+            @Value("${broker.channel-sync.push.connect-timeout-ms:1000}") int connectTimeoutMs,
+            @Value("${broker.channel-sync.push.read-timeout-ms:10000}") int readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+        this.timeout = Duration.ofMillis((long) connectTimeoutMs + readTimeoutMs);
+    }
+
+    /**
+     * 전송 한 번이 걸릴 수 있는 최대 시간 (연결 + 응답 대기).
+     */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    public void push(String endpoint, PlatformType platform, List<AvailabilityUpdate> updates) {
+        List<Item> items = updates.stream()
+                .map(u -> new Item(
+                        u.platformRoomId(),
+                        u.startDate().toString(),
+                        u.endDate().toString(),
+                        u.action().name(),
+                        u.changedAt() != null ? u.changedAt().toEpochMilli() : 0L))
+                .toList();
+
+        restClient.post()
+                .uri(endpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new Batch(platform.name(), items))
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    /**
+     * 전송 바디. 플랫폼 측 파싱 부담을 줄이기 위해 날짜/시각은 문자열/epoch millis로 보낸다.
+     */
+    record Batch(String platform, List<Item> updates) {
+    }
+
+    record Item(String platformRoomId, String startDate, String endDate, String action, long changedAt) {
+    }
+}
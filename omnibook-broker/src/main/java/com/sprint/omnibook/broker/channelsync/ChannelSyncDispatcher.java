@@ -0,0 +1,212 @@
+package com.sprint.omnibook.broker.channelsync;
+
+import com.sprint.omnibook.broker.domain.ChannelSyncOutbox;
+import com.sprint.omnibook.broker.domain.repository.ChannelSyncOutboxRepository;
+import com.sprint.omnibook.broker.event.PlatformType;
+import com.sprint.omnibook.broker.support.TokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Outbox를 읽어 플랫폼별로 병합된 가용성 변경을 전송한다.
+ *
+ * - 플랫폼마다 독립된 스레드에서 처리하여 느린 플랫폼이 다른 플랫폼을 막지 않는다.
+ * - 플랫폼별 토큰 버킷으로 전송 요청 수를 제한한다.
+ * - 행 잠금은 claim(claimed_until)을 기록하는 짧은 트랜잭션에서만 잡는다.
+ *   토큰 대기와 HTTP 전송은 트랜잭션 밖에서 수행하므로 느린 플랫폼이 DB 커넥션/잠금을 붙잡지 않는다.
+ * - 플랫폼마다 클러스터 전체에서 전송 중인 배치는 하나뿐이다.
+ *   CLOSE/OPEN 자체는 멱등이지만 순서가 바뀌면(예전 CLOSE가 새 OPEN 뒤에 도착) 방이 닫힌 채로 남으므로,
+ *   claim 트랜잭션을 플랫폼별 advisory lock으로 직렬화하고, claim이 살아 있는 행이 있으면 새로 claim하지 않는다.
+ * - 전송은 claim-lease-ms 안에 끝나야 한다. 전송 타임아웃(연결 + 응답)이 남은 lease를 넘으면 보내지 않고 claim을 푼다.
+ *   그래서 lease가 만료되어 다른 dispatcher가 가져간 배치를 예전 dispatcher가 뒤늦게 보내는 일이 없다.
+ * - 전송 실패 시 claim을 풀어 다음 주기에 재전송한다. dispatcher가 죽으면 claim-lease-ms 뒤 다른 dispatcher가 가져간다.
+ * - 전송 완료된 행은 retention-hours가 지나면 prune()이 지운다.
+ *
+ * 엔드포인트가 설정된 플랫폼만 대상이다:
+ *   broker.channel-sync.platform.{yanolja|airbnb|yeogieottae}.endpoint
+ *   broker.channel-sync.platform.{...}.rate-per-second
+ */
+@Slf4j
+@Component
+@Profile("!ingest")
+@ConditionalOnProperty(name = "broker.channel-sync.enabled", havingValue = "true")
+public class ChannelSyncDispatcher {
+
+    private static final String PLATFORM_PREFIX = "broker.channel-sync.platform.";
+
+    /** advisory lock 키의 상위 int. 클러스터 파티션 락(PartitionOwnership.CLASS_ID)과 겹치지 않게 고정값을 쓴다. */
+    static final int CLAIM_LOCK_CLASS_ID = 0x4f4d4353; // "OMCS"
+
+    private final ChannelSyncOutboxRepository outboxRepository;
+    private final ChannelSyncClient client;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration claimLease;
+    private final Duration retention;
+    private final int pruneBatchSize;
+    private final Map<PlatformType, String> endpoints = new EnumMap<>(PlatformType.class);
+    private final Map<PlatformType, TokenBucket> rateLimiters = new EnumMap<>(PlatformType.class);
+    private final ExecutorService executor;
+
+    public ChannelSyncDispatcher(
+            ChannelSyncOutboxRepository outboxRepository,
+            ChannelSyncClient client,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${broker.channel-sync.batch-size:500}") int batchSize,
+            @Value("${broker.channel-sync.claim-lease-ms:60000}") long claimLeaseMs,
+            @Value("${broker.channel-sync.retention-hours:24}") long retentionHours,
+            @Value("${broker.channel-sync.prune-batch-size:5000}") int pruneBatchSize) {
+        this.outboxRepository = outboxRepository;
+        this.client = client;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+        if (claimLease.compareTo(client.timeout()) <= 0) {
+            throw new IllegalArgumentException(
+                    "broker.channel-sync.claim-lease-ms는 전송 타임아웃(connect + read)보다 커야 합니다.");
+        }
+        this.retention = Duration.ofHours(retentionHours);
+        this.pruneBatchSize = pruneBatchSize;
+
+        for (PlatformType platform : PlatformType.values()) {
+            String prefix = PLATFORM_PREFIX + platform.name().toLowerCase() + ".";
+            String endpoint = environment.getProperty(prefix + "endpoint");
+            if (endpoint == null || endpoint.isBlank()) {
+                continue;
+            }
+            double rate = environment.getProperty(prefix + "rate-per-second", Double.class, 10.0);
+            endpoints.put(platform, endpoint);
+            rateLimiters.put(platform, new TokenBucket(rate, Math.max(1, (int) rate)));
+        }
+        this.executor = Executors.newFixedThreadPool(Math.max(1, endpoints.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${broker.channel-sync.dispatch-interval-ms:500}")
+    public void dispatch() throws InterruptedException {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        endpoints.forEach((platform, endpoint) -> tasks.add(() -> dispatchSafely(platform, endpoint)));
+        executor.invokeAll(tasks);
+    }
+
+    private int dispatchSafely(PlatformType platform, String endpoint) {
+        try {
+            return dispatchPlatform(platform, endpoint);
+        } catch (Exception e) {
+            meterRegistry.counter("broker.channel-sync.push.failures", "platform", platform.name()).increment();
+            log.warn("[ChannelSync] 전송 실패, 다음 주기에 재시도: platform={}, reason={}", platform, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 한 플랫폼의 미전송 Outbox를 claim하고, 병합 후 전송하고, 전송 완료로 표시한다.
+     */
+    private int dispatchPlatform(PlatformType platform, String endpoint) {
+        List<ChannelSyncOutbox> rows = claim(platform);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = rows.stream().map(ChannelSyncOutbox::getId).toList();
+        Instant claimedUntil = rows.get(0).getClaimedUntil();
+
+        List<AvailabilityUpdate> updates = AvailabilityCoalescer.coalesce(rows);
+        try {
+            acquirePermit(platform);
+            if (Instant.now().plus(client.timeout()).isAfter(claimedUntil)) {
+                // 보내는 도중 lease가 만료되면 다른 dispatcher의 더 새로운 배치보다 늦게 도착할 수 있다
+                transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseClaims(ids));
+                log.warn("[ChannelSync] 남은 lease가 전송 타임아웃보다 짧아 다음 주기로 미룸: platform={}, rows={}",
+                        platform, rows.size());
+                return 0;
+            }
+            client.push(endpoint, platform, updates);
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.releaseClaims(ids));
+            throw e;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markDispatched(ids, Instant.now()));
+
+        meterRegistry.counter("broker.channel-sync.outbox.rows", "platform", platform.name()).increment(rows.size());
+        meterRegistry.counter("broker.channel-sync.updates.pushed", "platform", platform.name()).increment(updates.size());
+        return rows.size();
+    }
+
+    /**
+     * 짧은 트랜잭션에서 미전송 행을 잠그고 claimed_until을 기록한 뒤 바로 커밋한다.
+     * 같은 플랫폼을 다른 dispatcher가 claim하는 중이거나 전송 중인 배치가 있으면 아무것도 가져가지 않는다.
+     */
+    private List<ChannelSyncOutbox> claim(PlatformType platform) {
+        List<ChannelSyncOutbox> rows = transactionTemplate.execute(status -> {
+            if (!outboxRepository.tryLockPlatform(CLAIM_LOCK_CLASS_ID, platform.ordinal())) {
+                return List.of();
+            }
+            Instant now = Instant.now();
+            if (outboxRepository.existsLiveClaim(platform.name(), now)) {
+                return List.of();
+            }
+            List<ChannelSyncOutbox> claimed = outboxRepository.findClaimableForUpdate(platform.name(), now, batchSize);
+            Instant until = now.plus(claimLease);
+            claimed.forEach(row -> row.claim(until));
+            return claimed;
+        });
+        return rows != null ? rows : List.of();
+    }
+
+    /**
+     * 보존 기간이 지난 전송 완료 행을 배치 단위로 삭제한다.
+     */
+    @Scheduled(fixedDelayString = "${broker.channel-sync.prune-interval-ms:600000}")
+    public void prune() {
+        Instant cutoff = Instant.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            Integer count = transactionTemplate.execute(
+                    status -> outboxRepository.deleteDispatchedBefore(cutoff, pruneBatchSize));
+            deleted = count != null ? count : 0;
+            total += deleted;
+        } while (deleted == pruneBatchSize);
+
+        if (total > 0) {
+            meterRegistry.counter("broker.channel-sync.outbox.pruned").increment(total);
+            log.info("[ChannelSync] 전송 완료 Outbox 정리: deleted={}, cutoff={}", total, cutoff);
+        }
+    }
+
+    private void acquirePermit(PlatformType platform) {
+        try {
+            rateLimiters.get(platform).acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("rate limiter 대기 중 인터럽트", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
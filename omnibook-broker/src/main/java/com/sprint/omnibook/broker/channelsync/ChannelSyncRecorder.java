@@ -0,0 +1,66 @@
+package com.sprint.omnibook.broker.channelsync;
+
+import com.sprint.omnibook.broker.domain.AvailabilityAction;
+import com.sprint.omnibook.broker.domain.ChannelSyncOutbox;
+import com.sprint.omnibook.broker.domain.PlatformListing;
+import com.sprint.omnibook.broker.domain.Room;
+import com.sprint.omnibook.broker.domain.repository.ChannelSyncOutboxRepository;
+import com.sprint.omnibook.broker.domain.repository.PlatformListingRepository;
+import com.sprint.omnibook.broker.event.PlatformType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 예약/취소로 발생한 가용성 변경을 Outbox에 기록한다.
+ * 처리 트랜잭션 안에서 호출되므로 예약 처리와 원자적으로 커밋된다.
+ */
+@Component
+@Profile("!ingest")
+@RequiredArgsConstructor
+public class ChannelSyncRecorder {
+
+    private final PlatformListingRepository platformListingRepository;
+    private final ChannelSyncOutboxRepository outboxRepository;
+
+    @Value("${broker.channel-sync.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 원본 플랫폼을 제외한, 방에 연결된 모든 활성 플랫폼에 대해 Outbox 행을 기록한다.
+     *
+     * @param endDate 종료일 (미포함, checkOut)
+     */
+    public void record(Room room, PlatformType sourcePlatform,
+                       LocalDate startDate, LocalDate endDate, AvailabilityAction action) {
+        if (!enabled) {
+            return;
+        }
+
+        List<ChannelSyncOutbox> rows = platformListingRepository.findByRoomAndActiveTrue(room).stream()
+                .filter(listing -> listing.getPlatformType() != sourcePlatform)
+                .map(listing -> toOutbox(room, sourcePlatform, listing, startDate, endDate, action))
+                .toList();
+
+        if (!rows.isEmpty()) {
+            outboxRepository.saveAll(rows);
+        }
+    }
+
+    private ChannelSyncOutbox toOutbox(Room room, PlatformType sourcePlatform, PlatformListing listing,
+                                       LocalDate startDate, LocalDate endDate, AvailabilityAction action) {
+        return ChannelSyncOutbox.builder()
+                .roomId(room.getId())
+                .sourcePlatform(sourcePlatform)
+                .targetPlatform(listing.getPlatformType())
+                .platformRoomId(listing.getPlatformRoomId())
+                .startDate(startDate)
+                .endDate(endDate)
+                .action(action)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.sprint.omnibook.broker.cluster;
+
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 담당 노드로 이벤트를 전달하고 그 노드의 처리 결과를 받는다.
+ * 처리 실패도 200 바디의 IngestionResult로 돌아오므로, 2xx가 아니거나 연결/응답 시간을 넘기면
+ * RestClientException을 던진다.
+ *
+ * 전달은 격벽(bulkhead) 스레드에서 동기로 기다리므로, 담당 노드가 멈춰도 스레드가 묶이지 않도록
+ * 연결/읽기 타임아웃을 둔다.
+ */
+@Component
+@ConditionalOnProperty(name = "broker.cluster.enabled", havingValue = "true")
+public class ClusterForwardClient {
+
+    static final String FORWARD_PATH = "/internal/cluster/events";
+
+    private final RestClient restClient;
+
+    public ClusterForwardClient(
+            @Value("${broker.cluster.forward.connect-timeout-ms:1000}") int connectTimeoutMs,
+            @Value("${broker.cluster.forward.read-timeout-ms:5000}") int readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    public IngestionResult forward(ClusterNode owner, IngestRequest request) {
+        return restClient.post()
+                .uri(owner.baseUrl() + FORWARD_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(IngestionResult.class);
+    }
+}
@@ -0,0 +1,10 @@
+package com.sprint.omnibook.broker.cluster;
+
+/**
+ * 클러스터에 참여한 브로커 노드.
+ *
+ * @param nodeId  노드 식별자
+ * @param baseUrl 다른 노드가 이벤트를 전달할 때 사용하는 주소
+ */
+public record ClusterNode(String nodeId, String baseUrl) {
+}
@@ -0,0 +1,155 @@
+package com.sprint.omnibook.broker.cluster;
+
+import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.domain.repository.PlatformListingRepository;
+import com.sprint.omnibook.broker.event.PlatformType;
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 다중 노드 구성의 파티션 라우팅.
+ *
+ * 플랫폼 객실 ID를 내부 객실 ID로 해석해 파티션을 구하고,
+ * - 이 노드가 소유하면 로컬에서 처리한다.
+ * - 다른 노드가 소유하면 원본 요청을 그 노드로 전달하고 결과를 그대로 돌려준다.
+ * - 소유자가 없거나(재분배 중) 전달에 실패하면 처리하지 않고 PARTITION_UNAVAILABLE(503)을 돌려준다.
+ *   소유하지 않은 노드가 처리하면 같은 객실을 두 노드가 동시에 처리할 수 있고,
+ *   응답 타임아웃은 담당 노드가 이미 커밋한 뒤에도 날 수 있어 같은 이벤트가 두 번 처리된다.
+ *   재시도는 송신 측(OTA)에 맡긴다.
+ *
+ * 전달받은 요청은 다시 전달하지 않으므로(hop 1회) 소유권이 바뀌는 중에도 노드 간 핑퐁이 생기지 않는다.
+ * 그 사이 파티션을 내려놓았다면 역시 PARTITION_UNAVAILABLE로 거절한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "broker.cluster.enabled", havingValue = "true")
+public class ClusterPartitionRouter implements PartitionRouter {
+
+    private final PartitionOwnership ownership;
+    private final ClusterForwardClient forwardClient;
+    private final PlatformListingRepository platformListingRepository;
+
+    /** (플랫폼, 플랫폼 객실 ID) → 내부 객실 ID. 매핑은 거의 바뀌지 않으므로 이벤트마다 조회하지 않는다. */
+    private final Map<ListingKey, Long> roomIds = new ConcurrentHashMap<>();
+
+    private final Counter localEvents;
+    private final Counter forwardedEvents;
+    private final Counter rejectedEvents;
+
+    public ClusterPartitionRouter(
+            PartitionOwnership ownership,
+            ClusterForwardClient forwardClient,
+            PlatformListingRepository platformListingRepository,
+            MeterRegistry meterRegistry) {
+        this.ownership = ownership;
+        this.forwardClient = forwardClient;
+        this.platformListingRepository = platformListingRepository;
+        this.localEvents = Counter.builder("broker.cluster.events")
+                .tag("route", "local")
+                .description("소유 파티션이라 로컬에서 처리한 이벤트")
+                .register(meterRegistry);
+        this.forwardedEvents = Counter.builder("broker.cluster.events")
+                .tag("route", "forwarded")
+                .description("담당 노드로 전달한 이벤트")
+                .register(meterRegistry);
+        this.rejectedEvents = Counter.builder("broker.cluster.events")
+                .tag("route", "rejected")
+                .description("소유자 부재/전달 실패/소유권 상실로 처리하지 않고 503을 돌려준 이벤트")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public IngestionResult dispatch(IngestRequest request, ReservationEvent event, Supplier<IngestionResult> local) {
+        Long roomId = resolveRoomId(event.getPlatformType(), event.getRoomId());
+        if (roomId == null) {
+            // 매핑되지 않은 객실은 어느 노드에서 처리해도 UNKNOWN_ROOM으로 끝난다
+            return local.get();
+        }
+
+        int partition = RoomPartitioner.partitionOf(roomId, ownership.partitionCount());
+        if (ownership.tryEnter(partition)) {
+            return runOwned(partition, local);
+        }
+
+        Optional<ClusterNode> owner = ownership.ownerOf(partition);
+        if (owner.isEmpty()) {
+            log.warn("[Cluster] 파티션 담당 노드 없음: eventId={}, partition={}", request.eventId(), partition);
+            return reject(request);
+        }
+
+        try {
+            IngestionResult result = forwardClient.forward(owner.get(), request);
+            forwardedEvents.increment();
+            return result;
+        } catch (RestClientException e) {
+            // 타임아웃이면 담당 노드가 이미 처리했을 수 있으므로 로컬에서 다시 처리하지 않는다
+            log.warn("[Cluster] 이벤트 전달 실패: eventId={}, partition={}, owner={}, reason={}",
+                    request.eventId(), partition, owner.get().nodeId(), e.getMessage());
+            return reject(request);
+        }
+    }
+
+    @Override
+    public IngestionResult receive(IngestRequest request, ReservationEvent event, Supplier<IngestionResult> local) {
+        Long roomId = resolveRoomId(event.getPlatformType(), event.getRoomId());
+        if (roomId == null) {
+            return local.get();
+        }
+
+        int partition = RoomPartitioner.partitionOf(roomId, ownership.partitionCount());
+        if (ownership.tryEnter(partition)) {
+            return runOwned(partition, local);
+        }
+        log.warn("[Cluster] 소유하지 않은 파티션의 전달 이벤트 거절: eventId={}, partition={}",
+                request.eventId(), partition);
+        return reject(request);
+    }
+
+    private IngestionResult runOwned(int partition, Supplier<IngestionResult> local) {
+        try {
+            localEvents.increment();
+            return local.get();
+        } finally {
+            ownership.exit(partition);
+        }
+    }
+
+    private IngestionResult reject(IngestRequest request) {
+        rejectedEvents.increment();
+        return IngestionResult.failure(request.eventId(),
+                ErrorCode.PARTITION_UNAVAILABLE.getDefaultReason(), ErrorCode.PARTITION_UNAVAILABLE);
+    }
+
+    private Long resolveRoomId(PlatformType platformType, String platformRoomId) {
+        if (platformType == null || platformRoomId == null) {
+            return null;
+        }
+        ListingKey key = new ListingKey(platformType, platformRoomId);
+        Long cached = roomIds.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Long roomId = platformListingRepository.findByPlatformTypeAndPlatformRoomId(platformType, platformRoomId)
+                .map(listing -> listing.getRoom().getId())
+                .orElse(null);
+        if (roomId != null) {
+            roomIds.put(key, roomId);
+        }
+        return roomId;
+    }
+
+    private record ListingKey(PlatformType platformType, String platformRoomId) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.sprint.omnibook.broker.cluster;
+
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 단일 노드 구성. 모든 이벤트를 이 노드에서 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "broker.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalPartitionRouter implements PartitionRouter {
+
+    @Override
+    public IngestionResult dispatch(IngestRequest request, ReservationEvent event, Supplier<IngestionResult> local) {
+        return local.get();
+    }
+
+    @Override
+    public IngestionResult receive(IngestRequest request, ReservationEvent event, Supplier<IngestionResult> local) {
+        return local.get();
+    }
+}
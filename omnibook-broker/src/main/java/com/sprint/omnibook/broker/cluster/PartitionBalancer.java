@@ -0,0 +1,58 @@
+package com.sprint.omnibook.broker.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 파티션 재분배 계획 계산.
+ *
+ * 각 노드는 공정 몫(ceil(파티션 수 / 살아있는 노드 수))까지만 소유한다.
+ * 노드가 합류하면 기존 노드의 몫이 줄어 초과분을 반납하고, 새 노드가 빈 파티션을 가져간다.
+ * 노드가 죽으면 세션 락이 풀리고 몫이 늘어난 나머지 노드가 빈 파티션을 나눠 가진다.
+ *
+ * 상태를 갖지 않는 순수 계산이며, 실제 락 획득/반납은 PartitionOwnership이 수행한다.
+ */
+public final class PartitionBalancer {
+
+    private PartitionBalancer() {
+    }
+
+    public static int fairShare(int partitions, int liveNodes) {
+        int nodes = Math.max(1, liveNodes);
+        return (partitions + nodes - 1) / nodes;
+    }
+
+    /**
+     * @param partitions  전체 파티션 수
+     * @param liveNodes   하트비트가 유효한 노드 수 (자신 포함)
+     * @param owned       현재 소유 중인 파티션
+     * @param unavailable 다른 노드가 락을 잡고 있거나 반납 대기 중인 파티션
+     * @param startOffset 획득 탐색 시작 위치 (노드마다 달리 주어 동시 획득 경합을 줄인다)
+     */
+    public static Plan plan(int partitions, int liveNodes, Set<Integer> owned, Set<Integer> unavailable, int startOffset) {
+        int share = fairShare(partitions, liveNodes);
+
+        List<Integer> release = new ArrayList<>();
+        if (owned.size() > share) {
+            // 번호가 큰 파티션부터 반납해 결정적으로 동작하게 한다
+            owned.stream()
+                    .sorted((a, b) -> Integer.compare(b, a))
+                    .limit(owned.size() - share)
+                    .forEach(release::add);
+        }
+
+        List<Integer> acquire = new ArrayList<>();
+        int wanted = share - owned.size();
+        for (int i = 0; i < partitions && acquire.size() < wanted; i++) {
+            int partition = Math.floorMod(startOffset + i, partitions);
+            if (!owned.contains(partition) && !unavailable.contains(partition)) {
+                acquire.add(partition);
+            }
+        }
+        return new Plan(acquire, release);
+    }
+
+    public record Plan(List<Integer> acquire, List<Integer> release) {
+    }
+}
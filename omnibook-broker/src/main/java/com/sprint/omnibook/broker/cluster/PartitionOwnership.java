@@ -0,0 +1,311 @@
+package com.sprint.omnibook.broker.cluster;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PostgreSQL 기반 파티션 소유권 관리.
+ *
+ * 외부 코디네이터 없이 다음 두 가지로 클러스터를 조율한다.
+ * - 세션 레벨 advisory lock: 파티션 p의 소유권 = pg_try_advisory_lock(CLASS_ID, p) 획득.
+ *   전용 커넥션에 묶여 있으므로 노드가 죽어 커넥션이 끊기면 PostgreSQL이 락을 자동으로 푼다.
+ * - cluster_node 하트비트: 살아있는 노드 수(공정 몫 계산)와 노드별 전달 주소/backend pid를 공유한다.
+ *   하트비트가 끊겼는데 커넥션만 남은 노드(GC 정지, 네트워크 반단절 등)는 backend를 종료시켜 락을 회수한다.
+ *
+ * 하트비트마다 PartitionBalancer의 계획에 따라 빈 파티션을 획득하고 초과분을 반납한다.
+ * 반납할 파티션은 먼저 소유 목록에서 빼 신규 처리를 막고, 진행 중인 처리가 끝난 뒤 락을 푼다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "broker.cluster.enabled", havingValue = "true")
+public class PartitionOwnership {
+
+    /** advisory lock 키의 상위 int. 다른 용도의 advisory lock과 겹치지 않도록 고정값을 쓴다. */
+    static final int CLASS_ID = 0x4f4d4e42; // "OMNB"
+
+    private static final String HEARTBEAT_SQL = """
+            INSERT INTO cluster_node (node_id, base_url, backend_pid, heartbeat_at)
+            VALUES (?, ?, pg_backend_pid(), NOW())
+            ON CONFLICT (node_id) DO UPDATE
+            SET base_url = EXCLUDED.base_url, backend_pid = EXCLUDED.backend_pid, heartbeat_at = NOW()
+            """;
+
+    private static final String TERMINATE_STALE_SQL = """
+            SELECT pg_terminate_backend(n.backend_pid)
+            FROM cluster_node n
+            WHERE n.heartbeat_at < NOW() - (? * INTERVAL '1 millisecond')
+              AND n.node_id <> ?
+              AND n.backend_pid IN (SELECT pid FROM pg_locks WHERE locktype = 'advisory' AND classid = ?)
+            """;
+
+    private static final String DELETE_STALE_SQL =
+            "DELETE FROM cluster_node WHERE heartbeat_at < NOW() - (? * INTERVAL '1 millisecond')";
+
+    private static final String COUNT_LIVE_SQL =
+            "SELECT COUNT(*) FROM cluster_node WHERE heartbeat_at >= NOW() - (? * INTERVAL '1 millisecond')";
+
+    private static final String FIND_OWNERS_SQL = """
+            SELECT l.objid, n.node_id, n.base_url
+            FROM pg_locks l
+            JOIN cluster_node n ON n.backend_pid = l.pid
+            WHERE l.locktype = 'advisory' AND l.classid = ? AND l.objsubid = 2 AND l.granted
+            """;
+
+    private final DataSource dataSource;
+    private final int partitions;
+    private final long nodeTimeoutMs;
+    private final ClusterNode self;
+
+    /** 이 노드가 처리 중인 파티션. 라우터가 읽는다. */
+    private final Set<Integer> owned = ConcurrentHashMap.newKeySet();
+
+    /** 소유 목록에서는 빠졌지만 진행 중인 처리가 있어 아직 락을 풀지 못한 파티션 (하트비트 스레드 전용) */
+    private final Set<Integer> draining = new HashSet<>();
+
+    private final AtomicInteger[] inFlight;
+
+    /** 마지막 하트비트 시점의 다른 노드 소유 현황 */
+    private volatile Map<Integer, ClusterNode> owners = Map.of();
+
+    private Connection connection;
+
+    public PartitionOwnership(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${broker.cluster.partitions:64}") int partitions,
+            @Value("${broker.cluster.node-id:}") String nodeId,
+            @Value("${broker.cluster.advertised-url:http://localhost:${server.port:8080}}") String advertisedUrl,
+            @Value("${broker.cluster.node-timeout-ms:10000}") long nodeTimeoutMs) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("broker.cluster.partitions는 0보다 커야 합니다.");
+        }
+        this.dataSource = dataSource;
+        this.partitions = partitions;
+        this.nodeTimeoutMs = nodeTimeoutMs;
+        this.self = new ClusterNode(
+                nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId,
+                advertisedUrl);
+        this.inFlight = new AtomicInteger[partitions];
+        for (int i = 0; i < partitions; i++) {
+            inFlight[i] = new AtomicInteger();
+        }
+
+        Gauge.builder("broker.cluster.partitions.owned", owned, Set::size)
+                .description("이 노드가 소유한 파티션 수")
+                .register(meterRegistry);
+        log.info("[Cluster] 노드 참여: nodeId={}, url={}, partitions={}", self.nodeId(), self.baseUrl(), partitions);
+    }
+
+    public int partitionCount() {
+        return partitions;
+    }
+
+    /**
+     * 파티션을 이 노드에서 처리할 수 있으면 진행 중 카운트를 올리고 true를 반환한다.
+     * true를 받은 호출자는 처리 후 반드시 exit를 호출해야 한다.
+     *
+     * 카운트를 먼저 올린 뒤 소유 여부를 확인하므로, 반납 측(소유 목록 제거 → 카운트 확인)과 엇갈려도
+     * 락을 푼 파티션을 처리하는 일은 없다.
+     */
+    public boolean tryEnter(int partition) {
+        AtomicInteger counter = inFlight[partition];
+        counter.incrementAndGet();
+        if (owned.contains(partition)) {
+            return true;
+        }
+        counter.decrementAndGet();
+        return false;
+    }
+
+    public void exit(int partition) {
+        inFlight[partition].decrementAndGet();
+    }
+
+    /**
+     * 다른 노드가 소유한 파티션의 담당 노드. 소유자가 없거나 자신이면 비어 있다.
+     */
+    public Optional<ClusterNode> ownerOf(int partition) {
+        return Optional.ofNullable(owners.get(partition));
+    }
+
+    @Scheduled(fixedDelayString = "${broker.cluster.heartbeat-interval-ms:2000}")
+    public synchronized void heartbeat() {
+        try {
+            Connection conn = connection();
+            heartbeat(conn);
+            int liveNodes = countLiveNodes(conn);
+            Map<Integer, ClusterNode> others = findOthers(conn);
+            owners = others;
+
+            releaseDrained(conn);
+
+            Set<Integer> unavailable = new HashSet<>(others.keySet());
+            unavailable.addAll(draining);
+            PartitionBalancer.Plan plan = PartitionBalancer.plan(
+                    partitions, liveNodes, Set.copyOf(owned), unavailable, Math.floorMod(self.nodeId().hashCode(), partitions));
+
+            for (int partition : plan.release()) {
+                owned.remove(partition);
+                draining.add(partition);
+            }
+            releaseDrained(conn);
+
+            for (int partition : plan.acquire()) {
+                if (tryLock(conn, partition)) {
+                    owned.add(partition);
+                }
+            }
+
+            if (!plan.acquire().isEmpty() || !plan.release().isEmpty()) {
+                log.info("[Cluster] 재분배: liveNodes={}, owned={}, released={}, draining={}",
+                        liveNodes, owned.size(), plan.release().size(), draining.size());
+            }
+        } catch (SQLException e) {
+            log.error("[Cluster] 하트비트 실패, 소유권을 모두 내려놓고 재연결한다: {}", e.getMessage());
+            resetConnection();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void leave() {
+        owned.clear();
+        if (connection == null) {
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM cluster_node WHERE node_id = ?")) {
+            ps.setString(1, self.nodeId());
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            log.warn("[Cluster] 노드 등록 해제 실패: {}", e.getMessage());
+        }
+        resetConnection();
+        log.info("[Cluster] 노드 이탈: nodeId={}", self.nodeId());
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null) {
+            // 세션 락이 이 커넥션에 묶이므로 풀에서 빌린 커넥션을 반납하지 않고 계속 점유한다
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+        }
+        return connection;
+    }
+
+    private void heartbeat(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(HEARTBEAT_SQL)) {
+            ps.setString(1, self.nodeId());
+            ps.setString(2, self.baseUrl());
+            ps.executeUpdate();
+        }
+        try (PreparedStatement ps = conn.prepareStatement(TERMINATE_STALE_SQL)) {
+            ps.setLong(1, nodeTimeoutMs);
+            ps.setString(2, self.nodeId());
+            ps.setInt(3, CLASS_ID);
+            ps.executeQuery().close();
+        }
+        try (PreparedStatement ps = conn.prepareStatement(DELETE_STALE_SQL)) {
+            ps.setLong(1, nodeTimeoutMs);
+            int removed = ps.executeUpdate();
+            if (removed > 0) {
+                log.warn("[Cluster] 하트비트가 끊긴 노드 제거: count={}", removed);
+            }
+        }
+    }
+
+    private int countLiveNodes(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(COUNT_LIVE_SQL)) {
+            ps.setLong(1, nodeTimeoutMs);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private Map<Integer, ClusterNode> findOthers(Connection conn) throws SQLException {
+        Map<Integer, ClusterNode> result = new HashMap<>();
+        try (PreparedStatement ps = conn.prepareStatement(FIND_OWNERS_SQL)) {
+            ps.setInt(1, CLASS_ID);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ClusterNode node = new ClusterNode(rs.getString(2), rs.getString(3));
+                    if (!node.nodeId().equals(self.nodeId())) {
+                        result.put((int) rs.getLong(1), node);
+                    }
+                }
+            }
+        }
+        return Map.copyOf(result);
+    }
+
+    private void releaseDrained(Connection conn) throws SQLException {
+        Iterator<Integer> it = draining.iterator();
+        while (it.hasNext()) {
+            int partition = it.next();
+            if (inFlight[partition].get() > 0) {
+                continue;
+            }
+            try (PreparedStatement ps = conn.prepareStatement("SELECT pg_advisory_unlock(?, ?)")) {
+                ps.setInt(1, CLASS_ID);
+                ps.setInt(2, partition);
+                ps.executeQuery().close();
+            }
+            it.remove();
+        }
+    }
+
+    private boolean tryLock(Connection conn, int partition) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT pg_try_advisory_lock(?, ?)")) {
+            ps.setInt(1, CLASS_ID);
+            ps.setInt(2, partition);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * 커넥션을 풀에 돌려주기 전에 세션 락을 모두 푼다. 커넥션이 이미 끊겼다면 락도 이미 풀린 상태다.
+     */
+    private void resetConnection() {
+        owned.clear();
+        draining.clear();
+        owners = Map.of();
+        if (connection == null) {
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock_all()")) {
+            ps.executeQuery().close();
+        } catch (SQLException ignored) {
+            // 끊긴 커넥션
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 이미 닫힘
+        }
+        connection = null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sprint.omnibook.broker.cluster;
+
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+
+import java.util.function.Supplier;
+
+/**
+ * 변환된 이벤트를 처리할 노드를 결정한다.
+ * 이 노드가 담당하면 local을 실행하고, 아니면 담당 노드로 원본 요청을 전달한다.
+ */
+public interface PartitionRouter {
+
+    IngestionResult dispatch(IngestRequest request, ReservationEvent event, Supplier<IngestionResult> local);
+
+    /**
+     * 다른 노드가 전달한 이벤트 처리. 다시 전달하지 않으며, 이 노드가 담당하지 않으면 local을 실행하지 않는다.
+     */
+    IngestionResult receive(IngestRequest request, ReservationEvent event, Supplier<IngestionResult> local);
+}
@@ -0,0 +1,30 @@
+package com.sprint.omnibook.broker.cluster;
+
+/**
+ * 내부 객실 ID를 고정 개수의 파티션으로 해시한다.
+ * 객실 ID는 순차 증가하므로 단순 나머지 대신 64비트 믹싱 후 나머지를 취해 파티션별 편중을 줄인다.
+ */
+public final class RoomPartitioner {
+
+    private RoomPartitioner() {
+    }
+
+    public static int partitionOf(long roomId, int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("partitions는 0보다 커야 합니다.");
+        }
+        return (int) Math.floorMod(mix(roomId), (long) partitions);
+    }
+
+    /**
+     * MurmurHash3 fmix64.
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,145 @@
+package com.sprint.omnibook.broker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.omnibook.broker.api.dto.ErrorResponse;
+import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.ingestion.EventTypeHeaderAlias;
+import com.sprint.omnibook.broker.support.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 이벤트 수신(POST /api/events) 앞단의 부하 차단 필터.
+ *
+ * AdaptiveConcurrencyLimiter 한도를 넘는 요청은 본문을 읽기 전에 429 + Retry-After로 돌려보낸다.
+ * 취소 이벤트는 재고를 풀어 주므로 예약 여유분(reserved-ratio)까지 받아들인다.
+ * 5xx 응답이나 예외는 과부하 신호로 보고 한도를 줄인다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "broker.admission.enabled", havingValue = "true")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String EVENTS_PATH = "/api/events";
+    private static final String EVENT_TYPE_HEADER = "X-Event-Type";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+    private final Counter shedBooking;
+    private final Counter shedCancellation;
+
+    public AdmissionControlFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${broker.admission.initial-limit:50}") int initialLimit,
+            @Value("${broker.admission.min-limit:10}") int minLimit,
+            @Value("${broker.admission.max-limit:400}") int maxLimit,
+            @Value("${broker.admission.cancellation-reserved-ratio:0.1}") double reservedRatio,
+            @Value("${broker.admission.samples-per-window:50}") int samplesPerWindow,
+            @Value("${broker.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, reservedRatio, samplesPerWindow);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("broker.admission.limit", limiter, AdaptiveConcurrencyLimiter::limit).register(meterRegistry);
+        Gauge.builder("broker.admission.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight).register(meterRegistry);
+        this.shedBooking = Counter.builder("broker.admission.shed").tag("event_type", "booking").register(meterRegistry);
+        this.shedCancellation = Counter.builder("broker.admission.shed").tag("event_type", "cancellation").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !EVENTS_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        boolean cancellation = isCancellation(request.getHeader(EVENT_TYPE_HEADER));
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire(cancellation);
+        if (permit.isEmpty()) {
+            (cancellation ? shedCancellation : shedBooking).increment();
+            reject(response);
+            return;
+        }
+
+        boolean async = false;
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            async = request.isAsyncStarted();
+            if (async) {
+                // 처리가 격벽 스레드에서 계속되므로 응답이 끝날 때 반납한다
+                request.getAsyncContext().addListener(new PermitReleasingListener(permit.get()));
+            }
+        } finally {
+            if (!async) {
+                permit.get().release(dropped);
+            }
+        }
+    }
+
+    private record PermitReleasingListener(AdaptiveConcurrencyLimiter.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            permit.release(response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // 타임아웃 뒤에도 onComplete가 호출되므로 여기서는 반납하지 않는다
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete에서 반납한다
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private static boolean isCancellation(String eventType) {
+        return EventTypeHeaderAlias.CANCEL.equalsIgnoreCase(eventType)
+                || EventTypeHeaderAlias.CANCELLATION.equalsIgnoreCase(eventType);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorResponse body = ErrorResponse.of(ErrorCode.INGESTION_OVERLOADED, MDC.get(CorrelationIdFilter.MDC_CORRELATION_ID));
+        response.setStatus(ErrorCode.INGESTION_OVERLOADED.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
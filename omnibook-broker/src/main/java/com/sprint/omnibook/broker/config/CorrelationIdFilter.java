@@ -1,5 +1,6 @@
 package com.sprint.omnibook.broker.config;
 
+import com.sprint.omnibook.broker.support.TimeOrderedIds;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,11 +12,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 /**
  * 모든 요청에 correlationId를 MDC에 설정하는 필터.
  * X-Correlation-Id 헤더가 있으면 사용, 없으면 생성한다.
+ * 비동기 응답(격벽 처리)의 async dispatch에서도 같은 값을 다시 설정한다.
  */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -23,6 +24,12 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
 
     public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
     public static final String MDC_CORRELATION_ID = "correlationId";
+    private static final String CORRELATION_ID_ATTRIBUTE = CorrelationIdFilter.class.getName() + ".correlationId";
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -30,7 +37,10 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        String correlationId = request.getHeader(CORRELATION_ID_HEADER);
+        String correlationId = (String) request.getAttribute(CORRELATION_ID_ATTRIBUTE);
+        if (correlationId == null) {
+            correlationId = request.getHeader(CORRELATION_ID_HEADER);
+        }
 
         if (correlationId == null || correlationId.isBlank()) {
             correlationId = generateCorrelationId();
@@ -38,6 +48,7 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
 
         try {
             MDC.put(MDC_CORRELATION_ID, correlationId);
+            request.setAttribute(CORRELATION_ID_ATTRIBUTE, correlationId);
             response.setHeader(CORRELATION_ID_HEADER, correlationId);
             filterChain.doFilter(request, response);
         } finally {
@@ -46,6 +57,6 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
     }
 
     private String generateCorrelationId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        return TimeOrderedIds.newCompactId();
     }
 }
@@ -0,0 +1,50 @@
+package com.sprint.omnibook.broker.config;
+
+import com.sprint.omnibook.broker.support.QueryCounter;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate가 실행하는 SQL 문과 로드하는 엔티티 행을 현재 스레드의 QueryCounter에 센다.
+ *
+ * - StatementInspector: 준비되는 모든 SQL (지연 로딩, flush 시 insert/update 포함)
+ * - Interceptor.onLoad: 결과 행에서 엔티티가 만들어질 때마다 1
+ *
+ * 열린 QueryCounter가 없으면(예약 처리 밖의 쿼리) 아무것도 세지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "broker.query-count.enabled", havingValue = "true")
+public class QueryCountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new CountingInterceptor());
+        };
+    }
+
+    static class CountingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            QueryCounter.statement(sql);
+            return sql;
+        }
+    }
+
+    static class CountingInterceptor implements Interceptor {
+
+        @Override
+        public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+            QueryCounter.rowsLoaded(1);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.sprint.omnibook.broker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정.
+ * 파티션 유지보수 등 주기 작업이 @Scheduled로 등록된다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
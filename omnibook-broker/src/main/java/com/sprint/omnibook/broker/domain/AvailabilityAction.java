@@ -0,0 +1,12 @@
+package com.sprint.omnibook.broker.domain;
+
+/**
+ * 채널 동기화로 전파되는 가용성 변경 유형.
+ */
+public enum AvailabilityAction {
+    /** 해당 기간 판매 중지 (예약 발생) */
+    CLOSE,
+
+    /** 해당 기간 판매 재개 (예약 취소) */
+    OPEN
+}
@@ -0,0 +1,83 @@
+package com.sprint.omnibook.broker.domain;
+
+import com.sprint.omnibook.broker.event.PlatformType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 채널 동기화 Outbox 엔티티.
+ * 한 방의 가용성 변경을 대상 플랫폼 단위로 기록한다.
+ * endDate는 포함하지 않는다 (checkOut과 동일한 의미).
+ */
+@Entity
+@Table(name = "channel_sync_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChannelSyncOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_platform", nullable = false)
+    private PlatformType sourcePlatform;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_platform", nullable = false)
+    private PlatformType targetPlatform;
+
+    @Column(name = "platform_room_id", nullable = false)
+    private String platformRoomId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AvailabilityAction action;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /** 이 시각까지 한 dispatcher가 전송을 맡는다. 지나면 다른 dispatcher가 다시 가져갈 수 있다. */
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+
+    @Builder
+    public ChannelSyncOutbox(Long roomId, PlatformType sourcePlatform, PlatformType targetPlatform,
+                             String platformRoomId, LocalDate startDate, LocalDate endDate,
+                             AvailabilityAction action) {
+        this.roomId = roomId;
+        this.sourcePlatform = sourcePlatform;
+        this.targetPlatform = targetPlatform;
+        this.platformRoomId = platformRoomId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.action = action;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+
+    public void claim(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+}
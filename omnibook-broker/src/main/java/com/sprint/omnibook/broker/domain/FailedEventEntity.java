@@ -43,6 +43,9 @@ public class FailedEventEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Column(name = "error_prefix", nullable = false, length = 100)
+    private String errorPrefix;
+
     @Column(name = "failed_at", nullable = false)
     private Instant failedAt;
 
@@ -58,7 +61,8 @@ public class FailedEventEntity {
     @Builder
     public FailedEventEntity(String eventId, String platform, String eventType,
                               String correlationId, String reservationId,
-                              String rawPayload, String errorMessage, Instant failedAt) {
+                              String rawPayload, String errorMessage, String errorPrefix,
+                              Instant failedAt) {
         this.eventId = eventId;
         this.platform = platform;
         this.eventType = eventType;
@@ -66,6 +70,7 @@ public class FailedEventEntity {
         this.reservationId = reservationId;
         this.rawPayload = rawPayload;
         this.errorMessage = errorMessage;
+        this.errorPrefix = errorPrefix;
         this.failedAt = failedAt;
     }
 
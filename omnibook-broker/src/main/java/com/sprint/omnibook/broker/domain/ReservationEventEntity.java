@@ -27,7 +27,7 @@ public class ReservationEventEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "event_id", nullable = false, unique = true)
+    @Column(name = "event_id", nullable = false)
     private UUID eventId;
 
     @Enumerated(EnumType.STRING)
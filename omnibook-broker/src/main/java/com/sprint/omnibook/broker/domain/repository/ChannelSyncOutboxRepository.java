@@ -0,0 +1,62 @@
+package com.sprint.omnibook.broker.domain.repository;
+
+import com.sprint.omnibook.broker.domain.ChannelSyncOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChannelSyncOutboxRepository extends JpaRepository<ChannelSyncOutbox, Long> {
+
+    /**
+     * 대상 플랫폼의 claim 트랜잭션 잠금 (트랜잭션 종료 시 자동 해제).
+     * 이미 다른 dispatcher가 같은 플랫폼을 claim하는 중이면 false.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:classId, :key)", nativeQuery = true)
+    boolean tryLockPlatform(@Param("classId") int classId, @Param("key") int key);
+
+    /**
+     * 대상 플랫폼에 아직 전송 중인(claim이 살아 있는) 행이 있는지.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM channel_sync_outbox "
+            + "WHERE target_platform = :targetPlatform AND dispatched_at IS NULL "
+            + "AND claimed_until >= :now)", nativeQuery = true)
+    boolean existsLiveClaim(@Param("targetPlatform") String targetPlatform, @Param("now") Instant now);
+
+    /**
+     * 대상 플랫폼의 미전송이면서 다른 dispatcher가 맡고 있지 않은(claim 만료 포함) Outbox 행을 잠그고 조회한다.
+     * 다른 dispatcher 인스턴스가 잠근 행은 건너뛴다 (SKIP LOCKED).
+     * 잠금은 claim을 기록하는 짧은 트랜잭션 동안만 유지된다.
+     */
+    @Query(value = "SELECT * FROM channel_sync_outbox "
+            + "WHERE target_platform = :targetPlatform AND dispatched_at IS NULL "
+            + "AND (claimed_until IS NULL OR claimed_until < :now) "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ChannelSyncOutbox> findClaimableForUpdate(
+            @Param("targetPlatform") String targetPlatform,
+            @Param("now") Instant now,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE ChannelSyncOutbox o SET o.dispatchedAt = :dispatchedAt, o.claimedUntil = null WHERE o.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") Instant dispatchedAt);
+
+    /**
+     * 전송에 실패한 행의 claim을 풀어 다음 주기에 바로 다시 가져가게 한다.
+     */
+    @Modifying
+    @Query("UPDATE ChannelSyncOutbox o SET o.claimedUntil = null WHERE o.id IN :ids AND o.dispatchedAt IS NULL")
+    int releaseClaims(@Param("ids") Collection<Long> ids);
+
+    /**
+     * cutoff 이전에 전송 완료된 행을 최대 limit개 삭제한다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM channel_sync_outbox WHERE id IN ("
+            + "SELECT id FROM channel_sync_outbox WHERE dispatched_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteDispatchedBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+}
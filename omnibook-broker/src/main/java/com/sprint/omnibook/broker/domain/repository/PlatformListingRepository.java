@@ -1,9 +1,11 @@
 package com.sprint.omnibook.broker.domain.repository;
 
 import com.sprint.omnibook.broker.domain.PlatformListing;
+import com.sprint.omnibook.broker.domain.Room;
 import com.sprint.omnibook.broker.event.PlatformType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PlatformListingRepository extends JpaRepository<PlatformListing, Long> {
@@ -12,4 +14,9 @@ public interface PlatformListingRepository extends JpaRepository<PlatformListing
      * OTA 플랫폼과 플랫폼 방 ID로 매핑 조회.
      */
     Optional<PlatformListing> findByPlatformTypeAndPlatformRoomId(PlatformType platformType, String platformRoomId);
+
+    /**
+     * 방에 연결된 활성 플랫폼 매핑 조회.
+     */
+    List<PlatformListing> findByRoomAndActiveTrue(Room room);
 }
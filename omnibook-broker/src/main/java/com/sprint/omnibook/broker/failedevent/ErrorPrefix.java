@@ -0,0 +1,29 @@
+package com.sprint.omnibook.broker.failedevent;
+
+/**
+ * 실패 메시지에서 집계 단위로 쓸 접두어를 추출한다.
+ *
+ * "알 수 없는 플랫폼: XYZ" → "알 수 없는 플랫폼"
+ * 첫 구분자(":") 앞부분의 앞뒤 공백을 제거해 사용하고, 구분자가 없으면 메시지 전체를 사용한다. (최대 100자)
+ */
+public final class ErrorPrefix {
+
+    static final String UNKNOWN = "UNKNOWN";
+    private static final String DELIMITER = ":";
+    private static final int MAX_LENGTH = 100;
+
+    private ErrorPrefix() {
+    }
+
+    public static String of(String errorMessage) {
+        if (errorMessage == null || errorMessage.isBlank()) {
+            return UNKNOWN;
+        }
+        int idx = errorMessage.indexOf(DELIMITER);
+        String prefix = (idx > 0 ? errorMessage.substring(0, idx) : errorMessage).trim();
+        if (prefix.isEmpty()) {
+            return UNKNOWN;
+        }
+        return prefix.length() > MAX_LENGTH ? prefix.substring(0, MAX_LENGTH) : prefix;
+    }
+}
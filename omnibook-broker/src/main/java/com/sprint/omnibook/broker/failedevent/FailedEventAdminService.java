@@ -0,0 +1,167 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.omnibook.broker.ingestion.EventIngestionService;
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 실패 이벤트 운영 서비스.
+ * 목록/요약 조회와 필터 기반 일괄 해결/재시도를 제공한다.
+ */
+@Slf4j
+@Service
+@Profile("!ingest")
+@RequiredArgsConstructor
+public class FailedEventAdminService {
+
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_RETRY_BATCH = 1000;
+    static final String NOT_RETRYABLE = "원본이 JSON이 아니어서 재처리할 수 없습니다";
+
+    private final FailedEventQueryRepository queryRepository;
+    private final FailedEventCounterRepository counterRepository;
+    private final EventIngestionService ingestionService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 최신순 한 페이지 조회. 다음 페이지가 없으면 nextCursor는 null.
+     */
+    @Transactional(readOnly = true)
+    public FailedEventPage list(FailedEventFilter filter, String cursor, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다
+        List<FailedEventRow> rows = queryRepository.findPage(filter, FailedEventCursor.decode(cursor), size + 1);
+
+        if (rows.size() <= size) {
+            return new FailedEventPage(rows, null);
+        }
+        List<FailedEventRow> page = rows.subList(0, size);
+        return new FailedEventPage(page, page.get(size - 1).cursor().encode());
+    }
+
+    @Transactional(readOnly = true)
+    public List<FailedEventCounter> summary() {
+        return counterRepository.findAll();
+    }
+
+    /**
+     * 필터에 일치하는 미해결 건을 모두 해결 처리한다.
+     *
+     * @return 해결 처리된 건수
+     */
+    @Transactional
+    public int resolve(FailedEventFilter filter) {
+        List<FailedEventCounterKey> resolved = queryRepository.resolveMatching(filter);
+        counterRepository.decrementUnresolved(countByKey(resolved));
+        log.info("[FailedEvent] 일괄 해결: filter={}, count={}", filter, resolved.size());
+        return resolved.size();
+    }
+
+    /**
+     * 필터에 일치하는 미해결 건을 오래된 순으로 최대 limit 건 재처리한다.
+     * 성공하면 해결 처리하고, 실패하면 retry_count만 증가시킨다 (새 실패 이벤트를 만들지 않음).
+     * 한 건에서 예외가 나도 나머지는 계속 처리하며, 실패한 건은 사유와 함께 결과에 담긴다.
+     */
+    public RetryOutcome retry(FailedEventFilter filter, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_RETRY_BATCH);
+        List<FailedEventRow> targets = queryRepository.findUnresolvedOldestFirst(filter, size);
+
+        int succeeded = 0;
+        List<RetryFailure> failures = new ArrayList<>();
+        for (FailedEventRow row : targets) {
+            String failure = retryOne(row);
+            if (failure == null) {
+                succeeded++;
+            } else {
+                failures.add(new RetryFailure(row.eventId(), failure));
+            }
+        }
+
+        log.info("[FailedEvent] 일괄 재시도: filter={}, attempted={}, succeeded={}",
+                filter, targets.size(), succeeded);
+        return new RetryOutcome(targets.size(), succeeded, failures.size(), failures);
+    }
+
+    /**
+     * @return 성공하면 null, 실패하면 사유
+     */
+    private String retryOne(FailedEventRow row) {
+        String failure;
+        try {
+            Optional<IngestRequest> request = toIngestRequest(row);
+            if (request.isEmpty()) {
+                failure = NOT_RETRYABLE;
+            } else {
+                IngestionResult result = ingestionService.retry(request.get());
+                if (result.success()) {
+                    markResolved(row);
+                    return null;
+                }
+                failure = result.failureReason();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[FailedEvent] 재시도 중 예외: eventId={}, reason={}", row.eventId(), e.getMessage());
+            failure = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+
+        try {
+            queryRepository.incrementRetryCount(row.cursor());
+        } catch (RuntimeException e) {
+            log.warn("[FailedEvent] retry_count 증가 실패: eventId={}, reason={}", row.eventId(), e.getMessage());
+        }
+        return failure;
+    }
+
+    private void markResolved(FailedEventRow row) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<FailedEventCounterKey> resolved = queryRepository.resolve(row.cursor());
+            counterRepository.decrementUnresolved(countByKey(resolved));
+        });
+    }
+
+    private Optional<IngestRequest> toIngestRequest(FailedEventRow row) {
+        try {
+            JsonNode payload = objectMapper.readTree(row.rawPayload());
+            return Optional.of(new IngestRequest(
+                    row.eventId(),
+                    row.platform(),
+                    row.eventType(),
+                    row.correlationId(),
+                    row.reservationId(),
+                    payload));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            // 원본 자체가 JSON이 아닌 경우 (파싱 실패 건) 재처리 불가
+            return Optional.empty();
+        }
+    }
+
+    private static Map<FailedEventCounterKey, Long> countByKey(List<FailedEventCounterKey> keys) {
+        return keys.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    public record FailedEventPage(List<FailedEventRow> items, String nextCursor) {
+    }
+
+    public record RetryOutcome(int attempted, int succeeded, int failed, List<RetryFailure> failures) {
+    }
+
+    public record RetryFailure(String eventId, String reason) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.sprint.omnibook.broker.failedevent;
+
+/**
+ * (platform, error_prefix) 단위 실패 건수.
+ */
+public record FailedEventCounter(String platform, String errorPrefix, long total, long unresolved) {
+}
@@ -0,0 +1,7 @@
+package com.sprint.omnibook.broker.failedevent;
+
+/**
+ * 카운터 키.
+ */
+public record FailedEventCounterKey(String platform, String errorPrefix) {
+}
@@ -0,0 +1,71 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * failed_event_counter 증분 갱신/조회.
+ * 호출자의 트랜잭션에 참여하여 failed_event 변경과 함께 커밋된다.
+ *
+ * 파티션 보존 정책으로 failed_event가 분리/삭제되어도 카운터는 줄어들지 않는다 (누적 값).
+ */
+@Repository
+@Profile("!ingest")
+@RequiredArgsConstructor
+public class FailedEventCounterRepository {
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO failed_event_counter (platform, error_prefix, total, unresolved, updated_at)
+            VALUES (?, ?, 1, 1, NOW())
+            ON CONFLICT (platform, error_prefix) DO UPDATE
+            SET total = failed_event_counter.total + 1,
+                unresolved = failed_event_counter.unresolved + 1,
+                updated_at = NOW()
+            """;
+
+    private static final String DECREMENT_UNRESOLVED_SQL = """
+            UPDATE failed_event_counter
+            SET unresolved = GREATEST(unresolved - ?, 0), updated_at = NOW()
+            WHERE platform = ? AND error_prefix = ?
+            """;
+
+    private static final String FIND_ALL_SQL = """
+            SELECT platform, error_prefix, total, unresolved
+            FROM failed_event_counter
+            ORDER BY platform, error_prefix
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increment(String platform, String errorPrefix) {
+        jdbcTemplate.update(INCREMENT_SQL, platform, errorPrefix);
+    }
+
+    /**
+     * 해결 처리된 건수만큼 unresolved를 감소시킨다.
+     *
+     * @param resolvedCounts (platform, errorPrefix) → 해결 건수
+     */
+    public void decrementUnresolved(Map<FailedEventCounterKey, Long> resolvedCounts) {
+        if (resolvedCounts.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = resolvedCounts.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey().platform(), e.getKey().errorPrefix()})
+                .toList();
+        jdbcTemplate.batchUpdate(DECREMENT_UNRESOLVED_SQL, args);
+    }
+
+    public List<FailedEventCounter> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> new FailedEventCounter(
+                rs.getString("platform"),
+                rs.getString("error_prefix"),
+                rs.getLong("total"),
+                rs.getLong("unresolved")));
+    }
+}
@@ -0,0 +1,45 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import com.sprint.omnibook.broker.api.exception.BrokerException;
+import com.sprint.omnibook.broker.api.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset 페이지네이션 커서 (failed_at, id).
+ * 클라이언트에는 불투명한 base64url 문자열로 전달한다.
+ */
+public record FailedEventCursor(Instant failedAt, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = failedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     */
+    public static FailedEventCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new IllegalArgumentException("separator not found");
+            }
+            return new FailedEventCursor(
+                    Instant.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BrokerException(ErrorCode.VALIDATION_ERROR, "잘못된 커서입니다: " + encoded);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 실패 이벤트 조회/일괄 처리 필터.
+ * null인 조건은 적용하지 않는다.
+ *
+ * @param platform    플랫폼 헤더 값 (정확히 일치)
+ * @param errorPrefix 에러 접두어 (정확히 일치)
+ * @param resolved    해결 여부
+ * @param from        failed_at 하한 (포함)
+ * @param to          failed_at 상한 (미포함)
+ */
+public record FailedEventFilter(
+        String platform,
+        String errorPrefix,
+        Boolean resolved,
+        Instant from,
+        Instant to
+) {
+
+    /**
+     * 같은 조건에서 resolved만 바꾼 필터.
+     */
+    public FailedEventFilter withResolved(Boolean resolved) {
+        return new FailedEventFilter(platform, errorPrefix, resolved, from, to);
+    }
+
+    /**
+     * WHERE 절 조건을 덧붙인다. sql은 이미 "WHERE 1=1" 등으로 시작해야 한다.
+     * 값이 있는 조건만 추가하여 플래너가 부분 인덱스/파티션 프루닝을 쓸 수 있게 한다.
+     */
+    void appendConditions(StringBuilder sql, List<Object> args) {
+        if (platform != null) {
+            sql.append(" AND platform = ?");
+            args.add(platform);
+        }
+        if (errorPrefix != null) {
+            sql.append(" AND error_prefix = ?");
+            args.add(errorPrefix);
+        }
+        if (resolved != null) {
+            sql.append(" AND resolved = ?");
+            args.add(resolved);
+        }
+        if (from != null) {
+            sql.append(" AND failed_at >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" AND failed_at < ?");
+            args.add(Timestamp.from(to));
+        }
+    }
+}
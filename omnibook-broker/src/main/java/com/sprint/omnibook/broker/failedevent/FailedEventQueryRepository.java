@@ -0,0 +1,112 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * failed_event 조회/일괄 갱신.
+ *
+ * 목록은 (failed_at, id) keyset으로 최신순 페이지네이션한다.
+ * OFFSET을 쓰지 않으므로 깊은 페이지에서도 비용이 일정하다.
+ */
+@Repository
+@Profile("!ingest")
+@RequiredArgsConstructor
+public class FailedEventQueryRepository {
+
+    private static final String LIST_COLUMNS = """
+            SELECT id, event_id, platform, event_type, correlation_id, reservation_id,
+                   error_prefix, error_message, NULL AS raw_payload, failed_at, retry_count, resolved
+            FROM failed_event WHERE 1=1""";
+
+    private static final String RETRY_COLUMNS = """
+            SELECT id, event_id, platform, event_type, correlation_id, reservation_id,
+                   error_prefix, error_message, raw_payload, failed_at, retry_count, resolved
+            FROM failed_event WHERE 1=1""";
+
+    private static final RowMapper<FailedEventRow> ROW_MAPPER = (rs, rowNum) -> new FailedEventRow(
+            rs.getLong("id"),
+            rs.getString("event_id"),
+            rs.getString("platform"),
+            rs.getString("event_type"),
+            rs.getString("correlation_id"),
+            rs.getString("reservation_id"),
+            rs.getString("error_prefix"),
+            rs.getString("error_message"),
+            rs.getString("raw_payload"),
+            rs.getTimestamp("failed_at").toInstant(),
+            rs.getInt("retry_count"),
+            rs.getBoolean("resolved"));
+
+    private static final RowMapper<FailedEventCounterKey> KEY_MAPPER = (rs, rowNum) ->
+            new FailedEventCounterKey(rs.getString("platform"), rs.getString("error_prefix"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 최신순 한 페이지를 조회한다.
+     *
+     * @param after 이전 페이지의 마지막 커서 (첫 페이지면 null)
+     */
+    public List<FailedEventRow> findPage(FailedEventFilter filter, FailedEventCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(LIST_COLUMNS);
+        List<Object> args = new ArrayList<>();
+        filter.appendConditions(sql, args);
+        if (after != null) {
+            sql.append(" AND (failed_at, id) < (?, ?)");
+            args.add(Timestamp.from(after.failedAt()));
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY failed_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 재시도 대상(미해결)을 오래된 순으로 조회한다. 원본 payload를 포함한다.
+     */
+    public List<FailedEventRow> findUnresolvedOldestFirst(FailedEventFilter filter, int limit) {
+        StringBuilder sql = new StringBuilder(RETRY_COLUMNS);
+        List<Object> args = new ArrayList<>();
+        filter.withResolved(false).appendConditions(sql, args);
+        sql.append(" ORDER BY failed_at, id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * 필터에 일치하는 미해결 건을 모두 해결 처리한다.
+     *
+     * @return 해결 처리된 행의 카운터 키 (카운터 감소용)
+     */
+    public List<FailedEventCounterKey> resolveMatching(FailedEventFilter filter) {
+        StringBuilder sql = new StringBuilder("UPDATE failed_event SET resolved = TRUE WHERE 1=1");
+        List<Object> args = new ArrayList<>();
+        filter.withResolved(false).appendConditions(sql, args);
+        sql.append(" RETURNING platform, error_prefix");
+        return jdbcTemplate.query(sql.toString(), KEY_MAPPER, args.toArray());
+    }
+
+    /**
+     * 단건 해결 처리. 이미 해결된 경우 빈 목록을 반환한다.
+     */
+    public List<FailedEventCounterKey> resolve(FailedEventCursor key) {
+        return jdbcTemplate.query("""
+                UPDATE failed_event SET resolved = TRUE
+                WHERE id = ? AND failed_at = ? AND resolved = FALSE
+                RETURNING platform, error_prefix
+                """, KEY_MAPPER, key.id(), Timestamp.from(key.failedAt()));
+    }
+
+    public void incrementRetryCount(FailedEventCursor key) {
+        jdbcTemplate.update("UPDATE failed_event SET retry_count = retry_count + 1 WHERE id = ? AND failed_at = ?",
+                key.id(), Timestamp.from(key.failedAt()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import java.time.Instant;
+
+/**
+ * 실패 이벤트 조회 행.
+ * 목록 조회에서는 rawPayload를 읽지 않는다 (null).
+ */
+public record FailedEventRow(
+        long id,
+        String eventId,
+        String platform,
+        String eventType,
+        String correlationId,
+        String reservationId,
+        String errorPrefix,
+        String errorMessage,
+        String rawPayload,
+        Instant failedAt,
+        int retryCount,
+        boolean resolved
+) {
+
+    public FailedEventCursor cursor() {
+        return new FailedEventCursor(failedAt, id);
+    }
+}
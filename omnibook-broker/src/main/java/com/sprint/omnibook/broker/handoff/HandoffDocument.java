@@ -0,0 +1,57 @@
+package com.sprint.omnibook.broker.handoff;
+
+import com.sprint.omnibook.broker.ingestion.EventHeaders;
+import lombok.Builder;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+
+import java.time.Instant;
+
+/**
+ * ingest 노드가 worker 노드로 넘기는 처리 작업.
+ * id는 raw_events의 ObjectId와 같아 원본과 1:1로 대응하며, 같은 원본이 두 번 적재되지 않는다.
+ * 워커가 원본을 다시 조회하지 않도록 헤더와 바디를 함께 담는다.
+ */
+@Getter
+@Builder
+@org.springframework.data.mongodb.core.mapping.Document(collection = "ingest_handoff")
+public class HandoffDocument {
+
+    @Id
+    private ObjectId id;
+
+    private String eventId;
+
+    private String platform;
+
+    private String eventType;
+
+    private String correlationId;
+
+    private String rawBody;
+
+    /** 순서 lane (OrderingKey). 같은 예약의 작업은 같은 lane에 들어가 한 워커 스레드가 순서대로 처리한다. */
+    private Integer lane;
+
+    private HandoffStatus status;
+
+    /** 워커가 가져간 횟수 (가져갈 때 증가) */
+    private int attempts;
+
+    private Instant enqueuedAt;
+
+    /** CLAIMED 상태의 만료 시각. 이 시각이 지나면 다른 워커가 다시 가져갈 수 있다. */
+    private Instant leaseUntil;
+
+    private String workerId;
+
+    /** 처리 실패 후 재시도 대기 시각. 이 시각 전에는 가져가지 않으며, 같은 lane의 뒤 작업도 기다린다. */
+    private Instant notBefore;
+
+    private String lastError;
+
+    public EventHeaders headers() {
+        return new EventHeaders(eventId, platform, eventType, correlationId);
+    }
+}
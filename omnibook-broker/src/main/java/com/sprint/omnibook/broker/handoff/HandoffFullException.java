@@ -0,0 +1,12 @@
+package com.sprint.omnibook.broker.handoff;
+
+/**
+ * handoff 저장소가 가득 차 작업을 더 받을 수 없음.
+ * 처리가 유입을 따라오지 못하는 상태이므로 수신 측은 503으로 되돌려 보내 송신자가 재시도하게 한다.
+ */
+public class HandoffFullException extends RuntimeException {
+
+    public HandoffFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,156 @@
+package com.sprint.omnibook.broker.handoff;
+
+import com.sprint.omnibook.broker.ingestion.EventHeaders;
+import com.sprint.omnibook.broker.ingestion.IngestionMode;
+import com.sprint.omnibook.broker.ingestion.OrderingKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoDB 컬렉션(ingest_handoff) 기반 내구성 작업 큐.
+ *
+ * - 적재: ingest 노드가 원본 저장 직후 PENDING 작업을 insert 한다.
+ * - 획득: worker가 findAndModify로 가장 오래된 작업 하나를 CLAIMED로 바꾸며 가져간다.
+ *   단일 문서 원자 연산이므로 여러 워커가 같은 작업을 동시에 가져가지 않는다 (Postgres의 SKIP LOCKED 역할).
+ * - 순서: 적재 시 예약 ID로 lane을 정하고, 워커 스레드는 자기 lane만 가져간다.
+ *   lease가 살아 있는 작업이 있는 lane은 건너뛰므로 같은 예약의 작업이 동시에/역순으로 처리되지 않는다.
+ * - 완료: 처리 결과와 무관하게 삭제한다. 결과는 raw_event_outcomes / failed_event에 남는다.
+ * - 처리 중 예외가 난 작업은 notBefore까지 기다렸다 다시 가져간다. 그동안 같은 lane의 뒤 작업도 기다린다.
+ * - 워커가 죽으면 lease가 만료된 CLAIMED 작업을 다른 워커가 다시 가져간다 (at-least-once).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HandoffQueue implements HandoffSink {
+
+    private static final String STATUS = "status";
+    private static final String LEASE_UNTIL = "leaseUntil";
+    private static final String LANE = "lane";
+    private static final String NOT_BEFORE = "notBefore";
+
+    private final MongoTemplate mongoTemplate;
+
+    /** ingest 노드와 worker 노드가 같은 값을 써야 한다 */
+    @Value("${broker.handoff.lanes:64}")
+    private int lanes = 64;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(HandoffDocument.class)
+                    .ensureIndex(new Index().on(STATUS, Sort.Direction.ASC).on("_id", Sort.Direction.ASC));
+            mongoTemplate.indexOps(HandoffDocument.class)
+                    .ensureIndex(new Index().on(LANE, Sort.Direction.ASC).on(STATUS, Sort.Direction.ASC)
+                            .on("_id", Sort.Direction.ASC));
+        } catch (DataAccessException e) {
+            log.warn("[Handoff] 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public IngestionMode mode() {
+        return IngestionMode.HANDOFF;
+    }
+
+    @Override
+    public void enqueue(ObjectId rawEventId, String rawBody, EventHeaders headers) {
+        HandoffDocument document = HandoffDocument.builder()
+                .id(rawEventId)
+                .eventId(headers.eventId())
+                .platform(headers.platform())
+                .eventType(headers.eventType())
+                .correlationId(headers.correlationId())
+                .rawBody(rawBody)
+                .lane(OrderingKey.lane(OrderingKey.of(rawBody, rawEventId.toHexString()), lanes))
+                .status(HandoffStatus.PENDING)
+                .enqueuedAt(Instant.now())
+                .build();
+
+        mongoTemplate.insert(document);
+    }
+
+    public int lanes() {
+        return lanes;
+    }
+
+    /**
+     * 주어진 lane들에서 처리할 작업 하나를 가져간다. 대기 작업이 없으면 비어 있다.
+     *
+     * 다른 워커가 lease를 쥐고 있는 lane(이전 실행에서 죽은 워커 등)은 lease가 만료될 때까지,
+     * 재시도 대기 중인 작업이 있는 lane은 notBefore까지 건너뛴다.
+     * 그 lane의 다음 작업을 먼저 처리하면 같은 예약의 이벤트 순서가 뒤바뀔 수 있기 때문이다.
+     */
+    public Optional<HandoffDocument> claim(String workerId, Duration lease, Collection<Integer> ownedLanes) {
+        Instant now = Instant.now();
+        List<Integer> claimable = new ArrayList<>(ownedLanes);
+        claimable.removeAll(mongoTemplate.findDistinct(
+                new Query(new Criteria().andOperator(
+                        Criteria.where(LANE).in(ownedLanes),
+                        new Criteria().orOperator(
+                                Criteria.where(STATUS).is(HandoffStatus.CLAIMED).and(LEASE_UNTIL).gte(now),
+                                Criteria.where(STATUS).is(HandoffStatus.PENDING).and(NOT_BEFORE).gt(now)))),
+                LANE, HandoffDocument.class, Integer.class));
+        if (claimable.isEmpty()) {
+            return Optional.empty();
+        }
+        if (claimable.contains(0)) {
+            // lane 도입 전에 적재된 작업은 lane 0으로 취급한다
+            claimable.add(null);
+        }
+
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where(LANE).in(claimable),
+                new Criteria().orOperator(
+                        Criteria.where(STATUS).is(HandoffStatus.PENDING),
+                        Criteria.where(STATUS).is(HandoffStatus.CLAIMED).and(LEASE_UNTIL).lt(now))))
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+
+        Update update = new Update()
+                .set(STATUS, HandoffStatus.CLAIMED)
+                .set(LEASE_UNTIL, now.plus(lease))
+                .unset(NOT_BEFORE)
+                .set("workerId", workerId)
+                .inc("attempts", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), HandoffDocument.class));
+    }
+
+    public void complete(ObjectId id) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(id)), HandoffDocument.class);
+    }
+
+    /**
+     * 처리 중 예외가 난 작업을 다시 대기 상태로 돌린다. notBefore 전에는 다시 가져가지 않는다.
+     */
+    public void release(ObjectId id, String error, Instant notBefore) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                new Update().set(STATUS, HandoffStatus.PENDING).unset(LEASE_UNTIL)
+                        .set(NOT_BEFORE, notBefore).set("lastError", error),
+                HandoffDocument.class);
+    }
+
+    public long countPending() {
+        return mongoTemplate.count(Query.query(Criteria.where(STATUS).is(HandoffStatus.PENDING)), HandoffDocument.class);
+    }
+}
@@ -0,0 +1,19 @@
+package com.sprint.omnibook.broker.handoff;
+
+import com.sprint.omnibook.broker.ingestion.EventHeaders;
+import com.sprint.omnibook.broker.ingestion.IngestionMode;
+import org.bson.types.ObjectId;
+
+/**
+ * 수신 노드가 처리 작업을 넘기는 저장소.
+ * broker.ingestion.mode 값과 mode()가 같은 구현이 사용된다.
+ */
+public interface HandoffSink {
+
+    IngestionMode mode();
+
+    /**
+     * @throws HandoffFullException 저장소가 가득 찬 경우
+     */
+    void enqueue(ObjectId rawEventId, String rawBody, EventHeaders headers);
+}
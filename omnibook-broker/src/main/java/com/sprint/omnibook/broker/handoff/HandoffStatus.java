@@ -0,0 +1,20 @@
+package com.sprint.omnibook.broker.handoff;
+
+/**
+ * handoff 작업 상태.
+ * 처리가 끝난 작업은 큐에서 삭제되므로 완료 상태는 없다.
+ */
+public enum HandoffStatus {
+
+    /** 워커 대기 */
+    PENDING,
+
+    /** 워커가 lease를 잡고 처리 중 (lease 만료 시 다른 워커가 다시 가져간다) */
+    CLAIMED,
+
+    /**
+     * 더 이상 가져가지 않음. 지금은 재시도를 소진한 작업을 failed_event에 남기고 삭제하므로
+     * 이전 버전이 남긴 작업에만 있다 (운영자 확인 대상).
+     */
+    DEAD
+}
@@ -0,0 +1,202 @@
+package com.sprint.omnibook.broker.handoff;
+
+import com.sprint.omnibook.broker.ingestion.EventIngestionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * handoff 큐 소비자 (worker 프로필).
+ *
+ * 워커 스레드마다 큐에서 작업을 하나씩 가져와 변환 + 예약 처리를 수행하고 작업을 삭제한다.
+ * 큐가 비어 있으면 poll-interval-ms 만큼 쉰다.
+ *
+ * 각 스레드는 고정된 lane 집합만 가져가고 한 번에 한 작업만 처리하므로,
+ * 같은 예약의 작업(예약 → 취소)은 적재 순서대로 하나씩 처리된다.
+ * 워커 노드가 여럿이면 node-index / node-count로 lane을 나눈다 (모든 노드가 같은 threads 값을 써야 한다).
+ *
+ * 처리 중 예외(DB 장애 등)가 나면 작업을 지수 backoff(backoff-initial-ms ~ backoff-max-ms) 뒤에 다시 가져가도록 돌리고,
+ * max-attempts 를 넘기면 failed_event에 남기고(관리 API로 재처리) 작업을 삭제한다.
+ * failed_event 기록마저 실패하면 backoff 후 계속 재시도한다.
+ * 비즈니스 실패(UNKNOWN_ROOM 등)는 예외가 아니므로 결과만 기록하고 작업을 삭제한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "broker.handoff.worker.enabled", havingValue = "true")
+public class HandoffWorker {
+
+    private final HandoffQueue queue;
+    private final EventIngestionService ingestionService;
+    private final int threads;
+    private final long pollIntervalMs;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final long backoffInitialMs;
+    private final long backoffMaxMs;
+    private final List<List<Integer>> laneAssignments;
+    private final String workerId = UUID.randomUUID().toString();
+    private final ExecutorService executor;
+    private volatile boolean running = true;
+
+    private final Counter processed;
+    private final Counter retried;
+    private final Counter parked;
+
+    public HandoffWorker(
+            HandoffQueue queue,
+            EventIngestionService ingestionService,
+            MeterRegistry meterRegistry,
+            @Value("${broker.handoff.worker.threads:4}") int threads,
+            @Value("${broker.handoff.worker.poll-interval-ms:100}") long pollIntervalMs,
+            @Value("${broker.handoff.worker.lease-ms:30000}") long leaseMs,
+            @Value("${broker.handoff.worker.max-attempts:5}") int maxAttempts,
+            @Value("${broker.handoff.worker.backoff-initial-ms:500}") long backoffInitialMs,
+            @Value("${broker.handoff.worker.backoff-max-ms:30000}") long backoffMaxMs,
+            @Value("${broker.handoff.worker.node-index:0}") int nodeIndex,
+            @Value("${broker.handoff.worker.node-count:1}") int nodeCount) {
+        this.queue = queue;
+        this.ingestionService = ingestionService;
+        this.threads = Math.max(1, threads);
+        this.pollIntervalMs = pollIntervalMs;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.maxAttempts = maxAttempts;
+        this.backoffInitialMs = backoffInitialMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.laneAssignments = assignLanes(queue.lanes(), this.threads, nodeIndex, Math.max(1, nodeCount));
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.threads, r -> {
+            Thread t = new Thread(r, "handoff-worker-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.processed = Counter.builder("broker.handoff.jobs").tag("result", "processed").register(meterRegistry);
+        this.retried = Counter.builder("broker.handoff.jobs").tag("result", "retried").register(meterRegistry);
+        this.parked = Counter.builder("broker.handoff.jobs").tag("result", "parked").register(meterRegistry);
+    }
+
+    /**
+     * 전체 슬롯(nodeCount × threads) 중 이 노드의 스레드 슬롯마다 lane % 슬롯 수 == 슬롯 번호인 lane을 배정한다.
+     */
+    static List<List<Integer>> assignLanes(int lanes, int threads, int nodeIndex, int nodeCount) {
+        int slots = threads * nodeCount;
+        if (lanes < slots) {
+            log.warn("[Handoff] lane 수({})가 전체 워커 스레드 수({})보다 적어 일부 스레드는 쉰다", lanes, slots);
+        }
+        List<List<Integer>> assignments = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int slot = nodeIndex * threads + t;
+            List<Integer> owned = new ArrayList<>();
+            for (int lane = slot; lane < lanes; lane += slots) {
+                owned.add(lane);
+            }
+            assignments.add(List.copyOf(owned));
+        }
+        return assignments;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("[Handoff] 워커 시작: workerId={}, threads={}, lanes={}", workerId, threads, queue.lanes());
+        for (List<Integer> lanes : laneAssignments) {
+            if (!lanes.isEmpty()) {
+                executor.submit(() -> runLoop(lanes));
+            }
+        }
+    }
+
+    private void runLoop(List<Integer> lanes) {
+        while (running) {
+            try {
+                Optional<HandoffDocument> job = queue.claim(workerId, lease, lanes);
+                if (job.isEmpty()) {
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMs);
+                    continue;
+                }
+                handle(job.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 큐(MongoDB) 자체 장애 — 잠시 쉬고 다시 시도
+                log.warn("[Handoff] 큐 조회 실패: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    void handle(HandoffDocument job) {
+        try {
+            ingestionService.processHandoff(job.getId(), job.getRawBody(), job.headers());
+            queue.complete(job.getId());
+            processed.increment();
+        } catch (RuntimeException e) {
+            if (job.getAttempts() >= maxAttempts && park(job, e)) {
+                queue.complete(job.getId());
+                return;
+            }
+            long backoffMs = backoffMillis(job.getAttempts());
+            queue.release(job.getId(), e.getMessage(), Instant.now().plusMillis(backoffMs));
+            retried.increment();
+            log.warn("[Handoff] 처리 실패, 재시도 대기: id={}, eventId={}, attempts={}, backoffMs={}, reason={}",
+                    job.getId(), job.getEventId(), job.getAttempts(), backoffMs, e.getMessage());
+        }
+    }
+
+    private boolean park(HandoffDocument job, RuntimeException cause) {
+        try {
+            String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            ingestionService.park(job.getRawBody(), job.headers(), reason);
+            parked.increment();
+            log.error("[Handoff] 최대 시도 초과, failed_event에 기록: id={}, eventId={}, attempts={}",
+                    job.getId(), job.getEventId(), job.getAttempts(), cause);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[Handoff] failed_event 기록 실패, 계속 재시도: id={}, eventId={}, reason={}",
+                    job.getId(), job.getEventId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * attempts번째 실패 후 대기 시간: initial * 2^(attempts-1), 최대 backoff-max-ms.
+     */
+    long backoffMillis(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(backoffInitialMs << shift, backoffMaxMs);
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(Math.max(pollIntervalMs, 1000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(lease.toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
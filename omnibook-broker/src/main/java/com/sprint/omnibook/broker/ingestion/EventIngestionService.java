@@ -4,21 +4,34 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.omnibook.broker.api.dto.IncomingEventRequest;
 import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.cluster.PartitionRouter;
 import com.sprint.omnibook.broker.event.EventType;
 import com.sprint.omnibook.broker.event.PlatformType;
 import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.handoff.HandoffFullException;
+import com.sprint.omnibook.broker.handoff.HandoffSink;
+import com.sprint.omnibook.broker.jfr.IngestionFailedEvent;
+import com.sprint.omnibook.broker.jfr.IngestionReceivedEvent;
+import com.sprint.omnibook.broker.jfr.ProcessedEvent;
+import com.sprint.omnibook.broker.jfr.RawStoredEvent;
+import com.sprint.omnibook.broker.jfr.TranslatedEvent;
 import com.sprint.omnibook.broker.persistence.RawEventService;
 import com.sprint.omnibook.broker.processing.FailureReason;
 import com.sprint.omnibook.broker.processing.ProcessingResult;
 import com.sprint.omnibook.broker.processing.ReservationProcessingService;
+import com.sprint.omnibook.broker.support.ServerTiming;
+import com.sprint.omnibook.broker.support.TimeOrderedIds;
 import com.sprint.omnibook.broker.translator.PayloadTranslator;
 import com.sprint.omnibook.broker.translator.TranslationException;
-import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * 이벤트 수신 및 변환 서비스.
@@ -28,9 +41,20 @@ import java.util.UUID;
  * 2. 파싱 및 IngestRequest 생성
  * 3. ReservationEvent 생성 (Translator)
  * 4. ReservationProcessingService 호출 (예약/취소 처리)
+ *    - 다중 노드 구성에서는 객실 파티션을 소유한 노드에서 처리 (PartitionRouter)
+ * 5. 처리 결과 기록 (raw_event_outcomes)
+ *
+ * broker.ingestion.mode가 HANDOFF(ingest 프로필) 또는 JOURNAL이면 1 이후 작업을 HandoffSink에 넘기고 바로 반환하며,
+ * 2~5는 큐 소비자(HandoffWorker / JournalConsumer)가 processHandoff로 수행한다.
+ *
+ * INLINE 모드에서 IngestionPipeline이 켜져 있으면 1~5를 단계별 워커 스레드가 나눠 수행한다 (*Stage 메서드).
+ *
+ * 수신/원본 저장/변환/예약 처리/실패 지점마다 JFR 이벤트(jfr 패키지)를 남긴다.
+ *
+ * ingest 프로필에는 PostgreSQL 빈(FailedEventStore, ReservationProcessingService)이 없다.
+ * HANDOFF 모드에서는 2 이후를 호출하지 않으므로 두 빈은 @Lazy로 주입해 실제 호출 시점에만 찾는다.
  */
 @Service
-@RequiredArgsConstructor
 public class EventIngestionService {
 
     private final RawEventService rawEventService;
@@ -38,36 +62,239 @@ public class EventIngestionService {
     private final FailedEventStore failedEventStore;
     private final ObjectMapper objectMapper;
     private final ReservationProcessingService reservationProcessingService;
+    private final PartitionRouter partitionRouter;
+    private final List<HandoffSink> handoffSinks;
+    private final ObjectProvider<IngestionPipeline> ingestionPipeline;
+
+    public EventIngestionService(
+            RawEventService rawEventService,
+            Map<PlatformType, PayloadTranslator> translators,
+            @Lazy FailedEventStore failedEventStore,
+            ObjectMapper objectMapper,
+            @Lazy ReservationProcessingService reservationProcessingService,
+            PartitionRouter partitionRouter,
+            List<HandoffSink> handoffSinks,
+            ObjectProvider<IngestionPipeline> ingestionPipeline) {
+        this.rawEventService = rawEventService;
+        this.translators = translators;
+        this.failedEventStore = failedEventStore;
+        this.objectMapper = objectMapper;
+        this.reservationProcessingService = reservationProcessingService;
+        this.partitionRouter = partitionRouter;
+        this.handoffSinks = handoffSinks;
+        this.ingestionPipeline = ingestionPipeline;
+    }
+
+    @Value("${broker.ingestion.mode:INLINE}")
+    private IngestionMode mode = IngestionMode.INLINE;
 
     /**
      * 이벤트 처리 진입점.
-     * MongoDB 저장 -> 파싱 -> Translator 처리 -> 예약 처리 순서를 보장한다.
+     * MongoDB 저장 -> 파싱 -> Translator 처리 -> 예약 처리 -> 결과 기록 순서를 보장한다.
      *
      * @param rawBody HTTP body 원본
      * @param headers HTTP 헤더 정보
      * @return 처리 결과
      */
     public IngestionResult process(String rawBody, EventHeaders headers) {
+        IngestionReceivedEvent received = new IngestionReceivedEvent();
+        received.begin();
+        IngestionResult result = receive(rawBody, headers);
+        received.commit(result.eventId(), headers.platform(), headers.eventType(),
+                rawBody == null ? 0 : rawBody.length(), outcome(result));
+        return result;
+    }
+
+    private IngestionResult receive(String rawBody, EventHeaders headers) {
+        if (mode == IngestionMode.INLINE) {
+            IngestionPipeline pipeline = ingestionPipeline.getIfAvailable();
+            if (pipeline != null) {
+                return pipeline.submit(rawBody, headers);
+            }
+        }
+
         // 1. 즉시 MongoDB 저장 (파싱 실패와 무관하게 원본 보존)
-        rawEventService.store(rawBody, headers);
+        ObjectId rawEventId = storeRaw(rawBody, headers);
+
+        if (mode != IngestionMode.INLINE) {
+            return handOff(rawEventId, rawBody, headers);
+        }
+
+        return processStored(rawEventId, rawBody, headers);
+    }
+
+    private static String outcome(IngestionResult result) {
+        if (result.queued()) {
+            return "QUEUED";
+        }
+        if (result.success()) {
+            return "SUCCESS";
+        }
+        return result.errorCode() != null ? result.errorCode().name() : "FAILED";
+    }
+
+    /**
+     * 파싱 이후 작업을 큐 소비자에게 넘긴다. 헤더에 이벤트 ID가 없으면 원본 ID로 응답한다.
+     */
+    private IngestionResult handOff(ObjectId rawEventId, String rawBody, EventHeaders headers) {
+        String eventId = headers.eventId() != null && !headers.eventId().isBlank()
+                ? headers.eventId()
+                : rawEventId.toHexString();
+        try {
+            sinkFor(mode).enqueue(rawEventId, rawBody, headers);
+            return IngestionResult.queued(eventId);
+        } catch (HandoffFullException e) {
+            IngestionResult result = IngestionResult.failure(eventId, e.getMessage(), ErrorCode.HANDOFF_FULL);
+            rawEventService.recordOutcome(rawEventId, result);
+            return failed(IngestionFailedEvent.STAGE_HANDOFF, headers.platform(), result);
+        }
+    }
+
+    private HandoffSink sinkFor(IngestionMode mode) {
+        for (HandoffSink sink : handoffSinks) {
+            if (sink.mode() == mode) {
+                return sink;
+            }
+        }
+        throw new IllegalStateException("broker.ingestion.mode=" + mode + " 에 해당하는 HandoffSink가 없습니다.");
+    }
+
+    private ObjectId storeRaw(String rawBody, EventHeaders headers) {
+        RawStoredEvent stored = new RawStoredEvent();
+        stored.begin();
+        long start = ServerTiming.start();
+        ObjectId rawEventId;
+        try {
+            rawEventId = rawEventService.store(rawBody, headers);
+        } finally {
+            ServerTiming.stop(ServerTiming.Stage.RAW_STORE, start);
+        }
+        if (stored.shouldCommit()) {
+            stored.commit(headers.eventId(), headers.platform(), rawEventId.toHexString());
+        }
+        return rawEventId;
+    }
+
+    /**
+     * 실패 결과를 IngestionFailedEvent로 남기고 그대로 반환한다.
+     */
+    private static IngestionResult failed(String stage, String platform, IngestionResult result) {
+        IngestionFailedEvent.emit(stage, result.eventId(), platform,
+                result.errorCode() != null ? result.errorCode().name() : null, result.failureReason());
+        return result;
+    }
+
+    /**
+     * handoff 큐에서 가져온 작업 처리 (worker 프로필).
+     * 원본은 ingest 노드가 이미 저장했으므로 파싱부터 수행한다.
+     */
+    public IngestionResult processHandoff(ObjectId rawEventId, String rawBody, EventHeaders headers) {
+        return processStored(rawEventId, rawBody, headers);
+    }
+
+    /**
+     * 큐 소비자가 재시도를 모두 소진한 작업을 failed_event에 남긴다 (관리 API로 재처리할 수 있다).
+     * envelope을 읽을 수 있으면 재처리 형식(payload)으로, 읽을 수 없으면 원본 그대로 저장한다.
+     */
+    public void park(String rawBody, EventHeaders headers, String reason) {
+        String errorMessage = IngestionErrorMessage.RETRY_EXHAUSTED_PREFIX + reason;
+        IngestRequest request;
+        try {
+            request = parseToIngestRequest(rawBody, headers);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            failedEventStore.save(FailedEvent.builder()
+                    .eventId(resolveEventId(headers.eventId(), null))
+                    .platform(headers.platform())
+                    .eventType(headers.eventType())
+                    .correlationId(headers.correlationId())
+                    .rawPayload(rawBody)
+                    .errorMessage(errorMessage)
+                    .failedAt(Instant.now())
+                    .build());
+            return;
+        }
+        saveFailedEvent(request, errorMessage);
+    }
+
+    private IngestionResult processStored(ObjectId rawEventId, String rawBody, EventHeaders headers) {
+        // 2~3. 파싱 및 비즈니스 처리
+        IngestionResult result = parseAndIngest(rawBody, headers);
+
+        // 4. 처리 결과 기록 (트래픽 재생 시 원래 결과와 비교용)
+        rawEventService.recordOutcome(rawEventId, result);
+        return result;
+    }
 
-        // 2. 파싱 및 IngestRequest 생성
+    private IngestionResult parseAndIngest(String rawBody, EventHeaders headers) {
         IngestRequest request;
         try {
             request = parseToIngestRequest(rawBody, headers);
         } catch (JsonProcessingException e) {
-            String eventId = resolveEventId(headers.eventId(), null);
-            String reason = IngestionErrorMessage.JSON_PARSE_FAILED_PREFIX + e.getMessage();
-            saveFailedEventForParseError(eventId, headers, rawBody, e.getMessage());
-            return IngestionResult.failure(eventId, reason, ErrorCode.EVENT_PARSE_ERROR);
+            return parseFailure(rawBody, headers, e);
         }
 
-        // 3. 비즈니스 처리
         return ingest(request);
     }
 
+    private IngestionResult parseFailure(String rawBody, EventHeaders headers, JsonProcessingException e) {
+        String eventId = resolveEventId(headers.eventId(), null);
+        String reason = IngestionErrorMessage.JSON_PARSE_FAILED_PREFIX + e.getMessage();
+        saveFailedEventForParseError(eventId, headers, rawBody, e.getMessage());
+        return failed(IngestionFailedEvent.STAGE_PARSE, headers.platform(),
+                IngestionResult.failure(eventId, reason, ErrorCode.EVENT_PARSE_ERROR));
+    }
+
+    // ===== IngestionPipeline 단계 =====
+    // 각 단계는 슬롯의 필드만 읽고 쓴다. 앞 단계에서 결과(실패)가 정해진 슬롯은 건너뛴다.
+
+    /** 1단계: 원본 저장 */
+    void storeStage(IngestionSlot slot) {
+        slot.rawEventId = storeRaw(slot.rawBody, slot.headers);
+    }
+
+    /** 2단계: envelope 파싱 */
+    void parseStage(IngestionSlot slot) {
+        if (slot.isSettled()) {
+            return;
+        }
+        try {
+            slot.request = parseToIngestRequest(slot.rawBody, slot.headers);
+        } catch (JsonProcessingException e) {
+            slot.result = parseFailure(slot.rawBody, slot.headers, e);
+        }
+    }
+
+    /** 3단계: 플랫폼별 Translator 변환 */
+    void translateStage(IngestionSlot slot) {
+        if (slot.isSettled()) {
+            return;
+        }
+        Translation translation = translate(slot.request, true);
+        slot.event = translation.event();
+        slot.result = translation.failure() != null
+                ? failed(IngestionFailedEvent.STAGE_TRANSLATE, slot.request.platformHeader(), translation.failure())
+                : null;
+    }
+
+    /** 4단계: 예약 처리 및 결과 기록 */
+    void processStage(IngestionSlot slot) {
+        if (slot.error != null) {
+            return;
+        }
+        if (slot.result == null) {
+            slot.result = dispatch(slot.request, slot.event, true);
+        }
+        rawEventService.recordOutcome(slot.rawEventId, slot.result);
+    }
+
     private IngestRequest parseToIngestRequest(String rawBody, EventHeaders headers) throws JsonProcessingException {
-        IncomingEventRequest request = objectMapper.readValue(rawBody, IncomingEventRequest.class);
+        IncomingEventRequest request;
+        long start = ServerTiming.start();
+        try {
+            request = objectMapper.readValue(rawBody, IncomingEventRequest.class);
+        } finally {
+            ServerTiming.stop(ServerTiming.Stage.PARSE, start);
+        }
         String eventId = resolveEventId(headers.eventId(), request.getEventId());
 
         return new IngestRequest(
@@ -87,7 +314,7 @@ public class EventIngestionService {
         if (bodyEventId != null && !bodyEventId.isBlank()) {
             return bodyEventId;
         }
-        return UUID.randomUUID().toString();
+        return TimeOrderedIds.newUuid().toString();
     }
 
     private void saveFailedEventForParseError(String eventId, EventHeaders headers, String rawBody, String errorMessage) {
@@ -110,65 +337,126 @@ public class EventIngestionService {
      * @return 처리 결과 (성공/실패 및 실패 사유 포함)
      */
     IngestionResult ingest(IngestRequest request) {
-        PlatformType platform = mapPlatform(request.platformHeader());
+        return ingest(request, true);
+    }
+
+    /**
+     * 저장된 실패 이벤트 재처리.
+     * 다시 실패해도 새 실패 이벤트를 기록하지 않는다 (원본 행의 retry_count로 관리).
+     */
+    public IngestionResult retry(IngestRequest request) {
+        return ingest(request, false);
+    }
+
+    /**
+     * 다른 노드에서 전달된 이벤트 처리.
+     * 원본은 최초 수신 노드가 이미 저장했으므로 변환 후 다시 전달하지 않는다.
+     * 그 사이 이 노드가 파티션을 내려놓았다면 처리하지 않고 PARTITION_UNAVAILABLE을 돌려준다.
+     */
+    public IngestionResult ingestForwarded(IngestRequest request) {
+        return ingest(request, true, false);
+    }
+
+    private IngestionResult ingest(IngestRequest request, boolean recordFailure) {
+        return ingest(request, recordFailure, true);
+    }
+
+    private IngestionResult ingest(IngestRequest request, boolean recordFailure, boolean route) {
+        // 1단계: Translator로 정규화된 이벤트 생성
+        Translation translation = translate(request, recordFailure);
+        if (translation.failure() != null) {
+            return failed(IngestionFailedEvent.STAGE_TRANSLATE, request.platformHeader(), translation.failure());
+        }
+
+        // 2단계: 예약 처리 서비스 호출 (소유 노드가 따로 있으면 그 노드로 전달)
+        return dispatch(request, translation.event(), route);
+    }
+
+    private Translation translate(IngestRequest request, boolean recordFailure) {
+        PlatformType platform = PlatformHeaderAlias.toPlatformType(request.platformHeader());
         EventType eventType = mapEventType(request.eventTypeHeader());
 
         if (platform == null) {
             String reason = IngestionErrorMessage.UNKNOWN_PLATFORM_PREFIX + request.platformHeader();
-            saveFailedEvent(request, reason);
-            return IngestionResult.failure(request.eventId(), reason, ErrorCode.INVALID_PLATFORM);
+            if (recordFailure) saveFailedEvent(request, reason);
+            return Translation.failed(IngestionResult.failure(request.eventId(), reason, ErrorCode.INVALID_PLATFORM));
         }
 
         PayloadTranslator translator = translators.get(platform);
         if (translator == null) {
             String reason = IngestionErrorMessage.TRANSLATOR_NOT_FOUND_PREFIX + platform;
-            saveFailedEvent(request, reason);
-            return IngestionResult.failure(request.eventId(), reason, ErrorCode.TRANSLATOR_NOT_FOUND);
+            if (recordFailure) saveFailedEvent(request, reason);
+            return Translation.failed(IngestionResult.failure(request.eventId(), reason, ErrorCode.TRANSLATOR_NOT_FOUND));
         }
 
         String rawPayload = extractRawPayload(request);
         if (rawPayload == null) {
-            saveFailedEvent(request, IngestionErrorMessage.PAYLOAD_SERIALIZATION_FAILED);
-            return IngestionResult.failure(request.eventId(), IngestionErrorMessage.PAYLOAD_SERIALIZATION_FAILED, ErrorCode.PAYLOAD_SERIALIZATION_FAILED);
+            if (recordFailure) saveFailedEvent(request, IngestionErrorMessage.PAYLOAD_SERIALIZATION_FAILED);
+            return Translation.failed(IngestionResult.failure(request.eventId(), IngestionErrorMessage.PAYLOAD_SERIALIZATION_FAILED, ErrorCode.PAYLOAD_SERIALIZATION_FAILED));
         }
 
         try {
-            // 1단계: Translator로 정규화된 이벤트 생성
-            ReservationEvent event = translator.translate(rawPayload, eventType);
-
-            // 2단계: 예약 처리 서비스 호출
-            ProcessingResult result = reservationProcessingService.process(event);
-
-            if (!result.isSuccess()) {
-                // ReservationProcessingService 내부에서 이미 실패 처리됨
-                // FailedEventStore에는 별도 저장하지 않음 (ReservationEventEntity에 기록됨)
-                FailureReason failureReason = result.getFailureReason();
-                String reason = failureReason != null
-                        ? failureReason.name()
-                        : IngestionErrorMessage.PROCESSING_FAILED;
-                ErrorCode errorCode = mapFailureReasonToErrorCode(failureReason);
-                return IngestionResult.failure(request.eventId(), reason, errorCode);
+            TranslatedEvent translated = new TranslatedEvent();
+            translated.begin();
+            long start = ServerTiming.start();
+            ReservationEvent event;
+            try {
+                event = translator.translate(rawPayload, eventType);
+            } finally {
+                ServerTiming.stop(ServerTiming.Stage.TRANSLATE, start);
             }
-
-            return IngestionResult.success(request.eventId());
+            translated.commit(request.eventId(), request.platformHeader(), eventType.name());
+            return Translation.of(event);
         } catch (TranslationException e) {
             String reason = e.getMessage();
-            saveFailedEvent(request, reason);
-            return IngestionResult.failure(request.eventId(), reason, ErrorCode.EVENT_PARSE_ERROR);
+            if (recordFailure) saveFailedEvent(request, reason);
+            return Translation.failed(IngestionResult.failure(request.eventId(), reason, ErrorCode.EVENT_PARSE_ERROR));
+        }
+    }
+
+    private IngestionResult dispatch(IngestRequest request, ReservationEvent event, boolean route) {
+        if (route) {
+            return partitionRouter.dispatch(request, event, () -> processTranslated(request, event));
         }
+        return partitionRouter.receive(request, event, () -> processTranslated(request, event));
     }
 
     /**
-     * 헤더 문자열을 PlatformType으로 변환한다.
+     * 변환 결과: 성공 시 event, 실패 시 failure 중 하나만 채워진다.
      */
-    private PlatformType mapPlatform(String header) {
-        if (header == null) return null;
-        return switch (header.toUpperCase()) {
-            case PlatformHeaderAlias.YANOLJA_SHORT, PlatformHeaderAlias.YANOLJA -> PlatformType.YANOLJA;
-            case PlatformHeaderAlias.AIRBNB_SHORT, PlatformHeaderAlias.AIRBNB -> PlatformType.AIRBNB;
-            case PlatformHeaderAlias.YEOGIEOTTAE_SHORT, PlatformHeaderAlias.YEOGIEOTTAE -> PlatformType.YEOGIEOTTAE;
-            default -> null;
-        };
+    private record Translation(ReservationEvent event, IngestionResult failure) {
+
+        static Translation of(ReservationEvent event) {
+            return new Translation(event, null);
+        }
+
+        static Translation failed(IngestionResult failure) {
+            return new Translation(null, failure);
+        }
+    }
+
+    private IngestionResult processTranslated(IngestRequest request, ReservationEvent event) {
+        ProcessedEvent processed = new ProcessedEvent();
+        processed.begin();
+        ProcessingResult result = reservationProcessingService.process(event);
+        if (processed.shouldCommit()) {
+            processed.commit(request.eventId(), request.platformHeader(), event.getEventType().name(),
+                    result.isSuccess(), result.getFailureReason() != null ? result.getFailureReason().name() : null);
+        }
+
+        if (!result.isSuccess()) {
+            // ReservationProcessingService 내부에서 이미 실패 처리됨
+            // FailedEventStore에는 별도 저장하지 않음 (ReservationEventEntity에 기록됨)
+            FailureReason failureReason = result.getFailureReason();
+            String reason = failureReason != null
+                    ? failureReason.name()
+                    : IngestionErrorMessage.PROCESSING_FAILED;
+            ErrorCode errorCode = mapFailureReasonToErrorCode(failureReason);
+            return failed(IngestionFailedEvent.STAGE_PROCESS, request.platformHeader(),
+                    IngestionResult.failure(request.eventId(), reason, errorCode));
+        }
+
+        return IngestionResult.success(request.eventId());
     }
 
     /**
@@ -1,34 +1,51 @@
 package com.sprint.omnibook.broker.ingestion;
 
+import com.sprint.omnibook.broker.domain.FailedEventEntity;
+import com.sprint.omnibook.broker.domain.repository.FailedEventRepository;
+import com.sprint.omnibook.broker.failedevent.ErrorPrefix;
+import com.sprint.omnibook.broker.failedevent.FailedEventCounterRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
- * 변환 실패 이벤트 임시 저장소.
- * 현재는 인메모리로 구현. 추후 RDB/Kafka 등으로 교체 가능.
+ * 변환 실패 이벤트 저장소.
+ * failed_event에 원본을 저장하고, 같은 트랜잭션에서 (platform, error_prefix) 카운터를 증가시킨다.
  */
 @Slf4j
 @Component
+@Profile("!ingest")
+@RequiredArgsConstructor
 public class FailedEventStore {
 
-    private final ConcurrentLinkedQueue<FailedEvent> store = new ConcurrentLinkedQueue<>();
+    static final String UNKNOWN_PLATFORM = "UNKNOWN";
+
+    private final FailedEventRepository failedEventRepository;
+    private final FailedEventCounterRepository counterRepository;
 
+    @Transactional
     public void save(FailedEvent event) {
-        store.add(event);
-        log.warn("[FailedEventStore] 저장됨: eventId={}, platform={}, error={}",
-                event.getEventId(), event.getPlatform(), event.getErrorMessage());
-    }
+        String platform = event.getPlatform() != null ? event.getPlatform() : UNKNOWN_PLATFORM;
+        String errorPrefix = ErrorPrefix.of(event.getErrorMessage());
 
-    public List<FailedEvent> findAll() {
-        return Collections.unmodifiableList(new ArrayList<>(store));
-    }
+        FailedEventEntity entity = FailedEventEntity.builder()
+                .eventId(event.getEventId())
+                .platform(platform)
+                .eventType(event.getEventType())
+                .correlationId(event.getCorrelationId())
+                .reservationId(event.getReservationId())
+                .rawPayload(event.getRawPayload())
+                .errorMessage(event.getErrorMessage())
+                .errorPrefix(errorPrefix)
+                .failedAt(event.getFailedAt())
+                .build();
+
+        failedEventRepository.save(entity);
+        counterRepository.increment(platform, errorPrefix);
 
-    public int count() {
-        return store.size();
+        log.warn("[FailedEventStore] 저장됨: eventId={}, platform={}, error={}",
+                event.getEventId(), platform, event.getErrorMessage());
     }
 }
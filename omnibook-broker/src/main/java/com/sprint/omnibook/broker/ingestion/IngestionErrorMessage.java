@@ -11,6 +11,7 @@ public final class IngestionErrorMessage {
     public static final String PAYLOAD_SERIALIZATION_FAILED = "payload JSON 변환 실패";
     public static final String PROCESSING_FAILED = "처리 실패";
     public static final String SERIALIZATION_FAILED = "직렬화 실패";
+    public static final String RETRY_EXHAUSTED_PREFIX = "재시도 소진: ";
 
     private IngestionErrorMessage() {
     }
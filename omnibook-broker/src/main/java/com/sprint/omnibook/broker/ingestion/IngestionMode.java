@@ -0,0 +1,16 @@
+package com.sprint.omnibook.broker.ingestion;
+
+/**
+ * 수신 노드의 처리 방식.
+ */
+public enum IngestionMode {
+
+    /** 수신한 JVM에서 변환/예약 처리까지 마치고 결과를 응답한다 (기본) */
+    INLINE,
+
+    /** 원본 저장 후 처리 작업을 handoff 큐에 넣고 바로 202를 응답한다 (ingest 프로필) */
+    HANDOFF,
+
+    /** 원본 저장 후 로컬 디스크 저널에 기록하고 바로 202를 응답한다. 같은 JVM의 JournalConsumer가 처리한다. */
+    JOURNAL
+}
@@ -0,0 +1,154 @@
+package com.sprint.omnibook.broker.ingestion;
+
+import com.sprint.omnibook.broker.pipeline.StagedPipeline;
+import com.sprint.omnibook.broker.pipeline.StagedPipeline.StageSpec;
+import com.sprint.omnibook.broker.pipeline.WaitStrategy;
+import com.sprint.omnibook.broker.support.ServerTiming;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 원본 저장 → envelope 파싱 → 플랫폼 변환 → 예약 처리를 단계별 워커 스레드로 나눈 수신 파이프라인 (INLINE 모드 전용).
+ *
+ * 요청 스레드는 미리 할당된 슬롯에 원본을 채워 넣고, 마지막 단계가 결과를 돌려줄 때까지 기다린다.
+ * 단계마다 병렬도와 대기 방식을 따로 설정해, 느린 단계(예약 처리 = DB)에만 스레드를 더 줄 수 있다.
+ * 단계별 점유(occupancy)/대기(stall) 시간은 broker.pipeline.* 지표로 노출된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "broker.ingestion.pipeline.enabled", havingValue = "true")
+public class IngestionPipeline {
+
+    private static final String STAGE_PREFIX = "broker.ingestion.pipeline.";
+    private static final long AWAIT_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final StagedPipeline<IngestionSlot> pipeline;
+    private final ThreadLocal<IngestionSlot.Waiter> waiters = ThreadLocal.withInitial(IngestionSlot.Waiter::new);
+
+    public IngestionPipeline(
+            EventIngestionService ingestionService,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${broker.ingestion.pipeline.ring-size:1024}") int ringSize) {
+        List<StageSpec<IngestionSlot>> stages = List.of(
+                stage(environment, "store", ingestionService::storeStage),
+                stage(environment, "parse", ingestionService::parseStage),
+                stage(environment, "translate", ingestionService::translateStage),
+                stage(environment, "process", slot -> completeAfter(ingestionService, slot)));
+
+        this.pipeline = StagedPipeline.of(ringSize, IngestionSlot::new, stages, IngestionPipeline::recordError);
+        this.pipeline.start("ingest");
+        registerMetrics(meterRegistry);
+
+        log.info("[Pipeline] 수신 파이프라인 시작: ringSize={}, stages={}", pipeline.ringSize(),
+                pipeline.stats().stream().map(s -> s.name() + "x" + s.parallelism()).toList());
+    }
+
+    private static StageSpec<IngestionSlot> stage(Environment environment, String name, Consumer<IngestionSlot> handler) {
+        String prefix = STAGE_PREFIX + name + ".";
+        int parallelism = environment.getProperty(prefix + "parallelism", Integer.class, 1);
+        WaitStrategy waitStrategy = environment.getProperty(prefix + "wait-strategy", WaitStrategy.class, WaitStrategy.SLEEPING);
+        return new StageSpec<>(name, parallelism, waitStrategy, timed(handler));
+    }
+
+    /**
+     * 요청 스레드에서 시작한 ServerTiming을 단계 워커 스레드에 이어 붙인다.
+     */
+    private static Consumer<IngestionSlot> timed(Consumer<IngestionSlot> handler) {
+        return slot -> {
+            if (slot.timing == null) {
+                handler.accept(slot);
+                return;
+            }
+            ServerTiming.attach(slot.timing);
+            try {
+                handler.accept(slot);
+            } finally {
+                ServerTiming.detach();
+            }
+        };
+    }
+
+    /**
+     * 마지막 단계. 처리 중 예외가 나도 요청 스레드가 영원히 기다리지 않도록 항상 완료 신호를 보낸다.
+     */
+    private static void completeAfter(EventIngestionService ingestionService, IngestionSlot slot) {
+        try {
+            ingestionService.processStage(slot);
+        } catch (RuntimeException e) {
+            recordError(slot, e);
+        } finally {
+            slot.complete();
+        }
+    }
+
+    private static void recordError(IngestionSlot slot, RuntimeException e) {
+        if (slot.error == null) {
+            slot.error = e;
+        }
+    }
+
+    /**
+     * 이벤트를 파이프라인에 넣고 처리 결과를 기다린다.
+     * 단계에서 난 예외는 그대로 다시 던진다 (INLINE 직접 처리와 같은 동작).
+     */
+    public IngestionResult submit(String rawBody, EventHeaders headers) {
+        IngestionSlot.Waiter waiter = waiters.get();
+        waiter.reset();
+        ServerTiming timing = ServerTiming.current();
+        pipeline.publish(slot -> slot.prepare(rawBody, headers, waiter, timing));
+
+        while (!waiter.isDone()) {
+            if (!pipeline.isRunning()) {
+                throw new IllegalStateException("수신 파이프라인이 중지되었습니다.");
+            }
+            waiter.park(AWAIT_PARK_NANOS);
+        }
+        if (waiter.error() != null) {
+            throw waiter.error();
+        }
+        return waiter.result();
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        List<StagedPipeline.StageStats> initial = pipeline.stats();
+        for (int i = 0; i < initial.size(); i++) {
+            int index = i;
+            String name = initial.get(i).name();
+            Gauge.builder("broker.pipeline.stage.occupancy", pipeline, p -> p.stats().get(index).occupancy())
+                    .tag("stage", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("broker.pipeline.stage.events", pipeline, p -> p.stats().get(index).events())
+                    .tag("stage", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("broker.pipeline.stage.busy", pipeline, p -> p.stats().get(index).busyNanos() / 1e9)
+                    .tag("stage", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            FunctionCounter.builder("broker.pipeline.stage.stall", pipeline, p -> p.stats().get(index).stallNanos() / 1e9)
+                    .tag("stage", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("broker.pipeline.producer.stall", pipeline, p -> p.producerStallNanos() / 1e9)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        pipeline.stop(10, TimeUnit.SECONDS);
+        log.info("[Pipeline] 수신 파이프라인 종료");
+    }
+}
@@ -9,19 +9,27 @@ public record IngestionResult(
         String eventId,
         boolean success,
         String failureReason,
-        ErrorCode errorCode
+        ErrorCode errorCode,
+        boolean queued
 ) {
     /**
      * 성공 결과 생성.
      */
     public static IngestionResult success(String eventId) {
-        return new IngestionResult(eventId, true, null, null);
+        return new IngestionResult(eventId, true, null, null, false);
     }
 
     /**
      * 실패 결과 생성.
      */
     public static IngestionResult failure(String eventId, String reason, ErrorCode errorCode) {
-        return new IngestionResult(eventId, false, reason, errorCode);
+        return new IngestionResult(eventId, false, reason, errorCode, false);
+    }
+
+    /**
+     * 처리 대기 결과 생성 (handoff 큐에 적재만 된 상태).
+     */
+    public static IngestionResult queued(String eventId) {
+        return new IngestionResult(eventId, true, null, null, true);
     }
 }
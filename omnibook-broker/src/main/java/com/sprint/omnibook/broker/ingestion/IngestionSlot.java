@@ -0,0 +1,98 @@
+package com.sprint.omnibook.broker.ingestion;
+
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.support.ServerTiming;
+import org.bson.types.ObjectId;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * IngestionPipeline 링 버퍼의 슬롯. 기동 시 미리 만들어 재사용한다.
+ *
+ * 단계 사이 가시성은 StagedPipeline의 순번(volatile) 갱신이 보장하므로 필드는 일반 필드로 둔다.
+ */
+final class IngestionSlot {
+
+    String rawBody;
+    EventHeaders headers;
+    ObjectId rawEventId;
+    IngestRequest request;
+    ReservationEvent event;
+    IngestionResult result;
+    RuntimeException error;
+    Waiter waiter;
+    ServerTiming timing;
+
+    void prepare(String rawBody, EventHeaders headers, Waiter waiter, ServerTiming timing) {
+        this.rawBody = rawBody;
+        this.headers = headers;
+        this.waiter = waiter;
+        this.timing = timing;
+        this.rawEventId = null;
+        this.request = null;
+        this.event = null;
+        this.result = null;
+        this.error = null;
+    }
+
+    /** 결과(실패 포함)나 예외가 이미 정해져 이후 단계가 할 일이 없는지 */
+    boolean isSettled() {
+        return result != null || error != null;
+    }
+
+    /**
+     * 호출 스레드에 결과를 넘기고, 다음 바퀴까지 원본을 붙잡고 있지 않도록 참조를 비운다.
+     */
+    void complete() {
+        Waiter target = waiter;
+        IngestionResult completedResult = result;
+        RuntimeException completedError = error;
+        rawBody = null;
+        headers = null;
+        request = null;
+        event = null;
+        waiter = null;
+        timing = null;
+        target.complete(completedResult, completedError);
+    }
+
+    /**
+     * 요청 스레드별로 하나씩 재사용하는 완료 대기 객체.
+     */
+    static final class Waiter {
+
+        private final Thread owner = Thread.currentThread();
+        private IngestionResult result;
+        private RuntimeException error;
+        private volatile boolean done;
+
+        void reset() {
+            result = null;
+            error = null;
+            done = false;
+        }
+
+        void complete(IngestionResult result, RuntimeException error) {
+            this.result = result;
+            this.error = error;
+            this.done = true;
+            LockSupport.unpark(owner);
+        }
+
+        boolean isDone() {
+            return done;
+        }
+
+        IngestionResult result() {
+            return result;
+        }
+
+        RuntimeException error() {
+            return error;
+        }
+
+        void park(long nanos) {
+            LockSupport.parkNanos(this, nanos);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sprint.omnibook.broker.ingestion;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * 큐 소비자가 처리 순서를 지켜야 하는 단위(예약)를 구한다.
+ *
+ * 같은 예약의 BOOKING과 CANCELLATION이 다른 스레드에서 뒤바뀌어 처리되면 취소가 먼저 실패하고
+ * 예약만 남는다. 소비자는 이 키를 lane으로 해시해 같은 lane을 한 스레드에서 순서대로 처리한다.
+ *
+ * 수신 경로에서도 쓰이므로 envelope 최상위 reservationId만 스트리밍으로 읽고 payload는 건너뛴다.
+ */
+public final class OrderingKey {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final String RESERVATION_ID = "reservationId";
+
+    private OrderingKey() {
+    }
+
+    /**
+     * @param rawBody  HTTP body 원본
+     * @param fallback reservationId를 읽을 수 없을 때 쓸 키 (순서를 맞출 상대가 없으므로 이벤트/원본 ID면 충분하다)
+     */
+    public static String of(String rawBody, String fallback) {
+        if (rawBody == null) {
+            return fallback;
+        }
+        try (JsonParser parser = JSON.createParser(rawBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return fallback;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (RESERVATION_ID.equals(field) && value == JsonToken.VALUE_STRING) {
+                    String reservationId = parser.getText();
+                    return reservationId.isBlank() ? fallback : reservationId;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // 파싱 실패는 소비자가 기록한다. 여기서는 순서 키만 포기한다.
+        }
+        return fallback;
+    }
+
+    public static int lane(String key, int lanes) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes는 0보다 커야 합니다.");
+        }
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), lanes);
+    }
+}
@@ -1,5 +1,7 @@
 package com.sprint.omnibook.broker.ingestion;
 
+import com.sprint.omnibook.broker.event.PlatformType;
+
 /**
  * 플랫폼 헤더 매핑 상수.
  */
@@ -16,4 +18,17 @@ public final class PlatformHeaderAlias {
 
     private PlatformHeaderAlias() {
     }
+
+    /**
+     * 헤더 문자열을 PlatformType으로 변환한다. 알 수 없는 값이면 null.
+     */
+    public static PlatformType toPlatformType(String header) {
+        if (header == null) return null;
+        return switch (header.toUpperCase()) {
+            case YANOLJA_SHORT, YANOLJA -> PlatformType.YANOLJA;
+            case AIRBNB_SHORT, AIRBNB -> PlatformType.AIRBNB;
+            case YEOGIEOTTAE_SHORT, YEOGIEOTTAE -> PlatformType.YEOGIEOTTAE;
+            default -> null;
+        };
+    }
 }
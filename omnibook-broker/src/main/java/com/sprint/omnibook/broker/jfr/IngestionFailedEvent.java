@@ -0,0 +1,40 @@
+package com.sprint.omnibook.broker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 수신 처리 실패 시점 (지속 시간 없음). 어느 단계에서 실패했는지를 stage로 구분한다.
+ */
+@Name("omnibook.ingestion.Failed")
+@Label("Ingestion Failed")
+@Description("수신 처리 실패")
+public class IngestionFailedEvent extends IngestionFlightEvent {
+
+    public static final String STAGE_HANDOFF = "handoff";
+    public static final String STAGE_PARSE = "parse";
+    public static final String STAGE_TRANSLATE = "translate";
+    public static final String STAGE_PROCESS = "process";
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Error Code")
+    String errorCode;
+
+    @Label("Reason")
+    String reason;
+
+    public static void emit(String stage, String eventId, String platform, String errorCode, String reason) {
+        IngestionFailedEvent event = new IngestionFailedEvent();
+        if (event.shouldCommit()) {
+            event.stage = stage;
+            event.eventId = eventId;
+            event.platform = platform;
+            event.errorCode = errorCode;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+}
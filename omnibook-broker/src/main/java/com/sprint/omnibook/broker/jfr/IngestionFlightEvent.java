@@ -0,0 +1,24 @@
+package com.sprint.omnibook.broker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 수신 단계 JFR 이벤트의 공통 필드.
+ *
+ * 필드는 shouldCommit()이 true일 때(해당 이벤트를 켠 레코딩이 돌고 있고 threshold를 넘긴 경우)만 채운다.
+ * 레코딩이 없으면 begin/shouldCommit은 정적 플래그 확인뿐이고, 이벤트 객체는 JIT가 escape analysis로 없앤다.
+ * 호출 지점마다 스택을 남기지 않도록 @StackTrace(false)로 둔다 (스레드/시각으로 충분히 연결된다).
+ */
+@Category({"Omnibook", "Ingestion"})
+@StackTrace(false)
+public abstract class IngestionFlightEvent extends Event {
+
+    @Label("Event ID")
+    protected String eventId;
+
+    @Label("Platform")
+    protected String platform;
+}
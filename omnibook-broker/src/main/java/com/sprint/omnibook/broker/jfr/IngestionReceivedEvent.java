@@ -0,0 +1,38 @@
+package com.sprint.omnibook.broker.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * POST /api/events 한 건의 수신부터 응답 결과가 정해질 때까지.
+ * 파이프라인/handoff 모드에서도 호출 스레드가 결과를 받을 때까지의 시간이다.
+ */
+@Name("omnibook.ingestion.Received")
+@Label("Ingestion Received")
+@Description("이벤트 수신부터 처리 결과 반환까지")
+public class IngestionReceivedEvent extends IngestionFlightEvent {
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Body Size")
+    @DataAmount
+    int bodyBytes;
+
+    @Label("Outcome")
+    @Description("SUCCESS, QUEUED 또는 실패 ErrorCode")
+    String outcome;
+
+    public void commit(String eventId, String platform, String eventType, int bodyBytes, String outcome) {
+        if (shouldCommit()) {
+            this.eventId = eventId;
+            this.platform = platform;
+            this.eventType = eventType;
+            this.bodyBytes = bodyBytes;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sprint.omnibook.broker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ReservationProcessingService의 예약/취소 처리 (트랜잭션 커밋 포함).
+ * 이 구간 안의 쿼리는 같은 스레드의 RepositoryCallEvent로 남는다.
+ */
+@Name("omnibook.ingestion.Processed")
+@Label("Reservation Processed")
+@Description("예약/취소 처리 및 커밋")
+public class ProcessedEvent extends IngestionFlightEvent {
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Failure Reason")
+    String failureReason;
+
+    public void commit(String eventId, String platform, String eventType, boolean success, String failureReason) {
+        if (shouldCommit()) {
+            this.eventId = eventId;
+            this.platform = platform;
+            this.eventType = eventType;
+            this.success = success;
+            this.failureReason = failureReason;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sprint.omnibook.broker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 원본 이벤트의 MongoDB(raw_events) 저장.
+ */
+@Name("omnibook.ingestion.RawStored")
+@Label("Raw Event Stored")
+@Description("원본 이벤트 MongoDB 저장")
+public class RawStoredEvent extends IngestionFlightEvent {
+
+    @Label("Raw Event ID")
+    String rawEventId;
+
+    public void commit(String eventId, String platform, String rawEventId) {
+        if (shouldCommit()) {
+            this.eventId = eventId;
+            this.platform = platform;
+            this.rawEventId = rawEventId;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sprint.omnibook.broker.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 리포지토리 호출마다 RepositoryCallEvent를 남기는 Aspect.
+ *
+ * ReservationProcessingService(및 그 안의 auditWriter, channelSyncRecorder)의 조회/쓰기가 모두 여기를 지나므로,
+ * 같은 스레드의 ProcessedEvent 구간 안에서 어떤 쿼리가 느렸는지 JFR에서 바로 볼 수 있다.
+ * 레코딩이 꺼져 있으면 begin/shouldCommit 확인만 하고 넘어간다. 리포지토리 이름은 프록시 클래스별로 한 번만 계산한다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "broker.jfr.repository-events.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryCallAspect {
+
+    private static final String MDC_EVENT_ID = "eventId";
+
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return repositoryName(type);
+        }
+    };
+
+    @Around("execution(* org.springframework.data.jpa.repository.JpaRepository+.*(..))")
+    public Object recordCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (event.shouldCommit()) {
+                event.commit(REPOSITORY_NAMES.get(joinPoint.getThis().getClass()),
+                        joinPoint.getSignature().getName(), MDC.get(MDC_EVENT_ID), failed);
+            }
+        }
+    }
+
+    /**
+     * 프록시가 구현한 인터페이스 중 애플리케이션의 리포지토리 인터페이스 이름 (예: InventoryRepository).
+     */
+    static String repositoryName(Class<?> proxyType) {
+        for (Class<?> candidate : proxyType.getInterfaces()) {
+            if (JpaRepository.class.isAssignableFrom(candidate)
+                    && !candidate.getName().startsWith("org.springframework.")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return proxyType.getSimpleName();
+    }
+}
@@ -0,0 +1,42 @@
+package com.sprint.omnibook.broker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JPA 리포지토리 메서드 호출 한 번 (RepositoryCallAspect).
+ * eventId는 호출 스레드의 MDC 값이라 MDC가 없는 스레드(파이프라인 워커 등)에서는 비어 있다.
+ */
+@Name("omnibook.db.RepositoryCall")
+@Label("Repository Call")
+@Description("JPA 리포지토리 메서드 호출")
+@Category({"Omnibook", "Database"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Event ID")
+    String eventId;
+
+    @Label("Failed")
+    boolean failed;
+
+    public void commit(String repository, String method, String eventId, boolean failed) {
+        if (shouldCommit()) {
+            this.repository = repository;
+            this.method = method;
+            this.eventId = eventId;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
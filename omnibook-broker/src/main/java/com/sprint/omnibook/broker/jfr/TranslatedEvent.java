@@ -0,0 +1,26 @@
+package com.sprint.omnibook.broker.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 플랫폼별 Translator의 payload 변환. 변환에 실패하면 IngestionFailedEvent(stage=translate)가 대신 남는다.
+ */
+@Name("omnibook.ingestion.Translated")
+@Label("Event Translated")
+@Description("플랫폼 payload를 ReservationEvent로 변환")
+public class TranslatedEvent extends IngestionFlightEvent {
+
+    @Label("Event Type")
+    String eventType;
+
+    public void commit(String eventId, String platform, String eventType) {
+        if (shouldCommit()) {
+            this.eventId = eventId;
+            this.platform = platform;
+            this.eventType = eventType;
+            commit();
+        }
+    }
+}
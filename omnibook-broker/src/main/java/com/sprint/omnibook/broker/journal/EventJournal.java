@@ -0,0 +1,93 @@
+package com.sprint.omnibook.broker.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.omnibook.broker.handoff.HandoffSink;
+import com.sprint.omnibook.broker.ingestion.EventHeaders;
+import com.sprint.omnibook.broker.ingestion.IngestionMode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 수신과 처리 사이의 로컬 디스크 저널 (broker.ingestion.mode=JOURNAL).
+ *
+ * EventIngestionService.process는 원본 저장 후 이 저널에 순차 기록만 하고 응답하므로,
+ * DB가 느려져도 유입 버스트는 디스크 순차 쓰기 속도로 흡수된다.
+ * JournalConsumer가 마지막 체크포인트부터 읽어 처리하므로 재기동 후에도 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "broker.ingestion.mode", havingValue = "JOURNAL")
+public class EventJournal implements HandoffSink {
+
+    private final SegmentedJournal journal;
+    private final ObjectMapper objectMapper;
+
+    public EventJournal(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${broker.journal.dir:./data/journal}") Path directory,
+            @Value("${broker.journal.segment-bytes:67108864}") int segmentBytes,
+            @Value("${broker.journal.max-bytes:2147483648}") long maxBytes) throws IOException {
+        this.objectMapper = objectMapper;
+        this.journal = SegmentedJournal.open(directory, segmentBytes, maxBytes);
+
+        Gauge.builder("broker.journal.segments", journal, SegmentedJournal::segmentCount)
+                .description("디스크에 남아 있는 저널 세그먼트 수")
+                .register(meterRegistry);
+        log.info("[Journal] 열림: dir={}, writePosition={}, segments={}",
+                directory.toAbsolutePath(), journal.writePosition(), journal.segmentCount());
+    }
+
+    @Override
+    public IngestionMode mode() {
+        return IngestionMode.JOURNAL;
+    }
+
+    @Override
+    public void enqueue(ObjectId rawEventId, String rawBody, EventHeaders headers) {
+        JournalEntry entry = new JournalEntry(
+                rawEventId != null ? rawEventId.toHexString() : null,
+                headers.eventId(),
+                headers.platform(),
+                headers.eventType(),
+                headers.correlationId(),
+                rawBody);
+        try {
+            journal.append(objectMapper.writeValueAsBytes(entry));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저널 항목 직렬화 실패", e);
+        }
+    }
+
+    SegmentedJournal journal() {
+        return journal;
+    }
+
+    JournalEntry decode(JournalRecord record) throws IOException {
+        return objectMapper.readValue(record.payload(), JournalEntry.class);
+    }
+
+    /**
+     * 페이지 캐시의 변경분을 주기적으로 디스크에 내린다 (OS 장애 대비, 최대 유실 구간 = 주기).
+     */
+    @Scheduled(fixedDelayString = "${broker.journal.fsync-interval-ms:1000}")
+    public void flush() {
+        journal.flush();
+    }
+
+    @PreDestroy
+    public void close() {
+        journal.close();
+    }
+}
@@ -0,0 +1,370 @@
+package com.sprint.omnibook.broker.journal;
+
+import com.sprint.omnibook.broker.ingestion.EventHeaders;
+import com.sprint.omnibook.broker.ingestion.EventIngestionService;
+import com.sprint.omnibook.broker.ingestion.OrderingKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저널 소비자. 체크포인트 위치부터 읽어 예약별 lane으로 나눠 처리하고, 처리가 끝난 구간까지 위치를 커밋한다.
+ *
+ * - 순서: 레코드는 예약 ID(OrderingKey)의 해시로 고정 lane에 배정되고 lane마다 한 스레드가 처리하므로,
+ *   같은 예약의 BOOKING → CANCELLATION이 뒤바뀌지 않는다.
+ * - 재시도: 처리 중 예외(DB 장애 등)가 난 레코드는 lane 안에서 backoff 후 다시 시도한다.
+ *   기다리는 동안 같은 예약의 뒤 레코드만 그 뒤에 대기하고, 같은 lane의 다른 예약과 다른 lane은 계속 처리된다.
+ *   max-attempts를 넘기면 failed_event에 남긴다 (관리 API로 재처리). failed_event 기록까지 실패하면 계속 재시도한다.
+ * - 커밋: 아직 끝나지 않은 가장 앞 레코드 위치까지만 커밋한다. 재시도 중인 레코드가 있으면 커밋 위치는 그 앞에 머물지만
+ *   처리는 멈추지 않는다. 프로세스가 죽으면 마지막 커밋 위치부터 다시 처리한다 (at-least-once).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "broker.ingestion.mode", havingValue = "JOURNAL")
+public class JournalConsumer {
+
+    static final String CONSUMER_NAME = "processing";
+
+    private final EventJournal eventJournal;
+    private final SegmentedJournal journal;
+    private final EventIngestionService ingestionService;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final List<Lane> lanes;
+    private final Thread reader;
+    private volatile boolean running = true;
+
+    /** lane에 넘겼지만 아직 끝나지 않은 레코드 (position → nextPosition) */
+    private final ConcurrentSkipListMap<Long, Long> inFlight = new ConcurrentSkipListMap<>();
+    /** reader가 마지막으로 넘긴 레코드의 다음 위치 */
+    private volatile long dispatchedPosition;
+    private long committedPosition;
+
+    private final Counter processed;
+    private final Counter retried;
+    private final Counter parked;
+
+    public JournalConsumer(
+            EventJournal eventJournal,
+            EventIngestionService ingestionService,
+            MeterRegistry meterRegistry,
+            @Value("${broker.journal.consumer.threads:8}") int threads,
+            @Value("${broker.journal.consumer.batch-size:256}") int batchSize,
+            @Value("${broker.journal.consumer.poll-interval-ms:20}") long pollIntervalMs,
+            @Value("${broker.journal.consumer.max-attempts:5}") int maxAttempts) {
+        this.eventJournal = eventJournal;
+        this.journal = eventJournal.journal();
+        this.ingestionService = ingestionService;
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.lanes = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            lanes.add(new Lane(i));
+        }
+        this.reader = new Thread(this::runLoop, "journal-consumer");
+        this.reader.setDaemon(true);
+
+        this.processed = Counter.builder("broker.journal.records").tag("result", "processed").register(meterRegistry);
+        this.retried = Counter.builder("broker.journal.records").tag("result", "retried").register(meterRegistry);
+        this.parked = Counter.builder("broker.journal.records").tag("result", "parked").register(meterRegistry);
+        Gauge.builder("broker.journal.lag.bytes", journal, j -> j.lag(CONSUMER_NAME))
+                .description("아직 커밋되지 않은 저널 바이트")
+                .register(meterRegistry);
+        Gauge.builder("broker.journal.inflight", inFlight, Map::size)
+                .description("lane에서 처리/재시도 중인 레코드 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        committedPosition = journal.register(CONSUMER_NAME);
+        dispatchedPosition = committedPosition;
+        log.info("[Journal] 소비 시작: position={}, lag={} bytes, lanes={}",
+                committedPosition, journal.lag(CONSUMER_NAME), lanes.size());
+        lanes.forEach(lane -> lane.thread.start());
+        reader.start();
+    }
+
+    private void runLoop() {
+        long position = dispatchedPosition;
+        int sinceCommit = 0;
+        while (running) {
+            try {
+                JournalRecord record = journal.read(position);
+                if (record == null) {
+                    commitCompleted();
+                    sinceCommit = 0;
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMs);
+                    continue;
+                }
+
+                if (!dispatch(record)) {
+                    break;
+                }
+                position = record.nextPosition();
+                dispatchedPosition = position;
+
+                if (++sinceCommit >= batchSize) {
+                    commitCompleted();
+                    sinceCommit = 0;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 체크포인트 기록 실패 등 — 같은 위치부터 다시 시도
+                log.error("[Journal] 소비 루프 오류: position={}", position, e);
+                sleepQuietly(1000);
+            }
+        }
+    }
+
+    /**
+     * 레코드를 예약 lane에 넘긴다. lane이 가득 차 있으면 자리가 날 때까지 기다린다.
+     *
+     * @return 종료 중이라 넘기지 못했으면 false
+     */
+    private boolean dispatch(JournalRecord record) throws InterruptedException {
+        JournalEntry entry;
+        try {
+            entry = eventJournal.decode(record);
+        } catch (IOException e) {
+            log.error("[Journal] 항목 역직렬화 실패, failed_event에 기록: position={}", record.position(), e);
+            return parkUndecodable(record, e);
+        }
+
+        String key = OrderingKey.of(entry.rawBody(), entry.rawEventId() != null ? entry.rawEventId() : entry.eventId());
+        Task task = new Task(record, entry, key);
+        Lane lane = lanes.get(OrderingKey.lane(key, lanes.size()));
+        inFlight.put(record.position(), record.nextPosition());
+        while (running) {
+            if (lane.incoming.offer(task, pollIntervalMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        inFlight.remove(record.position());
+        return false;
+    }
+
+    private boolean parkUndecodable(JournalRecord record, IOException cause) {
+        String rawBody = new String(record.payload(), StandardCharsets.UTF_8);
+        EventHeaders headers = new EventHeaders(null, null, null, null);
+        for (int attempt = 1; running; attempt++) {
+            try {
+                ingestionService.park(rawBody, headers, "저널 항목 역직렬화 실패 - " + cause.getMessage());
+                parked.increment();
+                return true;
+            } catch (RuntimeException e) {
+                log.error("[Journal] failed_event 기록 실패, 재시도: position={}, reason={}",
+                        record.position(), e.getMessage());
+                sleepQuietly(backoffMillis(attempt));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 끝나지 않은 가장 앞 레코드 직전까지 커밋한다. 모두 끝났으면 reader가 넘긴 위치까지 커밋한다.
+     */
+    private void commitCompleted() {
+        long dispatched = dispatchedPosition;
+        Map.Entry<Long, Long> oldest = inFlight.firstEntry();
+        long position = oldest != null ? oldest.getKey() : dispatched;
+        if (position > committedPosition) {
+            journal.commit(CONSUMER_NAME, position);
+            committedPosition = position;
+        }
+    }
+
+    private static long backoffMillis(int attempt) {
+        return 100L << Math.min(attempt, 6);
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 진행 중인 레코드를 마치고 끝난 구간까지 커밋한 뒤 멈춘다.
+     * 재시도 대기 중이던 레코드는 커밋되지 않으므로 재기동 후 다시 처리된다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        reader.join(TimeUnit.SECONDS.toMillis(30));
+        if (reader.isAlive()) {
+            reader.interrupt();
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(30));
+            if (lane.thread.isAlive()) {
+                lane.thread.interrupt();
+            }
+        }
+        try {
+            commitCompleted();
+        } catch (RuntimeException e) {
+            log.warn("[Journal] 종료 시 커밋 실패 (재기동 시 재처리): {}", e.getMessage());
+        }
+        journal.unregister(CONSUMER_NAME);
+    }
+
+    private static final class Task {
+
+        final JournalRecord record;
+        final JournalEntry entry;
+        final String key;
+        int attempts;
+        long dueAt;
+
+        Task(JournalRecord record, JournalEntry entry, String key) {
+            this.record = record;
+            this.entry = entry;
+            this.key = key;
+        }
+    }
+
+    /**
+     * 한 스레드가 배정된 레코드를 순서대로 처리한다.
+     * 재시도 대기 중인 예약의 뒤 레코드는 waiting에 쌓였다가 앞 레코드가 끝나면 이어서 처리된다.
+     */
+    private final class Lane {
+
+        final BlockingQueue<Task> incoming = new ArrayBlockingQueue<>(batchSize);
+        final PriorityQueue<Task> retries = new PriorityQueue<>(Comparator.comparingLong(t -> t.dueAt));
+        /** 재시도 대기 중인 예약 → 그 뒤에 도착한 같은 예약의 레코드 */
+        final Map<String, Deque<Task>> waiting = new HashMap<>();
+        final Thread thread;
+
+        Lane(int index) {
+            this.thread = new Thread(this::run, "journal-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void run() {
+            while (running) {
+                try {
+                    Task due = retries.peek();
+                    long wait = pollIntervalMs;
+                    if (due != null) {
+                        wait = Math.min(wait, due.dueAt - System.currentTimeMillis());
+                        if (wait <= 0) {
+                            runChain(retries.poll());
+                            continue;
+                        }
+                    }
+
+                    Task task = incoming.poll(wait, TimeUnit.MILLISECONDS);
+                    if (task == null) {
+                        continue;
+                    }
+                    Deque<Task> blocked = waiting.get(task.key);
+                    if (blocked != null) {
+                        blocked.add(task);
+                        continue;
+                    }
+                    runChain(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * task를 처리하고, 끝났으면 그 뒤에 대기하던 같은 예약의 레코드를 이어서 처리한다.
+         */
+        private void runChain(Task task) {
+            Deque<Task> followers = null;
+            Task current = task;
+            while (current != null) {
+                if (!attempt(current)) {
+                    if (followers != null && !followers.isEmpty()) {
+                        waiting.get(current.key).addAll(followers);
+                    }
+                    return;
+                }
+                if (followers == null) {
+                    followers = waiting.remove(current.key);
+                }
+                current = followers != null ? followers.poll() : null;
+            }
+        }
+
+        /**
+         * @return 처리되었거나 failed_event에 남겼으면 true, 재시도를 예약했으면 false
+         */
+        private boolean attempt(Task task) {
+            JournalEntry entry = task.entry;
+            task.attempts++;
+            try {
+                ObjectId rawEventId = entry.rawEventId() != null ? new ObjectId(entry.rawEventId()) : null;
+                ingestionService.processHandoff(rawEventId, entry.rawBody(), entry.headers());
+                processed.increment();
+                complete(task);
+                return true;
+            } catch (RuntimeException e) {
+                if (task.attempts >= maxAttempts && park(task, e)) {
+                    complete(task);
+                    return true;
+                }
+                retried.increment();
+                log.warn("[Journal] 처리 실패, 재시도 예약: position={}, eventId={}, attempt={}, reason={}",
+                        task.record.position(), entry.eventId(), task.attempts, e.getMessage());
+                task.dueAt = System.currentTimeMillis() + backoffMillis(task.attempts);
+                waiting.computeIfAbsent(task.key, k -> new ArrayDeque<>());
+                retries.add(task);
+                return false;
+            }
+        }
+
+        private boolean park(Task task, RuntimeException cause) {
+            JournalEntry entry = task.entry;
+            try {
+                String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+                ingestionService.park(entry.rawBody(), entry.headers(), reason);
+                parked.increment();
+                log.error("[Journal] 최대 시도 초과, failed_event에 기록: position={}, rawEventId={}, eventId={}",
+                        task.record.position(), entry.rawEventId(), entry.eventId(), cause);
+                return true;
+            } catch (RuntimeException e) {
+                log.error("[Journal] failed_event 기록 실패, 계속 재시도: position={}, eventId={}, reason={}",
+                        task.record.position(), entry.eventId(), e.getMessage());
+                return false;
+            }
+        }
+
+        private void complete(Task task) {
+            inFlight.remove(task.record.position());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.sprint.omnibook.broker.journal;
+
+import com.sprint.omnibook.broker.ingestion.EventHeaders;
+
+/**
+ * 저널에 기록되는 처리 작업. 원본 ID와 헤더/바디를 그대로 담는다.
+ */
+public record JournalEntry(
+        String rawEventId,
+        String eventId,
+        String platform,
+        String eventType,
+        String correlationId,
+        String rawBody
+) {
+    public EventHeaders headers() {
+        return new EventHeaders(eventId, platform, eventType, correlationId);
+    }
+}
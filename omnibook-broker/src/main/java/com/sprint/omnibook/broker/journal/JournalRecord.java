@@ -0,0 +1,11 @@
+package com.sprint.omnibook.broker.journal;
+
+/**
+ * 저널에서 읽은 레코드.
+ *
+ * @param position     레코드 시작 위치
+ * @param nextPosition 다음 레코드 위치 (이 레코드까지 처리했으면 이 값으로 커밋한다)
+ * @param payload      기록된 바이트
+ */
+public record JournalRecord(long position, long nextPosition, byte[] payload) {
+}
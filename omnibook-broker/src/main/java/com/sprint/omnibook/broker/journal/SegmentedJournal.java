@@ -0,0 +1,354 @@
+package com.sprint.omnibook.broker.journal;
+
+import com.sprint.omnibook.broker.handoff.HandoffFullException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑 세그먼트 파일 기반 append-only 저널 (단일 writer, 다중 reader).
+ *
+ * 위치(position)는 저널 전체의 바이트 오프셋이며, 세그먼트 i는 [i * segmentBytes, (i + 1) * segmentBytes) 구간을 담당한다.
+ * 레코드 형식: [int length][int crc32c][payload]
+ * - 남은 공간에 레코드가 들어가지 않으면 ROLL 표식(-1)을 남기고 다음 세그먼트로 넘어간다.
+ * - writer는 payload → crc → length 순으로 쓰고 writePosition(volatile)을 마지막에 올린다.
+ *   reader는 writePosition 이전만 읽으므로 쓰는 중인 레코드를 보지 않는다.
+ *
+ * 소비자별 위치는 consumers/{name}.offset 파일에 체크포인트되며(임시 파일 + 원자적 이동),
+ * register()로 등록된 소비자가 모두 지나간 세그먼트는 삭제된다. 더 이상 쓰지 않는 소비자의 offset 파일이
+ * 남아 있어도 등록되지 않았으면 삭제를 막지 않는다. 재기동 시 마지막 세그먼트를 스캔해 쓰기 위치를 복구한다.
+ *
+ * 기록은 페이지 캐시에 남으므로 프로세스가 죽어도 유실되지 않는다. OS 장애까지 견디려면 flush()로 디스크에 내린다.
+ */
+public class SegmentedJournal implements Closeable {
+
+    static final int HEADER_BYTES = 8;
+    private static final int ROLL_MARKER = -1;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String OFFSET_SUFFIX = ".offset";
+
+    private final Path directory;
+    private final Path consumerDirectory;
+    private final int segmentBytes;
+    private final long maxBytes;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> committed = new ConcurrentHashMap<>();
+    /** 세그먼트 삭제 기준이 되는 (이 프로세스에서 소비 중인) 소비자 */
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+
+    private Segment active;
+    private volatile long writePosition;
+
+    private SegmentedJournal(Path directory, int segmentBytes, long maxBytes) {
+        this.directory = directory;
+        this.consumerDirectory = directory.resolve("consumers");
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 저널 디렉터리를 열거나 새로 만든다.
+     *
+     * @param segmentBytes 세그먼트 파일 크기 (같은 디렉터리는 항상 같은 값으로 열어야 한다)
+     * @param maxBytes     세그먼트 파일 총량 상한. 넘으면 append가 HandoffFullException을 던진다.
+     */
+    public static SegmentedJournal open(Path directory, int segmentBytes, long maxBytes) throws IOException {
+        if (segmentBytes <= HEADER_BYTES * 2) {
+            throw new IllegalArgumentException("segmentBytes가 너무 작습니다: " + segmentBytes);
+        }
+        if (maxBytes < segmentBytes) {
+            throw new IllegalArgumentException("maxBytes는 segmentBytes 이상이어야 합니다.");
+        }
+        SegmentedJournal journal = new SegmentedJournal(directory, segmentBytes, maxBytes);
+        journal.recover();
+        return journal;
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(consumerDirectory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                long index = Long.parseLong(stripSuffix(file, SEGMENT_SUFFIX));
+                segments.put(index, Segment.map(file, index, segmentBytes));
+            }
+        }
+        try (Stream<Path> files = Files.list(consumerDirectory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(OFFSET_SUFFIX)).toList()) {
+                committed.put(stripSuffix(file, OFFSET_SUFFIX),
+                        Long.parseLong(Files.readString(file, StandardCharsets.US_ASCII).trim()));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            active = createSegment(0);
+            writePosition = 0;
+            return;
+        }
+
+        active = segments.lastEntry().getValue();
+        int end = scanEnd(active);
+        active.zeroFrom(end);
+        writePosition = active.base() + end;
+    }
+
+    /**
+     * 마지막으로 온전히 기록된 레코드 다음 위치. 길이/CRC가 맞지 않는 꼬리(쓰다 만 레코드)는 버린다.
+     */
+    private int scanEnd(Segment segment) {
+        int pos = 0;
+        while (pos + HEADER_BYTES <= segmentBytes) {
+            int length = segment.buffer().getInt(pos);
+            if (length <= 0 || pos + HEADER_BYTES + length > segmentBytes) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            segment.buffer().get(pos + HEADER_BYTES, payload);
+            if (crc(payload) != segment.buffer().getInt(pos + 4)) {
+                break;
+            }
+            pos += HEADER_BYTES + length;
+        }
+        return pos;
+    }
+
+    /**
+     * 레코드를 추가하고 그 위치를 반환한다.
+     *
+     * @throws HandoffFullException 세그먼트 총량이 maxBytes에 도달한 경우 (소비가 따라오지 못함)
+     */
+    public synchronized long append(byte[] payload) {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentBytes) {
+            throw new IllegalArgumentException("레코드가 세그먼트보다 큽니다: " + payload.length + " bytes");
+        }
+
+        int pos = (int) (writePosition - active.base());
+        if (pos + recordBytes > segmentBytes) {
+            roll(pos);
+            pos = 0;
+        }
+
+        MappedByteBuffer buffer = active.buffer();
+        buffer.put(pos + HEADER_BYTES, payload);
+        buffer.putInt(pos + 4, crc(payload));
+        buffer.putInt(pos, payload.length);
+
+        long position = active.base() + pos;
+        writePosition = position + recordBytes;
+        return position;
+    }
+
+    private void roll(int pos) {
+        if ((long) (segments.size() + 1) * segmentBytes > maxBytes) {
+            throw new HandoffFullException("저널 용량 초과: used=" + segments.size() * (long) segmentBytes + " bytes");
+        }
+        if (pos + 4 <= segmentBytes) {
+            active.buffer().putInt(pos, ROLL_MARKER);
+        }
+        active.buffer().force();
+        try {
+            active = createSegment(active.index() + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writePosition = active.base();
+    }
+
+    /**
+     * position 이후 첫 레코드를 읽는다. 아직 기록된 레코드가 없으면 null.
+     * 삭제된 세그먼트를 가리키면 남아 있는 가장 오래된 위치부터 읽는다.
+     */
+    public JournalRecord read(long position) {
+        long limit = writePosition;
+        while (position < limit) {
+            long index = position / segmentBytes;
+            Segment segment = segments.get(index);
+            if (segment == null) {
+                position = segments.firstEntry().getValue().base();
+                continue;
+            }
+
+            int pos = (int) (position - segment.base());
+            if (pos + HEADER_BYTES > segmentBytes) {
+                position = segment.base() + segmentBytes;
+                continue;
+            }
+            int length = segment.buffer().getInt(pos);
+            if (length == ROLL_MARKER) {
+                position = segment.base() + segmentBytes;
+                continue;
+            }
+
+            byte[] payload = new byte[length];
+            segment.buffer().get(pos + HEADER_BYTES, payload);
+            if (crc(payload) != segment.buffer().getInt(pos + 4)) {
+                throw new IllegalStateException("저널 레코드 CRC 불일치: position=" + position);
+            }
+            return new JournalRecord(position, position + HEADER_BYTES + length, payload);
+        }
+        return null;
+    }
+
+    /**
+     * 소비자를 등록하고 다음에 읽을 위치를 반환한다.
+     * 등록된 소비자가 지나가지 않은 세그먼트는 삭제되지 않는다.
+     */
+    public long register(String consumer) {
+        long position = committedPosition(consumer);
+        registered.add(consumer);
+        return position;
+    }
+
+    /**
+     * 소비자 등록을 해제한다. offset 파일은 남기므로 다시 등록하면 이어서 읽되,
+     * 해제된 동안 다른 소비자가 지나간 세그먼트는 삭제될 수 있다.
+     */
+    public void unregister(String consumer) {
+        registered.remove(consumer);
+        deleteConsumedSegments();
+    }
+
+    /**
+     * 소비자가 다음에 읽을 위치. 처음 보는 소비자는 남아 있는 가장 오래된 위치부터 읽는다.
+     */
+    public long committedPosition(String consumer) {
+        return committed.computeIfAbsent(consumer, c -> segments.firstEntry().getValue().base());
+    }
+
+    /**
+     * 소비자 위치를 체크포인트하고, 등록된 소비자가 모두 지나간 세그먼트를 삭제한다.
+     *
+     * @throws IllegalStateException 등록되지 않은 소비자인 경우
+     */
+    public void commit(String consumer, long nextPosition) {
+        if (!registered.contains(consumer)) {
+            throw new IllegalStateException("등록되지 않은 저널 소비자입니다: " + consumer);
+        }
+        Path file = consumerDirectory.resolve(consumer + OFFSET_SUFFIX);
+        Path tmp = consumerDirectory.resolve(consumer + OFFSET_SUFFIX + ".tmp");
+        try {
+            Files.writeString(tmp, Long.toString(nextPosition), StandardCharsets.US_ASCII);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        committed.put(consumer, nextPosition);
+        deleteConsumedSegments();
+    }
+
+    private synchronized void deleteConsumedSegments() {
+        if (registered.isEmpty()) {
+            return;
+        }
+        long minPosition = registered.stream().mapToLong(this::committedPosition).min().orElse(0);
+        long consumedIndex = minPosition / segmentBytes;
+        for (Segment segment : segments.headMap(consumedIndex).values()) {
+            if (segment == active) {
+                continue;
+            }
+            segments.remove(segment.index());
+            segment.delete();
+        }
+    }
+
+    /**
+     * 현재 세그먼트의 변경분을 디스크에 내린다.
+     */
+    public synchronized void flush() {
+        active.buffer().force();
+    }
+
+    public long writePosition() {
+        return writePosition;
+    }
+
+    public long lag(String consumer) {
+        return writePosition - committedPosition(consumer);
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.buffer().force();
+            segment.close();
+        }
+    }
+
+    private Segment createSegment(long index) throws IOException {
+        Segment segment = Segment.map(directory.resolve(segmentName(index)), index, segmentBytes);
+        segments.put(index, segment);
+        return segment;
+    }
+
+    private static String segmentName(long index) {
+        return String.format("%020d%s", index, SEGMENT_SUFFIX);
+    }
+
+    private static String stripSuffix(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.length() - suffix.length());
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 세그먼트 파일 하나. 파일 전체를 한 번에 매핑한다.
+     */
+    private record Segment(long index, long base, Path file, FileChannel channel, MappedByteBuffer buffer) {
+
+        static Segment map(Path file, long index, int segmentBytes) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            return new Segment(index, index * segmentBytes, file, channel, buffer);
+        }
+
+        void zeroFrom(int offset) {
+            byte[] zeros = new byte[8192];
+            for (int pos = offset; pos < buffer.capacity(); pos += zeros.length) {
+                buffer.put(pos, zeros, 0, Math.min(zeros.length, buffer.capacity() - pos));
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 매핑은 GC 시 해제된다
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
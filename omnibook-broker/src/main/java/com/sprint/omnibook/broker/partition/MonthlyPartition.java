@@ -0,0 +1,58 @@
+package com.sprint.omnibook.broker.partition;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * 특정 테이블의 한 달치 파티션.
+ *
+ * 이름 규칙: {테이블명}_pYYYYMM (예: reservation_event_p202610)
+ * 범위: [해당 월 1일 00:00 UTC, 다음 달 1일 00:00 UTC)
+ */
+public record MonthlyPartition(PartitionedTable table, YearMonth month) {
+
+    private static final String NAME_SEPARATOR = "_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ssXXX");
+
+    public String name() {
+        return table.getTableName() + NAME_SEPARATOR + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 파티션 하한 (포함).
+     */
+    public String lowerBound() {
+        return format(month);
+    }
+
+    /**
+     * 파티션 상한 (미포함).
+     */
+    public String upperBound() {
+        return format(month.plusMonths(1));
+    }
+
+    /**
+     * 파티션 이름에서 월을 추출한다.
+     * 규칙에 맞지 않는 이름(DEFAULT 파티션, 아카이브 테이블 등)은 빈 값을 반환한다.
+     */
+    public static Optional<YearMonth> parseMonth(PartitionedTable table, String partitionName) {
+        String prefix = table.getTableName() + NAME_SEPARATOR;
+        if (partitionName == null || !partitionName.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(prefix.length()), SUFFIX_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String format(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).format(BOUND_FORMAT);
+    }
+}
@@ -0,0 +1,109 @@
+package com.sprint.omnibook.broker.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 월별 파티션 유지보수 작업.
+ *
+ * 1. 현재 월부터 premake-months 만큼 미래 파티션을 미리 생성한다.
+ *    (미리 만들어 두지 않으면 행이 DEFAULT 파티션으로 들어가고, 이후 해당 월 파티션 생성이 실패한다)
+ * 2. retention-months 보다 오래된 파티션을 분리(DETACH)하고, 설정에 따라 삭제(DROP)한다.
+ *
+ * 기동 직후 한 번, 이후 cron 주기로 실행된다.
+ */
+@Slf4j
+@Component
+@Profile("!ingest")
+@RequiredArgsConstructor
+public class PartitionMaintenanceJob {
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${broker.partition.premake-months:3}")
+    private int premakeMonths;
+
+    @Value("${broker.partition.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${broker.partition.retention-action:DETACH}")
+    private RetentionAction retentionAction;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${broker.partition.cron:0 0 3 * * *}", zone = "UTC")
+    public void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (PartitionedTable table : PartitionedTable.values()) {
+            createAhead(table, current);
+            retireExpired(table, current);
+        }
+    }
+
+    /**
+     * 현재 월 ~ premake-months 이후까지의 파티션을 생성한다.
+     */
+    private void createAhead(PartitionedTable table, YearMonth current) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            MonthlyPartition partition = new MonthlyPartition(table, current.plusMonths(i));
+            try {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        partition.name(), table.getTableName(),
+                        partition.lowerBound(), partition.upperBound()));
+            } catch (DataAccessException e) {
+                // DEFAULT 파티션에 해당 월 행이 이미 있으면 생성 불가 — 운영자가 수동으로 이관해야 한다
+                log.error("[Partition] 생성 실패: partition={}, reason={}", partition.name(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 파티션을 분리(및 삭제)한다.
+     */
+    private void retireExpired(PartitionedTable table, YearMonth current) {
+        YearMonth cutoff = current.minusMonths(retentionMonths);
+        List<String> partitions = jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class, table.getTableName());
+
+        for (String partitionName : partitions) {
+            Optional<YearMonth> month = MonthlyPartition.parseMonth(table, partitionName);
+            if (month.isEmpty() || !month.get().isBefore(cutoff)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s",
+                        table.getTableName(), partitionName));
+                if (retentionAction == RetentionAction.DROP) {
+                    jdbcTemplate.execute(String.format("DROP TABLE %s", partitionName));
+                }
+                log.info("[Partition] 보존 기간 만료 처리: partition={}, action={}", partitionName, retentionAction);
+            } catch (DataAccessException e) {
+                log.error("[Partition] 분리 실패: partition={}, reason={}", partitionName, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.sprint.omnibook.broker.partition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 월별 RANGE 파티션으로 관리되는 테이블.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PartitionedTable {
+
+    RESERVATION_EVENT("reservation_event"),
+    FAILED_EVENT("failed_event");
+
+    private final String tableName;
+}
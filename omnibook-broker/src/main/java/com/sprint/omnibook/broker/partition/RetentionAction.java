@@ -0,0 +1,13 @@
+package com.sprint.omnibook.broker.partition;
+
+/**
+ * 보존 기간이 지난 파티션 처리 방식.
+ */
+public enum RetentionAction {
+
+    /** 부모 테이블에서 분리만 한다. 분리된 테이블은 아카이브(pg_dump 등) 후 수동 삭제. */
+    DETACH,
+
+    /** 분리 후 즉시 삭제한다. */
+    DROP
+}
@@ -20,6 +20,12 @@ public class RawEventDocument {
     @Id
     private ObjectId id;
 
+    /**
+     * X-Event-Id 헤더 원본 (헤더가 없었으면 null).
+     * 재생 시 동일한 헤더를 다시 보내기 위해 보존한다.
+     */
+    private String eventId;
+
     private String platform;
 
     private String eventType;
@@ -0,0 +1,46 @@
+package com.sprint.omnibook.broker.persistence;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+
+import java.time.Instant;
+
+/**
+ * 원본 이벤트의 처리 결과.
+ * raw_events는 Append-only이므로 결과를 원본에 갱신하지 않고 별도 컬렉션에 추가한다.
+ * rawEventId로 raw_events와 1:1로 연결되며, 트래픽 재생 시 원래 결과와 비교하는 기준이 된다.
+ */
+@Getter
+@Builder
+@org.springframework.data.mongodb.core.mapping.Document(collection = "raw_event_outcomes")
+public class RawEventOutcomeDocument {
+
+    @Id
+    private ObjectId id;
+
+    /**
+     * raw_events._id
+     */
+    private ObjectId rawEventId;
+
+    /**
+     * 처리 시 확정된 eventId (헤더 → body → 생성 순).
+     */
+    private String eventId;
+
+    private boolean success;
+
+    /**
+     * 실패 시 ErrorCode 이름, 성공 시 null.
+     */
+    private String errorCode;
+
+    /**
+     * 클라이언트에 응답한 HTTP 상태 코드.
+     */
+    private int httpStatus;
+
+    private Instant recordedAt;
+}
@@ -0,0 +1,11 @@
+package com.sprint.omnibook.broker.persistence;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * 원본 이벤트 처리 결과 저장소.
+ * Insert 전용으로 사용한다.
+ */
+public interface RawEventOutcomeRepository extends MongoRepository<RawEventOutcomeDocument, ObjectId> {
+}
@@ -0,0 +1,114 @@
+package com.sprint.omnibook.broker.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원본 이벤트 처리 결과 비동기 기록.
+ *
+ * 요청 스레드는 bounded 버퍼에 적재만 하고,
+ * 백그라운드 flusher가 raw_event_outcomes에 일괄 insert한다.
+ *
+ * 버퍼가 가득 차거나 insert가 실패하면 해당 결과는 버려진다.
+ * 재생 비교용 부가 정보이므로 처리 경로에 영향을 주지 않는 것을 우선한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "broker.raw-events.record-outcome", havingValue = "true")
+public class RawEventOutcomeWriter {
+
+    private final RawEventOutcomeRepository rawEventOutcomeRepository;
+    private final BlockingQueue<RawEventOutcomeDocument> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Counter writtenOutcomes;
+    private final Counter droppedOutcomes;
+    private final Counter failedOutcomes;
+
+    public RawEventOutcomeWriter(
+            RawEventOutcomeRepository rawEventOutcomeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${broker.raw-events.outcome.buffer-capacity:16384}") int bufferCapacity,
+            @Value("${broker.raw-events.outcome.batch-size:500}") int batchSize,
+            @Value("${broker.raw-events.outcome.flush-interval-ms:200}") long flushIntervalMs) {
+        this.rawEventOutcomeRepository = rawEventOutcomeRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        Gauge.builder("broker.raw-events.outcome.buffer.size", buffer, BlockingQueue::size)
+                .description("insert 대기 중인 처리 결과 수")
+                .register(meterRegistry);
+        this.writtenOutcomes = Counter.builder("broker.raw-events.outcome.written").register(meterRegistry);
+        this.droppedOutcomes = Counter.builder("broker.raw-events.outcome.dropped").register(meterRegistry);
+        this.failedOutcomes = Counter.builder("broker.raw-events.outcome.failed").register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlushLoop, "raw-outcome-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 처리 결과를 버퍼에 적재한다. 호출 스레드를 막지 않는다.
+     */
+    public void enqueue(RawEventOutcomeDocument outcome) {
+        if (!buffer.offer(outcome)) {
+            droppedOutcomes.increment();
+            log.debug("[RawOutcome] 버퍼 가득 참, 결과 버림: rawEventId={}", outcome.getRawEventId());
+        }
+    }
+
+    private void runFlushLoop() {
+        List<RawEventOutcomeDocument> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                RawEventOutcomeDocument first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<RawEventOutcomeDocument> batch) {
+        try {
+            rawEventOutcomeRepository.insert(batch);
+            writtenOutcomes.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedOutcomes.increment(batch.size());
+            log.warn("[RawOutcome] 처리 결과 일괄 기록 실패, {}건 유실: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 버퍼를 모두 flush한다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+}
@@ -1,7 +1,10 @@
 package com.sprint.omnibook.broker.persistence;
 
 import com.sprint.omnibook.broker.ingestion.EventHeaders;
-import lombok.RequiredArgsConstructor;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -12,10 +15,17 @@ import java.time.Instant;
  * 파싱 없이 원본을 즉시 저장하는 것이 유일한 책임이다.
  */
 @Service
-@RequiredArgsConstructor
 public class RawEventService {
 
     private final RawEventRepository rawEventRepository;
+    /** broker.raw-events.record-outcome=true일 때만 존재한다 */
+    private final RawEventOutcomeWriter outcomeWriter;
+
+    public RawEventService(RawEventRepository rawEventRepository,
+                           ObjectProvider<RawEventOutcomeWriter> outcomeWriter) {
+        this.rawEventRepository = rawEventRepository;
+        this.outcomeWriter = outcomeWriter.getIfAvailable();
+    }
 
     /**
      * raw body를 즉시 저장한다.
@@ -23,9 +33,11 @@ public class RawEventService {
      *
      * @param rawBody HTTP body 원본
      * @param headers HTTP 헤더 정보
+     * @return 저장된 원본의 ObjectId
      */
-    public void store(String rawBody, EventHeaders headers) {
+    public ObjectId store(String rawBody, EventHeaders headers) {
         RawEventDocument document = RawEventDocument.builder()
+                .eventId(headers.eventId())
                 .platform(headers.platform())
                 .eventType(headers.eventType())
                 .correlationId(headers.correlationId())
@@ -33,6 +45,32 @@ public class RawEventService {
                 .receivedAt(Instant.now())
                 .build();
 
-        rawEventRepository.save(document);
+        return rawEventRepository.save(document).getId();
+    }
+
+    /**
+     * 원본 이벤트의 처리 결과를 기록한다.
+     * 버퍼에 적재만 하고 실제 insert는 RawEventOutcomeWriter가 일괄로 수행한다.
+     * 결과 기록 실패는 이벤트 처리 결과에 영향을 주지 않는다.
+     *
+     * @param rawEventId store()가 반환한 ObjectId
+     * @param result     처리 결과
+     */
+    public void recordOutcome(ObjectId rawEventId, IngestionResult result) {
+        if (outcomeWriter == null || rawEventId == null) {
+            return;
+        }
+
+        HttpStatus status = result.success() ? HttpStatus.OK : result.errorCode().getHttpStatus();
+        RawEventOutcomeDocument outcome = RawEventOutcomeDocument.builder()
+                .rawEventId(rawEventId)
+                .eventId(result.eventId())
+                .success(result.success())
+                .errorCode(result.success() ? null : result.errorCode().name())
+                .httpStatus(status.value())
+                .recordedAt(Instant.now())
+                .build();
+
+        outcomeWriter.enqueue(outcome);
     }
 }
@@ -0,0 +1,62 @@
+package com.sprint.omnibook.broker.pipeline;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 미리 할당된 슬롯을 순번(sequence)으로 돌려 쓰는 고정 크기 링 버퍼 (다중 생산자).
+ *
+ * 생산자는 claim으로 순번을 받아 슬롯을 채운 뒤 publish 한다.
+ * 여러 생산자가 순서와 다르게 publish 할 수 있으므로, 슬롯마다 몇 바퀴째 발행되었는지를 기록해
+ * 소비자가 isPublished로 해당 순번이 준비되었는지 확인한다.
+ * 슬롯 재사용 시점(마지막 단계가 지나갔는지)은 StagedPipeline이 판단한다.
+ */
+final class RingBuffer<T> {
+
+    private final Object[] slots;
+    private final int mask;
+    private final int indexShift;
+    private final AtomicIntegerArray published;
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    RingBuffer(int size, Supplier<T> factory) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("ring-size는 2의 거듭제곱이어야 합니다: " + size);
+        }
+        this.slots = new Object[size];
+        this.mask = size - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(size);
+        this.published = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = factory.get();
+            published.set(i, -1);
+        }
+    }
+
+    int size() {
+        return slots.length;
+    }
+
+    long claim() {
+        return cursor.incrementAndGet();
+    }
+
+    /** 지금까지 나간 가장 큰 순번 (아직 publish 전일 수 있다) */
+    long claimed() {
+        return cursor.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(long sequence) {
+        return (T) slots[(int) sequence & mask];
+    }
+
+    void publish(long sequence) {
+        published.set((int) sequence & mask, (int) (sequence >>> indexShift));
+    }
+
+    boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sprint.omnibook.broker.pipeline;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단계 워커의 진행 위치.
+ * 워커마다 하나씩 두고 서로 다른 코어에서 갱신되므로, 캐시 라인 공유(false sharing)를 피하도록 뒤쪽을 채운다.
+ */
+@SuppressWarnings("unused")
+final class Sequence extends AtomicLong {
+
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+    Sequence(long initial) {
+        super(initial);
+    }
+}
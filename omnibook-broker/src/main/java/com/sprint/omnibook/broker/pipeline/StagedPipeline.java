@@ -0,0 +1,258 @@
+package com.sprint.omnibook.broker.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 하나의 링 버퍼 위에서 단계들이 순번을 따라 슬롯을 넘겨받는 파이프라인 (Disruptor 방식).
+ *
+ * - 슬롯은 기동 시 미리 할당되어 재사용되며, 단계 사이에 큐나 이벤트 객체를 만들지 않는다.
+ * - 단계 k는 순번 s를 단계 k-1이 끝낸 뒤에만 처리한다. 첫 단계는 생산자의 publish를 기다린다.
+ * - 단계의 병렬도가 N이면 워커 i는 s % N == i 인 순번만 맡는다. 워커마다 진행 위치(Sequence)가 있어
+ *   "단계가 s를 끝냈는가"는 워커 (s % N)의 위치가 s 이상인지로 바로 판단한다.
+ * - 생산자는 마지막 단계가 한 바퀴 전 슬롯을 끝낼 때까지 기다린다 (링 크기만큼의 backpressure).
+ *
+ * 핸들러 예외는 워커를 죽이지 않고 errorHandler로 넘기며, 슬롯은 다음 단계로 그대로 흘러간다.
+ * (이후 단계가 실패한 슬롯을 건너뛰는 것은 슬롯 타입의 책임이다)
+ */
+public final class StagedPipeline<T> {
+
+    private final RingBuffer<T> ring;
+    private final List<Stage> stages;
+    private final BiConsumer<T, RuntimeException> errorHandler;
+    private final LongAdder producerStallNanos = new LongAdder();
+    private volatile boolean running;
+    private volatile boolean accepting;
+
+    private StagedPipeline(RingBuffer<T> ring, List<StageSpec<T>> specs, BiConsumer<T, RuntimeException> errorHandler) {
+        this.ring = ring;
+        this.errorHandler = errorHandler;
+        this.stages = new ArrayList<>(specs.size());
+        Stage previous = null;
+        for (StageSpec<T> spec : specs) {
+            Stage stage = new Stage(spec, previous);
+            stages.add(stage);
+            previous = stage;
+        }
+    }
+
+    public static <T> StagedPipeline<T> of(int ringSize, Supplier<T> slotFactory,
+                                           List<StageSpec<T>> stages, BiConsumer<T, RuntimeException> errorHandler) {
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("단계가 하나 이상 필요합니다.");
+        }
+        return new StagedPipeline<>(new RingBuffer<>(ringSize, slotFactory), stages, errorHandler);
+    }
+
+    public synchronized void start(String threadPrefix) {
+        if (running) {
+            return;
+        }
+        running = true;
+        accepting = true;
+        for (Stage stage : stages) {
+            for (int i = 0; i < stage.workers.length; i++) {
+                Thread thread = new Thread(stage.worker(i), threadPrefix + "-" + stage.name + "-" + i);
+                thread.setDaemon(true);
+                stage.threads.add(thread);
+                thread.start();
+            }
+        }
+    }
+
+    /**
+     * 새 슬롯을 받지 않고, 이미 들어온 슬롯이 마지막 단계를 지날 때까지(최대 timeout) 기다린 뒤 워커를 멈춘다.
+     */
+    public synchronized void stop(long timeout, TimeUnit unit) throws InterruptedException {
+        accepting = false;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Stage last = stages.get(stages.size() - 1);
+        long claimed = ring.claimed();
+        while (!last.isDoneThrough(claimed) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        running = false;
+        for (Stage stage : stages) {
+            for (Thread thread : stage.threads) {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            }
+        }
+    }
+
+    /**
+     * 빈 슬롯을 받아 writer로 채우고 첫 단계에 넘긴다. 링이 가득 차 있으면 자리가 날 때까지 기다린다.
+     *
+     * @throws IllegalStateException 파이프라인이 멈춰 있는 경우
+     */
+    public void publish(Consumer<T> writer) {
+        if (!accepting) {
+            throw new IllegalStateException("파이프라인이 실행 중이 아닙니다.");
+        }
+        long sequence = ring.claim();
+        long wrapPoint = sequence - ring.size();
+        Stage last = stages.get(stages.size() - 1);
+        if (wrapPoint >= 0 && !last.isDone(wrapPoint)) {
+            long start = System.nanoTime();
+            while (!last.isDone(wrapPoint)) {
+                if (!running) {
+                    throw new IllegalStateException("파이프라인이 중지되었습니다.");
+                }
+                LockSupport.parkNanos(1_000);
+            }
+            producerStallNanos.add(System.nanoTime() - start);
+        }
+
+        writer.accept(ring.get(sequence));
+        ring.publish(sequence);
+    }
+
+    public List<StageStats> stats() {
+        long claimed = ring.claimed();
+        List<StageStats> result = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            result.add(new StageStats(
+                    stage.name,
+                    stage.workers.length,
+                    Math.max(0, claimed - stage.completedThrough()),
+                    stage.events.sum(),
+                    stage.busyNanos.sum(),
+                    stage.stallNanos.sum()));
+        }
+        return result;
+    }
+
+    public long producerStallNanos() {
+        return producerStallNanos.sum();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int ringSize() {
+        return ring.size();
+    }
+
+    /**
+     * 단계 정의.
+     *
+     * @param name         지표/스레드 이름에 쓰이는 단계 이름
+     * @param parallelism  워커 스레드 수
+     * @param waitStrategy 앞 단계를 기다리는 방식
+     * @param handler      슬롯 처리 로직
+     */
+    public record StageSpec<T>(String name, int parallelism, WaitStrategy waitStrategy, Consumer<T> handler) {
+
+        public StageSpec {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException(name + " 단계의 parallelism은 0보다 커야 합니다.");
+            }
+        }
+    }
+
+    /**
+     * 단계별 누적 지표.
+     *
+     * @param occupancy  이 단계가 아직 끝내지 않은 슬롯 수 (대기 + 처리 중)
+     * @param busyNanos  핸들러 실행에 쓴 시간 합 (워커 전체)
+     * @param stallNanos 앞 단계를 기다린 시간 합 (워커 전체, 유입이 없을 때의 대기 포함)
+     */
+    public record StageStats(String name, int parallelism, long occupancy, long events, long busyNanos, long stallNanos) {
+    }
+
+    private final class Stage {
+
+        private final String name;
+        private final Consumer<T> handler;
+        private final WaitStrategy waitStrategy;
+        private final Stage previous;
+        private final Sequence[] workers;
+        private final List<Thread> threads = new ArrayList<>();
+        private final LongAdder events = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private final LongAdder stallNanos = new LongAdder();
+
+        Stage(StageSpec<T> spec, Stage previous) {
+            this.name = spec.name();
+            this.handler = spec.handler();
+            this.waitStrategy = spec.waitStrategy();
+            this.previous = previous;
+            this.workers = new Sequence[spec.parallelism()];
+            for (int i = 0; i < workers.length; i++) {
+                // 워커 i의 첫 순번은 i 이므로, "아무것도 끝내지 않음"은 i - N
+                workers[i] = new Sequence(i - workers.length);
+            }
+        }
+
+        boolean isDone(long sequence) {
+            return workers[(int) (sequence % workers.length)].get() >= sequence;
+        }
+
+        /** sequence 이하의 모든 순번을 끝냈는지 */
+        boolean isDoneThrough(long sequence) {
+            for (int i = 0; i < workers.length; i++) {
+                long lastOfStripe = sequence - Math.floorMod(sequence - i, workers.length);
+                if (lastOfStripe >= 0 && workers[i].get() < lastOfStripe) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** 이 단계가 빠짐없이 끝낸 가장 큰 순번 (근사값, 지표용) */
+        long completedThrough() {
+            long min = Long.MAX_VALUE;
+            for (Sequence worker : workers) {
+                min = Math.min(min, worker.get());
+            }
+            return min;
+        }
+
+        private boolean upstreamReady(long sequence) {
+            return previous == null ? ring.isPublished(sequence) : previous.isDone(sequence);
+        }
+
+        Runnable worker(int index) {
+            Sequence progress = workers[index];
+            int stride = workers.length;
+            return () -> {
+                long next = index;
+                int attempt = 0;
+                long stallStart = 0;
+                while (running) {
+                    if (!upstreamReady(next)) {
+                        if (stallStart == 0) {
+                            stallStart = System.nanoTime();
+                        }
+                        waitStrategy.idle(attempt++);
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    if (stallStart != 0) {
+                        stallNanos.add(start - stallStart);
+                        stallStart = 0;
+                        attempt = 0;
+                    }
+
+                    T slot = ring.get(next);
+                    try {
+                        handler.accept(slot);
+                    } catch (RuntimeException e) {
+                        errorHandler.accept(slot, e);
+                    }
+                    busyNanos.add(System.nanoTime() - start);
+                    events.increment();
+
+                    progress.set(next);
+                    next += stride;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.sprint.omnibook.broker.pipeline;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 앞 단계 결과를 기다리는 동안의 대기 방식. 지연과 CPU 사용량 사이의 선택이다.
+ */
+public enum WaitStrategy {
+
+    /** 계속 확인한다. 지연이 가장 짧지만 대기 중에도 코어 하나를 전부 쓴다. */
+    BUSY_SPIN {
+        @Override
+        void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+
+    /** 잠시 스핀한 뒤 다른 스레드에 양보한다. */
+    YIELDING {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    /** 스핀 → 양보 → 짧게 잠든다. 유휴 시 CPU를 거의 쓰지 않는다 (기본). */
+    SLEEPING {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (attempt < SPIN_TRIES * 2) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final long SLEEP_NANOS = 50_000;
+
+    /**
+     * @param attempt 이번 대기에서 몇 번째 확인인지 (0부터)
+     */
+    abstract void idle(int attempt);
+}
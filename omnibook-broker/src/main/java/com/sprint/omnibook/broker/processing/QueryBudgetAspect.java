@@ -0,0 +1,123 @@
+package com.sprint.omnibook.broker.processing;
+
+import com.sprint.omnibook.broker.event.EventType;
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.support.QueryCounter;
+import com.sprint.omnibook.broker.support.ServerTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 예약 처리 한 건이 실행한 SQL 문 수를 세고 쿼리 예산과 비교하는 Aspect.
+ *
+ * 트랜잭션 Advice보다 바깥(HIGHEST_PRECEDENCE)에서 감싸므로 커밋 시 flush되는 insert/update와
+ * 지연 로딩(PlatformListing.getRoom() 등) 쿼리까지 포함된다.
+ *
+ * 예산은 이벤트 유형별로 base + per-night * 숙박일수 이다 (broker.query-budget.{booking|cancellation}.*).
+ * 넘으면 broker.processing.query.budget.exceeded를 올리고 경고를 남긴다.
+ * 이 시점에는 트랜잭션이 이미 커밋되었으므로 처리 결과는 바꾸지 않는다.
+ *
+ * 결과는 요청의 ServerTiming에도 더해져 X-Query-Count 헤더로 돌려줄 수 있다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "broker.query-count.enabled", havingValue = "true")
+public class QueryBudgetAspect {
+
+    private static final String PREFIX = "broker.query-budget.";
+
+    private final Map<EventType, Budget> budgets = new EnumMap<>(EventType.class);
+    private final Map<EventType, DistributionSummary> statements = new EnumMap<>(EventType.class);
+    private final Map<EventType, DistributionSummary> rowsLoaded = new EnumMap<>(EventType.class);
+    private final Map<EventType, Counter> exceeded = new EnumMap<>(EventType.class);
+
+    public QueryBudgetAspect(MeterRegistry meterRegistry, Environment environment) {
+        for (EventType type : EventType.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            budgets.put(type, new Budget(
+                    environment.getProperty(PREFIX + tag + ".base", Integer.class, 12),
+                    environment.getProperty(PREFIX + tag + ".per-night", Integer.class, 2)));
+            statements.put(type, DistributionSummary.builder("broker.processing.queries")
+                    .description("예약 처리 한 건의 SQL 문 수")
+                    .tag("event_type", tag)
+                    .register(meterRegistry));
+            rowsLoaded.put(type, DistributionSummary.builder("broker.processing.rows.loaded")
+                    .description("예약 처리 한 건에서 로드된 엔티티 행 수")
+                    .tag("event_type", tag)
+                    .register(meterRegistry));
+            exceeded.put(type, Counter.builder("broker.processing.query.budget.exceeded")
+                    .tag("event_type", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(* com.sprint.omnibook.broker.processing.ReservationProcessingService.process(..))")
+    public Object countQueries(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReservationEvent event = (ReservationEvent) joinPoint.getArgs()[0];
+        QueryCounter counter = QueryCounter.open();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            counter.close();
+            record(event, counter);
+        }
+    }
+
+    private void record(ReservationEvent event, QueryCounter counter) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.queries().add(counter);
+        }
+
+        EventType type = typeOf(event);
+        statements.get(type).record(counter.statements());
+        rowsLoaded.get(type).record(counter.rowsLoaded());
+
+        int budget = budgetFor(event);
+        if (counter.statements() <= budget) {
+            return;
+        }
+        exceeded.get(type).increment();
+        log.warn("[QueryBudget] 쿼리 예산 초과: eventId={}, eventType={}, budget={}, {}",
+                event.getEventId(), type, budget, counter.toHeaderValue());
+    }
+
+    int budgetFor(ReservationEvent event) {
+        return budgets.get(typeOf(event)).limit(nights(event));
+    }
+
+    private static EventType typeOf(ReservationEvent event) {
+        return event.getEventType() != null ? event.getEventType() : EventType.BOOKING;
+    }
+
+    private static int nights(ReservationEvent event) {
+        if (event.getCheckIn() == null || event.getCheckOut() == null) {
+            return 0;
+        }
+        return (int) Math.max(0, ChronoUnit.DAYS.between(event.getCheckIn(), event.getCheckOut()));
+    }
+
+    private record Budget(int base, int perNight) {
+
+        int limit(int nights) {
+            return base + perNight * nights;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.sprint.omnibook.broker.processing;
 
+import com.sprint.omnibook.broker.channelsync.ChannelSyncRecorder;
 import com.sprint.omnibook.broker.domain.*;
 import com.sprint.omnibook.broker.domain.repository.*;
 import com.sprint.omnibook.broker.event.EventType;
 import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.processing.audit.ReservationEventAuditWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,19 +20,22 @@ import java.util.Optional;
  * ReservationEvent를 받아 실제 예약/취소 처리를 수행한다.
  *
  * 처리 흐름:
- * 1. ReservationEventEntity 저장 (감사용)
+ * 1. ReservationEventEntity 기록 시작 (감사용, ReservationEventAuditWriter)
  * 2. PlatformListing 조회 -> Room 확보
  * 3. 이벤트 타입에 따른 분기 처리
- * 4. ReservationEventEntity markProcessed/markFailed
+ * 4. 다른 플랫폼으로 전파할 가용성 변경을 Outbox에 기록 (ChannelSyncRecorder)
+ * 5. ReservationEventEntity markProcessed/markFailed
  */
 @Service
+@Profile("!ingest")
 @RequiredArgsConstructor
 public class ReservationProcessingService {
 
-    private final ReservationEventRepository reservationEventRepository;
+    private final ReservationEventAuditWriter auditWriter;
     private final PlatformListingRepository platformListingRepository;
     private final InventoryRepository inventoryRepository;
     private final ReservationRepository reservationRepository;
+    private final ChannelSyncRecorder channelSyncRecorder;
 
     /**
      * 이벤트 처리.
@@ -41,7 +47,7 @@ public class ReservationProcessingService {
     public ProcessingResult process(ReservationEvent event) {
         // 1. ReservationEventEntity 항상 먼저 저장
         ReservationEventEntity eventEntity = createEventEntity(event);
-        reservationEventRepository.save(eventEntity);
+        auditWriter.begin(eventEntity);
 
         // 2. PlatformListing 조회 -> Room 확보
         Optional<PlatformListing> platformListingOpt = platformListingRepository
@@ -91,6 +97,10 @@ public class ReservationProcessingService {
         // Inventory 예약 처리 (checkIn ~ checkOut-1)
         bookInventory(room, event.getCheckIn(), event.getCheckOut(), reservation);
 
+        // 다른 플랫폼의 해당 기간 판매 중지
+        channelSyncRecorder.record(room, event.getPlatformType(),
+                event.getCheckIn(), event.getCheckOut(), AvailabilityAction.CLOSE);
+
         // 처리 완료
         return handleSuccess(eventEntity, room, reservation);
     }
@@ -123,6 +133,10 @@ public class ReservationProcessingService {
         // Inventory 해제 (checkIn ~ checkOut-1)
         releaseInventory(room, reservation.getCheckIn(), reservation.getCheckOut());
 
+        // 다른 플랫폼의 해당 기간 판매 재개
+        channelSyncRecorder.record(room, event.getPlatformType(),
+                reservation.getCheckIn(), reservation.getCheckOut(), AvailabilityAction.OPEN);
+
         return handleSuccess(eventEntity, room, reservation);
     }
 
@@ -197,7 +211,7 @@ public class ReservationProcessingService {
             Reservation reservation) {
 
         eventEntity.markProcessed(room, reservation);
-        reservationEventRepository.save(eventEntity);
+        auditWriter.complete(eventEntity);
 
         return ProcessingResult.success(room, reservation);
     }
@@ -210,7 +224,7 @@ public class ReservationProcessingService {
             FailureReason reason) {
 
         eventEntity.markFailed(reason.name());
-        reservationEventRepository.save(eventEntity);
+        auditWriter.complete(eventEntity);
 
         return ProcessingResult.failure(reason);
     }
@@ -0,0 +1,116 @@
+package com.sprint.omnibook.broker.processing.audit;
+
+import com.sprint.omnibook.broker.domain.ReservationEventEntity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * COPY 버퍼에 적재되는 reservation_event 한 행의 스냅샷.
+ * 엔티티를 그대로 들고 있지 않고, 트랜잭션 종료 시점의 컬럼 값만 복사해 둔다.
+ */
+record AuditRow(
+        UUID eventId,
+        String platformType,
+        String platformReservationId,
+        String eventType,
+        Long roomId,
+        Long reservationId,
+        String propertyName,
+        String propertyAddress,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        String guestName,
+        String guestPhone,
+        String guestEmail,
+        BigDecimal totalAmount,
+        String status,
+        Instant occurredAt,
+        Instant receivedAt,
+        boolean processed,
+        Instant processedAt,
+        String errorMessage,
+        Instant createdAt
+) {
+
+    /** COPY 대상 컬럼 순서. toCsvLine()과 순서가 일치해야 한다. */
+    static final String COLUMNS = "event_id, platform_type, platform_reservation_id, event_type, room_id, "
+            + "reservation_id, property_name, property_address, check_in, check_out, guest_name, guest_phone, "
+            + "guest_email, total_amount, status, occurred_at, received_at, processed, processed_at, "
+            + "error_message, created_at";
+
+    static AuditRow from(ReservationEventEntity e) {
+        return new AuditRow(
+                e.getEventId(),
+                e.getPlatformType().name(),
+                e.getPlatformReservationId(),
+                e.getEventType().name(),
+                e.getRoom() != null ? e.getRoom().getId() : null,
+                e.getReservation() != null ? e.getReservation().getId() : null,
+                e.getPropertyName(),
+                e.getPropertyAddress(),
+                e.getCheckIn(),
+                e.getCheckOut(),
+                e.getGuestName(),
+                e.getGuestPhone(),
+                e.getGuestEmail(),
+                e.getTotalAmount(),
+                e.getStatus(),
+                e.getOccurredAt(),
+                e.getReceivedAt(),
+                e.isProcessed(),
+                e.getProcessedAt(),
+                e.getErrorMessage(),
+                Instant.now()
+        );
+    }
+
+    /**
+     * CSV 한 줄로 직렬화한다.
+     * 문자열은 항상 따옴표로 감싸 빈 문자열과 NULL(따옴표 없는 빈 값)을 구분한다.
+     */
+    void appendCsvLine(StringBuilder sb) {
+        appendValue(sb, eventId).append(',');
+        appendText(sb, platformType).append(',');
+        appendText(sb, platformReservationId).append(',');
+        appendText(sb, eventType).append(',');
+        appendValue(sb, roomId).append(',');
+        appendValue(sb, reservationId).append(',');
+        appendText(sb, propertyName).append(',');
+        appendText(sb, propertyAddress).append(',');
+        appendValue(sb, checkIn).append(',');
+        appendValue(sb, checkOut).append(',');
+        appendText(sb, guestName).append(',');
+        appendText(sb, guestPhone).append(',');
+        appendText(sb, guestEmail).append(',');
+        appendValue(sb, totalAmount != null ? totalAmount.toPlainString() : null).append(',');
+        appendText(sb, status).append(',');
+        appendValue(sb, occurredAt).append(',');
+        appendValue(sb, receivedAt).append(',');
+        appendValue(sb, processed).append(',');
+        appendValue(sb, processedAt).append(',');
+        appendText(sb, errorMessage).append(',');
+        appendValue(sb, createdAt).append('\n');
+    }
+
+    private static StringBuilder appendValue(StringBuilder sb, Object value) {
+        return value == null ? sb : sb.append(value);
+    }
+
+    private static StringBuilder appendText(StringBuilder sb, String value) {
+        if (value == null) {
+            return sb;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+}
@@ -0,0 +1,161 @@
+package com.sprint.omnibook.broker.processing.audit;
+
+import com.sprint.omnibook.broker.domain.ReservationEventEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 COPY 감사 기록.
+ *
+ * 처리 트랜잭션이 커밋된 뒤 최종 상태만 bounded 버퍼에 적재하고,
+ * 백그라운드 flusher가 COPY ... FROM STDIN으로 일괄 저장한다.
+ *
+ * 버퍼가 가득 차거나 flush가 실패하면 해당 행은 버려진다.
+ * 원본은 MongoDB raw_events(SoT)에 남아 있으므로 재구성 가능하다.
+ */
+@Slf4j
+@Component
+@Profile("!ingest")
+@ConditionalOnProperty(name = "broker.audit.writer", havingValue = "copy")
+public class CopyReservationEventAuditWriter implements ReservationEventAuditWriter {
+
+    private static final String COPY_SQL =
+            "COPY reservation_event (" + AuditRow.COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final BlockingQueue<AuditRow> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Timer flushTimer;
+    private final Counter writtenRows;
+    private final Counter droppedRows;
+    private final Counter failedRows;
+
+    public CopyReservationEventAuditWriter(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${broker.audit.copy.buffer-capacity:65536}") int bufferCapacity,
+            @Value("${broker.audit.copy.batch-size:5000}") int batchSize,
+            @Value("${broker.audit.copy.flush-interval-ms:200}") long flushIntervalMs) {
+        this.dataSource = dataSource;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+
+        Gauge.builder("broker.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("COPY 대기 중인 감사 행 수")
+                .register(meterRegistry);
+        Gauge.builder("broker.audit.buffer.capacity", () -> bufferCapacity)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("broker.audit.flush.latency")
+                .description("COPY 배치 한 번의 소요 시간")
+                .register(meterRegistry);
+        this.writtenRows = Counter.builder("broker.audit.rows.written").register(meterRegistry);
+        this.droppedRows = Counter.builder("broker.audit.rows.dropped").register(meterRegistry);
+        this.failedRows = Counter.builder("broker.audit.rows.failed").register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlushLoop, "audit-copy-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void begin(ReservationEventEntity eventEntity) {
+        // 최종 상태만 기록하므로 시작 시점에는 아무것도 하지 않는다
+    }
+
+    @Override
+    public void complete(ReservationEventEntity eventEntity) {
+        // room/reservation FK가 커밋 이후에만 유효하므로 afterCommit에서 적재한다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            AuditRow row = AuditRow.from(eventEntity);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(row);
+                }
+            });
+        } else {
+            enqueue(AuditRow.from(eventEntity));
+        }
+    }
+
+    private void enqueue(AuditRow row) {
+        if (!buffer.offer(row)) {
+            droppedRows.increment();
+            log.debug("[AuditCopy] 버퍼 가득 참, 행 버림: eventId={}", row.eventId());
+        }
+    }
+
+    private void runFlushLoop() {
+        List<AuditRow> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditRow first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditRow> batch) {
+        StringBuilder csv = new StringBuilder(batch.size() * 256);
+        for (AuditRow row : batch) {
+            row.appendCsvLine(csv);
+        }
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            long copied = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(csv.toString()));
+            writtenRows.increment(copied);
+        } catch (Exception e) {
+            failedRows.increment(batch.size());
+            log.error("[AuditCopy] COPY 실패, {}건 유실 (raw_events에서 재구성 가능): {}", batch.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 종료 시 남은 버퍼를 모두 flush한다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+}
@@ -0,0 +1,31 @@
+package com.sprint.omnibook.broker.processing.audit;
+
+import com.sprint.omnibook.broker.domain.ReservationEventEntity;
+import com.sprint.omnibook.broker.domain.repository.ReservationEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동기 감사 기록.
+ * 처리 트랜잭션 안에서 ReservationEventEntity를 먼저 저장하고, 최종 상태로 다시 저장한다.
+ */
+@Component
+@Profile("!ingest")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "broker.audit.writer", havingValue = "sync", matchIfMissing = true)
+public class JpaReservationEventAuditWriter implements ReservationEventAuditWriter {
+
+    private final ReservationEventRepository reservationEventRepository;
+
+    @Override
+    public void begin(ReservationEventEntity eventEntity) {
+        reservationEventRepository.save(eventEntity);
+    }
+
+    @Override
+    public void complete(ReservationEventEntity eventEntity) {
+        reservationEventRepository.save(eventEntity);
+    }
+}
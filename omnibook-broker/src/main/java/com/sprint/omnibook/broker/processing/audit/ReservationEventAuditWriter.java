@@ -0,0 +1,23 @@
+package com.sprint.omnibook.broker.processing.audit;
+
+import com.sprint.omnibook.broker.domain.ReservationEventEntity;
+
+/**
+ * reservation_event 감사 기록 저장 전략.
+ *
+ * broker.audit.writer 설정으로 구현체를 선택한다.
+ * - sync: 처리 트랜잭션 안에서 JPA로 저장 (기본값)
+ * - copy: 최종 상태만 버퍼에 적재 후 백그라운드에서 COPY로 일괄 저장
+ */
+public interface ReservationEventAuditWriter {
+
+    /**
+     * 처리 시작 시점에 호출된다.
+     */
+    void begin(ReservationEventEntity eventEntity);
+
+    /**
+     * markProcessed/markFailed 이후 최종 상태로 호출된다.
+     */
+    void complete(ReservationEventEntity eventEntity);
+}
@@ -0,0 +1,145 @@
+package com.sprint.omnibook.broker.support;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 응답 시간(RTT)으로 동시 처리 한도를 조정하는 적응형 동시성 제한기 (gradient 방식).
+ *
+ * - samplesPerWindow 건마다 평균 RTT(short)를 구하고, 이를 느리게 따라가는 기준 RTT(long)와 비교한다.
+ *   gradient = clamp(TOLERANCE * long / short, 0.5, 1.0)
+ *   newLimit = limit * gradient + sqrt(limit)  (지연이 늘면 줄이고, 그대로면 조금씩 늘린다)
+ * - 창 안에 실패(5xx/예외)가 있으면 BACKOFF_RATIO 만큼 곱으로 줄인다.
+ * - 한도의 절반도 쓰지 않은 창은 용량에 대한 정보가 없으므로 한도를 바꾸지 않는다.
+ *
+ * 우선 요청(priority)은 한도 전체를, 일반 요청은 reservedRatio 만큼을 뺀 한도까지만 쓴다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOW = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double reservedRatio;
+    private final int samplesPerWindow;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // 아래 필드는 onSample(synchronized)에서만 접근한다
+    private double longRttNanos;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double reservedRatio, int samplesPerWindow) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("0 < minLimit <= maxLimit 이어야 합니다.");
+        }
+        if (reservedRatio < 0 || reservedRatio >= 1) {
+            throw new IllegalArgumentException("reservedRatio는 0 이상 1 미만이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.reservedRatio = reservedRatio;
+        this.samplesPerWindow = Math.max(1, samplesPerWindow);
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * 한도 안이면 처리 권한을 얻는다. 처리가 끝나면 반드시 Permit을 반납해야 한다.
+     *
+     * @param priority 예약 한도(reservedRatio)까지 쓸 수 있는 요청인지
+     */
+    public Optional<Permit> tryAcquire(boolean priority) {
+        int allowed = priority ? limit() : normalLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(System.nanoTime(), current + 1));
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    /** 일반 요청이 쓸 수 있는 한도. 최소 1 */
+    public int normalLimit() {
+        return Math.max(1, (int) (limit * (1 - reservedRatio)));
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        windowDropped |= dropped;
+        if (windowCount < samplesPerWindow) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        boolean anyDropped = windowDropped;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+
+        if (anyDropped) {
+            limit = clamp(limit * BACKOFF_RATIO);
+            return;
+        }
+
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_WINDOW;
+        if (longRttNanos / shortRtt > 2) {
+            // 지연이 크게 줄어든 뒤에는 기준을 빨리 끌어내려 한도가 과하게 커지지 않게 한다
+            longRttNanos *= 0.95;
+        }
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    /**
+     * 처리 권한. 한 번만 반납한다.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * @param dropped 과부하로 인한 실패(5xx/예외)였는지. true면 한도를 줄이는 신호로 쓴다.
+         */
+        public void release(boolean dropped) {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart, dropped);
+        }
+    }
+}
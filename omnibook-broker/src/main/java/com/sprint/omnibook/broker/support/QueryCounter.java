@@ -0,0 +1,168 @@
+package com.sprint.omnibook.broker.support;
+
+/**
+ * 구간 하나에서 실행된 SQL 문 수와 로드된 엔티티 행 수.
+ *
+ * open()으로 현재 스레드에 카운터를 열면, Hibernate StatementInspector/Interceptor(QueryCountingConfig)가
+ * statement()/rowsLoaded()로 값을 올린다. 열린 카운터가 없으면 두 메서드는 ThreadLocal 조회 한 번으로 끝난다.
+ *
+ * <pre>
+ * try (QueryCounter counter = QueryCounter.open()) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * 카운터는 중첩할 수 있으며, 닫힐 때 바깥 카운터에 값을 더한다.
+ * JDBC 배치는 statement 준비 한 번으로 센다 (현재 hibernate.jdbc.batch_size 미사용).
+ */
+public final class QueryCounter implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final QueryCounter outer;
+    private int selects;
+    private int inserts;
+    private int updates;
+    private int deletes;
+    private int others;
+    private int rowsLoaded;
+
+    private QueryCounter(QueryCounter outer) {
+        this.outer = outer;
+    }
+
+    /**
+     * 새 카운터를 현재 스레드에 연다.
+     */
+    public static QueryCounter open() {
+        QueryCounter counter = new QueryCounter(CURRENT.get());
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * 스레드에 연결되지 않은 빈 카운터 (다른 카운터의 값을 모으는 용도).
+     */
+    public static QueryCounter detached() {
+        return new QueryCounter(null);
+    }
+
+    public static void statement(String sql) {
+        QueryCounter counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+        switch (Kind.of(sql)) {
+            case SELECT -> counter.selects++;
+            case INSERT -> counter.inserts++;
+            case UPDATE -> counter.updates++;
+            case DELETE -> counter.deletes++;
+            case OTHER -> counter.others++;
+        }
+    }
+
+    public static void rowsLoaded(int rows) {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.rowsLoaded += rows;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+            outer.add(this);
+        }
+    }
+
+    public void add(QueryCounter other) {
+        selects += other.selects;
+        inserts += other.inserts;
+        updates += other.updates;
+        deletes += other.deletes;
+        others += other.others;
+        rowsLoaded += other.rowsLoaded;
+    }
+
+    public int statements() {
+        return selects + inserts + updates + deletes + others;
+    }
+
+    public int selects() {
+        return selects;
+    }
+
+    public int inserts() {
+        return inserts;
+    }
+
+    public int updates() {
+        return updates;
+    }
+
+    public int deletes() {
+        return deletes;
+    }
+
+    public int rowsLoaded() {
+        return rowsLoaded;
+    }
+
+    /**
+     * 예: {@code statements=7, select=4, insert=2, update=1, delete=0, rows=5}
+     */
+    public String toHeaderValue() {
+        return "statements=" + statements()
+                + ", select=" + selects
+                + ", insert=" + inserts
+                + ", update=" + updates
+                + ", delete=" + deletes
+                + ", rows=" + rowsLoaded;
+    }
+
+    enum Kind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        /**
+         * 앞쪽 공백과 주석(hibernate.use_sql_comments)을 건너뛴 첫 키워드로 구분한다.
+         */
+        static Kind of(String sql) {
+            int i = 0;
+            int length = sql.length();
+            while (i < length) {
+                char c = sql.charAt(i);
+                if (Character.isWhitespace(c) || c == '(') {
+                    i++;
+                } else if (sql.startsWith("/*", i)) {
+                    int end = sql.indexOf("*/", i + 2);
+                    i = end < 0 ? length : end + 2;
+                } else {
+                    break;
+                }
+            }
+            if (startsWithKeyword(sql, i, "select") || startsWithKeyword(sql, i, "with")) {
+                return SELECT;
+            }
+            if (startsWithKeyword(sql, i, "insert")) {
+                return INSERT;
+            }
+            if (startsWithKeyword(sql, i, "update")) {
+                return UPDATE;
+            }
+            if (startsWithKeyword(sql, i, "delete")) {
+                return DELETE;
+            }
+            return OTHER;
+        }
+
+        private static boolean startsWithKeyword(String sql, int offset, String keyword) {
+            return sql.regionMatches(true, offset, keyword, 0, keyword.length());
+        }
+    }
+}
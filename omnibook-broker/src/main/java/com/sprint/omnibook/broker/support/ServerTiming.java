@@ -0,0 +1,150 @@
+package com.sprint.omnibook.broker.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+
+/**
+ * 요청 하나의 단계별 소요 시간 (Server-Timing 응답 헤더용).
+ *
+ * 측정 구간은 현재 스레드에 연결된 ServerTiming이 있을 때만 기록된다. 연결되어 있지 않으면
+ * start()는 ThreadLocal 조회 한 번으로 0을 반환하고 stop()은 아무것도 하지 않는다.
+ *
+ * <pre>
+ * long start = ServerTiming.start();
+ * ...
+ * ServerTiming.stop(ServerTiming.Stage.PARSE, start);
+ * </pre>
+ *
+ * DB 조회/쓰기/커밋 구간은 ServerTimingRepositoryAspect가 리포지토리 호출 단위로 기록한다.
+ *
+ * 단계가 여러 스레드를 거치는 경우(IngestionPipeline) 각 스레드에서 attach/detach 한다.
+ * 한 번에 한 스레드만 기록하는 것은 호출 측이 보장한다.
+ *
+ * 같은 요청에서 실행된 SQL 문 수(queries)도 함께 모은다 (X-Query-Count 헤더용, QueryBudgetAspect가 더한다).
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    public enum Stage {
+        RAW_STORE("raw-store"),
+        PARSE("parse"),
+        TRANSLATE("translate"),
+        DB_LOOKUP("db-lookup"),
+        DB_WRITE("db-write"),
+        COMMIT("commit");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[STAGES.length];
+    private final QueryCounter queries = QueryCounter.detached();
+
+    private ServerTiming() {
+    }
+
+    /**
+     * 새 측정을 시작해 현재 스레드에 연결한다.
+     */
+    public static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void attach(ServerTiming timing) {
+        CURRENT.set(timing);
+    }
+
+    public static void detach() {
+        CURRENT.remove();
+    }
+
+    public QueryCounter queries() {
+        return queries;
+    }
+
+    /**
+     * @return 측정 시작 시각, 측정 중이 아니면 0
+     */
+    public static long start() {
+        return CURRENT.get() == null ? 0 : System.nanoTime();
+    }
+
+    public static void stop(Stage stage, long start) {
+        if (start == 0) {
+            return;
+        }
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[stage.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋(flush 포함) 시간을 COMMIT 단계로 기록하도록 등록한다.
+     * 같은 트랜잭션에서 여러 번 호출해도 한 번만 등록된다 (ServerTimingRepositoryAspect가 리포지토리 호출마다 부른다).
+     */
+    public static void timeCommit() {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(timing)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(timing, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStart;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStart = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(timing);
+                if (commitStart != 0) {
+                    timing.nanos[Stage.COMMIT.ordinal()] += System.nanoTime() - commitStart;
+                }
+            }
+        });
+    }
+
+    /**
+     * 예: {@code raw-store;dur=0.84, parse;dur=0.05, db-lookup;dur=1.20, total;dur=3.41}
+     * 기록되지 않은 단계는 생략한다.
+     */
+    public String toHeaderValue() {
+        StringBuilder sb = new StringBuilder(128);
+        for (Stage stage : STAGES) {
+            long value = nanos[stage.ordinal()];
+            if (value > 0) {
+                append(sb, stage.metricName, value);
+            }
+        }
+        append(sb, "total", System.nanoTime() - startedAt);
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String name, long nanos) {
+        if (!sb.isEmpty()) {
+            sb.append(", ");
+        }
+        sb.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0));
+    }
+}
@@ -0,0 +1,48 @@
+package com.sprint.omnibook.broker.support;
+
+import com.sprint.omnibook.broker.support.ServerTiming.Stage;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 리포지토리 호출 시간을 ServerTiming의 db-lookup / db-write 단계로 더하는 Aspect.
+ *
+ * 조회 메서드(find/get/exists/count/query/read/search/stream)는 db-lookup, 그 밖(save/delete 및 @Modifying 쿼리)은 db-write로 본다.
+ * 처음 리포지토리를 호출한 트랜잭션에는 커밋 시간(commit) 측정도 등록한다.
+ * 측정 중인 요청이 아니면 ThreadLocal 조회만 하고 넘어간다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "broker.server-timing.enabled", havingValue = "true")
+public class ServerTimingRepositoryAspect {
+
+    private static final String[] LOOKUP_PREFIXES = {
+            "find", "get", "exists", "count", "query", "read", "search", "stream"
+    };
+
+    @Around("execution(* org.springframework.data.jpa.repository.JpaRepository+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = ServerTiming.start();
+        if (start == 0) {
+            return joinPoint.proceed();
+        }
+        ServerTiming.timeCommit();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServerTiming.stop(stageOf(joinPoint.getSignature().getName()), start);
+        }
+    }
+
+    static Stage stageOf(String methodName) {
+        for (String prefix : LOOKUP_PREFIXES) {
+            if (methodName.startsWith(prefix)) {
+                return Stage.DB_LOOKUP;
+            }
+        }
+        return Stage.DB_WRITE;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sprint.omnibook.broker.support;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순으로 정렬되는 ID 생성기 (UUIDv7, RFC 9562).
+ *
+ * 비트 구성: [48bit unix ms][4bit version=7][12bit 순번][2bit variant][62bit 난수]
+ * - 상위 60비트(ms + 순번)는 CAS 한 번으로 갱신하는 단조 증가 값이라, 같은 ms 안에서도 생성 순서대로 정렬된다.
+ *   같은 ms에 4096개를 넘기면 시계보다 조금 앞서 나가고, 시계가 따라오면 다시 맞춰진다.
+ * - 난수는 ThreadLocalRandom을 쓴다 (SecureRandom 경합 없음). ID는 추측 불가능할 필요가 없는 식별자에만 쓴다.
+ *
+ * 새 ID가 항상 인덱스의 오른쪽 끝에 붙으므로 event_id 유니크 인덱스의 페이지 분할/캐시 미스가 줄어든다.
+ */
+public final class TimeOrderedIds {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    private TimeOrderedIds() {
+    }
+
+    public static UUID newUuid() {
+        long timeAndSequence = nextTimeAndSequence();
+        long msb = ((timeAndSequence >>> SEQUENCE_BITS) << 16)
+                | 0x7000L
+                | (timeAndSequence & 0xFFFL);
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 같은 128비트를 Crockford Base32 26자로 표현한 ID (ULID 형식). 문자열 정렬이 생성 순서와 같다.
+     * 로그/헤더용 correlationId처럼 짧은 문자열이 필요한 곳에 쓴다.
+     */
+    public static String newCompactId() {
+        UUID uuid = newUuid();
+        long hi = uuid.getMostSignificantBits();
+        long lo = uuid.getLeastSignificantBits();
+
+        char[] out = new char[26];
+        // 128비트를 5비트씩 나누면 첫 글자는 상위 3비트만 쓴다 (130비트 중 앞 2비트는 0)
+        for (int i = 25; i >= 0; i--) {
+            out[i] = CROCKFORD[(int) (lo & 0x1F)];
+            lo = (lo >>> 5) | (hi << 59);
+            hi >>>= 5;
+        }
+        return new String(out);
+    }
+
+    /**
+     * UUIDv7에 담긴 생성 시각(unix ms).
+     */
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextTimeAndSequence() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            long next = Math.max(now, last + 1);
+            if (lastTimeAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
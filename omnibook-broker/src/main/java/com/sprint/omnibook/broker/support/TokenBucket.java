@@ -0,0 +1,61 @@
+package com.sprint.omnibook.broker.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 토큰 버킷 기반 처리율 제한기.
+ * 초당 ratePerSecond 개의 토큰이 채워지며, 최대 burst 개까지 누적된다.
+ */
+public class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("ratePerSecond와 burst는 0보다 커야 합니다.");
+        }
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰이 있으면 하나 소비하고 true를 반환한다.
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 토큰을 얻을 때까지 대기한다.
+     */
+    public void acquire() throws InterruptedException {
+        while (!tryAcquire()) {
+            LockSupport.parkNanos(nanosUntilNextToken());
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private synchronized long nanosUntilNextToken() {
+        refill();
+        return Math.max(1, (long) ((1 - tokens) / tokensPerNano));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
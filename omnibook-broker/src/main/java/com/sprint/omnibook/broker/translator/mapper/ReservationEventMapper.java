@@ -29,7 +29,7 @@ import java.time.format.DateTimeFormatter;
  * - eventType, rawPayload
  *
  * expression으로 설정되는 필드:
- * - eventId (UUID.randomUUID())
+ * - eventId (TimeOrderedIds.newUuid(), 시간순 UUIDv7)
  * - receivedAt (Instant.now())
  */
 @Mapper(componentModel = "spring")
@@ -37,7 +37,7 @@ public interface ReservationEventMapper {
 
     // === Yanolja ===
 
-    @Mapping(target = "eventId", expression = "java(java.util.UUID.randomUUID())")
+    @Mapping(target = "eventId", expression = "java(com.sprint.omnibook.broker.support.TimeOrderedIds.newUuid())")
     @Mapping(target = "eventType", expression = "java(ctx.eventType())")
     @Mapping(target = "receivedAt", expression = "java(java.time.Instant.now())")
     @Mapping(target = "rawPayload", expression = "java(ctx.rawPayload())")
@@ -58,7 +58,7 @@ public interface ReservationEventMapper {
 
     // === Airbnb ===
 
-    @Mapping(target = "eventId", expression = "java(java.util.UUID.randomUUID())")
+    @Mapping(target = "eventId", expression = "java(com.sprint.omnibook.broker.support.TimeOrderedIds.newUuid())")
     @Mapping(target = "eventType", expression = "java(ctx.eventType())")
     @Mapping(target = "receivedAt", expression = "java(java.time.Instant.now())")
     @Mapping(target = "rawPayload", expression = "java(ctx.rawPayload())")
@@ -79,7 +79,7 @@ public interface ReservationEventMapper {
 
     // === YeogiEottae ===
 
-    @Mapping(target = "eventId", expression = "java(java.util.UUID.randomUUID())")
+    @Mapping(target = "eventId", expression = "java(com.sprint.omnibook.broker.support.TimeOrderedIds.newUuid())")
     @Mapping(target = "eventType", expression = "java(ctx.eventType())")
     @Mapping(target = "receivedAt", expression = "java(java.time.Instant.now())")
     @Mapping(target = "rawPayload", expression = "java(ctx.rawPayload())")
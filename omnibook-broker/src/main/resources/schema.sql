@@ -6,6 +6,9 @@
 -- 테이블 삭제 (개발 환경: 매 실행 시 재생성)
 -- FK 의존성 역순으로 삭제
 -- =====================================================
+DROP TABLE IF EXISTS cluster_node CASCADE;
+DROP TABLE IF EXISTS channel_sync_outbox CASCADE;
+DROP TABLE IF EXISTS failed_event_counter CASCADE;
 DROP TABLE IF EXISTS failed_event CASCADE;
 DROP TABLE IF EXISTS reservation_event CASCADE;
 DROP TABLE IF EXISTS inventory CASCADE;
@@ -97,9 +100,11 @@ CREATE INDEX idx_inventory_room_date ON inventory(room_id, date);
 CREATE INDEX idx_inventory_status ON inventory(status);
 
 -- 정규화된 이벤트
+-- received_at 기준 월별 RANGE 파티션. 파티션 생성/분리는 PartitionMaintenanceJob이 담당한다.
+-- 파티션 테이블의 PK/UNIQUE 제약은 파티션 키를 포함해야 하므로 (id, received_at), (event_id, received_at)로 정의한다.
 CREATE TABLE reservation_event (
-    id                          BIGSERIAL PRIMARY KEY,
-    event_id                    UUID NOT NULL UNIQUE,
+    id                          BIGSERIAL,
+    event_id                    UUID NOT NULL,
     platform_type               VARCHAR(50) NOT NULL,
     platform_reservation_id     VARCHAR(255) NOT NULL,
     event_type                  VARCHAR(50) NOT NULL,
@@ -119,16 +124,22 @@ CREATE TABLE reservation_event (
     processed                   BOOLEAN NOT NULL DEFAULT FALSE,
     processed_at                TIMESTAMPTZ,
     error_message               TEXT,
-    created_at                  TIMESTAMPTZ NOT NULL DEFAULT NOW()
-);
+    created_at                  TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, received_at),
+    UNIQUE (event_id, received_at)
+) PARTITION BY RANGE (received_at);
+
+-- 사전 생성된 월 파티션 범위를 벗어난 행을 받기 위한 안전망
+CREATE TABLE reservation_event_default PARTITION OF reservation_event DEFAULT;
 
 CREATE INDEX idx_reservation_event_platform ON reservation_event(platform_type, platform_reservation_id);
-CREATE INDEX idx_reservation_event_processed ON reservation_event(processed);
-CREATE INDEX idx_reservation_event_received ON reservation_event(received_at);
+-- processed는 선택도가 낮으므로 미처리 행만 색인하는 부분 인덱스 사용
+CREATE INDEX idx_reservation_event_unprocessed ON reservation_event(received_at) WHERE processed = FALSE;
 
 -- 실패 이벤트 (재처리용)
+-- failed_at 기준 월별 RANGE 파티션.
 CREATE TABLE failed_event (
-    id              BIGSERIAL PRIMARY KEY,
+    id              BIGSERIAL,
     event_id        VARCHAR(255) NOT NULL,
     platform        VARCHAR(50) NOT NULL,
     event_type      VARCHAR(50),
@@ -136,11 +147,58 @@ CREATE TABLE failed_event (
     reservation_id  VARCHAR(255),
     raw_payload     TEXT,
     error_message   TEXT,
+    error_prefix    VARCHAR(100) NOT NULL,
     failed_at       TIMESTAMPTZ NOT NULL,
     retry_count     INT NOT NULL DEFAULT 0,
     resolved        BOOLEAN NOT NULL DEFAULT FALSE,
-    created_at      TIMESTAMPTZ NOT NULL DEFAULT NOW()
-);
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, failed_at)
+) PARTITION BY RANGE (failed_at);
 
-CREATE INDEX idx_failed_event_resolved ON failed_event(resolved);
+CREATE TABLE failed_event_default PARTITION OF failed_event DEFAULT;
+
+-- resolved 역시 부분 인덱스로 미해결 건만 색인
+CREATE INDEX idx_failed_event_unresolved ON failed_event(failed_at) WHERE resolved = FALSE;
 CREATE INDEX idx_failed_event_platform ON failed_event(platform);
+-- 조회 API의 keyset 페이지네이션 (failed_at, id)
+CREATE INDEX idx_failed_event_keyset ON failed_event(failed_at, id);
+
+-- 실패 이벤트 집계 카운터 (platform, error_prefix 단위)
+-- 실패 저장/해결 시 증분 갱신하여 요약 조회가 failed_event를 스캔하지 않도록 한다
+CREATE TABLE failed_event_counter (
+    platform        VARCHAR(50) NOT NULL,
+    error_prefix    VARCHAR(100) NOT NULL,
+    total           BIGINT NOT NULL DEFAULT 0,
+    unresolved      BIGINT NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (platform, error_prefix)
+);
+
+-- 채널 동기화 Outbox (다른 OTA로 가용성 변경 전파)
+-- 처리 트랜잭션 안에서 대상 플랫폼별로 한 행씩 기록되고, ChannelSyncDispatcher가 병합/전송한다.
+CREATE TABLE channel_sync_outbox (
+    id                  BIGSERIAL PRIMARY KEY,
+    room_id             BIGINT NOT NULL REFERENCES room(id),
+    source_platform     VARCHAR(50) NOT NULL,
+    target_platform     VARCHAR(50) NOT NULL,
+    platform_room_id    VARCHAR(255) NOT NULL,
+    start_date          DATE NOT NULL,
+    end_date            DATE NOT NULL,
+    action              VARCHAR(20) NOT NULL,
+    created_at          TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    claimed_until       TIMESTAMPTZ,
+    dispatched_at       TIMESTAMPTZ
+);
+
+CREATE INDEX idx_channel_sync_outbox_pending ON channel_sync_outbox(target_platform, id) WHERE dispatched_at IS NULL;
+CREATE INDEX idx_channel_sync_outbox_dispatched ON channel_sync_outbox(dispatched_at) WHERE dispatched_at IS NOT NULL;
+
+-- 클러스터 노드 하트비트 (broker.cluster.enabled=true 일 때만 사용)
+-- 파티션 소유권 자체는 advisory lock이 보장하고, 이 테이블은 살아있는 노드 수와 전달 주소를 공유한다.
+-- backend_pid로 pg_locks와 조인해 파티션별 소유 노드를 찾는다.
+CREATE TABLE cluster_node (
+    node_id         VARCHAR(100) PRIMARY KEY,
+    base_url        VARCHAR(500) NOT NULL,
+    backend_pid     INTEGER NOT NULL,
+    heartbeat_at    TIMESTAMPTZ NOT NULL
+);
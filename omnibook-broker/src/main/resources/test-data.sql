@@ -25,3 +25,21 @@ INSERT INTO platform_listing (room_id, platform_type, platform_room_id) VALUES (
 -- '디럭스 오션뷰'(Room ID:3)는 Yanolja와 Yeogieottae에 등록됨
 INSERT INTO platform_listing (room_id, platform_type, platform_room_id) VALUES (3, 'YANOLJA', 'YANOLJA-TEST-ID-002');
 INSERT INTO platform_listing (room_id, platform_type, platform_room_id) VALUES (3, 'YEOGIEOTTAE', 'YEO-TEST-ID-002');
+
+
+-- ####################################################################
+-- ## 부하 테스트용 객실 카탈로그 (시뮬레이터 WorkloadModel)
+-- ## 객실 R-1 ~ R-10000을 3개 플랫폼 모두에 같은 platform_room_id로 등록한다.
+-- ## 시뮬레이터는 Zipf 분포로 객실을 고르므로 R-1이 가장 인기 있는 객실이 된다.
+-- ####################################################################
+INSERT INTO property (name, address) VALUES ('부하 테스트 카탈로그', '시뮬레이터 전용'); -- ID: 3
+
+INSERT INTO room (property_id, name, room_type, capacity)
+SELECT 3, 'R-' || n, 'LOAD_TEST', 2
+FROM generate_series(1, 10000) AS n;
+
+INSERT INTO platform_listing (room_id, platform_type, platform_room_id)
+SELECT r.id, p.platform_type, r.name
+FROM room r
+CROSS JOIN (VALUES ('YANOLJA'), ('AIRBNB'), ('YEOGIEOTTAE')) AS p(platform_type)
+WHERE r.property_id = 3;
@@ -3,9 +3,13 @@ package com.sprint.omnibook.broker.api;
 import com.sprint.omnibook.broker.api.dto.ErrorResponse;
 import com.sprint.omnibook.broker.api.dto.EventResponse;
 import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.bulkhead.PlatformBulkheads;
 import com.sprint.omnibook.broker.ingestion.EventHeaders;
 import com.sprint.omnibook.broker.ingestion.EventIngestionService;
 import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import com.sprint.omnibook.broker.support.QueryCounter;
+import com.sprint.omnibook.broker.support.ServerTiming;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +19,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,7 +39,8 @@ class EventControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new EventController(ingestionService);
+        controller = new EventController(ingestionService,
+                new PlatformBulkheads(new SimpleMeterRegistry(), new MockEnvironment(), false));
     }
 
     @Nested
@@ -61,7 +68,7 @@ class EventControllerTest {
 
                 // when
                 ResponseEntity<?> response = controller.receiveEvent(
-                        "evt-123", "A", "BOOKING", "corr-456", rawBody);
+                        "evt-123", "A", "BOOKING", "corr-456", rawBody).join();
 
                 // then
                 assertThat(response.getStatusCode().value()).isEqualTo(200);
@@ -80,6 +87,59 @@ class EventControllerTest {
                 assertThat(captured.eventType()).isEqualTo("BOOKING");
                 assertThat(captured.correlationId()).isEqualTo("corr-456");
             }
+
+            @Test
+            @DisplayName("Server-Timing이 켜져 있으면 단계별 소요 시간 헤더를 붙인다")
+            void it_adds_server_timing_header() {
+                // given
+                ReflectionTestUtils.setField(controller, "serverTimingEnabled", true);
+                given(ingestionService.process(any(), any(EventHeaders.class)))
+                        .willReturn(IngestionResult.success("evt-123"));
+
+                // when
+                ResponseEntity<?> response = controller.receiveEvent(
+                        "evt-123", "A", "BOOKING", null, "{}").join();
+
+                // then
+                assertThat(response.getHeaders().getFirst(ServerTiming.HEADER)).contains("total;dur=");
+            }
+
+            @Test
+            @DisplayName("Server-Timing이 꺼져 있으면 헤더를 붙이지 않는다")
+            void it_omits_server_timing_header_by_default() {
+                // given
+                given(ingestionService.process(any(), any(EventHeaders.class)))
+                        .willReturn(IngestionResult.success("evt-123"));
+
+                // when
+                ResponseEntity<?> response = controller.receiveEvent(
+                        "evt-123", "A", "BOOKING", null, "{}").join();
+
+                // then
+                assertThat(response.getHeaders().containsKey(ServerTiming.HEADER)).isFalse();
+            }
+
+            @Test
+            @DisplayName("X-Query-Count가 켜져 있으면 예약 처리의 SQL 문 수 헤더만 붙인다")
+            void it_adds_query_count_header() {
+                // given
+                ReflectionTestUtils.setField(controller, "queryCountHeaderEnabled", true);
+                given(ingestionService.process(any(), any(EventHeaders.class))).willAnswer(invocation -> {
+                    try (QueryCounter counter = QueryCounter.open()) {
+                        QueryCounter.statement("select 1");
+                        ServerTiming.current().queries().add(counter);
+                    }
+                    return IngestionResult.success("evt-123");
+                });
+
+                // when
+                ResponseEntity<?> response = controller.receiveEvent(
+                        "evt-123", "A", "BOOKING", null, "{}").join();
+
+                // then
+                assertThat(response.getHeaders().getFirst("X-Query-Count")).startsWith("statements=1, select=1");
+                assertThat(response.getHeaders().containsKey(ServerTiming.HEADER)).isFalse();
+            }
         }
 
         @Nested
@@ -103,7 +163,7 @@ class EventControllerTest {
 
                 // when
                 ResponseEntity<?> response = controller.receiveEvent(
-                        null, "UNKNOWN", "BOOKING", null, rawBody);
+                        null, "UNKNOWN", "BOOKING", null, rawBody).join();
 
                 // then
                 assertThat(response.getStatusCode().value()).isEqualTo(400);
@@ -115,5 +175,29 @@ class EventControllerTest {
                 assertThat(errorResponse.getDetails()).containsEntry("eventId", "evt-fail");
             }
         }
+
+        @Nested
+        @DisplayName("handoff 큐에 적재되면")
+        class Context_when_queued {
+
+            @Test
+            @DisplayName("202 QUEUED 응답을 반환한다")
+            void it_returns_queued() throws Exception {
+                // given
+                String rawBody = "{\"eventId\": \"evt-queued\"}";
+                given(ingestionService.process(eq(rawBody), any(EventHeaders.class)))
+                        .willReturn(IngestionResult.queued("evt-queued"));
+
+                // when
+                ResponseEntity<?> response = controller.receiveEvent(
+                        "evt-queued", "A", "BOOKING", null, rawBody).join();
+
+                // then
+                assertThat(response.getStatusCode().value()).isEqualTo(202);
+                EventResponse eventResponse = (EventResponse) response.getBody();
+                assertThat(eventResponse.getEventId()).isEqualTo("evt-queued");
+                assertThat(eventResponse.getStatus()).isEqualTo("QUEUED");
+            }
+        }
     }
 }
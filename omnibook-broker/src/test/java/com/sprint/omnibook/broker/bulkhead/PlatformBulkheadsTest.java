@@ -0,0 +1,107 @@
+package com.sprint.omnibook.broker.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PlatformBulkheads")
+class PlatformBulkheadsTest {
+
+    private MeterRegistry meterRegistry;
+    private PlatformBulkheads bulkheads;
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("broker.bulkhead.platform.yeogieottae.concurrency", "1")
+                .withProperty("broker.bulkhead.platform.yeogieottae.queue-capacity", "1")
+                .withProperty("broker.bulkhead.platform.airbnb.rate-per-second", "1");
+        bulkheads = new PlatformBulkheads(meterRegistry, environment, true);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        gate.countDown();
+        bulkheads.shutdown();
+    }
+
+    @Nested
+    @DisplayName("submit 메서드는")
+    class Describe_submit {
+
+        @Test
+        @DisplayName("한 플랫폼 격벽이 가득 차면 그 플랫폼만 거절하고 다른 플랫폼은 처리한다")
+        void it_isolates_platforms() {
+            // given
+            bulkheads.submit("C", this::blockUntilReleased);
+            bulkheads.submit("C", this::blockUntilReleased);
+
+            // when & then
+            assertThatThrownBy(() -> bulkheads.submit("C", () -> "overflow"))
+                    .isInstanceOf(BulkheadRejectedException.class);
+            assertThat(bulkheads.submit("A", () -> "yanolja").join()).isEqualTo("yanolja");
+            assertThat(meterRegistry.get("broker.bulkhead.rejected")
+                    .tag("platform", "YEOGIEOTTAE").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("처리율 한도를 넘으면 rate_limited로 거절한다")
+        void it_rejects_over_rate() {
+            // given
+            bulkheads.submit("B", () -> "first").join();
+
+            // when & then
+            assertThatThrownBy(() -> bulkheads.submit("B", () -> "second"))
+                    .isInstanceOf(BulkheadRejectedException.class)
+                    .satisfies(e -> assertThat(((BulkheadRejectedException) e).getDetails()).containsEntry("reason", "rate_limited"));
+        }
+
+        @Test
+        @DisplayName("격벽 스레드에 호출 스레드의 MDC를 전달한다")
+        void it_propagates_mdc() {
+            // given
+            MDC.put("correlationId", "corr-1");
+
+            // when
+            CompletableFuture<String> result = bulkheads.submit("A", () -> MDC.get("correlationId"));
+
+            // then
+            assertThat(result.join()).isEqualTo("corr-1");
+            MDC.clear();
+        }
+
+        @Test
+        @DisplayName("알 수 없는 플랫폼은 호출 스레드에서 바로 실행한다")
+        void it_runs_unknown_platform_inline() {
+            // when
+            CompletableFuture<String> result = bulkheads.submit("UNKNOWN", () -> Thread.currentThread().getName());
+
+            // then
+            assertThat(result.join()).isEqualTo(Thread.currentThread().getName());
+        }
+
+        private String blockUntilReleased() {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sprint.omnibook.broker.channelsync;
+
+import com.sprint.omnibook.broker.domain.AvailabilityAction;
+import com.sprint.omnibook.broker.domain.ChannelSyncOutbox;
+import com.sprint.omnibook.broker.event.PlatformType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("AvailabilityCoalescer")
+class AvailabilityCoalescerTest {
+
+    private static ChannelSyncOutbox row(String platformRoomId, int startDay, int endDay, AvailabilityAction action) {
+        return ChannelSyncOutbox.builder()
+                .roomId(1L)
+                .sourcePlatform(PlatformType.YANOLJA)
+                .targetPlatform(PlatformType.AIRBNB)
+                .platformRoomId(platformRoomId)
+                .startDate(LocalDate.of(2025, 3, startDay))
+                .endDate(LocalDate.of(2025, 3, endDay))
+                .action(action)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("coalesce 메서드는")
+    class Describe_coalesce {
+
+        @Test
+        @DisplayName("같은 날짜의 변경은 마지막 action만 남긴다")
+        void it_keeps_last_action_per_date() {
+            // given
+            List<ChannelSyncOutbox> rows = List.of(
+                    row("LST-1", 1, 3, AvailabilityAction.CLOSE),
+                    row("LST-1", 1, 3, AvailabilityAction.OPEN));
+
+            // when
+            List<AvailabilityUpdate> updates = AvailabilityCoalescer.coalesce(rows);
+
+            // then
+            assertThat(updates).hasSize(1);
+            assertThat(updates.get(0).action()).isEqualTo(AvailabilityAction.OPEN);
+            assertThat(updates.get(0).startDate()).isEqualTo(LocalDate.of(2025, 3, 1));
+            assertThat(updates.get(0).endDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+        }
+
+        @Test
+        @DisplayName("연속된 날짜의 같은 action은 하나의 범위로 합친다")
+        void it_merges_adjacent_ranges() {
+            // given
+            List<ChannelSyncOutbox> rows = List.of(
+                    row("LST-1", 1, 3, AvailabilityAction.CLOSE),
+                    row("LST-1", 3, 5, AvailabilityAction.CLOSE),
+                    row("LST-1", 7, 8, AvailabilityAction.CLOSE));
+
+            // when
+            List<AvailabilityUpdate> updates = AvailabilityCoalescer.coalesce(rows);
+
+            // then
+            assertThat(updates).extracting(AvailabilityUpdate::startDate, AvailabilityUpdate::endDate)
+                    .containsExactly(
+                            tuple(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 5)),
+                            tuple(LocalDate.of(2025, 3, 7), LocalDate.of(2025, 3, 8)));
+        }
+
+        @Test
+        @DisplayName("겹치는 범위에서 action이 바뀌면 범위를 나눈다")
+        void it_splits_ranges_on_action_change() {
+            // given
+            List<ChannelSyncOutbox> rows = List.of(
+                    row("LST-1", 1, 4, AvailabilityAction.CLOSE),
+                    row("LST-1", 1, 2, AvailabilityAction.OPEN));
+
+            // when
+            List<AvailabilityUpdate> updates = AvailabilityCoalescer.coalesce(rows);
+
+            // then
+            assertThat(updates).extracting(AvailabilityUpdate::action)
+                    .containsExactly(AvailabilityAction.OPEN, AvailabilityAction.CLOSE);
+            assertThat(updates.get(1).startDate()).isEqualTo(LocalDate.of(2025, 3, 2));
+            assertThat(updates.get(1).endDate()).isEqualTo(LocalDate.of(2025, 3, 4));
+        }
+
+        @Test
+        @DisplayName("방이 다르면 따로 병합한다")
+        void it_groups_by_platform_room() {
+            // given
+            List<ChannelSyncOutbox> rows = List.of(
+                    row("LST-1", 1, 2, AvailabilityAction.CLOSE),
+                    row("LST-2", 1, 2, AvailabilityAction.CLOSE));
+
+            // when
+            List<AvailabilityUpdate> updates = AvailabilityCoalescer.coalesce(rows);
+
+            // then
+            assertThat(updates).extracting(AvailabilityUpdate::platformRoomId)
+                    .containsExactly("LST-1", "LST-2");
+        }
+    }
+}
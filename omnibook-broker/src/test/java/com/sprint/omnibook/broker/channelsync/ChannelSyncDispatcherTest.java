@@ -0,0 +1,138 @@
+package com.sprint.omnibook.broker.channelsync;
+
+import com.sprint.omnibook.broker.domain.AvailabilityAction;
+import com.sprint.omnibook.broker.domain.ChannelSyncOutbox;
+import com.sprint.omnibook.broker.domain.repository.ChannelSyncOutboxRepository;
+import com.sprint.omnibook.broker.event.PlatformType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("ChannelSyncDispatcher")
+class ChannelSyncDispatcherTest {
+
+    private static final String ENDPOINT = "http://localhost:8082/api/stubs/AIRBNB/availability";
+
+    private final ChannelSyncOutboxRepository outboxRepository = mock(ChannelSyncOutboxRepository.class);
+    private final ChannelSyncClient client = mock(ChannelSyncClient.class);
+    private final TransactionTemplate transactionTemplate =
+            new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("broker.channel-sync.platform.airbnb.endpoint", ENDPOINT)
+            .withProperty("broker.channel-sync.platform.airbnb.rate-per-second", "1000");
+
+    private ChannelSyncDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        given(client.timeout()).willReturn(Duration.ofSeconds(11));
+        dispatcher = dispatcher(60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private ChannelSyncDispatcher dispatcher(long claimLeaseMs) {
+        return new ChannelSyncDispatcher(outboxRepository, client, transactionTemplate, new SimpleMeterRegistry(),
+                environment, 500, claimLeaseMs, 24, 5000);
+    }
+
+    private static ChannelSyncOutbox row(AvailabilityAction action) {
+        return ChannelSyncOutbox.builder()
+                .roomId(1L)
+                .sourcePlatform(PlatformType.YANOLJA)
+                .targetPlatform(PlatformType.AIRBNB)
+                .platformRoomId("LST-1")
+                .startDate(LocalDate.of(2025, 3, 1))
+                .endDate(LocalDate.of(2025, 3, 3))
+                .action(action)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("dispatch 메서드는")
+    class Describe_dispatch {
+
+        @Test
+        @DisplayName("플랫폼 claim 잠금을 얻고 전송 중인 배치가 없으면 claim한 행을 전송하고 완료로 표시한다")
+        void it_pushes_claimed_rows() throws Exception {
+            // given
+            given(outboxRepository.tryLockPlatform(ChannelSyncDispatcher.CLAIM_LOCK_CLASS_ID,
+                    PlatformType.AIRBNB.ordinal())).willReturn(true);
+            given(outboxRepository.existsLiveClaim(eq("AIRBNB"), any())).willReturn(false);
+            given(outboxRepository.findClaimableForUpdate(eq("AIRBNB"), any(), anyInt()))
+                    .willReturn(List.of(row(AvailabilityAction.CLOSE)));
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            then(client).should().push(eq(ENDPOINT), eq(PlatformType.AIRBNB), anyList());
+            then(outboxRepository).should().markDispatched(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("다른 dispatcher가 같은 플랫폼을 claim하는 중이면 아무것도 가져가지 않는다")
+        void it_skips_when_lock_is_held() throws Exception {
+            // given
+            given(outboxRepository.tryLockPlatform(anyInt(), anyInt())).willReturn(false);
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            then(outboxRepository).should(never()).findClaimableForUpdate(any(), any(), anyInt());
+            then(client).should(never()).push(any(), any(), anyList());
+        }
+
+        @Test
+        @DisplayName("claim이 살아 있는 배치가 있으면 그 배치가 끝날 때까지 새로 claim하지 않는다")
+        void it_skips_while_batch_in_flight() throws Exception {
+            // given
+            given(outboxRepository.tryLockPlatform(anyInt(), anyInt())).willReturn(true);
+            given(outboxRepository.existsLiveClaim(eq("AIRBNB"), any())).willReturn(true);
+
+            // when
+            dispatcher.dispatch();
+
+            // then
+            then(outboxRepository).should(never()).findClaimableForUpdate(any(), any(), anyInt());
+            then(client).should(never()).push(any(), any(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("생성 시")
+    class Describe_constructor {
+
+        @Test
+        @DisplayName("claim lease가 전송 타임아웃보다 짧으면 거부한다")
+        void it_rejects_lease_shorter_than_push_timeout() {
+            assertThatThrownBy(() -> dispatcher(10_000))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("claim-lease-ms");
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.sprint.omnibook.broker.cluster;
+
+import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.domain.PlatformListing;
+import com.sprint.omnibook.broker.domain.Room;
+import com.sprint.omnibook.broker.domain.repository.PlatformListingRepository;
+import com.sprint.omnibook.broker.event.PlatformType;
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ClusterPartitionRouter")
+class ClusterPartitionRouterTest {
+
+    private static final int PARTITIONS = 8;
+    private static final long ROOM_ID = 3L;
+    private static final int PARTITION = RoomPartitioner.partitionOf(ROOM_ID, PARTITIONS);
+
+    private final IngestRequest request = new IngestRequest("evt-1", "A", "BOOKING", "corr-1", "res-1", null);
+    private final ReservationEvent event = ReservationEvent.builder()
+            .platformType(PlatformType.AIRBNB)
+            .roomId("AIRBNB-TEST-ID-002")
+            .build();
+    private final ClusterNode owner = new ClusterNode("node-b", "http://node-b:8080");
+
+    private PartitionOwnership ownership;
+    private ClusterForwardClient forwardClient;
+    private ClusterPartitionRouter router;
+
+    private final AtomicInteger localRuns = new AtomicInteger();
+    private final Supplier<IngestionResult> local = () -> {
+        localRuns.incrementAndGet();
+        return IngestionResult.success("evt-1");
+    };
+
+    @BeforeEach
+    void setUp() {
+        ownership = mock(PartitionOwnership.class);
+        forwardClient = mock(ClusterForwardClient.class);
+        PlatformListingRepository platformListingRepository = mock(PlatformListingRepository.class);
+
+        Room room = mock(Room.class);
+        given(room.getId()).willReturn(ROOM_ID);
+        PlatformListing listing = mock(PlatformListing.class);
+        given(listing.getRoom()).willReturn(room);
+        given(platformListingRepository.findByPlatformTypeAndPlatformRoomId(PlatformType.AIRBNB, "AIRBNB-TEST-ID-002"))
+                .willReturn(Optional.of(listing));
+        given(ownership.partitionCount()).willReturn(PARTITIONS);
+
+        router = new ClusterPartitionRouter(ownership, forwardClient, platformListingRepository, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("dispatch 메서드는")
+    class Describe_dispatch {
+
+        @Test
+        @DisplayName("소유한 파티션이면 로컬에서 처리하고 진행 중 카운트를 돌려놓는다")
+        void it_runs_locally_when_owned() {
+            // given
+            given(ownership.tryEnter(PARTITION)).willReturn(true);
+
+            // when
+            IngestionResult result = router.dispatch(request, event, local);
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(localRuns).hasValue(1);
+            then(ownership).should().exit(PARTITION);
+        }
+
+        @Test
+        @DisplayName("담당 노드가 없으면 로컬에서 처리하지 않고 PARTITION_UNAVAILABLE을 돌려준다")
+        void it_rejects_without_owner() {
+            // given
+            given(ownership.tryEnter(PARTITION)).willReturn(false);
+            given(ownership.ownerOf(PARTITION)).willReturn(Optional.empty());
+
+            // when
+            IngestionResult result = router.dispatch(request, event, local);
+
+            // then
+            assertThat(result.errorCode()).isEqualTo(ErrorCode.PARTITION_UNAVAILABLE);
+            assertThat(localRuns).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("전달이 실패하면(타임아웃 포함) 로컬에서 처리하지 않고 PARTITION_UNAVAILABLE을 돌려준다")
+        void it_rejects_when_forward_fails() {
+            // given
+            given(ownership.tryEnter(PARTITION)).willReturn(false);
+            given(ownership.ownerOf(PARTITION)).willReturn(Optional.of(owner));
+            given(forwardClient.forward(any(), any())).willThrow(new ResourceAccessException("Read timed out"));
+
+            // when
+            IngestionResult result = router.dispatch(request, event, local);
+
+            // then
+            assertThat(result.errorCode()).isEqualTo(ErrorCode.PARTITION_UNAVAILABLE);
+            assertThat(localRuns).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("receive 메서드는")
+    class Describe_receive {
+
+        @Test
+        @DisplayName("전달받은 파티션을 소유하고 있으면 로컬에서 처리한다")
+        void it_runs_when_owned() {
+            // given
+            given(ownership.tryEnter(PARTITION)).willReturn(true);
+
+            // when
+            IngestionResult result = router.receive(request, event, local);
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(localRuns).hasValue(1);
+            then(ownership).should().exit(PARTITION);
+        }
+
+        @Test
+        @DisplayName("그 사이 파티션을 내려놓았다면 처리하지 않고 PARTITION_UNAVAILABLE을 돌려준다")
+        void it_rejects_when_not_owned() {
+            // given
+            given(ownership.tryEnter(PARTITION)).willReturn(false);
+
+            // when
+            IngestionResult result = router.receive(request, event, local);
+
+            // then
+            assertThat(result.errorCode()).isEqualTo(ErrorCode.PARTITION_UNAVAILABLE);
+            assertThat(localRuns).hasValue(0);
+            then(forwardClient).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sprint.omnibook.broker.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PartitionBalancer")
+class PartitionBalancerTest {
+
+    @Nested
+    @DisplayName("plan 메서드는")
+    class Describe_plan {
+
+        @Test
+        @DisplayName("단일 노드면 모든 파티션을 획득한다")
+        void it_acquires_all_partitions_when_alone() {
+            PartitionBalancer.Plan plan = PartitionBalancer.plan(8, 1, Set.of(), Set.of(), 3);
+
+            assertThat(plan.acquire()).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7);
+            assertThat(plan.release()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("노드가 합류하면 공정 몫을 넘는 파티션을 번호가 큰 것부터 반납한다")
+        void it_releases_excess_when_node_joins() {
+            Set<Integer> owned = range(0, 8);
+
+            PartitionBalancer.Plan plan = PartitionBalancer.plan(8, 2, owned, Set.of(), 0);
+
+            assertThat(plan.release()).containsExactly(7, 6, 5, 4);
+            assertThat(plan.acquire()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("다른 노드가 잡고 있는 파티션은 획득하지 않는다")
+        void it_skips_partitions_held_by_others() {
+            PartitionBalancer.Plan plan = PartitionBalancer.plan(8, 2, Set.of(), range(0, 4), 0);
+
+            assertThat(plan.acquire()).containsExactly(4, 5, 6, 7);
+        }
+
+        @Test
+        @DisplayName("노드가 죽으면 남은 노드가 빈 파티션을 나눠 모두 소유한다")
+        void it_covers_all_partitions_after_node_dies() {
+            // 3노드가 64개를 나눠 갖다가 하나가 죽어 락이 풀린 상황
+            Set<Integer> a = range(0, 22);
+            Set<Integer> b = range(22, 44);
+
+            PartitionBalancer.Plan planA = PartitionBalancer.plan(64, 2, a, b, 0);
+            a.addAll(planA.acquire());
+            PartitionBalancer.Plan planB = PartitionBalancer.plan(64, 2, b, a, 40);
+            b.addAll(planB.acquire());
+
+            Set<Integer> covered = new HashSet<>(a);
+            covered.addAll(b);
+            assertThat(covered).hasSize(64);
+            assertThat(a).hasSize(32);
+            assertThat(b).hasSize(32);
+        }
+    }
+
+    @Nested
+    @DisplayName("RoomPartitioner는")
+    class Describe_room_partitioner {
+
+        @Test
+        @DisplayName("순차 객실 ID를 파티션에 고르게 분산한다")
+        void it_spreads_sequential_room_ids() {
+            int partitions = 64;
+            int[] counts = new int[partitions];
+            for (long roomId = 1; roomId <= 64_000; roomId++) {
+                counts[RoomPartitioner.partitionOf(roomId, partitions)]++;
+            }
+
+            // 평균 1000, 균등 분포라면 ±15% 안에 든다
+            assertThat(IntStream.of(counts).min().orElseThrow()).isGreaterThan(850);
+            assertThat(IntStream.of(counts).max().orElseThrow()).isLessThan(1150);
+        }
+
+        @Test
+        @DisplayName("같은 객실은 항상 같은 파티션에 속한다")
+        void it_is_deterministic() {
+            assertThat(RoomPartitioner.partitionOf(42L, 64)).isEqualTo(RoomPartitioner.partitionOf(42L, 64));
+        }
+    }
+
+    private static Set<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toCollection(HashSet::new));
+    }
+}
@@ -0,0 +1,35 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorPrefix")
+class ErrorPrefixTest {
+
+    @Test
+    @DisplayName("구분자 앞부분을 접두어로 사용한다")
+    void it_uses_text_before_delimiter() {
+        assertThat(ErrorPrefix.of("알 수 없는 플랫폼: XYZ")).isEqualTo("알 수 없는 플랫폼");
+    }
+
+    @Test
+    @DisplayName("구분자가 없으면 메시지 전체를 사용한다")
+    void it_uses_whole_message_without_delimiter() {
+        assertThat(ErrorPrefix.of("payload JSON 변환 실패")).isEqualTo("payload JSON 변환 실패");
+    }
+
+    @Test
+    @DisplayName("메시지가 없으면 UNKNOWN을 반환한다")
+    void it_returns_unknown_for_blank_message() {
+        assertThat(ErrorPrefix.of(null)).isEqualTo(ErrorPrefix.UNKNOWN);
+        assertThat(ErrorPrefix.of("  ")).isEqualTo(ErrorPrefix.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("100자를 넘으면 잘라낸다")
+    void it_truncates_long_prefix() {
+        assertThat(ErrorPrefix.of("x".repeat(150))).hasSize(100);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService.RetryFailure;
+import com.sprint.omnibook.broker.failedevent.FailedEventAdminService.RetryOutcome;
+import com.sprint.omnibook.broker.ingestion.EventIngestionService;
+import com.sprint.omnibook.broker.ingestion.IngestRequest;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FailedEventAdminService")
+class FailedEventAdminServiceTest {
+
+    @Mock
+    private FailedEventQueryRepository queryRepository;
+
+    @Mock
+    private FailedEventCounterRepository counterRepository;
+
+    @Mock
+    private EventIngestionService ingestionService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private FailedEventAdminService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FailedEventAdminService(queryRepository, counterRepository, ingestionService,
+                new ObjectMapper(), transactionTemplate);
+    }
+
+    private static FailedEventRow row(long id, String eventId, String rawPayload) {
+        return new FailedEventRow(id, eventId, "YANOLJA", "BOOKING", null, null,
+                "prefix", "message", rawPayload, Instant.parse("2025-03-01T00:00:00Z"), 0, false);
+    }
+
+    @Nested
+    @DisplayName("retry 메서드는")
+    class Describe_retry {
+
+        @Test
+        @DisplayName("한 건에서 예외가 나도 나머지를 계속 처리하고 실패 사유를 결과에 담는다")
+        void it_continues_after_exception() {
+            // given
+            FailedEventRow broken = row(1, "evt-1", "{}");
+            FailedEventRow rejected = row(2, "evt-2", "{}");
+            FailedEventRow notJson = row(3, "evt-3", "not-json");
+            FailedEventRow ok = row(4, "evt-4", "{}");
+            given(queryRepository.findUnresolvedOldestFirst(any(), anyInt()))
+                    .willReturn(List.of(broken, rejected, notJson, ok));
+            given(ingestionService.retry(any(IngestRequest.class))).willAnswer(invocation -> {
+                IngestRequest request = invocation.getArgument(0);
+                return switch (request.eventId()) {
+                    case "evt-1" -> throw new IllegalStateException("DB 연결 실패");
+                    case "evt-2" -> IngestionResult.failure("evt-2", "UNKNOWN_ROOM", ErrorCode.UNKNOWN_ROOM);
+                    default -> IngestionResult.success(request.eventId());
+                };
+            });
+
+            // when
+            RetryOutcome outcome = service.retry(new FailedEventFilter(null, null, false, null, null), 10);
+
+            // then
+            assertThat(outcome.attempted()).isEqualTo(4);
+            assertThat(outcome.succeeded()).isEqualTo(1);
+            assertThat(outcome.failed()).isEqualTo(3);
+            assertThat(outcome.failures()).containsExactly(
+                    new RetryFailure("evt-1", "DB 연결 실패"),
+                    new RetryFailure("evt-2", "UNKNOWN_ROOM"),
+                    new RetryFailure("evt-3", FailedEventAdminService.NOT_RETRYABLE));
+            then(queryRepository).should(times(3)).incrementRetryCount(any());
+        }
+    }
+}
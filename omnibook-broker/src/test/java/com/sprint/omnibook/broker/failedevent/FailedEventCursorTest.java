@@ -0,0 +1,44 @@
+package com.sprint.omnibook.broker.failedevent;
+
+import com.sprint.omnibook.broker.api.exception.BrokerException;
+import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FailedEventCursor")
+class FailedEventCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 복원한다")
+    void it_round_trips() {
+        // given
+        FailedEventCursor cursor = new FailedEventCursor(Instant.parse("2025-03-01T10:15:30.123456Z"), 42L);
+
+        // when
+        FailedEventCursor decoded = FailedEventCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)로 해석한다")
+    void it_returns_null_for_blank() {
+        assertThat(FailedEventCursor.decode(null)).isNull();
+        assertThat(FailedEventCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 VALIDATION_ERROR를 던진다")
+    void it_rejects_malformed_cursor() {
+        assertThatThrownBy(() -> FailedEventCursor.decode("not-a-cursor"))
+                .isInstanceOf(BrokerException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.VALIDATION_ERROR);
+    }
+}
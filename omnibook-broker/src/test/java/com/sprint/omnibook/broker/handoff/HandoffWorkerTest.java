@@ -0,0 +1,160 @@
+package com.sprint.omnibook.broker.handoff;
+
+import com.sprint.omnibook.broker.ingestion.EventIngestionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@DisplayName("HandoffWorker")
+class HandoffWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private HandoffQueue queue;
+    private EventIngestionService ingestionService;
+    private HandoffWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        queue = mock(HandoffQueue.class);
+        ingestionService = mock(EventIngestionService.class);
+        worker = new HandoffWorker(queue, ingestionService, new SimpleMeterRegistry(),
+                1, 100, 30_000, MAX_ATTEMPTS, 500, 4_000, 0, 1);
+    }
+
+    private static HandoffDocument job(int attempts) {
+        return HandoffDocument.builder()
+                .id(new ObjectId())
+                .eventId("evt-1")
+                .platform("A")
+                .eventType("BOOKING")
+                .rawBody("{}")
+                .status(HandoffStatus.CLAIMED)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("assignLanes 메서드는")
+    class Describe_assignLanes {
+
+        @Test
+        @DisplayName("모든 노드의 스레드에 lane을 겹치지 않고 빠짐없이 나눈다")
+        void it_partitions_lanes_across_nodes_and_threads() {
+            // given
+            int lanes = 64;
+            int threads = 4;
+            int nodes = 3;
+
+            // when
+            List<Integer> assigned = new ArrayList<>();
+            for (int node = 0; node < nodes; node++) {
+                HandoffWorker.assignLanes(lanes, threads, node, nodes).forEach(assigned::addAll);
+            }
+
+            // then
+            assertThat(assigned).containsExactlyInAnyOrderElementsOf(IntStream.range(0, lanes).boxed().toList());
+        }
+
+        @Test
+        @DisplayName("lane이 스레드보다 적으면 남는 스레드는 lane을 받지 않는다")
+        void it_leaves_extra_threads_idle() {
+            // when
+            List<List<Integer>> assignments = HandoffWorker.assignLanes(2, 4, 0, 1);
+
+            // then
+            assertThat(assignments).containsExactly(List.of(0), List.of(1), List.of(), List.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("handle 메서드는")
+    class Describe_handle {
+
+        @Test
+        @DisplayName("처리 중 예외가 나면 시도 횟수에 따른 backoff 뒤로 재시도를 미룬다")
+        void it_releases_with_backoff() {
+            // given
+            HandoffDocument job = job(2);
+            willThrow(new IllegalStateException("deadlock detected"))
+                    .given(ingestionService).processHandoff(any(), any(), any());
+            Instant before = Instant.now();
+
+            // when
+            worker.handle(job);
+
+            // then: 2번째 실패 → 500 * 2 = 1000ms
+            ArgumentCaptor<Instant> notBefore = ArgumentCaptor.forClass(Instant.class);
+            then(queue).should().release(eq(job.getId()), eq("deadlock detected"), notBefore.capture());
+            assertThat(notBefore.getValue()).isAfterOrEqualTo(before.plusMillis(1000));
+            then(queue).should(never()).complete(any());
+        }
+
+        @Test
+        @DisplayName("최대 시도를 넘기면 failed_event에 남기고 작업을 삭제한다")
+        void it_parks_when_exhausted() {
+            // given
+            HandoffDocument job = job(MAX_ATTEMPTS);
+            willThrow(new IllegalStateException("could not serialize access"))
+                    .given(ingestionService).processHandoff(any(), any(), any());
+
+            // when
+            worker.handle(job);
+
+            // then
+            then(ingestionService).should().park(eq("{}"), any(), eq("could not serialize access"));
+            then(queue).should().complete(job.getId());
+            then(queue).should(never()).release(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("failed_event 기록이 실패하면 작업을 지우지 않고 backoff 후 다시 시도한다")
+        void it_keeps_retrying_when_park_fails() {
+            // given
+            HandoffDocument job = job(MAX_ATTEMPTS);
+            willThrow(new IllegalStateException("db down"))
+                    .given(ingestionService).processHandoff(any(), any(), any());
+            willThrow(new IllegalStateException("db down"))
+                    .given(ingestionService).park(anyString(), any(), anyString());
+
+            // when
+            worker.handle(job);
+
+            // then
+            then(queue).should(never()).complete(any());
+            then(queue).should().release(eq(job.getId()), eq("db down"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("backoffMillis 메서드는")
+    class Describe_backoffMillis {
+
+        @Test
+        @DisplayName("시도마다 두 배로 늘리고 최대값에서 멈춘다")
+        void it_grows_exponentially_up_to_max() {
+            assertThat(worker.backoffMillis(1)).isEqualTo(500);
+            assertThat(worker.backoffMillis(2)).isEqualTo(1_000);
+            assertThat(worker.backoffMillis(4)).isEqualTo(4_000);
+            assertThat(worker.backoffMillis(10)).isEqualTo(4_000);
+        }
+    }
+}
@@ -3,15 +3,20 @@ package com.sprint.omnibook.broker.ingestion;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.omnibook.broker.api.exception.ErrorCode;
+import com.sprint.omnibook.broker.cluster.LocalPartitionRouter;
+import com.sprint.omnibook.broker.cluster.PartitionRouter;
 import com.sprint.omnibook.broker.event.EventType;
 import com.sprint.omnibook.broker.event.PlatformType;
 import com.sprint.omnibook.broker.event.ReservationEvent;
 import com.sprint.omnibook.broker.event.ReservationStatus;
+import com.sprint.omnibook.broker.handoff.HandoffFullException;
+import com.sprint.omnibook.broker.handoff.HandoffQueue;
 import com.sprint.omnibook.broker.persistence.RawEventService;
 import com.sprint.omnibook.broker.processing.ProcessingResult;
 import com.sprint.omnibook.broker.processing.ReservationProcessingService;
 import com.sprint.omnibook.broker.translator.PayloadTranslator;
 import com.sprint.omnibook.broker.translator.TranslationException;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,19 +24,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EventIngestionService")
@@ -52,26 +64,40 @@ class EventIngestionServiceTest {
     @Mock
     private ReservationProcessingService reservationProcessingService;
 
+    @Mock
     private FailedEventStore failedEventStore;
+
+    @Mock
+    private HandoffQueue handoffQueue;
+
+    @Mock
+    private ObjectProvider<IngestionPipeline> ingestionPipeline;
+
     private ObjectMapper objectMapper;
     private EventIngestionService service;
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        failedEventStore = new FailedEventStore();
 
         Map<PlatformType, PayloadTranslator> translators = new EnumMap<>(PlatformType.class);
         translators.put(PlatformType.YANOLJA, yanoljaTranslator);
         translators.put(PlatformType.AIRBNB, airbnbTranslator);
         translators.put(PlatformType.YEOGIEOTTAE, yeogieottaeTranslator);
 
-        service = new EventIngestionService(
+        service = createService(translators, new LocalPartitionRouter());
+    }
+
+    private EventIngestionService createService(Map<PlatformType, PayloadTranslator> translators, PartitionRouter router) {
+        return new EventIngestionService(
                 rawEventService,
                 translators,
                 failedEventStore,
                 objectMapper,
-                reservationProcessingService
+                reservationProcessingService,
+                router,
+                List.of(handoffQueue),
+                ingestionPipeline
         );
     }
 
@@ -164,8 +190,7 @@ class EventIngestionServiceTest {
                 assertThat(result.success()).isFalse();
                 assertThat(result.failureReason()).contains("알 수 없는 플랫폼");
                 assertThat(result.errorCode()).isEqualTo(ErrorCode.INVALID_PLATFORM);
-                assertThat(failedEventStore.count()).isEqualTo(1);
-                assertThat(failedEventStore.findAll().get(0).getErrorMessage())
+                assertThat(savedFailedEvent().getErrorMessage())
                         .contains("알 수 없는 플랫폼");
             }
         }
@@ -193,8 +218,7 @@ class EventIngestionServiceTest {
                 assertThat(result.success()).isFalse();
                 assertThat(result.failureReason()).isEqualTo("파싱 실패");
                 assertThat(result.errorCode()).isEqualTo(ErrorCode.EVENT_PARSE_ERROR);
-                assertThat(failedEventStore.count()).isEqualTo(1);
-                FailedEvent failed = failedEventStore.findAll().get(0);
+                FailedEvent failed = savedFailedEvent();
                 assertThat(failed.getEventId()).isEqualTo("evt-1");
                 assertThat(failed.getErrorMessage()).isEqualTo("파싱 실패");
             }
@@ -247,11 +271,99 @@ class EventIngestionServiceTest {
                 assertThat(result.failureReason()).isEqualTo("UNKNOWN_ROOM");
                 assertThat(result.errorCode()).isEqualTo(ErrorCode.UNKNOWN_ROOM);
                 // FailedEventStore에는 저장하지 않음 (ReservationEventEntity에 기록됨)
-                assertThat(failedEventStore.count()).isEqualTo(0);
+                then(failedEventStore).should(never()).save(any());
             }
         }
     }
 
+    @Nested
+    @DisplayName("retry 메서드는")
+    class Describe_retry {
+
+        @Test
+        @DisplayName("다시 실패해도 새 실패 이벤트를 저장하지 않는다")
+        void it_does_not_save_failed_event() throws Exception {
+            // given
+            JsonNode payload = objectMapper.readTree("{\"invalid\": \"data\"}");
+            IngestRequest request = new IngestRequest(
+                    "evt-1", "A", "BOOKING", "corr-1", "res-1", payload
+            );
+
+            given(yanoljaTranslator.translate(any(), any()))
+                    .willThrow(new TranslationException("파싱 실패"));
+
+            // when
+            IngestionResult result = service.retry(request);
+
+            // then
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorCode()).isEqualTo(ErrorCode.EVENT_PARSE_ERROR);
+            then(failedEventStore).should(never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("다른 노드가 객실 파티션을 소유하면")
+    class Describe_partition_routing {
+
+        private final IngestionResult forwarded = IngestionResult.success("evt-forwarded");
+        private EventIngestionService routedService;
+
+        @BeforeEach
+        void setUp() {
+            Map<PlatformType, PayloadTranslator> translators = new EnumMap<>(PlatformType.class);
+            translators.put(PlatformType.YANOLJA, yanoljaTranslator);
+            routedService = createService(translators, new PartitionRouter() {
+                @Override
+                public IngestionResult dispatch(IngestRequest request, ReservationEvent event,
+                                                Supplier<IngestionResult> local) {
+                    return forwarded;
+                }
+
+                @Override
+                public IngestionResult receive(IngestRequest request, ReservationEvent event,
+                                               Supplier<IngestionResult> local) {
+                    return local.get();
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("ingest는 라우터 결과를 반환하고 로컬에서 처리하지 않는다")
+        void it_returns_owner_result() throws Exception {
+            // given
+            JsonNode payload = objectMapper.readTree("{\"test\": true}");
+            IngestRequest request = new IngestRequest("evt-1", "A", "BOOKING", "corr-1", "res-1", payload);
+            given(yanoljaTranslator.translate(any(), any())).willReturn(createMockEvent());
+
+            // when
+            IngestionResult result = routedService.ingest(request);
+
+            // then
+            assertThat(result).isSameAs(forwarded);
+            then(reservationProcessingService).should(never()).process(any());
+        }
+
+        @Test
+        @DisplayName("ingestForwarded는 다시 전달하지 않고 라우터의 receive를 거쳐 로컬에서 처리한다")
+        void it_processes_forwarded_event_locally() throws Exception {
+            // given
+            JsonNode payload = objectMapper.readTree("{\"test\": true}");
+            IngestRequest request = new IngestRequest("evt-1", "A", "BOOKING", "corr-1", "res-1", payload);
+            given(yanoljaTranslator.translate(any(), any())).willReturn(createMockEvent());
+            given(reservationProcessingService.process(any()))
+                    .willReturn(ProcessingResult.success(null, null));
+
+            // when
+            IngestionResult result = routedService.ingestForwarded(request);
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(result.eventId()).isEqualTo("evt-1");
+            then(reservationProcessingService).should().process(any());
+        }
+    }
+
     @Nested
     @DisplayName("process 메서드는")
     class Describe_process {
@@ -296,10 +408,103 @@ class EventIngestionServiceTest {
             assertThat(result.success()).isFalse();
             assertThat(result.errorCode()).isEqualTo(ErrorCode.EVENT_PARSE_ERROR);
             then(rawEventService).should().store(invalidRawBody, headers);
-            assertThat(failedEventStore.count()).isEqualTo(1);
-            assertThat(failedEventStore.findAll().get(0).getErrorMessage())
+            assertThat(savedFailedEvent().getErrorMessage())
                     .contains("JSON 파싱 실패");
         }
+
+        @Test
+        @DisplayName("처리 결과를 저장된 원본 ID로 기록한다")
+        void it_records_outcome_for_stored_raw_event() {
+            // given
+            String invalidRawBody = "{ invalid json }}}";
+            EventHeaders headers = new EventHeaders("evt-123", "A", "BOOKING", "corr-456");
+            ObjectId rawEventId = new ObjectId();
+            given(rawEventService.store(invalidRawBody, headers)).willReturn(rawEventId);
+
+            // when
+            IngestionResult result = service.process(invalidRawBody, headers);
+
+            // then
+            then(rawEventService).should().recordOutcome(rawEventId, result);
+        }
+
+        @Test
+        @DisplayName("HANDOFF 모드면 원본 저장 후 큐에 적재하고 처리하지 않는다")
+        void it_enqueues_in_handoff_mode() {
+            // given
+            ReflectionTestUtils.setField(service, "mode", IngestionMode.HANDOFF);
+            String rawBody = "{\"eventId\": \"evt-123\", \"payload\": {}}";
+            EventHeaders headers = new EventHeaders("evt-123", "A", "BOOKING", "corr-456");
+            ObjectId rawEventId = new ObjectId();
+            given(rawEventService.store(rawBody, headers)).willReturn(rawEventId);
+            given(handoffQueue.mode()).willReturn(IngestionMode.HANDOFF);
+
+            // when
+            IngestionResult result = service.process(rawBody, headers);
+
+            // then
+            assertThat(result.queued()).isTrue();
+            assertThat(result.eventId()).isEqualTo("evt-123");
+            then(handoffQueue).should().enqueue(rawEventId, rawBody, headers);
+            then(yanoljaTranslator).should(never()).translate(any(), any());
+            then(rawEventService).should(never()).recordOutcome(any(), any());
+        }
+
+        @Test
+        @DisplayName("handoff 저장소가 가득 차면 HANDOFF_FULL 실패를 기록하고 반환한다")
+        void it_rejects_when_handoff_full() {
+            // given
+            ReflectionTestUtils.setField(service, "mode", IngestionMode.HANDOFF);
+            String rawBody = "{\"eventId\": \"evt-123\", \"payload\": {}}";
+            EventHeaders headers = new EventHeaders(null, "A", "BOOKING", "corr-456");
+            ObjectId rawEventId = new ObjectId();
+            given(rawEventService.store(rawBody, headers)).willReturn(rawEventId);
+            given(handoffQueue.mode()).willReturn(IngestionMode.HANDOFF);
+            willThrow(new HandoffFullException("full")).given(handoffQueue).enqueue(rawEventId, rawBody, headers);
+
+            // when
+            IngestionResult result = service.process(rawBody, headers);
+
+            // then
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorCode()).isEqualTo(ErrorCode.HANDOFF_FULL);
+            assertThat(result.eventId()).isEqualTo(rawEventId.toHexString());
+            then(rawEventService).should().recordOutcome(rawEventId, result);
+        }
+    }
+
+    @Nested
+    @DisplayName("processHandoff 메서드는")
+    class Describe_processHandoff {
+
+        @Test
+        @DisplayName("원본을 다시 저장하지 않고 처리 후 결과를 기록한다")
+        void it_processes_without_storing_again() {
+            // given
+            String rawBody = """
+                    {"eventId": "evt-123", "reservationId": "YNJ-1", "payload": {"test": true}}
+                    """;
+            EventHeaders headers = new EventHeaders("evt-123", "A", "BOOKING", "corr-456");
+            ObjectId rawEventId = new ObjectId();
+            given(yanoljaTranslator.translate(any(), any())).willReturn(createMockEvent());
+            given(reservationProcessingService.process(any()))
+                    .willReturn(ProcessingResult.success(null, null));
+
+            // when
+            IngestionResult result = service.processHandoff(rawEventId, rawBody, headers);
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(result.queued()).isFalse();
+            then(rawEventService).should(never()).store(any(), any());
+            then(rawEventService).should().recordOutcome(rawEventId, result);
+        }
+    }
+
+    private FailedEvent savedFailedEvent() {
+        ArgumentCaptor<FailedEvent> captor = ArgumentCaptor.forClass(FailedEvent.class);
+        then(failedEventStore).should().save(captor.capture());
+        return captor.getValue();
     }
 
     private ReservationEvent createMockEvent() {
@@ -0,0 +1,57 @@
+package com.sprint.omnibook.broker.ingestion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderingKey")
+class OrderingKeyTest {
+
+    @Nested
+    @DisplayName("of 메서드는")
+    class Describe_of {
+
+        @Test
+        @DisplayName("envelope 최상위 reservationId를 키로 쓴다")
+        void it_reads_top_level_reservation_id() {
+            // given
+            String body = """
+                    {"eventId":"e-1","payload":{"reservationId":"nested","rooms":[1,2]},"reservationId":"R-100"}
+                    """;
+
+            // when
+            String key = OrderingKey.of(body, "fallback");
+
+            // then
+            assertThat(key).isEqualTo("R-100");
+        }
+
+        @Test
+        @DisplayName("reservationId가 없거나 JSON이 아니면 fallback을 쓴다")
+        void it_falls_back() {
+            // when & then
+            assertThat(OrderingKey.of("{\"eventId\":\"e-1\",\"payload\":{}}", "fallback")).isEqualTo("fallback");
+            assertThat(OrderingKey.of("{\"reservationId\":\"  \"}", "fallback")).isEqualTo("fallback");
+            assertThat(OrderingKey.of("not json", "fallback")).isEqualTo("fallback");
+            assertThat(OrderingKey.of(null, "fallback")).isEqualTo("fallback");
+        }
+    }
+
+    @Nested
+    @DisplayName("lane 메서드는")
+    class Describe_lane {
+
+        @Test
+        @DisplayName("같은 키는 항상 같은 lane으로, 모든 lane은 범위 안에 있다")
+        void it_is_stable_and_bounded() {
+            // when & then
+            for (int i = 0; i < 1_000; i++) {
+                String key = "R-" + i;
+                int lane = OrderingKey.lane(key, 64);
+                assertThat(lane).isBetween(0, 63).isEqualTo(OrderingKey.lane(key, 64));
+            }
+        }
+    }
+}
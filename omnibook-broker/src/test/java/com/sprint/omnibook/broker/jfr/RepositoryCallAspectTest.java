@@ -0,0 +1,134 @@
+package com.sprint.omnibook.broker.jfr;
+
+import com.sprint.omnibook.broker.domain.Reservation;
+import com.sprint.omnibook.broker.domain.repository.ReservationRepository;
+import com.sprint.omnibook.broker.event.PlatformType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RepositoryCallAspect")
+class RepositoryCallAspectTest {
+
+    private static final String EVENT_NAME = "omnibook.db.RepositoryCall";
+
+    @TempDir
+    Path tempDir;
+
+    private ReservationRepository target;
+    private ReservationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(ReservationRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RepositoryCallAspect());
+        repository = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("리포지토리 메서드가 호출되면")
+    class Describe_call {
+
+        @Test
+        @DisplayName("레코딩 중이면 리포지토리 이름, 메서드, MDC eventId를 담은 이벤트를 남긴다")
+        void it_records_repository_call() throws Exception {
+            // given
+            Reservation reservation = mock(Reservation.class);
+            given(target.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1"))
+                    .willReturn(Optional.of(reservation));
+            MDC.put("eventId", "evt-1");
+
+            // when
+            List<RecordedEvent> events = record(() ->
+                    assertThat(repository.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1"))
+                            .contains(reservation));
+
+            // then
+            assertThat(events).hasSize(1);
+            RecordedEvent event = events.get(0);
+            assertThat(event.getString("repository")).isEqualTo("ReservationRepository");
+            assertThat(event.getString("method")).isEqualTo("findByPlatformTypeAndPlatformReservationId");
+            assertThat(event.getString("eventId")).isEqualTo("evt-1");
+            assertThat(event.getBoolean("failed")).isFalse();
+        }
+
+        @Test
+        @DisplayName("상속받은 JpaRepository 메서드도 기록한다")
+        void it_records_inherited_methods() throws Exception {
+            // given
+            Reservation reservation = mock(Reservation.class);
+            given(target.save(reservation)).willReturn(reservation);
+
+            // when
+            List<RecordedEvent> events = record(() -> repository.save(reservation));
+
+            // then
+            assertThat(events).extracting(e -> e.getString("method")).containsExactly("save");
+        }
+
+        @Test
+        @DisplayName("예외가 나면 failed로 기록하고 예외를 그대로 던진다")
+        void it_records_failure() throws Exception {
+            // given
+            given(target.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1"))
+                    .willThrow(new IllegalStateException("db down"));
+
+            // when
+            List<RecordedEvent> events = record(() ->
+                    assertThatThrownBy(() -> repository.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1"))
+                            .isInstanceOf(IllegalStateException.class));
+
+            // then
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).getBoolean("failed")).isTrue();
+        }
+
+        @Test
+        @DisplayName("레코딩이 없으면 호출 결과만 돌려준다")
+        void it_passes_through_without_recording() {
+            // given
+            given(target.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1"))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThat(repository.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1")).isEmpty();
+        }
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RepositoryCallEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(EVENT_NAME))
+                .toList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.sprint.omnibook.broker.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.omnibook.broker.ingestion.EventHeaders;
+import com.sprint.omnibook.broker.ingestion.EventIngestionService;
+import com.sprint.omnibook.broker.ingestion.IngestionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JournalConsumer")
+class JournalConsumerTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private EventIngestionService ingestionService;
+
+    private EventJournal eventJournal;
+    private JournalConsumer consumer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        eventJournal = new EventJournal(new ObjectMapper(), new SimpleMeterRegistry(), dir, 64 * 1024, 1024 * 1024L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (consumer != null) {
+            consumer.shutdown();
+        }
+        eventJournal.close();
+    }
+
+    private void startConsumer(int maxAttempts) {
+        // lane 1개: 같은 lane 안에서도 재시도가 다른 예약을 막지 않는지 본다
+        consumer = new JournalConsumer(eventJournal, ingestionService, new SimpleMeterRegistry(), 1, 16, 5, maxAttempts);
+        consumer.start();
+    }
+
+    private void append(String eventId, String reservationId) {
+        String body = "{\"eventId\":\"" + eventId + "\",\"reservationId\":\"" + reservationId + "\",\"payload\":{}}";
+        eventJournal.enqueue(new ObjectId(), body, new EventHeaders(eventId, "YANOLJA", "BOOKING", null));
+    }
+
+    @Nested
+    @DisplayName("처리에 실패한 레코드가 있으면")
+    class Context_when_record_fails {
+
+        @Test
+        @DisplayName("같은 예약의 뒤 레코드는 기다리고, 다른 예약은 먼저 처리한다")
+        void it_keeps_order_per_reservation() {
+            // given
+            List<String> calls = new CopyOnWriteArrayList<>();
+            AtomicInteger bookingAttempts = new AtomicInteger();
+            willAnswer(invocation -> {
+                EventHeaders headers = invocation.getArgument(2);
+                calls.add(headers.eventId());
+                if (headers.eventId().equals("booking-R1") && bookingAttempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("DB 일시 장애");
+                }
+                return IngestionResult.success(headers.eventId());
+            }).given(ingestionService).processHandoff(any(), anyString(), any());
+
+            append("booking-R1", "R1");
+            append("cancel-R1", "R1");
+            append("booking-S1", "S1");
+
+            // when
+            startConsumer(5);
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(calls).hasSize(4));
+            assertThat(calls).containsExactly("booking-R1", "booking-S1", "booking-R1", "cancel-R1");
+            await().atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(eventJournal.journal().lag(JournalConsumer.CONSUMER_NAME)).isZero());
+        }
+
+        @Test
+        @DisplayName("max-attempts를 넘기면 failed_event에 남기고 위치를 커밋한다")
+        void it_parks_after_max_attempts() {
+            // given
+            given(ingestionService.processHandoff(any(), anyString(), any()))
+                    .willThrow(new IllegalStateException("DB 장애"));
+            append("booking-R1", "R1");
+
+            // when
+            startConsumer(2);
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    then(ingestionService).should().park(anyString(), any(), eq("DB 장애")));
+            await().atMost(Duration.ofSeconds(5))
+                    .untilAsserted(() -> assertThat(eventJournal.journal().lag(JournalConsumer.CONSUMER_NAME)).isZero());
+        }
+    }
+}
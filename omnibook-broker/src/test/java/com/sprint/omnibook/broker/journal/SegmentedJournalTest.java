@@ -0,0 +1,200 @@
+package com.sprint.omnibook.broker.journal;
+
+import com.sprint.omnibook.broker.handoff.HandoffFullException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SegmentedJournal")
+class SegmentedJournalTest {
+
+    private static final int SEGMENT_BYTES = 256;
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("append/read 메서드는")
+    class Describe_append_and_read {
+
+        @Test
+        @DisplayName("기록한 순서대로 읽고, 기록이 없으면 null을 반환한다")
+        void it_reads_in_order() throws IOException {
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                journal.append(bytes("a"));
+                journal.append(bytes("b"));
+
+                assertThat(readAll(journal, 0)).containsExactly("a", "b");
+                assertThat(journal.read(journal.writePosition())).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("세그먼트가 차면 다음 세그먼트로 넘어가며 이어서 읽는다")
+        void it_rolls_over_segments() throws IOException {
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                List<String> written = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    String value = "record-" + i + "-" + "x".repeat(40);
+                    journal.append(bytes(value));
+                    written.add(value);
+                }
+
+                assertThat(journal.segmentCount()).isGreaterThan(1);
+                assertThat(readAll(journal, 0)).containsExactlyElementsOf(written);
+            }
+        }
+
+        @Test
+        @DisplayName("용량 상한에 도달하면 HandoffFullException을 던진다")
+        void it_throws_when_full() throws IOException {
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 2L)) {
+                assertThatThrownBy(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        journal.append(bytes("x".repeat(100)));
+                    }
+                }).isInstanceOf(HandoffFullException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("다시 열면")
+    class Describe_reopen {
+
+        @Test
+        @DisplayName("쓰기 위치와 소비자 체크포인트를 복구한다")
+        void it_recovers_write_position_and_offsets() throws IOException {
+            long committed;
+            long writePosition;
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                journal.append(bytes("a"));
+                JournalRecord first = journal.read(0);
+                journal.append(bytes("b"));
+                journal.register("processing");
+                journal.commit("processing", first.nextPosition());
+                committed = first.nextPosition();
+                writePosition = journal.writePosition();
+            }
+
+            try (SegmentedJournal reopened = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                assertThat(reopened.writePosition()).isEqualTo(writePosition);
+                assertThat(reopened.committedPosition("processing")).isEqualTo(committed);
+
+                reopened.append(bytes("c"));
+                assertThat(readAll(reopened, committed)).containsExactly("b", "c");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("commit 메서드는")
+    class Describe_commit {
+
+        @Test
+        @DisplayName("등록된 소비자가 모두 지나간 세그먼트만 삭제한다")
+        void it_deletes_segments_consumed_by_all() throws IOException {
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                for (int i = 0; i < 20; i++) {
+                    journal.append(bytes("x".repeat(50)));
+                }
+                journal.register("fast");
+                journal.register("slow");
+                int before = segmentFiles();
+
+                journal.commit("fast", journal.writePosition());
+                assertThat(segmentFiles()).isEqualTo(before);
+
+                journal.commit("slow", journal.writePosition());
+                assertThat(segmentFiles()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("offset 파일만 남은 (등록되지 않은) 소비자는 삭제를 막지 않는다")
+        void it_ignores_stale_consumers() throws IOException {
+            // given
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                journal.register("retired");
+                journal.commit("retired", 0);
+                for (int i = 0; i < 20; i++) {
+                    journal.append(bytes("x".repeat(50)));
+                }
+            }
+
+            try (SegmentedJournal reopened = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                // when
+                reopened.register("processing");
+                reopened.commit("processing", reopened.writePosition());
+
+                // then
+                assertThat(reopened.committedPosition("retired")).isZero();
+                assertThat(segmentFiles()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("등록 해제된 소비자는 더 이상 삭제를 막지 않는다")
+        void it_ignores_unregistered_consumers() throws IOException {
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                // given
+                for (int i = 0; i < 20; i++) {
+                    journal.append(bytes("x".repeat(50)));
+                }
+                journal.register("fast");
+                journal.register("slow");
+                journal.commit("fast", journal.writePosition());
+                int before = segmentFiles();
+
+                // when
+                journal.unregister("slow");
+
+                // then
+                assertThat(before).isGreaterThan(1);
+                assertThat(segmentFiles()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 소비자가 커밋하면 IllegalStateException을 던진다")
+        void it_rejects_unregistered_commit() throws IOException {
+            try (SegmentedJournal journal = SegmentedJournal.open(dir, SEGMENT_BYTES, SEGMENT_BYTES * 8L)) {
+                assertThatThrownBy(() -> journal.commit("unknown", 0))
+                        .isInstanceOf(IllegalStateException.class);
+            }
+        }
+    }
+
+    private int segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return (int) files.filter(f -> f.toString().endsWith(".seg")).count();
+        }
+    }
+
+    private static List<String> readAll(SegmentedJournal journal, long from) {
+        List<String> values = new ArrayList<>();
+        JournalRecord record;
+        long position = from;
+        while ((record = journal.read(position)) != null) {
+            values.add(new String(record.payload(), StandardCharsets.UTF_8));
+            position = record.nextPosition();
+        }
+        return values;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sprint.omnibook.broker.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MonthlyPartition")
+class MonthlyPartitionTest {
+
+    @Nested
+    @DisplayName("name/bound 메서드는")
+    class Describe_name_and_bounds {
+
+        @Test
+        @DisplayName("테이블명_pYYYYMM 이름과 UTC 월 경계를 반환한다")
+        void it_returns_name_and_utc_bounds() {
+            MonthlyPartition partition = new MonthlyPartition(PartitionedTable.RESERVATION_EVENT, YearMonth.of(2026, 12));
+
+            assertThat(partition.name()).isEqualTo("reservation_event_p202612");
+            assertThat(partition.lowerBound()).isEqualTo("2026-12-01 00:00:00Z");
+            assertThat(partition.upperBound()).isEqualTo("2027-01-01 00:00:00Z");
+        }
+    }
+
+    @Nested
+    @DisplayName("parseMonth 메서드는")
+    class Describe_parseMonth {
+
+        @Test
+        @DisplayName("규칙에 맞는 파티션 이름에서 월을 추출한다")
+        void it_parses_month() {
+            assertThat(MonthlyPartition.parseMonth(PartitionedTable.FAILED_EVENT, "failed_event_p202501"))
+                    .contains(YearMonth.of(2025, 1));
+        }
+
+        @Test
+        @DisplayName("DEFAULT 파티션이나 다른 테이블의 파티션은 무시한다")
+        void it_ignores_non_monthly_partitions() {
+            assertThat(MonthlyPartition.parseMonth(PartitionedTable.FAILED_EVENT, "failed_event_default")).isEmpty();
+            assertThat(MonthlyPartition.parseMonth(PartitionedTable.FAILED_EVENT, "reservation_event_p202501")).isEmpty();
+        }
+    }
+}
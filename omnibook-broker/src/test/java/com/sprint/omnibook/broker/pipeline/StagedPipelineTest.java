@@ -0,0 +1,185 @@
+package com.sprint.omnibook.broker.pipeline;
+
+import com.sprint.omnibook.broker.pipeline.StagedPipeline.StageSpec;
+import com.sprint.omnibook.broker.pipeline.StagedPipeline.StageStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StagedPipeline")
+class StagedPipelineTest {
+
+    private StagedPipeline<Slot> pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.stop(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Nested
+    @DisplayName("publish 메서드는")
+    class Describe_publish {
+
+        @Test
+        @DisplayName("모든 슬롯이 단계 순서대로 처리된다 (병렬 단계 포함, 링보다 많은 이벤트)")
+        void it_runs_every_stage_in_order() throws InterruptedException {
+            // given
+            int count = 5_000;
+            ConcurrentLinkedQueue<String> completed = new ConcurrentLinkedQueue<>();
+            CountDownLatch done = new CountDownLatch(count);
+            pipeline = StagedPipeline.of(64, Slot::new, List.of(
+                    new StageSpec<>("a", 2, WaitStrategy.YIELDING, slot -> slot.trace.add("a")),
+                    new StageSpec<>("b", 3, WaitStrategy.SLEEPING, slot -> slot.trace.add("b")),
+                    new StageSpec<Slot>("c", 1, WaitStrategy.BUSY_SPIN, slot -> {
+                        slot.trace.add("c");
+                        completed.add(slot.value + ":" + String.join("", slot.trace));
+                        done.countDown();
+                    })), noErrors());
+            pipeline.start("test");
+
+            // when
+            for (int i = 0; i < count; i++) {
+                int value = i;
+                pipeline.publish(slot -> slot.reset(value));
+            }
+
+            // then
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                expected.add(i + ":abc");
+            }
+            assertThat(completed).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("핸들러 예외는 errorHandler로 넘기고 슬롯은 다음 단계로 흘러간다")
+        void it_passes_errors_to_handler() throws InterruptedException {
+            // given
+            List<Integer> failed = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch done = new CountDownLatch(4);
+            pipeline = StagedPipeline.of(8, Slot::new, List.of(
+                    new StageSpec<Slot>("fail-odd", 1, WaitStrategy.SLEEPING, slot -> {
+                        if (slot.value % 2 == 1) {
+                            throw new IllegalStateException("odd");
+                        }
+                    }),
+                    new StageSpec<>("last", 1, WaitStrategy.SLEEPING, slot -> done.countDown())),
+                    (slot, e) -> failed.add(slot.value));
+            pipeline.start("test");
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                int value = i;
+                pipeline.publish(slot -> slot.reset(value));
+            }
+
+            // then
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(failed).containsExactly(1, 3);
+        }
+
+        @Test
+        @DisplayName("중지된 파이프라인에는 넣을 수 없다")
+        void it_rejects_after_stop() throws InterruptedException {
+            // given
+            pipeline = StagedPipeline.of(8, Slot::new,
+                    List.of(new StageSpec<>("only", 1, WaitStrategy.SLEEPING, slot -> { })), noErrors());
+            pipeline.start("test");
+
+            // when
+            pipeline.stop(1, TimeUnit.SECONDS);
+
+            // then
+            assertThatThrownBy(() -> pipeline.publish(slot -> slot.reset(1)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("stats 메서드는")
+    class Describe_stats {
+
+        @Test
+        @DisplayName("막힌 단계에 쌓인 슬롯 수를 점유로 보고하고, 풀리면 처리 건수를 누적한다")
+        void it_reports_occupancy_and_events() throws InterruptedException {
+            // given
+            CountDownLatch gate = new CountDownLatch(1);
+            pipeline = StagedPipeline.of(16, Slot::new, List.of(
+                    new StageSpec<>("fast", 1, WaitStrategy.SLEEPING, slot -> { }),
+                    new StageSpec<Slot>("blocked", 1, WaitStrategy.SLEEPING, slot -> await(gate))), noErrors());
+            pipeline.start("test");
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                int value = i;
+                pipeline.publish(slot -> slot.reset(value));
+            }
+            waitUntil(() -> pipeline.stats().get(0).events() == 5);
+
+            // then
+            StageStats blocked = pipeline.stats().get(1);
+            assertThat(blocked.name()).isEqualTo("blocked");
+            assertThat(blocked.occupancy()).isEqualTo(5);
+            assertThat(pipeline.stats().get(0).occupancy()).isZero();
+
+            gate.countDown();
+            waitUntil(() -> pipeline.stats().get(1).events() == 5);
+            assertThat(pipeline.stats().get(1).occupancy()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("ring-size가 2의 거듭제곱이 아니면 생성할 수 없다")
+    void it_requires_power_of_two_ring() {
+        assertThatThrownBy(() -> StagedPipeline.of(100, Slot::new,
+                List.of(new StageSpec<>("only", 1, WaitStrategy.SLEEPING, slot -> { })), noErrors()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BiConsumer<Slot, RuntimeException> noErrors() {
+        return (slot, e) -> {
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+
+    private static final class Slot {
+
+        private int value;
+        private final List<String> trace = new ArrayList<>(3);
+
+        void reset(int value) {
+            this.value = value;
+            this.trace.clear();
+        }
+    }
+}
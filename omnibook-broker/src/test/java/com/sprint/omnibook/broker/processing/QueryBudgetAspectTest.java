@@ -0,0 +1,170 @@
+package com.sprint.omnibook.broker.processing;
+
+import com.sprint.omnibook.broker.event.EventType;
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.support.QueryCounter;
+import com.sprint.omnibook.broker.support.ServerTiming;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * QueryBudgetAspect 테스트.
+ *
+ * ReservationProcessingService 대신 StatementInspector가 부르는 것과 같은 QueryCounter.statement()를 호출하는
+ * mock을 두고, 숙박일수에 따른 예산 계산과 초과 처리(지표)를 검증한다.
+ */
+@DisplayName("QueryBudgetAspect")
+class QueryBudgetAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("broker.query-budget.booking.base", "3")
+            .withProperty("broker.query-budget.booking.per-night", "2")
+            .withProperty("broker.query-budget.cancellation.base", "2")
+            .withProperty("broker.query-budget.cancellation.per-night", "1");
+
+    private ReservationProcessingService target;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(ReservationProcessingService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.detach();
+    }
+
+    private ReservationProcessingService proxy() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new QueryBudgetAspect(meterRegistry, environment));
+        return factory.getProxy();
+    }
+
+    private void givenStatements(int selects, int inserts) {
+        given(target.process(any())).willAnswer(invocation -> {
+            for (int i = 0; i < selects; i++) {
+                QueryCounter.statement("select * from inventory where room_id=?");
+                QueryCounter.rowsLoaded(1);
+            }
+            for (int i = 0; i < inserts; i++) {
+                QueryCounter.statement("insert into inventory (room_id, date) values (?, ?)");
+            }
+            return ProcessingResult.failure(FailureReason.UNKNOWN_ROOM);
+        });
+    }
+
+    private static ReservationEvent event(EventType type, int nights) {
+        LocalDate checkIn = LocalDate.of(2025, 3, 1);
+        return ReservationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(type)
+                .checkIn(checkIn)
+                .checkOut(checkIn.plusDays(nights))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("process 호출 시")
+    class Describe_process {
+
+        @Test
+        @DisplayName("SQL 문 수와 로드 행 수를 이벤트 유형별 지표로 남긴다")
+        void it_records_query_metrics() {
+            // given
+            givenStatements(2, 1);
+
+            // when
+            proxy().process(event(EventType.BOOKING, 1));
+
+            // then
+            assertThat(meterRegistry.get("broker.processing.queries").tag("event_type", "booking")
+                    .summary().totalAmount()).isEqualTo(3);
+            assertThat(meterRegistry.get("broker.processing.rows.loaded").tag("event_type", "booking")
+                    .summary().totalAmount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("예산은 숙박일수에 비례해 늘어난다 (base + per-night * nights)")
+        void it_scales_budget_with_nights() {
+            // given: 3박 예약의 예산 = 3 + 2 * 3 = 9
+            givenStatements(5, 4);
+
+            // when & then
+            proxy().process(event(EventType.BOOKING, 3));
+            assertThat(meterRegistry.get("broker.processing.query.budget.exceeded").tag("event_type", "booking")
+                    .counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("ServerTiming이 연결되어 있으면 쿼리 수를 더한다")
+        void it_adds_to_server_timing() {
+            // given
+            givenStatements(1, 1);
+            ServerTiming timing = ServerTiming.begin();
+
+            // when
+            proxy().process(event(EventType.CANCELLATION, 1));
+
+            // then
+            assertThat(timing.queries().statements()).isEqualTo(2);
+            assertThat(timing.queries().toHeaderValue())
+                    .isEqualTo("statements=2, select=1, insert=1, update=0, delete=0, rows=1");
+        }
+    }
+
+    @Nested
+    @DisplayName("예산을 넘으면")
+    class Describe_over_budget {
+
+        @Test
+        @DisplayName("초과 지표를 올리고 처리 결과는 그대로 돌려준다")
+        void it_counts_exceeded() {
+            // given: 1박 취소의 예산 = 2 + 1 = 3
+            givenStatements(3, 1);
+
+            // when
+            ProcessingResult result = proxy().process(event(EventType.CANCELLATION, 1));
+
+            // then
+            assertThat(result.getFailureReason()).isEqualTo(FailureReason.UNKNOWN_ROOM);
+            assertThat(meterRegistry.get("broker.processing.query.budget.exceeded").tag("event_type", "cancellation")
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("처리 중 예외가 나도 초과를 기록하고 원래 예외를 그대로 던진다")
+        void it_keeps_original_exception() {
+            // given: 2박 예약의 예산 = 3 + 2 * 2 = 7
+            given(target.process(any())).willAnswer(invocation -> {
+                for (int i = 0; i < 8; i++) {
+                    QueryCounter.statement("select 1");
+                }
+                throw new IllegalStateException("boom");
+            });
+
+            // when & then
+            assertThatThrownBy(() -> proxy().process(event(EventType.BOOKING, 2)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+            assertThat(meterRegistry.get("broker.processing.query.budget.exceeded").tag("event_type", "booking")
+                    .counter().count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.sprint.omnibook.broker.processing;
+
+import com.sprint.omnibook.broker.channelsync.ChannelSyncRecorder;
+import com.sprint.omnibook.broker.config.QueryCountingConfig;
+import com.sprint.omnibook.broker.event.EventType;
+import com.sprint.omnibook.broker.event.PlatformType;
+import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.processing.audit.JpaReservationEventAuditWriter;
+import com.sprint.omnibook.broker.support.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL(schema.sql + test-data.sql)에서 예약 처리 한 건이 쿼리 예산 안에 드는지 검증한다.
+ *
+ * 처리 트랜잭션이 직접 커밋하도록 테스트 트랜잭션을 쓰지 않는다 (커밋 시 flush되는 insert/update까지 세기 위함).
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "broker.query-count.enabled=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({
+        ReservationProcessingService.class,
+        JpaReservationEventAuditWriter.class,
+        ChannelSyncRecorder.class,
+        QueryCountingConfig.class,
+        QueryBudgetAspect.class,
+        QueryBudgetRepositoryTest.MetricsConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("QueryBudget (PostgreSQL)")
+class QueryBudgetRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ReservationProcessingService processingService;
+
+    @Autowired
+    private QueryBudgetAspect queryBudgetAspect;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static ReservationEvent event(EventType type, String platformReservationId,
+                                          LocalDate checkIn, int nights) {
+        return ReservationEvent.builder()
+                .eventId(UUID.randomUUID())
+                .platformType(PlatformType.AIRBNB)
+                .platformReservationId(platformReservationId)
+                .eventType(type)
+                .roomId("AIRBNB-TEST-ID-002")
+                .checkIn(checkIn)
+                .checkOut(checkIn.plusDays(nights))
+                .guestName("홍길동")
+                .totalAmount(BigDecimal.valueOf(100_000))
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private double exceeded(String eventType) {
+        return meterRegistry.get("broker.processing.query.budget.exceeded").tag("event_type", eventType)
+                .counter().count();
+    }
+
+    @Nested
+    @DisplayName("예약 이벤트는")
+    class Describe_booking {
+
+        @Test
+        @DisplayName("커밋 시 flush되는 insert까지 포함해 예산 안에서 처리된다")
+        void it_stays_within_budget() {
+            // given
+            ReservationEvent booking = event(EventType.BOOKING, "QB-BOOK-1", LocalDate.of(2030, 1, 10), 3);
+
+            // when
+            ProcessingResult result;
+            QueryCounter counter = QueryCounter.open();
+            try {
+                result = processingService.process(booking);
+            } finally {
+                counter.close();
+            }
+
+            // then: reservation_event + reservation + 숙박일수만큼의 inventory
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(counter.inserts()).isGreaterThanOrEqualTo(2 + 3);
+            assertThat(counter.statements()).isLessThanOrEqualTo(queryBudgetAspect.budgetFor(booking));
+            assertThat(exceeded("booking")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("취소 이벤트는")
+    class Describe_cancellation {
+
+        @Test
+        @DisplayName("기존 예약과 재고를 해제하면서 예산 안에서 처리된다")
+        void it_stays_within_budget() {
+            // given
+            LocalDate checkIn = LocalDate.of(2030, 2, 10);
+            processingService.process(event(EventType.BOOKING, "QB-CANCEL-1", checkIn, 2));
+            ReservationEvent cancellation = event(EventType.CANCELLATION, "QB-CANCEL-1", checkIn, 2);
+
+            // when
+            ProcessingResult result;
+            QueryCounter counter = QueryCounter.open();
+            try {
+                result = processingService.process(cancellation);
+            } finally {
+                counter.close();
+            }
+
+            // then: reservation + 숙박일수만큼의 inventory가 update된다
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(counter.updates()).isGreaterThanOrEqualTo(1 + 2);
+            assertThat(counter.statements()).isLessThanOrEqualTo(queryBudgetAspect.budgetFor(cancellation));
+            assertThat(exceeded("cancellation")).isZero();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.sprint.omnibook.broker.processing;
 
+import com.sprint.omnibook.broker.channelsync.ChannelSyncRecorder;
 import com.sprint.omnibook.broker.domain.*;
 import com.sprint.omnibook.broker.domain.repository.*;
 import com.sprint.omnibook.broker.event.EventType;
 import com.sprint.omnibook.broker.event.PlatformType;
 import com.sprint.omnibook.broker.event.ReservationEvent;
+import com.sprint.omnibook.broker.processing.audit.JpaReservationEventAuditWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -52,15 +54,19 @@ class ReservationProcessingServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ChannelSyncRecorder channelSyncRecorder;
+
     private ReservationProcessingService service;
 
     @BeforeEach
     void setUp() {
         service = new ReservationProcessingService(
-                reservationEventRepository,
+                new JpaReservationEventAuditWriter(reservationEventRepository),
                 platformListingRepository,
                 inventoryRepository,
-                reservationRepository
+                reservationRepository,
+                channelSyncRecorder
         );
     }
 
@@ -224,6 +230,10 @@ class ReservationProcessingServiceTest {
 
                     // Inventory 저장 검증 (checkIn ~ checkOut-1 = 3/1, 3/2 -> 2일)
                     then(inventoryRepository).should(times(2)).save(any(Inventory.class));
+
+                    // 다른 플랫폼 판매 중지 기록 검증
+                    then(channelSyncRecorder).should().record(room, PlatformType.YANOLJA,
+                            LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3), AvailabilityAction.CLOSE);
                 }
 
                 @Test
@@ -394,6 +404,8 @@ class ReservationProcessingServiceTest {
                     assertThat(existingReservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
                     assertThat(inventory1.getStatus()).isEqualTo(InventoryStatus.AVAILABLE);
                     assertThat(inventory2.getStatus()).isEqualTo(InventoryStatus.AVAILABLE);
+                    then(channelSyncRecorder).should().record(room, PlatformType.YANOLJA,
+                            LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3), AvailabilityAction.OPEN);
                 }
             }
 
@@ -0,0 +1,45 @@
+package com.sprint.omnibook.broker.processing.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AuditRow")
+class AuditRowTest {
+
+    @Nested
+    @DisplayName("appendCsvLine 메서드는")
+    class Describe_appendCsvLine {
+
+        @Test
+        @DisplayName("문자열은 따옴표로 감싸고 NULL은 빈 값으로 쓴다")
+        void it_quotes_text_and_leaves_nulls_empty() {
+            // given
+            UUID eventId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+            Instant receivedAt = Instant.parse("2026-10-19T00:00:00Z");
+            AuditRow row = new AuditRow(
+                    eventId, "YANOLJA", "YNJ-1", "BOOKING", 1L, null,
+                    "say \"hi\"", null,
+                    LocalDate.of(2026, 10, 20), LocalDate.of(2026, 10, 21),
+                    "", null, null, new BigDecimal("1E+5"), null,
+                    null, receivedAt, true, receivedAt, null, receivedAt);
+
+            // when
+            StringBuilder sb = new StringBuilder();
+            row.appendCsvLine(sb);
+
+            // then
+            assertThat(sb.toString()).isEqualTo(
+                    "00000000-0000-0000-0000-000000000001,\"YANOLJA\",\"YNJ-1\",\"BOOKING\",1,,"
+                            + "\"say \"\"hi\"\"\",,2026-10-20,2026-10-21,\"\",,,100000,,"
+                            + ",2026-10-19T00:00:00Z,true,2026-10-19T00:00:00Z,,2026-10-19T00:00:00Z\n");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.sprint.omnibook.broker.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter")
+class AdaptiveConcurrencyLimiterTest {
+
+    @Nested
+    @DisplayName("tryAcquire 메서드는")
+    class Describe_tryAcquire {
+
+        @Test
+        @DisplayName("일반 요청은 예약분을 뺀 한도까지만 받고, 우선 요청은 전체 한도까지 받는다")
+        void it_reserves_headroom_for_priority() {
+            // given
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, 0.2, 100);
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 8; i++) {
+                permits.add(limiter.tryAcquire(false).orElseThrow());
+            }
+
+            // then
+            assertThat(limiter.tryAcquire(false)).isEmpty();
+            assertThat(limiter.tryAcquire(true)).isPresent();
+            assertThat(limiter.tryAcquire(true)).isPresent();
+            assertThat(limiter.tryAcquire(true)).isEmpty();
+            assertThat(limiter.inFlight()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("반납하면 다시 받을 수 있다")
+        void it_admits_after_release() {
+            // given
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0, 100);
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(false).orElseThrow();
+            assertThat(limiter.tryAcquire(false)).isEmpty();
+
+            // when
+            permit.release(false);
+
+            // then
+            assertThat(limiter.tryAcquire(false)).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("한도 조정은")
+    class Describe_limit_adjustment {
+
+        @Test
+        @DisplayName("실패가 섞인 창이 끝나면 한도를 줄인다")
+        void it_backs_off_on_drops() {
+            // given
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 0, 5);
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                limiter.tryAcquire(false).orElseThrow().release(i == 0);
+            }
+
+            // then
+            assertThat(limiter.limit()).isEqualTo(90);
+        }
+
+        @Test
+        @DisplayName("한도를 절반도 쓰지 않는 동안에는 한도를 바꾸지 않는다")
+        void it_ignores_app_limited_windows() {
+            // given
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 200, 0, 5);
+
+            // when
+            for (int i = 0; i < 50; i++) {
+                limiter.tryAcquire(false).orElseThrow().release(false);
+            }
+
+            // then
+            assertThat(limiter.limit()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("한도 가까이 쓰면서 지연이 그대로면 한도를 늘린다")
+        void it_grows_when_saturated_without_latency_increase() {
+            // given
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 200, 0, 10);
+
+            // when
+            for (int round = 0; round < 5; round++) {
+                List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+                Optional<AdaptiveConcurrencyLimiter.Permit> permit;
+                while (permits.size() < 10 && (permit = limiter.tryAcquire(false)).isPresent()) {
+                    permits.add(permit.get());
+                }
+                permits.forEach(p -> p.release(false));
+            }
+
+            // then
+            assertThat(limiter.limit()).isGreaterThan(10);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.sprint.omnibook.broker.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryCounter")
+class QueryCounterTest {
+
+    @Nested
+    @DisplayName("statement 메서드는")
+    class Describe_statement {
+
+        @Test
+        @DisplayName("공백과 SQL 주석을 건너뛴 첫 키워드로 종류를 나눈다")
+        void it_classifies_by_keyword() {
+            // when
+            try (QueryCounter counter = QueryCounter.open()) {
+                QueryCounter.statement("select r1_0.id from room r1_0 where r1_0.id=?");
+                QueryCounter.statement("/* load Room */ SELECT 1");
+                QueryCounter.statement("  with recent as (select 1) select * from recent");
+                QueryCounter.statement("insert into reservation (id) values (?)");
+                QueryCounter.statement("update inventory set status=? where id=?");
+                QueryCounter.statement("delete from channel_sync_outbox where id=?");
+                QueryCounter.statement("call refresh_partitions()");
+
+                // then
+                assertThat(counter.selects()).isEqualTo(3);
+                assertThat(counter.inserts()).isEqualTo(1);
+                assertThat(counter.updates()).isEqualTo(1);
+                assertThat(counter.deletes()).isEqualTo(1);
+                assertThat(counter.statements()).isEqualTo(7);
+            }
+        }
+
+        @Test
+        @DisplayName("열린 카운터가 없으면 아무것도 세지 않는다")
+        void it_ignores_without_counter() {
+            // when
+            QueryCounter.statement("select 1");
+
+            // then
+            try (QueryCounter counter = QueryCounter.open()) {
+                assertThat(counter.statements()).isZero();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("close 메서드는")
+    class Describe_close {
+
+        @Test
+        @DisplayName("중첩된 카운터의 값을 바깥 카운터에 더하고 바깥 카운터로 되돌린다")
+        void it_adds_to_outer() {
+            try (QueryCounter outer = QueryCounter.open()) {
+                // given
+                QueryCounter.statement("select 1");
+                try (QueryCounter inner = QueryCounter.open()) {
+                    QueryCounter.statement("insert into room (id) values (?)");
+                    QueryCounter.rowsLoaded(2);
+                }
+
+                // when
+                QueryCounter.statement("update room set name=? where id=?");
+
+                // then
+                assertThat(outer.toHeaderValue())
+                        .isEqualTo("statements=3, select=1, insert=1, update=1, delete=0, rows=2");
+            }
+        }
+    }
+}
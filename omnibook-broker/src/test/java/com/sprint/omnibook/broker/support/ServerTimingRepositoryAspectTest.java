@@ -0,0 +1,121 @@
+package com.sprint.omnibook.broker.support;
+
+import com.sprint.omnibook.broker.domain.Reservation;
+import com.sprint.omnibook.broker.domain.repository.ReservationRepository;
+import com.sprint.omnibook.broker.event.PlatformType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ServerTimingRepositoryAspect")
+class ServerTimingRepositoryAspectTest {
+
+    private ReservationRepository target;
+    private ReservationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(ReservationRepository.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new ServerTimingRepositoryAspect());
+        repository = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.detach();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("측정 중인 요청에서 리포지토리를 호출하면")
+    class Context_with_timing {
+
+        @Test
+        @DisplayName("조회 메서드는 db-lookup, 저장 메서드는 db-write로 더한다")
+        void it_splits_lookup_and_write() {
+            // given
+            ServerTiming timing = ServerTiming.begin();
+            given(target.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1"))
+                    .willAnswer(invocation -> {
+                        Thread.sleep(1);
+                        return Optional.empty();
+                    });
+
+            // when
+            repository.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1");
+
+            // then
+            assertThat(timing.toHeaderValue()).contains("db-lookup;dur=").doesNotContain("db-write");
+
+            // given
+            willAnswer(invocation -> {
+                Thread.sleep(1);
+                return invocation.getArgument(0);
+            }).given(target).save(any(Reservation.class));
+
+            // when
+            repository.save(mock(Reservation.class));
+
+            // then
+            assertThat(timing.toHeaderValue()).contains("db-write;dur=");
+        }
+
+        @Test
+        @DisplayName("트랜잭션마다 커밋 측정을 한 번만 등록하고 커밋 시간을 commit으로 더한다")
+        void it_times_commit_once_per_transaction() throws InterruptedException {
+            // given
+            ServerTiming timing = ServerTiming.begin();
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            repository.findByPlatformTypeAndPlatformReservationId(PlatformType.AIRBNB, "R-1");
+            repository.save(mock(Reservation.class));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // then
+            assertThat(synchronizations).hasSize(1);
+
+            // when
+            TransactionSynchronization commit = synchronizations.get(0);
+            commit.beforeCommit(false);
+            Thread.sleep(1);
+            commit.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+            // then
+            assertThat(timing.toHeaderValue()).contains("commit;dur=");
+            assertThat(TransactionSynchronizationManager.hasResource(timing)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("stageOf 메서드는")
+    class Describe_stageOf {
+
+        @Test
+        @DisplayName("메서드 이름 접두어로 조회/쓰기를 나눈다")
+        void it_classifies_by_prefix() {
+            assertThat(ServerTimingRepositoryAspect.stageOf("findByRoomAndDate")).isEqualTo(ServerTiming.Stage.DB_LOOKUP);
+            assertThat(ServerTimingRepositoryAspect.stageOf("existsById")).isEqualTo(ServerTiming.Stage.DB_LOOKUP);
+            assertThat(ServerTimingRepositoryAspect.stageOf("count")).isEqualTo(ServerTiming.Stage.DB_LOOKUP);
+            assertThat(ServerTimingRepositoryAspect.stageOf("save")).isEqualTo(ServerTiming.Stage.DB_WRITE);
+            assertThat(ServerTimingRepositoryAspect.stageOf("markDispatched")).isEqualTo(ServerTiming.Stage.DB_WRITE);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.sprint.omnibook.broker.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimeOrderedIds")
+class TimeOrderedIdsTest {
+
+    @Nested
+    @DisplayName("newUuid 메서드는")
+    class Describe_newUuid {
+
+        @Test
+        @DisplayName("version 7, RFC variant UUID를 만들고 현재 시각을 담는다")
+        void it_creates_uuid_v7() {
+            // given
+            long before = System.currentTimeMillis();
+
+            // when
+            UUID uuid = TimeOrderedIds.newUuid();
+
+            // then
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(TimeOrderedIds.timestampMillis(uuid)).isGreaterThanOrEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("같은 ms 안에서도 생성 순서대로 증가한다")
+        void it_is_monotonic() {
+            // when
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(TimeOrderedIds.newUuid());
+            }
+
+            // then
+            for (int i = 1; i < ids.size(); i++) {
+                assertThat(Long.compareUnsigned(
+                        ids.get(i).getMostSignificantBits(), ids.get(i - 1).getMostSignificantBits()))
+                        .isPositive();
+            }
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 만들어도 중복되지 않는다")
+        void it_is_unique_across_threads() {
+            // when
+            Set<UUID> ids = ConcurrentHashMap.newKeySet();
+            IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(TimeOrderedIds.newUuid()));
+
+            // then
+            assertThat(ids).hasSize(100_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("newCompactId 메서드는")
+    class Describe_newCompactId {
+
+        @Test
+        @DisplayName("26자 Crockford Base32 문자열이며 문자열 순서가 생성 순서와 같다")
+        void it_creates_sortable_ulid() {
+            // when
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                ids.add(TimeOrderedIds.newCompactId());
+            }
+
+            // then
+            assertThat(ids).allMatch(id -> id.matches("[0-7][0-9A-HJKMNP-TV-Z]{25}"));
+            assertThat(ids).isSorted();
+            assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.sprint.omnibook.omnibookcore;
+
+import com.sprint.omnibook.broker.partition.PartitionMaintenanceJob;
+import com.sprint.omnibook.broker.processing.ReservationProcessingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ingest 프로필(수신 게이트웨이)은 PostgreSQL 없이 기동되어야 한다.
+ * MongoDB는 요청 시점에만 연결하므로 서버가 없어도 컨텍스트는 올라온다.
+ */
+@SpringBootTest(properties = "spring.data.mongodb.uri=mongodb://localhost:27017/omnibook?serverSelectionTimeoutMS=200")
+@ActiveProfiles("ingest")
+class IngestProfileContextTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	void contextLoadsWithoutPostgres() {
+		assertThat(context.getBeanNamesForType(DataSource.class)).isEmpty();
+		assertThat(context.getBeanNamesForType(ReservationProcessingService.class)).isEmpty();
+		assertThat(context.getBeanNamesForType(PartitionMaintenanceJob.class)).isEmpty();
+	}
+
+}
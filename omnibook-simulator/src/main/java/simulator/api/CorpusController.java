@@ -0,0 +1,102 @@
+package simulator.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import simulator.corpus.CorpusGenerator;
+import simulator.corpus.CorpusInfo;
+import simulator.corpus.CorpusReplayer;
+import simulator.corpus.ReplayRun;
+import simulator.corpus.ReplayStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Pre-generated payload corpus: generate once, replay at max or paced rate.
+ *
+ * POST   /api/corpus                    generate a corpus file (synchronous)
+ * POST   /api/corpus/replay             start replaying a file (202), 409 if one is running
+ * GET    /api/corpus/replay             status of the current/last replay
+ * DELETE /api/corpus/replay             stop the current replay
+ * GET    /api/corpus/replay/histogram   HdrHistogram interval log of the current/last replay
+ */
+@RestController
+@RequestMapping("/api/corpus")
+@RequiredArgsConstructor
+public class CorpusController {
+
+    private final CorpusGenerator corpusGenerator;
+    private final CorpusReplayer corpusReplayer;
+
+    @PostMapping
+    public ResponseEntity<?> generate(@RequestBody CorpusRequest request) {
+        if (request.getFile() == null || request.getFile().isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "file is required"));
+        }
+        try {
+            CorpusInfo info = corpusGenerator.generate(Path.of(request.getFile()), request.toSpec());
+            return ResponseEntity.ok(info);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<?> replay(@RequestBody ReplayRequest request) {
+        if (request.getFile() == null || request.getFile().isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "file is required"));
+        }
+        try {
+            ReplayRun run = corpusReplayer.start(Path.of(request.getFile()), request.getRps(), request.getLimit());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(run.snapshot());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/replay")
+    public ResponseEntity<ReplayStatus> status() {
+        ReplayRun run = corpusReplayer.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @DeleteMapping("/replay")
+    public ResponseEntity<ReplayStatus> stop() {
+        ReplayRun run = corpusReplayer.stop();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @GetMapping(value = "/replay/histogram", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<byte[]> histogram() {
+        ReplayRun run = corpusReplayer.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        run.latencies().writeLog(out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"replay-" + run.runId() + ".hlog\"")
+                .body(out.toByteArray());
+    }
+}
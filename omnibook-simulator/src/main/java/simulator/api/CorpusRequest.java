@@ -0,0 +1,45 @@
+package simulator.api;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import simulator.corpus.CorpusSpec;
+import simulator.load.WorkloadModel;
+import simulator.platform.PlatformType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Request body for generating a corpus file.
+ *
+ * {
+ *   "file": "corpus/1m.corpus",
+ *   "events": 1000000,
+ *   "platformMix": {"A": 5, "B": 3, "C": 2},
+ *   "cancelRatio": 0.1,
+ *   "roomCount": 10000,
+ *   "roomSkew": 1.0,                 // Zipf exponent, 0 = uniform
+ *   "stayNights": "uniform:1-4",     // IntDistribution spec
+ *   "leadDays": "uniform:1-365"
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CorpusRequest {
+
+    private String file;
+    private long events = 1_000_000;
+    private Map<PlatformType, Integer> platformMix = new EnumMap<>(PlatformType.class);
+    private double cancelRatio = 0.1;
+    private int roomCount = WorkloadModel.DEFAULT_ROOM_COUNT;
+    private double roomSkew = 0;
+    private String stayNights = WorkloadModel.DEFAULT_STAY_NIGHTS;
+    private String leadDays = WorkloadModel.DEFAULT_LEAD_DAYS;
+
+    public CorpusSpec toSpec() {
+        return new CorpusSpec(events, platformMix, cancelRatio,
+                WorkloadModel.of(roomCount, roomSkew, stayNights, leadDays));
+    }
+}
@@ -0,0 +1,87 @@
+package simulator.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import simulator.load.LoadGenerator;
+import simulator.load.LoadRun;
+import simulator.load.LoadRunStatus;
+import simulator.sender.EventSender;
+import simulator.sender.SenderStats;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+/**
+ * Open-loop load runs against the broker.
+ *
+ * POST   /api/load  start a run (202), 409 if one is already running
+ * GET    /api/load  status of the current/last run
+ * DELETE /api/load  stop the current run
+ * GET    /api/load/histogram  HdrHistogram interval log of the current/last run
+ * GET    /api/load/sender  cumulative EventSender counters
+ */
+@RestController
+@RequestMapping("/api/load")
+@RequiredArgsConstructor
+public class LoadController {
+
+    private final LoadGenerator loadGenerator;
+    private final EventSender eventSender;
+
+    @PostMapping
+    public ResponseEntity<?> start(@RequestBody LoadRequest request) {
+        try {
+            LoadRun run = loadGenerator.start(request.toProfile());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(run.snapshot());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<LoadRunStatus> status() {
+        LoadRun run = loadGenerator.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<LoadRunStatus> stop() {
+        LoadRun run = loadGenerator.stop();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @GetMapping("/sender")
+    public ResponseEntity<SenderStats.Snapshot> senderStats() {
+        return ResponseEntity.ok(eventSender.stats().snapshot());
+    }
+
+    @GetMapping(value = "/histogram", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<byte[]> histogram() {
+        LoadRun run = loadGenerator.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        run.latencies().writeLog(out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"load-" + run.runId() + ".hlog\"")
+                .body(out.toByteArray());
+    }
+}
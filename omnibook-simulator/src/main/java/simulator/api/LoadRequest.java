@@ -0,0 +1,58 @@
+package simulator.api;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import simulator.load.LoadProfile;
+import simulator.load.WorkloadModel;
+import simulator.platform.PlatformType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Request body for starting a load run.
+ *
+ * {
+ *   "durationSeconds": 60,
+ *   "rps": 200,                 // target rate
+ *   "startRps": 20,             // optional, ramp start (defaults to rps)
+ *   "rampSeconds": 30,          // optional
+ *   "platformMix": {"A": 5, "B": 3, "C": 2},
+ *   "cancelRatio": 0.2,
+ *   "roomCount": 10000,
+ *   "roomSkew": 1.0,            // Zipf exponent over R-1..R-n, 0 = uniform
+ *   "stayNights": "weighted:1=45,2=30,3=15,7=10",
+ *   "leadDays": "geometric:0-365:21",
+ *   "maxInFlight": 10000
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class LoadRequest {
+
+    private int durationSeconds = 30;
+    private double rps = 50;
+    private Double startRps;
+    private int rampSeconds = 0;
+    private Map<PlatformType, Integer> platformMix = new EnumMap<>(PlatformType.class);
+    private double cancelRatio = 0.1;
+    private int roomCount = WorkloadModel.DEFAULT_ROOM_COUNT;
+    private double roomSkew = 0;
+    private String stayNights = WorkloadModel.DEFAULT_STAY_NIGHTS;
+    private String leadDays = WorkloadModel.DEFAULT_LEAD_DAYS;
+    private int maxInFlight = 10_000;
+
+    public LoadProfile toProfile() {
+        return new LoadProfile(
+                durationSeconds,
+                startRps != null ? startRps : rps,
+                rps,
+                rampSeconds,
+                platformMix,
+                cancelRatio,
+                WorkloadModel.of(roomCount, roomSkew, stayNights, leadDays),
+                maxInFlight);
+    }
+}
@@ -0,0 +1,24 @@
+package simulator.api;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Request body for replaying a corpus file.
+ *
+ * {
+ *   "file": "corpus/1m.corpus",
+ *   "rps": 0,        // 0 = max rate (bounded by simulator.sender.max-in-flight)
+ *   "limit": 0       // 0 = whole file
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReplayRequest {
+
+    private String file;
+    private double rps = 0;
+    private long limit = 0;
+}
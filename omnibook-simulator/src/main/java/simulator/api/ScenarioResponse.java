@@ -2,13 +2,17 @@ package simulator.api;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import simulator.report.EventAggregator;
+import simulator.report.EventCounts;
 import simulator.report.ExecutionReport;
 import simulator.scenario.ScenarioResult;
 
+import java.nio.file.Path;
 import java.util.List;
 
 /**
  * JSON response returned after running a scenario via API.
+ * Carries aggregates only; per-event detail is in the spill files, if enabled.
  */
 @Getter
 @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
@@ -16,40 +20,43 @@ public class ScenarioResponse {
 
     private final String scenario;
     private final String correlationId;
+    private final long seed;
     private final boolean success;
     private final String error;
     private final long durationMs;
     private final Summary summary;
-    private final List<EventEntry> events;
+    private final List<Breakdown> breakdown;
+    private final List<String> detailFiles;
 
     public static ScenarioResponse from(ScenarioResult result) {
         ExecutionReport report = result.getReport();
+        EventAggregator events = report.getEvents();
 
-        List<EventEntry> events = report.getEntries().stream()
-                .map(e -> new EventEntry(
-                        e.getPlatform().name(),
-                        e.getPlatform().displayName(),
-                        e.getEventType(),
-                        e.getReservationId(),
-                        e.getChaosEffect(),
-                        e.isDelivered()))
+        List<Breakdown> breakdown = events.byKey().entrySet().stream()
+                .map(e -> new Breakdown(
+                        e.getKey().platform().name(),
+                        e.getKey().platform().displayName(),
+                        e.getKey().eventType(),
+                        e.getKey().chaosCategory(),
+                        e.getValue().total(),
+                        e.getValue().sent(),
+                        e.getValue().delivered(),
+                        e.getValue().failed()))
                 .toList();
 
-        long total = events.size();
-        long delivered = events.stream().filter(EventEntry::isDelivered).count();
-        long failed = total - delivered;
-        long chaotic = events.stream()
-                .filter(e -> !"CLEAN".equals(e.getChaosEffect()))
-                .count();
+        EventCounts total = events.total();
 
         return new ScenarioResponse(
                 result.getScenarioName(),
                 report.getCorrelationId(),
+                report.getSeed(),
                 result.isSuccess(),
                 result.getErrorMessage(),
                 report.getDurationMs(),
-                new Summary(total, delivered, failed, chaotic),
-                events);
+                new Summary(total.total(), total.delivered(), total.failed(), events.chaotic(),
+                        report.getOvertaken()),
+                breakdown,
+                report.getSpillFiles().stream().map(Path::toString).toList());
     }
 
     @Getter
@@ -59,16 +66,19 @@ public class ScenarioResponse {
         private final long delivered;
         private final long failed;
         private final long chaotic;
+        private final long overtaken;
     }
 
     @Getter
     @AllArgsConstructor
-    public static class EventEntry {
+    public static class Breakdown {
         private final String platformCode;
         private final String platformName;
         private final String eventType;
-        private final String reservationId;
         private final String chaosEffect;
-        private final boolean delivered;
+        private final long total;
+        private final long sent;
+        private final long delivered;
+        private final long failed;
     }
 }
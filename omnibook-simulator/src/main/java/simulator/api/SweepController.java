@@ -0,0 +1,74 @@
+package simulator.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import simulator.sweep.SaturationSweep;
+import simulator.sweep.SweepRun;
+import simulator.sweep.SweepStatus;
+
+import java.util.Map;
+
+/**
+ * Saturation sweep: step offered load until p99 or the error rate breaks the SLO.
+ *
+ * POST   /api/sweep      start a sweep (202), 409 if one is already running
+ * GET    /api/sweep      steps so far and the knee
+ * DELETE /api/sweep      stop the current sweep
+ * GET    /api/sweep/csv  knee-of-curve table as CSV
+ */
+@RestController
+@RequestMapping("/api/sweep")
+@RequiredArgsConstructor
+public class SweepController {
+
+    private final SaturationSweep saturationSweep;
+
+    @PostMapping
+    public ResponseEntity<?> start(@RequestBody SweepRequest request) {
+        try {
+            SweepRun run = saturationSweep.start(request.toSpec());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(run.snapshot());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<SweepStatus> status() {
+        SweepRun run = saturationSweep.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<SweepStatus> stop() {
+        SweepRun run = saturationSweep.stop();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @GetMapping(value = "/csv", produces = "text/csv")
+    public ResponseEntity<String> csv() {
+        SweepRun run = saturationSweep.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"sweep-" + run.runId() + ".csv\"")
+                .body(run.snapshot().toCsv());
+    }
+}
@@ -0,0 +1,73 @@
+package simulator.api;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import simulator.load.WorkloadModel;
+import simulator.platform.PlatformType;
+import simulator.sweep.SweepSpec;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Request body for a saturation sweep.
+ *
+ * {
+ *   "startRps": 50,
+ *   "stepRps": 50,
+ *   "maxRps": 5000,
+ *   "windowSeconds": 5,
+ *   "minWindows": 3,            // a step is measured over its last two windows
+ *   "maxWindows": 12,
+ *   "stabilityTolerance": 0.15,
+ *   "sloP99Ms": 200,
+ *   "maxErrorRate": 0.01,       // 5xx / 429 / no response / dropped
+ *   "platformMix": {"A": 5, "B": 3, "C": 2},
+ *   "cancelRatio": 0.1,
+ *   "roomCount": 10000,
+ *   "roomSkew": 1.0,
+ *   "stayNights": "uniform:1-4",
+ *   "leadDays": "uniform:1-365",
+ *   "maxInFlight": 10000
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SweepRequest {
+
+    private double startRps = 50;
+    private double stepRps = 50;
+    private double maxRps = 5_000;
+    private int windowSeconds = 5;
+    private int minWindows = 3;
+    private int maxWindows = 12;
+    private double stabilityTolerance = 0.15;
+    private double sloP99Ms = 200;
+    private double maxErrorRate = 0.01;
+    private Map<PlatformType, Integer> platformMix = new EnumMap<>(PlatformType.class);
+    private double cancelRatio = 0.1;
+    private int roomCount = WorkloadModel.DEFAULT_ROOM_COUNT;
+    private double roomSkew = 0;
+    private String stayNights = WorkloadModel.DEFAULT_STAY_NIGHTS;
+    private String leadDays = WorkloadModel.DEFAULT_LEAD_DAYS;
+    private int maxInFlight = 10_000;
+
+    public SweepSpec toSpec() {
+        return new SweepSpec(
+                startRps,
+                stepRps,
+                maxRps,
+                windowSeconds,
+                minWindows,
+                maxWindows,
+                stabilityTolerance,
+                sloP99Ms,
+                maxErrorRate,
+                platformMix,
+                cancelRatio,
+                WorkloadModel.of(roomCount, roomSkew, stayNights, leadDays),
+                maxInFlight);
+    }
+}
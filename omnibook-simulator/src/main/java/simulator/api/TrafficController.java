@@ -0,0 +1,88 @@
+package simulator.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import simulator.traffic.TrafficReplayRun;
+import simulator.traffic.TrafficReplayStatus;
+import simulator.traffic.TrafficReplayer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Recorded production traffic (raw_events export) replayed at scaled speed.
+ *
+ * POST   /api/traffic/replay             start replaying a dump (202), 409 if one is running
+ * GET    /api/traffic/replay             status and original-vs-replay comparison
+ * DELETE /api/traffic/replay             stop the current replay
+ * GET    /api/traffic/replay/histogram   HdrHistogram interval log of the current/last replay
+ */
+@RestController
+@RequestMapping("/api/traffic")
+@RequiredArgsConstructor
+public class TrafficController {
+
+    private final TrafficReplayer trafficReplayer;
+
+    @PostMapping("/replay")
+    public ResponseEntity<?> replay(@RequestBody TrafficReplayRequest request) {
+        if (request.getFile() == null || request.getFile().isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "file is required"));
+        }
+        Path outcomes = request.getOutcomes() == null || request.getOutcomes().isBlank()
+                ? null : Path.of(request.getOutcomes());
+        try {
+            TrafficReplayRun run = trafficReplayer.start(
+                    Path.of(request.getFile()), outcomes, request.getSpeed(), request.getLimit());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(run.snapshot());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/replay")
+    public ResponseEntity<TrafficReplayStatus> status() {
+        TrafficReplayRun run = trafficReplayer.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @DeleteMapping("/replay")
+    public ResponseEntity<TrafficReplayStatus> stop() {
+        TrafficReplayRun run = trafficReplayer.stop();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(run.snapshot());
+    }
+
+    @GetMapping(value = "/replay/histogram", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<byte[]> histogram() {
+        TrafficReplayRun run = trafficReplayer.current();
+        if (run == null) {
+            return ResponseEntity.noContent().build();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        run.latencies().writeLog(out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"traffic-" + run.runId() + ".hlog\"")
+                .body(out.toByteArray());
+    }
+}
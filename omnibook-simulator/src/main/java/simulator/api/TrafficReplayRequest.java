@@ -0,0 +1,26 @@
+package simulator.api;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Request body for replaying a raw_events export.
+ *
+ * {
+ *   "file": "dumps/raw_events.json",              // mongoexport NDJSON or mongodump .bson (.gz ok)
+ *   "outcomes": "dumps/raw_event_outcomes.json",  // optional, enables original vs replay comparison
+ *   "speed": 10,     // 1 = recorded pace, 10 = ten times faster, 0 = max rate
+ *   "limit": 0       // 0 = whole dump
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TrafficReplayRequest {
+
+    private String file;
+    private String outcomes;
+    private double speed = 1;
+    private long limit = 0;
+}
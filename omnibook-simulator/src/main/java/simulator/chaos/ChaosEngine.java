@@ -2,24 +2,25 @@ package simulator.chaos;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import simulator.random.RandomStreams;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Chaos engine for delivery-level disruption.
  * Never modifies payload content -- only affects how/when/how-many-times events are delivered.
+ * Decisions are drawn from seeded RandomStreams, so a run is reproducible from its seed.
  */
 @Component
 @RequiredArgsConstructor
 public class ChaosEngine {
 
     private final ChaosConfig config;
+    private final RandomStreams random;
 
     public ChaosDecision decide() {
-        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        RandomGenerator rng = random.next("chaos.decide");
 
         boolean dup = rng.nextDouble() < config.getDuplicateProbability();
         int dupCount = dup ? (1 + rng.nextInt(config.getMaxDuplicates())) : 0;
@@ -33,10 +34,9 @@ public class ChaosEngine {
     }
 
     public <T> List<T> maybeReorder(List<T> events) {
-        if (ThreadLocalRandom.current().nextDouble() < config.getReorderProbability()) {
-            List<T> shuffled = new ArrayList<>(events);
-            Collections.shuffle(shuffled);
-            return shuffled;
+        RandomGenerator rng = random.next("chaos.reorder");
+        if (rng.nextDouble() < config.getReorderProbability()) {
+            return RandomStreams.shuffled(events, rng);
         }
         return events;
     }
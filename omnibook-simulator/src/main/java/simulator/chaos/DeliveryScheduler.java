@@ -0,0 +1,45 @@
+package simulator.chaos;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 지연 전송(chaos delay, 배치 지연)을 예약하는 시계.
+ *
+ * - real: 실제 시간으로 대기 (RealTimeDeliveryScheduler)
+ * - virtual: 대기 없이 가상 시간만 전진 (VirtualDeliveryScheduler)
+ *
+ * 어느 쪽이든 호출 스레드는 막히지 않는다. 결과를 기다릴 때는 future.join() 대신
+ * await()를 써야 virtual 모드에서 시간이 전진한다.
+ */
+public interface DeliveryScheduler {
+
+    /**
+     * delayMs가 지나면 완료되는 future.
+     */
+    CompletableFuture<Void> after(long delayMs);
+
+    /**
+     * delayMs 후에 task를 실행하고 그 결과를 노출한다.
+     */
+    default <T> CompletableFuture<T> schedule(long delayMs, Supplier<CompletableFuture<T>> task) {
+        return after(delayMs).thenCompose(ignored -> task.get());
+    }
+
+    /**
+     * 진행 중인 작업(브로커 전송 등)으로 등록한다.
+     * virtual 모드는 등록된 작업이 모두 끝나야 다음 시각으로 넘어가므로,
+     * 실제 실행과 같은 인과 순서로 전송된다.
+     */
+    <T> CompletableFuture<T> track(CompletableFuture<T> work);
+
+    /**
+     * future가 완료될 때까지 기다린다. virtual 모드에서는 호출 스레드가 시계를 구동한다.
+     */
+    <T> T await(CompletableFuture<T> future);
+
+    /** 현재 시각 (epoch ms). virtual 모드에서는 예약된 지연만큼 전진한 가상 시각. */
+    long nowMs();
+
+    boolean isVirtual();
+}
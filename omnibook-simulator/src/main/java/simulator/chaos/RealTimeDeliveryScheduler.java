@@ -0,0 +1,79 @@
+package simulator.chaos;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wall-clock delivery scheduler (simulator.clock=real), for end-to-end latency checks.
+ *
+ * 단일 timer 스레드는 기한이 된 작업을 dispatch 풀로 넘기기만 한다.
+ * 이어지는 전송이 blocking sender여도 timer가 멈추지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "simulator.clock", havingValue = "real", matchIfMissing = true)
+public class RealTimeDeliveryScheduler implements DeliveryScheduler {
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final ExecutorService dispatch;
+
+    public RealTimeDeliveryScheduler() {
+        this.timer = new ScheduledThreadPoolExecutor(1, daemonThreads("delivery-timer-"));
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.dispatch = Executors.newCachedThreadPool(daemonThreads("delivery-dispatch-"));
+    }
+
+    @Override
+    public CompletableFuture<Void> after(long delayMs) {
+        CompletableFuture<Void> due = new CompletableFuture<>();
+        if (delayMs <= 0) {
+            due.complete(null);
+            return due;
+        }
+        timer.schedule(() -> dispatch.execute(() -> due.complete(null)), delayMs, TimeUnit.MILLISECONDS);
+        return due;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> track(CompletableFuture<T> work) {
+        return work;
+    }
+
+    @Override
+    public <T> T await(CompletableFuture<T> future) {
+        return future.join();
+    }
+
+    @Override
+    public long nowMs() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        dispatch.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package simulator.chaos;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Discrete-event delivery scheduler (simulator.clock=virtual).
+ *
+ * Delays never wait: they are queued by due time, and whoever awaits a result drives the clock.
+ * Virtual time jumps to the next due delivery only once every tracked send has completed,
+ * so deliveries reach the broker in the causal order a real run would produce (as long as
+ * broker latency is below the delays involved). A timing scenario then costs only its HTTP calls.
+ *
+ * 동시에 여러 시나리오를 실행하면 한 시계를 공유하므로 서로의 지연을 전진시킬 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "simulator.clock", havingValue = "virtual")
+public class VirtualDeliveryScheduler implements DeliveryScheduler {
+
+    private static final long IDLE_POLL_MS = 50;
+
+    private final Object lock = new Object();
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>(
+            Comparator.comparingLong(Timer::dueMs).thenComparingLong(Timer::sequence));
+    private long nowMs = System.currentTimeMillis();
+    private long sequence;
+    private int active;
+
+    @Override
+    public CompletableFuture<Void> after(long delayMs) {
+        CompletableFuture<Void> due = new CompletableFuture<>();
+        if (delayMs <= 0) {
+            due.complete(null);
+            return due;
+        }
+        synchronized (lock) {
+            timers.add(new Timer(nowMs + delayMs, sequence++, due));
+            lock.notifyAll();
+        }
+        return due;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> track(CompletableFuture<T> work) {
+        synchronized (lock) {
+            active++;
+        }
+        work.whenComplete((result, ex) -> {
+            synchronized (lock) {
+                active--;
+                lock.notifyAll();
+            }
+        });
+        return work;
+    }
+
+    @Override
+    public <T> T await(CompletableFuture<T> future) {
+        future.whenComplete((result, ex) -> {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        });
+        while (!future.isDone()) {
+            Timer next = nextDue(future);
+            if (next != null) {
+                // 의존 작업(전송)이 이 스레드에서 바로 실행되고 track()으로 등록된다
+                next.future().complete(null);
+            }
+        }
+        return future.join();
+    }
+
+    @Override
+    public long nowMs() {
+        synchronized (lock) {
+            return nowMs;
+        }
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * Waits until nothing is in flight, then advances the clock to the earliest timer and removes it.
+     *
+     * @return null if the awaited future completed meanwhile
+     */
+    private Timer nextDue(CompletableFuture<?> awaited) {
+        synchronized (lock) {
+            while (!awaited.isDone()) {
+                if (active == 0 && !timers.isEmpty()) {
+                    Timer next = timers.poll();
+                    nowMs = Math.max(nowMs, next.dueMs());
+                    return next;
+                }
+                try {
+                    lock.wait(IDLE_POLL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted while driving the virtual clock", e);
+                }
+            }
+            return null;
+        }
+    }
+
+    private record Timer(long dueMs, long sequence, CompletableFuture<Void> future) {
+    }
+}
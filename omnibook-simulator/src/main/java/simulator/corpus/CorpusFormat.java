@@ -0,0 +1,28 @@
+package simulator.corpus;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Corpus file layout (big-endian):
+ *
+ * <pre>
+ * header : magic "OMNICRP1" (8) | version int | record count long | seed long
+ * record : length int (bytes after this field)
+ *          | eventId | platform | eventType | correlationId | reservationId   (each: u16 length + UTF-8)
+ *          | body length int | body (wire JSON, exactly as sent)
+ * </pre>
+ *
+ * The record count is written when the file is closed; -1 means the writer did not finish,
+ * in which case readers still stream records until EOF.
+ */
+final class CorpusFormat {
+
+    static final byte[] MAGIC = "OMNICRP1".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = MAGIC.length + Integer.BYTES + Long.BYTES + Long.BYTES;
+    static final int COUNT_OFFSET = MAGIC.length + Integer.BYTES;
+    static final long UNKNOWN_COUNT = -1;
+
+    private CorpusFormat() {
+    }
+}
@@ -0,0 +1,74 @@
+package simulator.corpus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import simulator.event.PlatformEvent;
+import simulator.load.PlatformPicker;
+import simulator.load.WorkloadEvents;
+import simulator.platform.AirbnbPlatform;
+import simulator.platform.OtaPlatform;
+import simulator.platform.PlatformType;
+import simulator.platform.YanoljaPlatform;
+import simulator.platform.YeogieottaePlatform;
+import simulator.random.RandomStreams;
+import simulator.sender.EncodedEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a corpus file offline so replay does no payload generation or JSON serialization.
+ *
+ * Uses private platform instances, recreated every CHUNK_EVENTS events, so generating millions of
+ * events does not grow the platforms' reservation maps (cancellations only target bookings from
+ * the same chunk). Workload shape matches a load run: platform mix, cancel ratio, room count.
+ */
+@Service
+@RequiredArgsConstructor
+public class CorpusGenerator {
+
+    private static final int CHUNK_EVENTS = 50_000;
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+
+    private final RandomStreams random;
+
+    public CorpusInfo generate(Path file, CorpusSpec spec) throws IOException {
+        long startNanos = System.nanoTime();
+        random.beginRun("corpus");
+        String correlationId = "corpus-" + RandomStreams.uuid(random.next("corpus.id"));
+        PlatformPicker picker = new PlatformPicker(spec.platformMix(), random, "corpus.platform");
+
+        try (CorpusWriter writer = new CorpusWriter(file, random.seed())) {
+            WorkloadEvents workload = null;
+            for (long i = 0; i < spec.events(); i++) {
+                if (i % CHUNK_EVENTS == 0) {
+                    workload = new WorkloadEvents(freshPlatforms(), random, "corpus.request");
+                }
+                PlatformType platform = picker.pick();
+                WorkloadEvents events = workload;
+                PlatformEvent event = random.withScope("corpus.request", i,
+                        () -> events.next(platform, spec.cancelRatio(), spec.workload(), correlationId));
+                writer.write(EncodedEvent.encode(event, WRITER));
+            }
+            writer.finish();
+            System.out.printf(">> Corpus written: %s (%d events, %d bytes, seed %d)%n",
+                    file.toAbsolutePath(), writer.count(), writer.bytes(), random.seed());
+            return new CorpusInfo(file.toAbsolutePath().toString(), writer.count(), writer.bytes(),
+                    random.seed(), (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    private Map<PlatformType, OtaPlatform> freshPlatforms() {
+        Map<PlatformType, OtaPlatform> platforms = new LinkedHashMap<>();
+        for (OtaPlatform platform : List.of(
+                new YanoljaPlatform(random), new AirbnbPlatform(random), new YeogieottaePlatform(random))) {
+            platforms.put(platform.type(), platform);
+        }
+        return platforms;
+    }
+}
@@ -0,0 +1,7 @@
+package simulator.corpus;
+
+/**
+ * Summary of a generated corpus file.
+ */
+public record CorpusInfo(String file, long events, long bytes, long seed, long elapsedMs) {
+}
@@ -0,0 +1,124 @@
+package simulator.corpus;
+
+import simulator.platform.PlatformType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streams records from a memory-mapped corpus file. Not thread-safe.
+ *
+ * The file is mapped in windows (a single MappedByteBuffer is limited to 2 GiB); a record that
+ * would cross the end of the current window starts a new one at that record, so records are
+ * always contiguous in memory. Pages are read ahead by the OS instead of through a heap buffer.
+ */
+public class CorpusReader implements Closeable {
+
+    private static final long WINDOW_BYTES = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long count;
+    private final long seed;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    public CorpusReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        if (size < CorpusFormat.HEADER_BYTES) {
+            channel.close();
+            throw new IOException("not a corpus file (too short): " + file);
+        }
+        map(0, CorpusFormat.HEADER_BYTES);
+
+        byte[] magic = new byte[CorpusFormat.MAGIC.length];
+        window.get(magic);
+        int version = window.getInt();
+        if (!Arrays.equals(magic, CorpusFormat.MAGIC) || version != CorpusFormat.VERSION) {
+            channel.close();
+            throw new IOException("not a corpus file (version " + CorpusFormat.VERSION + "): " + file);
+        }
+        this.count = window.getLong();
+        this.seed = window.getLong();
+        this.position = CorpusFormat.HEADER_BYTES;
+    }
+
+    /** Records declared in the header, or -1 if the writer did not finish. */
+    public long count() {
+        return count;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * @return the next record, or null at end of file (a truncated last record is ignored)
+     */
+    public CorpusRecord next() throws IOException {
+        if (!ensureMapped(Integer.BYTES)) {
+            return null;
+        }
+        int length = window.getInt(offset());
+        if (!ensureMapped(Integer.BYTES + (long) length)) {
+            return null;
+        }
+
+        window.position(offset() + Integer.BYTES);
+        String eventId = readString();
+        PlatformType platform = PlatformType.valueOf(readString());
+        String eventType = readString();
+        String correlationId = readString();
+        String reservationId = readString();
+        byte[] body = new byte[window.getInt()];
+        window.get(body);
+
+        position += Integer.BYTES + (long) length;
+        return new CorpusRecord(eventId, platform, eventType, correlationId, reservationId, body);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * Makes [position, position + bytes) addressable in the current window.
+     *
+     * @return false if the file ends before that
+     */
+    private boolean ensureMapped(long bytes) throws IOException {
+        if (position + bytes > size) {
+            return false;
+        }
+        if (position + bytes > windowStart + window.limit()) {
+            map(position, Math.max(bytes, WINDOW_BYTES));
+        }
+        return true;
+    }
+
+    private void map(long start, long length) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(length, size - start));
+    }
+
+    private int offset() {
+        return (int) (position - windowStart);
+    }
+
+    private String readString() {
+        byte[] bytes = new byte[Short.toUnsignedInt(window.getShort())];
+        window.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
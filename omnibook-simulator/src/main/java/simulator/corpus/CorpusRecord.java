@@ -0,0 +1,18 @@
+package simulator.corpus;
+
+import simulator.event.PlatformEvent;
+import simulator.platform.PlatformType;
+import simulator.sender.EncodedEvent;
+
+/**
+ * One pre-serialized request read back from a corpus file.
+ */
+public record CorpusRecord(String eventId, PlatformType platform, String eventType,
+                           String correlationId, String reservationId, byte[] body) {
+
+    /** Headers plus the stored body, ready for EventSender.send(). */
+    public EncodedEvent toEncoded() {
+        PlatformEvent headers = new PlatformEvent(eventId, platform, eventType, reservationId, null, correlationId);
+        return EncodedEvent.prebuilt(headers, body);
+    }
+}
@@ -0,0 +1,116 @@
+package simulator.corpus;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import simulator.load.Pacing;
+import simulator.sender.EncodedEvent;
+import simulator.sender.EventSender;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Streams a corpus file to the broker from a single reader thread.
+ *
+ * Records are read from the memory-mapped file and sent as stored: no payload generation and no
+ * JSON serialization, so the simulator is no longer the bottleneck in broker throughput tests.
+ *
+ * - rps > 0: open-loop pacing, latency measured from each record's intended send time.
+ * - rps = 0: as fast as possible; the async sender's in-flight window is the only throttle.
+ *
+ * 같은 corpus를 같은 broker DB에 다시 재생하면 eventId가 같으므로 모두 중복으로 처리된다.
+ * 처리 경로 전체를 측정하려면 DB를 비우거나 새 corpus를 만든다.
+ */
+@Service
+public class CorpusReplayer {
+
+    private final EventSender sender;
+    private final String targetUrl;
+
+    private volatile ReplayRun current;
+    private volatile Thread readerThread;
+
+    public CorpusReplayer(EventSender sender, @Value("${simulator.target-url}") String targetUrl) {
+        this.sender = sender;
+        this.targetUrl = targetUrl;
+    }
+
+    /**
+     * Starts replaying in the background.
+     *
+     * @param limit stop after this many records, 0 = whole file
+     * @throws IllegalStateException    if another replay is still in progress
+     * @throws IllegalArgumentException if the file does not exist or rps is negative
+     */
+    public synchronized ReplayRun start(Path file, double rps, long limit) {
+        if (current != null && current.state() == ReplayRun.State.RUNNING) {
+            throw new IllegalStateException("corpus replay already in progress: " + current.runId());
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("corpus file not found: " + file);
+        }
+        if (rps < 0) {
+            throw new IllegalArgumentException("rps must be >= 0");
+        }
+
+        ReplayRun run = new ReplayRun(UUID.randomUUID().toString(), file.toAbsolutePath().toString(), rps, System.nanoTime());
+        Thread reader = new Thread(() -> replay(run, file, rps, limit), "corpus-replay");
+        reader.setDaemon(true);
+        current = run;
+        readerThread = reader;
+        reader.start();
+
+        System.out.printf(">> Corpus replay %s started: %s at %s%n",
+                run.runId(), file.toAbsolutePath(), rps > 0 ? rps + " rps" : "max rate");
+        return run;
+    }
+
+    public synchronized ReplayRun stop() {
+        Thread reader = readerThread;
+        if (reader != null) {
+            reader.interrupt();
+        }
+        if (current != null) {
+            current.finish(ReplayRun.State.STOPPED, null);
+        }
+        return current;
+    }
+
+    public ReplayRun current() {
+        return current;
+    }
+
+    private void replay(ReplayRun run, Path file, double rps, long limit) {
+        long startNanos = System.nanoTime();
+        try (CorpusReader reader = new CorpusReader(file)) {
+            CorpusRecord record;
+            for (long i = 0; (limit <= 0 || i < limit) && (record = reader.next()) != null; i++) {
+                long intended = rps > 0 ? startNanos + (long) (i * 1_000_000_000L / rps) : System.nanoTime();
+                if (rps > 0 && !Pacing.waitUntil(intended)) {
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                send(run, record, intended);
+            }
+            run.finish(ReplayRun.State.COMPLETED, null);
+            System.out.printf(">> Corpus replay %s completed: %s%n", run.runId(), run.snapshot());
+        } catch (IOException | RuntimeException e) {
+            run.finish(ReplayRun.State.FAILED, e.getMessage());
+            System.out.printf(">> Corpus replay %s failed: %s%n", run.runId(), e.getMessage());
+        }
+    }
+
+    private void send(ReplayRun run, CorpusRecord record, long intendedNanos) {
+        EncodedEvent encoded = record.toEncoded();
+        run.onDispatched();
+        sender.send(targetUrl, encoded).whenComplete((result, ex) -> {
+            int status = ex == null ? result.statusCode() : 0;
+            run.onCompleted(record.platform(), record.eventType(), status,
+                    ex == null && result.delivered(), System.nanoTime() - intendedNanos);
+        });
+    }
+}
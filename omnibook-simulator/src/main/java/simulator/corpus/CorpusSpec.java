@@ -0,0 +1,41 @@
+package simulator.corpus;
+
+import simulator.load.WorkloadModel;
+import simulator.platform.PlatformType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * What to put in a generated corpus. Same workload knobs as a load run.
+ *
+ * @param events      number of requests to generate
+ * @param platformMix relative weights per platform (e.g. A=5, B=3, C=2)
+ * @param cancelRatio probability (0.0-1.0) that a request is a cancel of an earlier booking
+ * @param workload    room popularity (Zipf skew over R-1..R-n), stay length and lead time
+ */
+public record CorpusSpec(
+        long events,
+        Map<PlatformType, Integer> platformMix,
+        double cancelRatio,
+        WorkloadModel workload
+) {
+
+    public CorpusSpec {
+        if (events <= 0) throw new IllegalArgumentException("events must be > 0");
+        if (cancelRatio < 0 || cancelRatio > 1) throw new IllegalArgumentException("cancelRatio must be 0.0-1.0");
+        if (workload == null) workload = WorkloadModel.uniform(WorkloadModel.DEFAULT_ROOM_COUNT);
+
+        Map<PlatformType, Integer> mix = new EnumMap<>(PlatformType.class);
+        if (platformMix == null || platformMix.isEmpty()) {
+            for (PlatformType type : PlatformType.values()) mix.put(type, 1);
+        } else {
+            platformMix.forEach((type, weight) -> {
+                if (weight != null && weight > 0) mix.put(type, weight);
+            });
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("platformMix needs at least one positive weight");
+        platformMix = Collections.unmodifiableMap(mix);
+    }
+}
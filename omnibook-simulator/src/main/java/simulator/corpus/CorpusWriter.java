@@ -0,0 +1,115 @@
+package simulator.corpus;
+
+import simulator.event.PlatformEvent;
+import simulator.sender.EncodedEvent;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends encoded events to a corpus file. See CorpusFormat for the layout. Not thread-safe.
+ */
+public class CorpusWriter implements Closeable {
+
+    private final Path file;
+    private final DataOutputStream out;
+    private long count;
+    private long bytes;
+    private boolean finished;
+    private boolean closed;
+
+    public CorpusWriter(Path file, long seed) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 20));
+        out.write(CorpusFormat.MAGIC);
+        out.writeInt(CorpusFormat.VERSION);
+        out.writeLong(CorpusFormat.UNKNOWN_COUNT);
+        out.writeLong(seed);
+        bytes = CorpusFormat.HEADER_BYTES;
+    }
+
+    public void write(EncodedEvent encoded) throws IOException {
+        PlatformEvent event = encoded.event();
+        byte[] eventId = utf8(event.getEventId());
+        byte[] platform = utf8(event.getPlatform().name());
+        byte[] eventType = utf8(event.getEventType());
+        byte[] correlationId = utf8(event.getCorrelationId());
+        byte[] reservationId = utf8(event.getReservationId());
+        byte[] body = encoded.body();
+
+        int length = 5 * Short.BYTES
+                + eventId.length + platform.length + eventType.length + correlationId.length + reservationId.length
+                + Integer.BYTES + body.length;
+        out.writeInt(length);
+        writeString(eventId);
+        writeString(platform);
+        writeString(eventType);
+        writeString(correlationId);
+        writeString(reservationId);
+        out.writeInt(body.length);
+        out.write(body);
+
+        count++;
+        bytes += Integer.BYTES + length;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Marks the corpus as complete; close() then records the final count in the header.
+     * Without it the header keeps UNKNOWN_COUNT, so a run that failed partway is recognizable.
+     */
+    public void finish() throws IOException {
+        out.flush();
+        finished = true;
+    }
+
+    /**
+     * Flushes and, if finish() was called, records the final count in the header. Idempotent.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        out.close();
+        if (!finished) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, count), CorpusFormat.COUNT_OFFSET);
+        }
+    }
+
+    private void writeString(byte[] value) throws IOException {
+        out.writeShort(value.length);
+        out.write(value);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("header value too long: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,86 @@
+package simulator.corpus;
+
+import org.HdrHistogram.Histogram;
+import simulator.platform.PlatformType;
+import simulator.report.LatencyRecorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one corpus replay. Updated concurrently by sender completion threads.
+ */
+public class ReplayRun {
+
+    public enum State { RUNNING, COMPLETED, STOPPED, FAILED }
+
+    private final String runId;
+    private final String file;
+    private final double rps;
+    private final long startNanos;
+    private volatile long endNanos;
+    private volatile State state = State.RUNNING;
+    private volatile String error;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+
+    ReplayRun(String runId, String file, double rps, long startNanos) {
+        this.runId = runId;
+        this.file = file;
+        this.rps = rps;
+        this.startNanos = startNanos;
+    }
+
+    public String runId()              { return runId; }
+    public State state()               { return state; }
+    public LatencyRecorder latencies() { return latencies; }
+
+    void onDispatched() {
+        dispatched.increment();
+    }
+
+    /**
+     * @param latencyNanos from the intended send time when paced, from dispatch at max rate
+     */
+    void onCompleted(PlatformType platform, String eventType, int statusCode, boolean ok, long latencyNanos) {
+        (ok ? succeeded : failed).increment();
+        latencies.record(platform, eventType, statusCode, latencyNanos);
+    }
+
+    void finish(State finalState, String error) {
+        if (state == State.RUNNING) {
+            this.error = error;
+            endNanos = System.nanoTime();
+            state = finalState;
+        }
+    }
+
+    public ReplayStatus snapshot() {
+        long end = state == State.RUNNING ? System.nanoTime() : endNanos;
+        long elapsedNanos = Math.max(1, end - startNanos);
+        long ok = succeeded.sum();
+        long ko = failed.sum();
+        long completed = ok + ko;
+        Histogram latency = latencies.total();
+
+        return new ReplayStatus(
+                runId,
+                file,
+                state.name(),
+                error,
+                rps,
+                elapsedNanos / 1_000_000,
+                dispatched.sum(),
+                completed,
+                ok,
+                ko,
+                completed * 1_000_000_000.0 / elapsedNanos,
+                latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(90) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0,
+                latency.getValueAtPercentile(99.9) / 1000.0,
+                latency.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,26 @@
+package simulator.corpus;
+
+/**
+ * Point-in-time view of a corpus replay, returned by the corpus API.
+ *
+ * @param rps target rate, 0 = as fast as the sender's in-flight window allows
+ */
+public record ReplayStatus(
+        String runId,
+        String file,
+        String state,
+        String error,
+        double rps,
+        long elapsedMs,
+        long dispatched,
+        long completed,
+        long succeeded,
+        long failed,
+        double achievedRps,
+        double p50LatencyMs,
+        double p90LatencyMs,
+        double p99LatencyMs,
+        double p999LatencyMs,
+        double maxLatencyMs
+) {
+}
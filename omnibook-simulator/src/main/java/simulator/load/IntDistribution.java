@@ -0,0 +1,134 @@
+package simulator.load;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Small integer distribution for stay lengths and lead times, configured by a short spec:
+ *
+ * - "2"                       always 2
+ * - "uniform:1-4"             uniform over 1..4 (inclusive)
+ * - "geometric:1-30:2.5"      geometric starting at 1 with mean 2.5, capped at 30
+ * - "weighted:1=45,2=30,3=15,7=10"  empirical, value=weight pairs
+ */
+public final class IntDistribution {
+
+    private final String spec;
+    private final int[] values;
+    private final double[] cdf;
+    private final int min;
+    private final int max;
+    private final double geometricP;
+    private final Kind kind;
+
+    private enum Kind { FIXED, UNIFORM, GEOMETRIC, WEIGHTED }
+
+    private IntDistribution(String spec, Kind kind, int min, int max, double geometricP, int[] values, double[] cdf) {
+        this.spec = spec;
+        this.kind = kind;
+        this.min = min;
+        this.max = max;
+        this.geometricP = geometricP;
+        this.values = values;
+        this.cdf = cdf;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the spec is malformed or describes an empty/negative range
+     */
+    public static IntDistribution parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new IllegalArgumentException("distribution spec is empty");
+        }
+        String s = spec.trim();
+        try {
+            int colon = s.indexOf(':');
+            if (colon < 0) {
+                int value = Integer.parseInt(s);
+                return checked(new IntDistribution(s, Kind.FIXED, value, value, 0, null, null));
+            }
+            String kind = s.substring(0, colon);
+            String args = s.substring(colon + 1);
+            return switch (kind) {
+                case "uniform" -> {
+                    int[] range = range(args);
+                    yield checked(new IntDistribution(s, Kind.UNIFORM, range[0], range[1], 0, null, null));
+                }
+                case "geometric" -> {
+                    String[] parts = args.split(":");
+                    int[] range = range(parts[0]);
+                    double mean = Double.parseDouble(parts[1]);
+                    if (mean <= range[0]) {
+                        throw new IllegalArgumentException("geometric mean must be > min: " + s);
+                    }
+                    double p = 1.0 / (mean - range[0] + 1);
+                    yield checked(new IntDistribution(s, Kind.GEOMETRIC, range[0], range[1], p, null, null));
+                }
+                case "weighted" -> weighted(s, args);
+                default -> throw new IllegalArgumentException("unknown distribution: " + kind);
+            };
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("malformed distribution spec: " + s);
+        }
+    }
+
+    private static int[] range(String args) {
+        String[] bounds = args.split("-");
+        return new int[]{Integer.parseInt(bounds[0].trim()), Integer.parseInt(bounds[1].trim())};
+    }
+
+    private static IntDistribution weighted(String spec, String args) {
+        String[] pairs = args.split(",");
+        int[] values = new int[pairs.length];
+        double[] cdf = new double[pairs.length];
+        double sum = 0;
+        for (int i = 0; i < pairs.length; i++) {
+            String[] pair = pairs[i].split("=");
+            values[i] = Integer.parseInt(pair[0].trim());
+            double weight = Double.parseDouble(pair[1].trim());
+            if (weight < 0) throw new IllegalArgumentException("negative weight: " + spec);
+            sum += weight;
+            cdf[i] = sum;
+        }
+        if (sum <= 0) throw new IllegalArgumentException("weights must not all be zero: " + spec);
+        for (int i = 0; i < cdf.length; i++) {
+            cdf[i] /= sum;
+        }
+        int min = Arrays.stream(values).min().getAsInt();
+        int max = Arrays.stream(values).max().getAsInt();
+        return checked(new IntDistribution(spec, Kind.WEIGHTED, min, max, 0, values, cdf));
+    }
+
+    private static IntDistribution checked(IntDistribution d) {
+        if (d.min < 0 || d.max < d.min) {
+            throw new IllegalArgumentException("invalid range in distribution spec: " + d.spec);
+        }
+        return d;
+    }
+
+    public int next(RandomGenerator rng) {
+        return switch (kind) {
+            case FIXED -> min;
+            case UNIFORM -> rng.nextInt(min, max + 1);
+            case GEOMETRIC -> {
+                // inverse transform: number of failures before the first success, shifted to min
+                double u = 1.0 - rng.nextDouble();
+                long failures = (long) Math.floor(Math.log(u) / Math.log(1.0 - geometricP));
+                yield (int) Math.min(max, min + failures);
+            }
+            case WEIGHTED -> {
+                int i = Arrays.binarySearch(cdf, rng.nextDouble());
+                yield values[Math.min(i >= 0 ? i : -i - 1, values.length - 1)];
+            }
+        };
+    }
+
+    public int min() {
+        return min;
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,158 @@
+package simulator.load;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import simulator.event.PlatformEvent;
+import simulator.platform.OtaPlatform;
+import simulator.platform.PlatformType;
+import simulator.random.RandomStreams;
+import simulator.sender.EventSender;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open-loop load generator.
+ *
+ * A single scheduler thread computes the intended send time of every request from the
+ * profile and hands each one to a sender pool exactly at that time, regardless of how
+ * many earlier requests are still waiting for a response. Latency is measured from the
+ * intended send time, so broker stalls are not hidden (no coordinated omission).
+ *
+ * Java 17 toolchain: payloads are built on a cached pool of daemon platform threads
+ * instead of virtual threads, and handed to the (async) EventSender. maxInFlight caps
+ * outstanding requests; excess requests are dropped and counted rather than delayed.
+ *
+ * Random draws come from RandomStreams: platform selection on the scheduler thread, and each
+ * request's payload in a scope keyed by its index, so the generated workload depends only on
+ * the seed, not on which sender thread builds it. Which open booking a cancellation picks
+ * still depends on response timing.
+ */
+@Service
+public class LoadGenerator {
+
+    private final EventSender sender;
+    private final RandomStreams random;
+    private final String targetUrl;
+    private final ExecutorService sendPool;
+    private final WorkloadEvents workload;
+
+    private volatile LoadRun current;
+    private volatile Thread schedulerThread;
+
+    public LoadGenerator(Map<PlatformType, OtaPlatform> platforms,
+                         EventSender sender,
+                         RandomStreams random,
+                         @Value("${simulator.target-url}") String targetUrl) {
+        this.sender = sender;
+        this.random = random;
+        this.targetUrl = targetUrl;
+        this.sendPool = Executors.newCachedThreadPool(daemonThreads("load-send-"));
+        this.workload = new WorkloadEvents(platforms, random, "load.request");
+    }
+
+    /**
+     * Starts a run in the background.
+     *
+     * @throws IllegalStateException if another run is still in progress
+     */
+    public synchronized LoadRun start(LoadProfile profile) {
+        if (current != null && current.state() == LoadRun.State.RUNNING) {
+            throw new IllegalStateException("load run already in progress: " + current.runId());
+        }
+
+        random.beginRun("load");
+        workload.clear();
+        String runId = RandomStreams.uuid(random.next("load.run-id")).toString();
+        LoadRun run = new LoadRun(runId, profile, random.seed(), System.nanoTime());
+        Thread scheduler = daemonThreads("load-scheduler-").newThread(() -> schedule(run));
+        current = run;
+        schedulerThread = scheduler;
+        scheduler.start();
+
+        System.out.printf(">> Load run %s started: %ds, %.1f -> %.1f rps (ramp %ds), mix=%s, cancel=%.2f, %s%n",
+                run.runId(), profile.durationSeconds(), profile.startRps(), profile.targetRps(),
+                profile.rampSeconds(), profile.platformMix(), profile.cancelRatio(), profile.workload());
+        return run;
+    }
+
+    public synchronized LoadRun stop() {
+        Thread scheduler = schedulerThread;
+        if (scheduler != null) {
+            scheduler.interrupt();
+        }
+        if (current != null) {
+            current.finish(LoadRun.State.STOPPED);
+        }
+        return current;
+    }
+
+    public LoadRun current() {
+        return current;
+    }
+
+    private void schedule(LoadRun run) {
+        LoadProfile profile = run.profile();
+        PlatformPicker picker = new PlatformPicker(profile.platformMix(), random, "load.platform");
+
+        for (long i = 0; ; i++) {
+            long offset = profile.offsetNanos(i);
+            if (offset < 0) {
+                break;
+            }
+            long intended = run.startNanos() + offset;
+            if (!Pacing.waitUntil(intended)) {
+                return;
+            }
+
+            run.onScheduled(System.nanoTime() - intended);
+            if (!run.tryAcquireSlot()) {
+                continue;
+            }
+            PlatformType platform = picker.pick();
+            long index = i;
+            sendPool.execute(() -> fire(run, index, platform, intended));
+        }
+
+        run.finish(LoadRun.State.COMPLETED);
+        System.out.printf(">> Load run %s completed: %s%n", run.runId(), run.snapshot());
+    }
+
+    private void fire(LoadRun run, long index, PlatformType platformType, long intendedNanos) {
+        PlatformEvent event;
+        try {
+            LoadProfile profile = run.profile();
+            event = random.withScope("load.request", index, () -> workload.next(
+                    platformType, profile.cancelRatio(), profile.workload(), "load-" + run.runId()));
+        } catch (RuntimeException e) {
+            run.onCompleted(platformType, "UNKNOWN", 0, false, null, System.nanoTime() - intendedNanos);
+            return;
+        }
+        sender.send(targetUrl, event).whenComplete((result, ex) -> {
+            int status = ex == null ? result.statusCode() : 0;
+            String errorCode = ex == null ? result.errorCode() : null;
+            run.onCompleted(platformType, event.getEventType(), status,
+                    ex == null && result.delivered(), errorCode, System.nanoTime() - intendedNanos);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+        sendPool.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package simulator.load;
+
+import simulator.platform.PlatformType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Open-loop load run definition.
+ *
+ * Rate ramps linearly from startRps to targetRps over rampSeconds, then holds targetRps
+ * until durationSeconds. startRps == targetRps (or rampSeconds == 0) means constant rate.
+ *
+ * @param platformMix relative weights per platform (e.g. A=5, B=3, C=2)
+ * @param cancelRatio probability (0.0-1.0) that a request is a cancel of an earlier booking
+ * @param workload    room popularity (Zipf skew over R-1..R-n), stay length and lead time
+ * @param maxInFlight requests beyond this many outstanding are dropped (counted), never delayed
+ */
+public record LoadProfile(
+        int durationSeconds,
+        double startRps,
+        double targetRps,
+        int rampSeconds,
+        Map<PlatformType, Integer> platformMix,
+        double cancelRatio,
+        WorkloadModel workload,
+        int maxInFlight
+) {
+
+    public LoadProfile {
+        if (durationSeconds <= 0) throw new IllegalArgumentException("durationSeconds must be > 0");
+        if (targetRps <= 0) throw new IllegalArgumentException("targetRps must be > 0");
+        if (startRps < 0) throw new IllegalArgumentException("startRps must be >= 0");
+        if (rampSeconds < 0 || rampSeconds > durationSeconds) {
+            throw new IllegalArgumentException("rampSeconds must be within [0, durationSeconds]");
+        }
+        if (cancelRatio < 0 || cancelRatio > 1) throw new IllegalArgumentException("cancelRatio must be 0.0-1.0");
+        if (workload == null) workload = WorkloadModel.uniform(WorkloadModel.DEFAULT_ROOM_COUNT);
+        if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be > 0");
+
+        Map<PlatformType, Integer> mix = new EnumMap<>(PlatformType.class);
+        if (platformMix == null || platformMix.isEmpty()) {
+            for (PlatformType type : PlatformType.values()) mix.put(type, 1);
+        } else {
+            platformMix.forEach((type, weight) -> {
+                if (weight != null && weight > 0) mix.put(type, weight);
+            });
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("platformMix needs at least one positive weight");
+        platformMix = Collections.unmodifiableMap(mix);
+    }
+
+    /**
+     * Intended send time of the i-th request (0-based), in nanoseconds from run start.
+     * Closed-form inverse of the cumulative arrival count, so the schedule never drifts.
+     *
+     * @return offset in nanos, or -1 if the i-th request falls after the run ends
+     */
+    public long offsetNanos(long index) {
+        double seconds = offsetSeconds(index);
+        if (seconds >= durationSeconds) {
+            return -1;
+        }
+        return (long) (seconds * 1_000_000_000L);
+    }
+
+    private double offsetSeconds(long index) {
+        double n = index;
+        if (rampSeconds == 0 || startRps == targetRps) {
+            return n / targetRps;
+        }
+
+        // N(t) = r0*t + (r1-r0)*t^2 / (2R) during ramp
+        double rampArrivals = (startRps + targetRps) * rampSeconds / 2.0;
+        if (n < rampArrivals) {
+            double a = (targetRps - startRps) / (2.0 * rampSeconds);
+            double b = startRps;
+            return (-b + Math.sqrt(b * b + 4 * a * n)) / (2 * a);
+        }
+        return rampSeconds + (n - rampArrivals) / targetRps;
+    }
+}
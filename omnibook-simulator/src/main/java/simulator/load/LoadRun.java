@@ -0,0 +1,146 @@
+package simulator.load;
+
+import org.HdrHistogram.Histogram;
+import simulator.platform.PlatformType;
+import simulator.report.LatencyRecorder;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mutable counters for one load run. Updated concurrently by sender threads.
+ */
+public class LoadRun {
+
+    public enum State { RUNNING, COMPLETED, STOPPED }
+
+    /** Broker rejections meaning the room was taken for those dates (lock/inventory contention). */
+    private static final Set<String> CONFLICT_CODES = Set.of("ROOM_ALREADY_BOOKED", "NOT_AVAILABLE");
+
+    private final String runId;
+    private final LoadProfile profile;
+    private final long seed;
+    private final long startNanos;
+    private volatile long endNanos;
+    private volatile State state = State.RUNNING;
+
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final AtomicLong scheduleLagMaxNanos = new AtomicLong();
+    private final Map<PlatformType, LongAdder> byPlatform = new EnumMap<>(PlatformType.class);
+    private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+    private final LongAdder bookings = new LongAdder();
+    private final LongAdder bookingConflicts = new LongAdder();
+
+    LoadRun(String runId, LoadProfile profile, long seed, long startNanos) {
+        this.runId = runId;
+        this.profile = profile;
+        this.seed = seed;
+        this.startNanos = startNanos;
+        for (PlatformType type : PlatformType.values()) {
+            byPlatform.put(type, new LongAdder());
+        }
+    }
+
+    public String runId()        { return runId; }
+    public LoadProfile profile() { return profile; }
+    public long seed()           { return seed; }
+    public long startNanos()     { return startNanos; }
+    public State state()         { return state; }
+    public LatencyRecorder latencies() { return latencies; }
+
+    void onScheduled(long scheduleLagNanos) {
+        scheduled.increment();
+        scheduleLagMaxNanos.accumulateAndGet(scheduleLagNanos, Math::max);
+    }
+
+    /** @return false if the in-flight cap is reached and the request must be dropped */
+    boolean tryAcquireSlot() {
+        if (inFlight.incrementAndGet() > profile.maxInFlight()) {
+            inFlight.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param errorCode    broker ErrorResponse code of a rejection, null otherwise
+     * @param latencyNanos measured from the intended send time
+     */
+    void onCompleted(PlatformType platform, String eventType, int statusCode, boolean ok,
+                     String errorCode, long latencyNanos) {
+        inFlight.decrementAndGet();
+        (ok ? succeeded : failed).increment();
+        byPlatform.get(platform).increment();
+        latencies.record(platform, eventType, statusCode, latencyNanos);
+
+        if (!ok) {
+            String reason = errorCode != null ? errorCode : statusCode > 0 ? "HTTP_" + statusCode : "NO_RESPONSE";
+            rejections.computeIfAbsent(reason, k -> new LongAdder()).increment();
+        }
+        if ("BOOKING".equals(eventType)) {
+            bookings.increment();
+            if (CONFLICT_CODES.contains(errorCode)) {
+                bookingConflicts.increment();
+            }
+        }
+    }
+
+    void finish(State finalState) {
+        if (state == State.RUNNING) {
+            endNanos = System.nanoTime();
+            state = finalState;
+        }
+    }
+
+    public LoadRunStatus snapshot() {
+        long end = state == State.RUNNING ? System.nanoTime() : endNanos;
+        long elapsedNanos = Math.max(1, end - startNanos);
+        long ok = succeeded.sum();
+        long ko = failed.sum();
+        long completed = ok + ko;
+
+        Histogram latency = latencies.total();
+        Map<String, Long> platforms = new LinkedHashMap<>();
+        byPlatform.forEach((type, count) -> platforms.put(type.displayName(), count.sum()));
+        Map<String, Long> rejected = new TreeMap<>();
+        rejections.forEach((reason, count) -> rejected.put(reason, count.sum()));
+        long bookingCount = bookings.sum();
+
+        return new LoadRunStatus(
+                runId,
+                seed,
+                state.name(),
+                elapsedNanos / 1_000_000,
+                scheduled.sum(),
+                completed,
+                ok,
+                ko,
+                dropped.sum(),
+                inFlight.get(),
+                completed * 1_000_000_000.0 / elapsedNanos,
+                latency.getMean() / 1000.0,
+                latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(90) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0,
+                latency.getValueAtPercentile(99.9) / 1000.0,
+                latency.getMaxValue() / 1000.0,
+                scheduleLagMaxNanos.get() / 1_000_000.0,
+                platforms,
+                profile.workload().toString(),
+                profile.workload().top1PercentShare(),
+                bookingCount > 0 ? (double) bookingConflicts.sum() / bookingCount : 0,
+                rejected);
+    }
+}
@@ -0,0 +1,39 @@
+package simulator.load;
+
+import java.util.Map;
+
+/**
+ * Point-in-time view of a load run, returned by the load API.
+ * Latency is measured from the intended send time, not the actual one,
+ * so a stalled sender shows up as latency instead of silently lowering the rate.
+ *
+ * @param top1PctRoomShare    expected share of bookings on the hottest 1% of rooms (from the Zipf skew)
+ * @param bookingConflictRate completed bookings rejected as ROOM_ALREADY_BOOKED / NOT_AVAILABLE
+ * @param rejections          non-2xx outcomes by broker error code
+ */
+public record LoadRunStatus(
+        String runId,
+        long seed,
+        String state,
+        long elapsedMs,
+        long scheduled,
+        long completed,
+        long succeeded,
+        long failed,
+        long dropped,
+        long inFlight,
+        double achievedRps,
+        double avgLatencyMs,
+        double p50LatencyMs,
+        double p90LatencyMs,
+        double p99LatencyMs,
+        double p999LatencyMs,
+        double maxLatencyMs,
+        double maxScheduleLagMs,
+        Map<String, Long> byPlatform,
+        String workload,
+        double top1PctRoomShare,
+        double bookingConflictRate,
+        Map<String, Long> rejections
+) {
+}
@@ -0,0 +1,34 @@
+package simulator.load;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop pacing helper shared by the load generator and corpus replay.
+ */
+public final class Pacing {
+
+    private static final long SPIN_THRESHOLD_NANOS = 50_000;
+
+    private Pacing() {
+    }
+
+    /**
+     * Parks until the deadline, spinning for the last few microseconds.
+     *
+     * @return false if interrupted (run stopped)
+     */
+    public static boolean waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+}
@@ -0,0 +1,39 @@
+package simulator.load;
+
+import simulator.platform.PlatformType;
+import simulator.random.RandomStreams;
+
+import java.util.Map;
+
+/**
+ * Weighted platform selection.
+ */
+public final class PlatformPicker {
+
+    private final PlatformType[] types;
+    private final int[] cumulative;
+    private final int total;
+    private final RandomStreams random;
+    private final String stream;
+
+    public PlatformPicker(Map<PlatformType, Integer> mix, RandomStreams random, String stream) {
+        this.random = random;
+        this.stream = stream;
+        types = mix.keySet().toArray(new PlatformType[0]);
+        cumulative = new int[types.length];
+        int sum = 0;
+        for (int i = 0; i < types.length; i++) {
+            sum += mix.get(types[i]);
+            cumulative[i] = sum;
+        }
+        total = sum;
+    }
+
+    public PlatformType pick() {
+        int r = random.next(stream).nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) return types[i];
+        }
+        return types[types.length - 1];
+    }
+}
@@ -0,0 +1,73 @@
+package simulator.load;
+
+import simulator.event.PlatformEvent;
+import simulator.platform.OtaPlatform;
+import simulator.platform.PlatformType;
+import simulator.random.RandomStreams;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.random.RandomGenerator;
+
+/**
+ * Builds synthetic booking/cancellation events for load runs and corpus generation.
+ * Rooms and dates come from a WorkloadModel; a cancellation targets a booking this instance
+ * emitted earlier for the same platform.
+ */
+public class WorkloadEvents {
+
+    private static final String[] GUEST_NAMES = {"김민수", "이서연", "박지훈", "Minsu Kim", "Emily Park", "최유진"};
+
+    private final Map<PlatformType, OtaPlatform> platforms;
+    private final RandomStreams random;
+    private final String stream;
+    private final Map<PlatformType, Queue<String>> openBookings = new EnumMap<>(PlatformType.class);
+
+    /**
+     * @param stream RandomStreams stream every event is drawn from
+     */
+    public WorkloadEvents(Map<PlatformType, OtaPlatform> platforms, RandomStreams random, String stream) {
+        this.platforms = platforms;
+        this.random = random;
+        this.stream = stream;
+        for (PlatformType type : PlatformType.values()) {
+            openBookings.put(type, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /** Forgets open bookings, e.g. at the start of a run. */
+    public void clear() {
+        for (Queue<String> open : openBookings.values()) {
+            open.clear();
+        }
+    }
+
+    public PlatformEvent next(PlatformType platformType, double cancelRatio, WorkloadModel model, String correlationId) {
+        RandomGenerator rng = random.next(stream);
+        OtaPlatform platform = platforms.get(platformType);
+        Queue<String> open = openBookings.get(platformType);
+
+        if (rng.nextDouble() < cancelRatio) {
+            String reservationId = open.poll();
+            if (reservationId != null) {
+                Object payload = platform.cancel(reservationId);
+                return new PlatformEvent(RandomStreams.uuid(rng).toString(), platformType,
+                        "CANCELLATION", reservationId, payload, correlationId);
+            }
+        }
+
+        String roomId = model.nextRoomId(rng);
+        LocalDate checkIn = model.nextCheckIn(rng, LocalDate.now());
+        LocalDate checkOut = model.nextCheckOut(rng, checkIn);
+        String guest = GUEST_NAMES[rng.nextInt(GUEST_NAMES.length)];
+
+        Object payload = platform.book(roomId, guest, checkIn.toString(), checkOut.toString());
+        String reservationId = platform.reservationIdOf(payload);
+        open.add(reservationId);
+        return new PlatformEvent(RandomStreams.uuid(rng).toString(), platformType,
+                "BOOKING", reservationId, payload, correlationId);
+    }
+}
@@ -0,0 +1,73 @@
+package simulator.load;
+
+import java.time.LocalDate;
+import java.util.random.RandomGenerator;
+
+/**
+ * Which room, which dates: the demand side of a synthetic workload.
+ *
+ * - Rooms R-1..R-n are drawn Zipf(roomSkew) by rank, so R-1 is the hottest room.
+ *   roomSkew 0 is uniform. The broker's test-data.sql lists R-1..R-10000 on all three platforms.
+ * - Lead time (days from today to check-in) and stay length (nights) come from IntDistribution specs.
+ */
+public final class WorkloadModel {
+
+    public static final int DEFAULT_ROOM_COUNT = 100;
+    public static final String DEFAULT_STAY_NIGHTS = "uniform:1-4";
+    public static final String DEFAULT_LEAD_DAYS = "uniform:1-365";
+
+    private final ZipfSampler rooms;
+    private final IntDistribution stayNights;
+    private final IntDistribution leadDays;
+
+    private WorkloadModel(ZipfSampler rooms, IntDistribution stayNights, IntDistribution leadDays) {
+        this.rooms = rooms;
+        this.stayNights = stayNights;
+        this.leadDays = leadDays;
+    }
+
+    /**
+     * @param stayNights IntDistribution spec, null for the default (uniform 1-4)
+     * @param leadDays   IntDistribution spec, null for the default (uniform 1-365)
+     * @throws IllegalArgumentException on an invalid room count, skew or spec
+     */
+    public static WorkloadModel of(int roomCount, double roomSkew, String stayNights, String leadDays) {
+        if (roomCount <= 0) throw new IllegalArgumentException("roomCount must be > 0");
+        if (roomSkew < 0) throw new IllegalArgumentException("roomSkew must be >= 0");
+        IntDistribution stay = IntDistribution.parse(stayNights != null ? stayNights : DEFAULT_STAY_NIGHTS);
+        IntDistribution lead = IntDistribution.parse(leadDays != null ? leadDays : DEFAULT_LEAD_DAYS);
+        if (stay.min() < 1) throw new IllegalArgumentException("stayNights must be >= 1: " + stay);
+        return new WorkloadModel(new ZipfSampler(roomCount, roomSkew), stay, lead);
+    }
+
+    public static WorkloadModel uniform(int roomCount) {
+        return of(roomCount, 0, null, null);
+    }
+
+    public String nextRoomId(RandomGenerator rng) {
+        return "R-" + rooms.next(rng);
+    }
+
+    public LocalDate nextCheckIn(RandomGenerator rng, LocalDate today) {
+        return today.plusDays(leadDays.next(rng));
+    }
+
+    public LocalDate nextCheckOut(RandomGenerator rng, LocalDate checkIn) {
+        return checkIn.plusDays(stayNights.next(rng));
+    }
+
+    public int roomCount()            { return rooms.size(); }
+    public double roomSkew()          { return rooms.skew(); }
+    public IntDistribution stayNights() { return stayNights; }
+    public IntDistribution leadDays()   { return leadDays; }
+
+    /** Expected share of booking traffic that lands on the hottest 1% of rooms. */
+    public double top1PercentShare() {
+        return rooms.topShare(0.01);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rooms=%d skew=%.2f stay=%s lead=%s", roomCount(), roomSkew(), stayNights, leadDays);
+    }
+}
@@ -0,0 +1,66 @@
+package simulator.load;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ranks 1..n with P(k) proportional to 1 / k^s.
+ *
+ * The CDF is built once (n doubles) and each draw is a binary search, so sampling stays
+ * O(log n) for catalogs of hundreds of thousands of rooms. s = 0 is uniform and needs no table.
+ * Typical skews: 0.6-0.8 mild, 1.0 classic Zipf (top 1% of 10k rooms ≈ 53% of traffic), 1.2+ extreme.
+ */
+public final class ZipfSampler {
+
+    private final int n;
+    private final double skew;
+    private final double[] cdf;
+
+    public ZipfSampler(int n, double skew) {
+        if (n <= 0) throw new IllegalArgumentException("n must be > 0");
+        if (skew < 0) throw new IllegalArgumentException("skew must be >= 0");
+        this.n = n;
+        this.skew = skew;
+        this.cdf = skew == 0 ? null : buildCdf(n, skew);
+    }
+
+    private static double[] buildCdf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += Math.pow(k, -skew);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        cdf[n - 1] = 1.0;
+        return cdf;
+    }
+
+    /** @return rank in 1..n, rank 1 being the most popular */
+    public int next(RandomGenerator rng) {
+        if (cdf == null) {
+            return 1 + rng.nextInt(n);
+        }
+        int i = Arrays.binarySearch(cdf, rng.nextDouble());
+        return (i >= 0 ? i : -i - 1) + 1;
+    }
+
+    /** Probability mass of the most popular ranks, e.g. topShare(0.01) = traffic share of the top 1%. */
+    public double topShare(double fraction) {
+        int top = Math.max(1, (int) Math.ceil(n * fraction));
+        if (cdf == null) {
+            return (double) top / n;
+        }
+        return cdf[Math.min(top, n) - 1];
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public double skew() {
+        return skew;
+    }
+}
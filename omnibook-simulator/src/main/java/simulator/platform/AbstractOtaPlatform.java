@@ -1,20 +1,39 @@
 package simulator.platform;
 
+import simulator.random.RandomStreams;
+
+import java.time.LocalDate;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
 
 /**
  * Base class for OTA platform simulators.
  * Each platform maintains its own isolated in-memory reservation state.
  * Platforms trust only their own state and emit events optimistically.
+ * Closed nights pushed by the channel manager are tracked per room.
+ * Generated IDs and payload fields come from the platform's seeded random stream.
  */
 public abstract class AbstractOtaPlatform implements OtaPlatform {
 
     protected final Map<String, Object> reservations = new ConcurrentHashMap<>();
+    protected final Map<String, Set<LocalDate>> closedNights = new ConcurrentHashMap<>();
+    private final RandomStreams random;
+
+    protected AbstractOtaPlatform(RandomStreams random) {
+        this.random = random;
+    }
 
-    protected String generateId(String prefix) {
-        return prefix + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    /**
+     * Generator for one booking; draw every random field of the payload from it.
+     */
+    protected RandomGenerator nextRandom() {
+        return random.next("platform." + type().name());
+    }
+
+    protected String generateId(String prefix, RandomGenerator rng) {
+        return prefix + RandomStreams.uuid(rng).toString().substring(0, 8).toUpperCase();
     }
 
     @Override
@@ -22,6 +41,25 @@ public abstract class AbstractOtaPlatform implements OtaPlatform {
         return reservations.containsKey(reservationId);
     }
 
+    @Override
+    public void applyAvailability(String roomId, String startDate, String endDate, boolean closed) {
+        Set<LocalDate> nights = closedNights.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet());
+        LocalDate end = LocalDate.parse(endDate);
+        for (LocalDate d = LocalDate.parse(startDate); d.isBefore(end); d = d.plusDays(1)) {
+            if (closed) {
+                nights.add(d);
+            } else {
+                nights.remove(d);
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed(String roomId, String date) {
+        Set<LocalDate> nights = closedNights.get(roomId);
+        return nights != null && nights.contains(LocalDate.parse(date));
+    }
+
     protected void storeReservation(String id, Object payload) {
         reservations.put(id, payload);
     }
@@ -2,10 +2,11 @@ package simulator.platform;
 
 import org.springframework.stereotype.Component;
 import simulator.platform.payload.AirbnbReservationPayload;
+import simulator.random.RandomStreams;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Platform B — AIRBNB.
@@ -20,6 +21,10 @@ public class AirbnbPlatform extends AbstractOtaPlatform {
     private static final String[] CANCEL_POLICIES = {"FLEXIBLE", "MODERATE", "STRICT"};
     private static final String[] CURRENCIES = {"USD", "KRW", "EUR", "JPY"};
 
+    public AirbnbPlatform(RandomStreams random) {
+        super(random);
+    }
+
     @Override
     public PlatformType type() {
         return PlatformType.B;
@@ -27,7 +32,7 @@ public class AirbnbPlatform extends AbstractOtaPlatform {
 
     @Override
     public Object book(String roomId, String guestName, String checkIn, String checkOut) {
-        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        RandomGenerator rng = nextRandom();
 
         String code = generateConfirmationCode(rng);
         LocalDate in = LocalDate.parse(checkIn);
@@ -77,6 +82,11 @@ public class AirbnbPlatform extends AbstractOtaPlatform {
         return p;
     }
 
+    @Override
+    public String reservationIdOf(Object payload) {
+        return ((AirbnbReservationPayload) payload).getConfirmationCode();
+    }
+
     @Override
     public Object cancel(String reservationId) {
         Object existing = removeReservation(reservationId);
@@ -93,7 +103,7 @@ public class AirbnbPlatform extends AbstractOtaPlatform {
         return p;
     }
 
-    private String generateConfirmationCode(ThreadLocalRandom rng) {
+    private String generateConfirmationCode(RandomGenerator rng) {
         StringBuilder sb = new StringBuilder(10);
         for (int i = 0; i < 10; i++) {
             sb.append(CHARS.charAt(rng.nextInt(CHARS.length())));
@@ -15,6 +15,18 @@ public interface OtaPlatform {
     /** Cancel an existing booking and return the platform-specific cancel payload. */
     Object cancel(String reservationId);
 
+    /** Extract this platform's reservation identifier from a payload it produced. */
+    String reservationIdOf(Object payload);
+
     /** Check whether a reservation exists in this platform's internal state. */
     boolean hasReservation(String reservationId);
+
+    /**
+     * Apply an availability push received from the channel manager (broker).
+     * Dates are ISO-8601; endDate is exclusive.
+     */
+    void applyAvailability(String roomId, String startDate, String endDate, boolean closed);
+
+    /** Check whether the given night is closed for sale on this platform. */
+    boolean isClosed(String roomId, String date);
 }
@@ -2,12 +2,13 @@ package simulator.platform;
 
 import org.springframework.stereotype.Component;
 import simulator.platform.payload.YanoljaReservationPayload;
+import simulator.random.RandomStreams;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Platform A — YANOLJA.
@@ -24,6 +25,10 @@ public class YanoljaPlatform extends AbstractOtaPlatform {
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
+    public YanoljaPlatform(RandomStreams random) {
+        super(random);
+    }
+
     @Override
     public PlatformType type() {
         return PlatformType.A;
@@ -31,9 +36,9 @@ public class YanoljaPlatform extends AbstractOtaPlatform {
 
     @Override
     public Object book(String roomId, String guestName, String checkIn, String checkOut) {
-        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        RandomGenerator rng = nextRandom();
 
-        String resId = generateId("YNJ-");
+        String resId = generateId("YNJ-", rng);
         LocalDate in = LocalDate.parse(checkIn);
         LocalDate out = LocalDate.parse(checkOut);
         int nights = (int) ChronoUnit.DAYS.between(in, out);
@@ -64,6 +69,11 @@ public class YanoljaPlatform extends AbstractOtaPlatform {
         return p;
     }
 
+    @Override
+    public String reservationIdOf(Object payload) {
+        return ((YanoljaReservationPayload) payload).getReservationId();
+    }
+
     @Override
     public Object cancel(String reservationId) {
         Object existing = removeReservation(reservationId);
@@ -2,11 +2,12 @@ package simulator.platform;
 
 import org.springframework.stereotype.Component;
 import simulator.platform.payload.YeogieottaeReservationPayload;
+import simulator.random.RandomStreams;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Platform C — YEOGIEOTTAE.
@@ -21,6 +22,10 @@ public class YeogieottaePlatform extends AbstractOtaPlatform {
     private static final String[] PAY_METHODS = {"CARD", "PHONE", "BANK_TRANSFER"};
     private static final String[] ROOM_TYPE_NAMES = {"스탠다드", "디럭스", "트윈", "온돌방", "복층"};
 
+    public YeogieottaePlatform(RandomStreams random) {
+        super(random);
+    }
+
     @Override
     public PlatformType type() {
         return PlatformType.C;
@@ -28,9 +33,9 @@ public class YeogieottaePlatform extends AbstractOtaPlatform {
 
     @Override
     public Object book(String roomId, String guestName, String checkIn, String checkOut) {
-        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        RandomGenerator rng = nextRandom();
 
-        String orderId = generateId("YEO-");
+        String orderId = generateId("YEO-", rng);
         LocalDate in = LocalDate.parse(checkIn);
         LocalDate out = LocalDate.parse(checkOut);
         long nowEpochSec = Instant.now().getEpochSecond();
@@ -57,6 +62,11 @@ public class YeogieottaePlatform extends AbstractOtaPlatform {
         return p;
     }
 
+    @Override
+    public String reservationIdOf(Object payload) {
+        return ((YeogieottaeReservationPayload) payload).getOrderId();
+    }
+
     @Override
     public Object cancel(String reservationId) {
         Object existing = removeReservation(reservationId);
@@ -0,0 +1,151 @@
+package simulator.random;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Seeded source of every random decision in the simulator (chaos, generated IDs, guest data, payload fields).
+ *
+ * Each call to next(stream) returns a fresh SplittableRandom whose seed is derived from
+ * (run seed, stream name, draw index), so one stream's sequence never depends on how often
+ * another stream was used.
+ *
+ * - 시나리오처럼 한 스레드에서 순서대로 호출하면 stream별 카운터가 draw index가 된다.
+ * - 여러 스레드에서 동시에 호출하는 경우(load generator) withScope(scope, index, ...)로 감싸면
+ *   draw index가 (scope, index, scope 내 호출 순번)으로 고정되어 스레드 스케줄링과 무관해진다.
+ *
+ * beginRun(name)은 카운터를 되돌리고 (실행 이름, 프로세스 내 실행 순번)을 키에 섞는다.
+ * 같은 seed로 띄운 simulator에서 같은 순서로 실행하면 같은 워크로드가 나오고,
+ * 한 프로세스 안의 연속 실행끼리는 ID가 겹치지 않는다 (broker 멱등성 처리에 걸리지 않음).
+ * 실행이 서로 겹치면(동시에 두 시나리오) 재현성은 보장되지 않는다.
+ */
+@Component
+public class RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicLong runs = new AtomicLong();
+    private volatile long runKey;
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    /**
+     * @param seed 비어 있으면 임의의 seed를 뽑아 로그로 남긴다
+     */
+    public RandomStreams(@Value("${simulator.seed:}") String seed) {
+        this.seed = seed == null || seed.isBlank() ? new SplittableRandom().nextLong() : Long.parseLong(seed.trim());
+        this.runKey = this.seed;
+        System.out.printf(">> Random seed: %d (set simulator.seed=%d to reproduce)%n", this.seed, this.seed);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Starts a new run: every stream restarts from its first draw, keyed by the run's name and ordinal.
+     */
+    public void beginRun(String name) {
+        counters.clear();
+        runKey = mix(seed, hash(name), runs.getAndIncrement(), 0);
+    }
+
+    /**
+     * Generator for the next draw on the named stream. Use it for one logical decision
+     * (one chaos decision, one payload) and discard it.
+     */
+    public RandomGenerator next(String stream) {
+        Scope current = scope.get();
+        long key = hash(stream);
+        if (current != null) {
+            long draw = current.draws.computeIfAbsent(stream, s -> new AtomicLong()).getAndIncrement();
+            return new SplittableRandom(mix(runKey, current.key, key, draw));
+        }
+        long draw = counters.computeIfAbsent(stream, s -> new AtomicLong()).getAndIncrement();
+        return new SplittableRandom(mix(runKey, 0, key, draw));
+    }
+
+    /**
+     * Runs work with draws keyed by (scope, index) instead of the shared per-stream counters,
+     * so the result is the same whichever thread runs it and in whatever order.
+     */
+    public <T> T withScope(String name, long index, Supplier<T> work) {
+        Scope previous = scope.get();
+        scope.set(new Scope(mix(hash(name), index, 0, 0)));
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                scope.remove();
+            } else {
+                scope.set(previous);
+            }
+        }
+    }
+
+    /** Random (version 4) UUID drawn from the given generator. */
+    public static UUID uuid(RandomGenerator rng) {
+        long msb = (rng.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (rng.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /** Fisher-Yates shuffle into a new list. */
+    public static <T> List<T> shuffled(List<T> items, RandomGenerator rng) {
+        List<T> copy = new ArrayList<>(items);
+        for (int i = copy.size() - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            T tmp = copy.get(i);
+            copy.set(i, copy.get(j));
+            copy.set(j, tmp);
+        }
+        return copy;
+    }
+
+    private static long mix(long a, long b, long c, long d) {
+        long h = a;
+        h = mix64(h + GOLDEN_GAMMA + b);
+        h = mix64(h + GOLDEN_GAMMA + c);
+        h = mix64(h + GOLDEN_GAMMA + d);
+        return h;
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** 64-bit FNV-1a; String.hashCode() is too narrow for stream keys. */
+    private static long hash(String s) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private static final class Scope {
+        private final long key;
+        private final Map<String, AtomicLong> draws = new HashMap<>();  // owned by one thread
+
+        Scope(long key) {
+            this.key = key;
+        }
+    }
+}
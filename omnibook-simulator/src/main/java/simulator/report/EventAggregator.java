@@ -0,0 +1,54 @@
+package simulator.report;
+
+import simulator.platform.PlatformType;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Constant-memory event counters keyed by platform / event type / chaos category.
+ * Recording is lock-free after a key's first event: striped LongAdder increments only.
+ */
+public class EventAggregator {
+
+    private final Map<ReportKey, Counters> counters = new ConcurrentHashMap<>();
+
+    public void record(PlatformType platform, String eventType, String chaosEffect,
+                       boolean sent, boolean delivered) {
+        Counters c = counters.computeIfAbsent(ReportKey.of(platform, eventType, chaosEffect), k -> new Counters());
+        c.total.increment();
+        if (sent) c.sent.increment();
+        if (delivered) c.delivered.increment();
+    }
+
+    /** Snapshot of every key, ordered by key. */
+    public Map<ReportKey, EventCounts> byKey() {
+        Map<ReportKey, EventCounts> snapshot = new TreeMap<>();
+        counters.forEach((key, c) -> snapshot.put(key, c.snapshot()));
+        return snapshot;
+    }
+
+    public EventCounts total() {
+        return byKey().values().stream().reduce(EventCounts.ZERO, EventCounts::plus);
+    }
+
+    /** Events that had any chaos effect applied (duplicate copies included). */
+    public long chaotic() {
+        return byKey().entrySet().stream()
+                .filter(e -> !e.getKey().isClean())
+                .mapToLong(e -> e.getValue().total())
+                .sum();
+    }
+
+    private static final class Counters {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+
+        EventCounts snapshot() {
+            return new EventCounts(total.sum(), sent.sum(), delivered.sum());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package simulator.report;
+
+/**
+ * Point-in-time counts for one aggregation key (or the whole run).
+ *
+ * @param total     recorded events, including ones chaos chose not to send
+ * @param sent      events that were actually sent
+ * @param delivered sends the broker acknowledged with 2xx
+ */
+public record EventCounts(long total, long sent, long delivered) {
+
+    public static final EventCounts ZERO = new EventCounts(0, 0, 0);
+
+    public long failed() {
+        return total - delivered;
+    }
+
+    public EventCounts plus(EventCounts other) {
+        return new EventCounts(total + other.total, sent + other.sent, delivered + other.delivered);
+    }
+}
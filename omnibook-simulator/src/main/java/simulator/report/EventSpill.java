@@ -0,0 +1,89 @@
+package simulator.report;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes per-event detail as NDJSON (one ExecutionReport.Entry per line) instead of keeping it on the heap.
+ * Rolls to a new file once the current one reaches maxBytesPerFile:
+ * <base>.0.ndjson, <base>.1.ndjson, ...
+ *
+ * 쓰기는 파일 I/O라 synchronized로 직렬화한다. 집계(EventAggregator)는 이 락과 무관하다.
+ */
+public class EventSpill implements Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final byte NEWLINE = '\n';
+
+    private final Path directory;
+    private final String baseName;
+    private final long maxBytesPerFile;
+    private final List<Path> files = new ArrayList<>();
+
+    private OutputStream out;
+    private long written;
+    private boolean closed;
+
+    public EventSpill(Path directory, String baseName, long maxBytesPerFile) {
+        if (maxBytesPerFile <= 0) {
+            throw new IllegalArgumentException("maxBytesPerFile must be positive");
+        }
+        this.directory = directory;
+        this.baseName = baseName;
+        this.maxBytesPerFile = maxBytesPerFile;
+    }
+
+    public synchronized void write(ExecutionReport.Entry entry) {
+        if (closed) {
+            return;
+        }
+        try {
+            byte[] line = MAPPER.writeValueAsBytes(entry);
+            if (out == null || (written > 0 && written + line.length + 1 > maxBytesPerFile)) {
+                roll();
+            }
+            out.write(line);
+            out.write(NEWLINE);
+            written += line.length + 1;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize report entry", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Files written so far, in order. */
+    public synchronized List<Path> files() {
+        return List.copyOf(files);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        if (out != null) {
+            out.close();
+        }
+        Files.createDirectories(directory);
+        Path file = directory.resolve(baseName + "." + files.size() + ".ndjson");
+        out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        files.add(file);
+        written = 0;
+    }
+}
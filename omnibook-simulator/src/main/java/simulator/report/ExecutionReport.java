@@ -1,27 +1,50 @@
 package simulator.report;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import simulator.platform.PlatformType;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Collects all events emitted during a scenario execution for reporting.
+ * Aggregates every event emitted during a scenario execution for reporting.
+ * Safe for concurrent use from sender completion threads and constant in memory:
+ * only counters and histograms are kept. Per-event detail goes to an optional NDJSON spill.
  */
 @Getter
 public class ExecutionReport {
 
     private final String scenarioName;
     private final String correlationId;
-    private final List<Entry> entries = new ArrayList<>();
-    private long startTimeMs;
-    private long endTimeMs;
+    private final long seed;            // 이 실행을 재현하는 simulator.seed
+    private final EventAggregator events = new EventAggregator();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final ServerTimingRecorder serverTimings = new ServerTimingRecorder();
+    private final EventSpill spill;     // null = 상세 기록 안 함
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong highestDispatched = new AtomicLong(-1);
+    @Getter(AccessLevel.NONE)
+    private final LongAdder overtaken = new LongAdder();
+    private volatile long startTimeMs;
+    private volatile long endTimeMs;
+    private volatile long virtualElapsedMs = -1;    // -1 = real clock
 
-    public ExecutionReport(String scenarioName, String correlationId) {
+    public ExecutionReport(String scenarioName, String correlationId, long seed) {
+        this(scenarioName, correlationId, seed, null);
+    }
+
+    public ExecutionReport(String scenarioName, String correlationId, long seed, EventSpill spill) {
         this.scenarioName = scenarioName;
         this.correlationId = correlationId;
+        this.seed = seed;
+        this.spill = spill;
     }
 
     public void markStart() {
@@ -32,13 +55,89 @@ public class ExecutionReport {
         this.endTimeMs = System.currentTimeMillis();
     }
 
+    /**
+     * With simulator.clock=virtual, the simulated time the scenario covered (its delays),
+     * as opposed to getDurationMs() which stays wall-clock.
+     */
+    public void markVirtualElapsed(long ms) {
+        this.virtualElapsedMs = ms;
+    }
+
+    /**
+     * Entry for an event that was never sent (e.g. simulated failure).
+     */
     public void addEntry(PlatformType platform, String eventType, String eventId,
                          String reservationId, String chaosEffect, boolean delivered) {
-        entries.add(new Entry(platform, eventType, eventId, reservationId, chaosEffect, delivered));
+        events.record(platform, eventType, chaosEffect, false, delivered);
+        spill(new Entry(platform, eventType, eventId, reservationId, chaosEffect, delivered, 0, -1));
+    }
+
+    /**
+     * Entry for a sent event; its latency is recorded in the histograms.
+     *
+     * @param statusCode HTTP status, 0 if no response was received
+     */
+    public void addEntry(PlatformType platform, String eventType, String eventId,
+                         String reservationId, String chaosEffect, boolean delivered,
+                         int statusCode, long latencyNanos) {
+        events.record(platform, eventType, chaosEffect, true, delivered);
+        latencies.record(platform, eventType, statusCode, latencyNanos);
+        spill(new Entry(platform, eventType, eventId, reservationId, chaosEffect, delivered,
+                statusCode, latencyNanos));
+    }
+
+    /**
+     * Folds the broker's Server-Timing stage breakdown of one response into the report.
+     */
+    public void addServerTiming(Map<String, Double> stageMs) {
+        serverTimings.record(stageMs);
+    }
+
+    /**
+     * Called when an event actually leaves the simulator (after any chaos delay).
+     * An event dispatched after one emitted later than itself was overtaken — i.e. the broker
+     * sees it out of emission order.
+     *
+     * @param emitSequence emission order within the scenario, starting at 0
+     */
+    public void markDispatched(long emitSequence) {
+        if (highestDispatched.getAndAccumulate(emitSequence, Math::max) > emitSequence) {
+            overtaken.increment();
+        }
+    }
+
+    /** Events delivered after an event emitted later than them. */
+    public long getOvertaken() {
+        return overtaken.sum();
     }
 
     public long getDurationMs() { return endTimeMs - startTimeMs; }
 
+    /** NDJSON files holding per-event detail; empty if spilling is disabled. */
+    public List<Path> getSpillFiles() {
+        return spill == null ? List.of() : spill.files();
+    }
+
+    /**
+     * Flushes and closes the spill. Entries added afterwards are still aggregated but not written.
+     */
+    public void closeSpill() {
+        if (spill == null) {
+            return;
+        }
+        try {
+            spill.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void spill(Entry entry) {
+        if (spill != null) {
+            spill.write(entry);
+        }
+    }
+
     @Getter
     @AllArgsConstructor
     public static class Entry {
@@ -48,5 +147,11 @@ public class ExecutionReport {
         private final String reservationId; // 예약의 ID (eventId와 별개)
         private final String chaosEffect;
         private final boolean delivered;
+        private final int statusCode;       // 0 = 응답 없음
+        private final long latencyNanos;    // -1 = 전송하지 않음
+
+        public boolean isSent() {
+            return latencyNanos >= 0;
+        }
     }
 }
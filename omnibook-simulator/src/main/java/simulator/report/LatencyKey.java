@@ -0,0 +1,26 @@
+package simulator.report;
+
+import simulator.platform.PlatformType;
+
+import java.util.Comparator;
+
+/**
+ * Histogram split key: platform × event type × HTTP status (0 = no response).
+ */
+public record LatencyKey(PlatformType platform, String eventType, int statusCode) implements Comparable<LatencyKey> {
+
+    private static final Comparator<LatencyKey> ORDER = Comparator
+            .comparing(LatencyKey::platform)
+            .thenComparing(LatencyKey::eventType)
+            .thenComparingInt(LatencyKey::statusCode);
+
+    /** Histogram log tag, e.g. YANOLJA.BOOKING.200 (no commas or whitespace allowed). */
+    public String tag() {
+        return platform.displayName() + "." + eventType + "." + statusCode;
+    }
+
+    @Override
+    public int compareTo(LatencyKey other) {
+        return ORDER.compare(this, other);
+    }
+}
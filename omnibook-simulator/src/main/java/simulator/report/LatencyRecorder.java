@@ -0,0 +1,81 @@
+package simulator.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import simulator.platform.PlatformType;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Send-to-response latency histograms (microseconds), split by platform, event type and status.
+ * Safe for concurrent recording from sender completion threads.
+ *
+ * writeLog() exports the HdrHistogram interval log format so runs can be compared offline
+ * (HistogramLogProcessor, HdrHistogram plotter, etc.).
+ */
+public class LatencyRecorder {
+
+    public static final String TOTAL_TAG = "ALL";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<LatencyKey, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Histogram total = newHistogram();
+    private final long startTimeMs = System.currentTimeMillis();
+
+    public void record(PlatformType platform, String eventType, int statusCode, long latencyNanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 0), HIGHEST_TRACKABLE_MICROS);
+        histograms.computeIfAbsent(new LatencyKey(platform, eventType, statusCode), k -> newHistogram())
+                .recordValue(micros);
+        total.recordValue(micros);
+    }
+
+    /** Copy of the combined histogram. */
+    public Histogram total() {
+        return total.copy();
+    }
+
+    /** Copies of the split histograms, ordered by key. */
+    public Map<LatencyKey, Histogram> byKey() {
+        Map<LatencyKey, Histogram> copies = new TreeMap<>();
+        histograms.forEach((key, histogram) -> copies.put(key, histogram.copy()));
+        return copies;
+    }
+
+    /**
+     * Writes every histogram as one tagged interval covering the whole run.
+     */
+    public void writeLog(OutputStream out) {
+        PrintStream stream = new PrintStream(out, false, StandardCharsets.UTF_8);
+        long endTimeMs = System.currentTimeMillis();
+
+        HistogramLogWriter writer = new HistogramLogWriter(stream);
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(startTimeMs);
+        writer.setBaseTime(startTimeMs);
+        writer.outputLegend();
+
+        write(writer, total(), TOTAL_TAG, endTimeMs);
+        byKey().forEach((key, histogram) -> write(writer, histogram, key.tag(), endTimeMs));
+        stream.flush();
+    }
+
+    private void write(HistogramLogWriter writer, Histogram histogram, String tag, long endTimeMs) {
+        histogram.setTag(tag);
+        histogram.setStartTimeStamp(startTimeMs);
+        histogram.setEndTimeStamp(endTimeMs);
+        writer.outputIntervalHistogram(histogram);
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+}
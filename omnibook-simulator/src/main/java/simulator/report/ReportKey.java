@@ -0,0 +1,43 @@
+package simulator.report;
+
+import simulator.platform.PlatformType;
+
+import java.util.Comparator;
+import java.util.regex.Pattern;
+
+/**
+ * Aggregation key: platform × event type × chaos category.
+ * The category drops per-event parameters ("DUP(x2) DELAY(850ms)" → "DUP+DELAY")
+ * so the number of keys stays bounded however many events are sent.
+ */
+public record ReportKey(PlatformType platform, String eventType, String chaosCategory) implements Comparable<ReportKey> {
+
+    public static final String CLEAN = "CLEAN";
+
+    private static final Pattern PARAMETERS = Pattern.compile("\\([^)]*\\)");
+
+    private static final Comparator<ReportKey> ORDER = Comparator
+            .comparing(ReportKey::platform)
+            .thenComparing(ReportKey::eventType)
+            .thenComparing(ReportKey::chaosCategory);
+
+    public static ReportKey of(PlatformType platform, String eventType, String chaosEffect) {
+        return new ReportKey(platform, eventType, categoryOf(chaosEffect));
+    }
+
+    static String categoryOf(String chaosEffect) {
+        if (chaosEffect == null || chaosEffect.isBlank()) {
+            return CLEAN;
+        }
+        return String.join("+", PARAMETERS.matcher(chaosEffect).replaceAll("").trim().split("\\s+"));
+    }
+
+    public boolean isClean() {
+        return CLEAN.equals(chaosCategory);
+    }
+
+    @Override
+    public int compareTo(ReportKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -1,11 +1,18 @@
 package simulator.report;
 
+import org.HdrHistogram.Histogram;
 import org.springframework.stereotype.Component;
+import simulator.sweep.SweepStatus;
+import simulator.sweep.SweepStep;
+import simulator.traffic.TrafficReplayStatus;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Console-based execution report printer.
+ * Console-based execution report printer. Prints aggregates only;
+ * per-event detail lives in the report's NDJSON spill files, if enabled.
  */
 @Component
 public class ReportPrinter {
@@ -15,38 +22,176 @@ public class ReportPrinter {
         System.out.println("╔════════════════════════════════════════════════════════════════════════════╗");
         System.out.printf( "║  SCENARIO: %-63s║%n", report.getScenarioName());
         System.out.printf( "║  CORRELATION: %-60s║%n", report.getCorrelationId());
+        System.out.printf( "║  SEED: %-67s║%n", report.getSeed());
         System.out.printf( "║  DURATION: %-63s║%n", report.getDurationMs() + " ms");
+        if (report.getVirtualElapsedMs() >= 0) {
+            System.out.printf( "║  VIRTUAL TIME: %-59s║%n", report.getVirtualElapsedMs() + " ms simulated");
+        }
         System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
-        System.out.printf( "║  %-10s %-12s %-10s %-14s %-10s %-6s ║%n",
-                "PLATFORM", "EVENT", "EVENT_ID", "RESERVATION", "CHAOS", "OK?");
+        System.out.printf( "║  %-10s %-12s %-17s %7s %7s %7s %7s ║%n",
+                "PLATFORM", "EVENT", "CHAOS", "TOTAL", "SENT", "OK", "FAILED");
         System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
 
-        List<ExecutionReport.Entry> entries = report.getEntries();
-        for (ExecutionReport.Entry e : entries) {
-            System.out.printf("║  %-10s %-12s %-10s %-14s %-10s %-6s ║%n",
-                    e.getPlatform().displayName(),
-                    truncate(e.getEventType(), 12),
-                    truncate(e.getEventId(), 10),
-                    truncate(e.getReservationId(), 14),
-                    truncate(e.getChaosEffect(), 10),
-                    e.isDelivered() ? "YES" : "NO");
+        EventAggregator events = report.getEvents();
+        for (Map.Entry<ReportKey, EventCounts> e : events.byKey().entrySet()) {
+            ReportKey key = e.getKey();
+            EventCounts counts = e.getValue();
+            System.out.printf("║  %-10s %-12s %-17s %7d %7d %7d %7d ║%n",
+                    key.platform().displayName(),
+                    truncate(key.eventType(), 12),
+                    truncate(key.chaosCategory(), 17),
+                    counts.total(),
+                    counts.sent(),
+                    counts.delivered(),
+                    counts.failed());
         }
 
         System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
 
-        long total = entries.size();
-        long delivered = entries.stream().filter(ExecutionReport.Entry::isDelivered).count();
-        long failed = total - delivered;
-        long chaotic = entries.stream()
-                .filter(e -> !"CLEAN".equals(e.getChaosEffect()))
-                .count();
+        EventCounts total = events.total();
+        System.out.printf( "║  TOTAL: %-8d DELIVERED: %-8d FAILED: %-8d CHAOTIC: %-11d ║%n",
+                total.total(), total.delivered(), total.failed(), events.chaotic());
+        System.out.printf( "║  OVERTAKEN: %-63s║%n", report.getOvertaken() + " (delivered after a later-emitted event)");
+        List<Path> spillFiles = report.getSpillFiles();
+        if (!spillFiles.isEmpty()) {
+            String detail = spillFiles.get(0).getParent() + " (" + spillFiles.size() + " ndjson files)";
+            System.out.printf( "║  DETAIL: %-66s║%n", truncate(detail, 66));
+        }
+
+        printLatencies(report);
+        printServerTimings(report);
+
+        System.out.println("╚════════════════════════════════════════════════════════════════════════════╝");
+        System.out.println();
+    }
+
+    /**
+     * raw_events replay: replayed outcomes against the originally recorded ones.
+     */
+    public void print(TrafficReplayStatus status) {
+        System.out.println();
+        System.out.println("╔════════════════════════════════════════════════════════════════════════════╗");
+        System.out.printf( "║  TRAFFIC REPLAY: %-58s║%n", status.runId());
+        System.out.printf( "║  DUMP: %-68s║%n", truncate(status.file(), 68));
+        System.out.printf( "║  SPEED: %-67s║%n", status.speed() > 0 ? status.speed() + "x" : "max rate");
+        System.out.printf( "║  DURATION: %-64s║%n",
+                status.elapsedMs() + " ms (recorded " + status.recordedSpanMs() + " ms)");
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        System.out.printf( "║  %-10s %-8s %-23s %-22s %6s ║%n",
+                "PLATFORM", "EVENT", "ORIGINAL", "REPLAY", "COUNT");
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        for (TrafficReplayStatus.Transition t : status.transitions()) {
+            System.out.printf("║  %-10s %-8s %-23s %-22s %6d ║%n",
+                    truncate(t.platform(), 10),
+                    truncate(shortType(t.eventType()), 8),
+                    truncate(t.original(), 23),
+                    truncate((t.matched() ? "= " : "") + t.replay(), 22),
+                    t.count());
+        }
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        System.out.printf( "║  SENT: %-8d MATCHED: %-8d DIVERGED: %-8d NO ORIGINAL: %-8d ║%n",
+                status.dispatched(), status.matched(), status.diverged(), status.noOriginal());
+        System.out.printf( "║  OUT OF ORDER: %-9d MAX SCHEDULE LAG: %-32s║%n",
+                status.outOfOrder(), status.maxScheduleLagMs() + " ms");
+        System.out.printf( "║  LATENCY (ms): %-60s║%n", String.format("p50 %.1f  p99 %.1f  max %.1f",
+                status.p50LatencyMs(), status.p99LatencyMs(), status.maxLatencyMs()));
+        System.out.println("╚════════════════════════════════════════════════════════════════════════════╝");
+        System.out.println();
+    }
 
-        System.out.printf( "║  TOTAL: %-5d  DELIVERED: %-5d  FAILED: %-5d  CHAOTIC: %-16d ║%n",
-                total, delivered, failed, chaotic);
+    /**
+     * Saturation sweep: one row per offered-load step, knee = last step within SLO.
+     */
+    public void print(SweepStatus status) {
+        System.out.println();
+        System.out.println("╔════════════════════════════════════════════════════════════════════════════╗");
+        System.out.printf( "║  SWEEP: %-67s║%n", status.runId());
+        System.out.printf( "║  SEED: %-68s║%n", status.seed());
+        System.out.printf( "║  SLO: %-69s║%n", String.format("p99 <= %.0f ms, capacity errors <= %.2f%%",
+                status.sloP99Ms(), status.maxErrorRate() * 100));
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        System.out.printf( "║  %4s %8s %8s %8s %8s %7s %7s %-16s ║%n",
+                "STEP", "OFFERED", "ACHIEVED", "p50", "p99", "ERR%", "REJ%", "VERDICT");
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        for (SweepStep step : status.steps()) {
+            System.out.printf("║  %4d %8.1f %8.1f %8.1f %8.1f %7.2f %7.2f %-16s ║%n",
+                    step.step(),
+                    step.offeredRps(),
+                    step.achievedRps(),
+                    step.p50LatencyMs(),
+                    step.p99LatencyMs(),
+                    step.errorRate() * 100,
+                    step.rejectRate() * 100,
+                    truncate(step.verdict() + (step.stable() ? "" : "*"), 16));
+        }
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        System.out.printf( "║  KNEE: %-68s║%n", status.kneeRps() > 0
+                ? String.format("%.0f rps offered, %.1f achieved, p99 %.1f ms",
+                        status.kneeRps(), status.kneeAchievedRps(), status.kneeP99LatencyMs())
+                : "none (first step already outside the SLO)");
+        System.out.printf( "║  STOP: %-68s║%n", truncate(status.stopReason(), 68));
         System.out.println("╚════════════════════════════════════════════════════════════════════════════╝");
         System.out.println();
     }
 
+    /**
+     * Latency percentiles (ms) for all sends, then per platform / event type / status.
+     */
+    private void printLatencies(ExecutionReport report) {
+        LatencyRecorder latencies = report.getLatencies();
+        Histogram all = latencies.total();
+        if (all.getTotalCount() == 0) {
+            return;
+        }
+
+        double seconds = Math.max(report.getDurationMs(), 1) / 1000.0;
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        System.out.printf( "║  THROUGHPUT: %-62s║%n", String.format("%.1f req/s", all.getTotalCount() / seconds));
+        System.out.printf( "║  %-26s %6s %7s %7s %7s %7s %7s ║%n",
+                "LATENCY (ms)", "COUNT", "p50", "p90", "p99", "p99.9", "max");
+        printLatencyRow(LatencyRecorder.TOTAL_TAG, all);
+        for (Map.Entry<LatencyKey, Histogram> e : latencies.byKey().entrySet()) {
+            LatencyKey key = e.getKey();
+            String label = key.platform().displayName() + "/" + shortType(key.eventType()) + "/" + key.statusCode();
+            printLatencyRow(label, e.getValue());
+        }
+    }
+
+    /**
+     * Broker-side stage durations from Server-Timing; skipped when the broker does not send it.
+     */
+    private void printServerTimings(ExecutionReport report) {
+        ServerTimingRecorder timings = report.getServerTimings();
+        if (timings.isEmpty()) {
+            return;
+        }
+
+        System.out.println("╠════════════════════════════════════════════════════════════════════════════╣");
+        System.out.printf( "║  %-26s %6s %7s %7s %7s %7s %7s ║%n",
+                "BROKER STAGE (ms)", "COUNT", "p50", "p90", "p99", "p99.9", "max");
+        timings.byStage().forEach(this::printLatencyRow);
+    }
+
+    private void printLatencyRow(String label, Histogram h) {
+        System.out.printf("║  %-26s %6d %7.1f %7.1f %7.1f %7.1f %7.1f ║%n",
+                truncate(label, 26),
+                h.getTotalCount(),
+                microsToMs(h.getValueAtPercentile(50)),
+                microsToMs(h.getValueAtPercentile(90)),
+                microsToMs(h.getValueAtPercentile(99)),
+                microsToMs(h.getValueAtPercentile(99.9)),
+                microsToMs(h.getMaxValue()));
+    }
+
+    private double microsToMs(long micros) {
+        return micros / 1000.0;
+    }
+
+    private String shortType(String eventType) {
+        if ("CANCELLATION".equals(eventType)) return "CANCEL";
+        return eventType;
+    }
+
     private String truncate(String s, int max) {
         if (s == null) return "";
         return s.length() <= max ? s : s.substring(0, max - 2) + "..";
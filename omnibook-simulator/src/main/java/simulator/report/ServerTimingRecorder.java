@@ -0,0 +1,57 @@
+package simulator.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histograms (microseconds) of the broker's Server-Timing stages, one per metric name.
+ * Empty unless the broker runs with broker.server-timing.enabled=true.
+ */
+public class ServerTimingRecorder {
+
+    /** Broker stage order; metrics not listed here are reported after these, by name. */
+    private static final List<String> STAGE_ORDER =
+            List.of("raw-store", "parse", "translate", "db-lookup", "db-write", "commit", "total");
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(Map<String, Double> stageMs) {
+        stageMs.forEach((stage, ms) -> {
+            long micros = Math.min(Math.max(Math.round(ms * 1000), 0), HIGHEST_TRACKABLE_MICROS);
+            histograms.computeIfAbsent(stage, k -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS))
+                    .recordValue(micros);
+        });
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    /** Copies of the stage histograms in broker stage order. */
+    public Map<String, Histogram> byStage() {
+        List<String> names = new ArrayList<>(histograms.keySet());
+        names.sort((a, b) -> {
+            int ia = STAGE_ORDER.indexOf(a);
+            int ib = STAGE_ORDER.indexOf(b);
+            if (ia >= 0 && ib >= 0) return Integer.compare(ia, ib);
+            if (ia >= 0) return -1;
+            if (ib >= 0) return 1;
+            return a.compareTo(b);
+        });
+        Map<String, Histogram> copies = new LinkedHashMap<>();
+        for (String name : names) {
+            copies.put(name, histograms.get(name).copy());
+        }
+        return copies;
+    }
+}
@@ -3,14 +3,20 @@ package simulator.scenario;
 import lombok.RequiredArgsConstructor;
 import simulator.chaos.ChaosDecision;
 import simulator.chaos.ChaosEngine;
+import simulator.chaos.DeliveryScheduler;
 import simulator.event.PlatformEvent;
 import simulator.platform.OtaPlatform;
 import simulator.platform.PlatformType;
+import simulator.random.RandomStreams;
 import simulator.report.ExecutionReport;
+import simulator.sender.EncodedEvent;
 import simulator.sender.EventSender;
 
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Shared context available to every scenario during execution.
@@ -22,9 +28,16 @@ public class ScenarioContext {
     private final Map<PlatformType, OtaPlatform> platforms;
     private final EventSender sender;
     private final ChaosEngine chaosEngine;
+    private final DeliveryScheduler scheduler;
+    private final RandomStreams random;
     private final String targetUrl;
     private final String correlationId;
     private final ExecutionReport report;
+    private final List<CompletableFuture<Void>> pending = new CopyOnWriteArrayList<>();
+    private final AtomicLong emitSequence = new AtomicLong();
+
+    /** Delivery of the last non-delayed emitOrdered() event. Only touched from the scenario thread. */
+    private CompletableFuture<Void> orderedTail = CompletableFuture.completedFuture(null);
 
     public OtaPlatform platform(PlatformType type) {
         return platforms.get(type);
@@ -41,15 +54,51 @@ public class ScenarioContext {
     /**
      * Emit a single event through the chaos + sender pipeline.
      * Chaos affects delivery only — never payload content.
+     * Blocks until the broker has responded to every copy (including any chaos delay).
      *
-     * 내부에서 UUID를 생성하여 PlatformEvent를 만들고 emitEvent()로 위임.
+     * 내부에서 seed 기반 UUID를 생성하여 PlatformEvent를 만들고 emitEvent()로 위임.
      */
     public void emit(PlatformType platform, String eventType, Object payload, String reservationId) {
-        String eventId = UUID.randomUUID().toString();
-        PlatformEvent event = new PlatformEvent(
-                eventId, platform, eventType, reservationId, payload, correlationId
-        );
-        emitEvent(event);
+        scheduler.await(emitAsync(platform, eventType, payload, reservationId));
+    }
+
+    /**
+     * Pipelined variant of emit(): returns as soon as the request is dispatched.
+     * Call awaitPending() before reading the report.
+     */
+    public CompletableFuture<Void> emitAsync(PlatformType platform, String eventType, Object payload, String reservationId) {
+        return emitEventAsync(newEvent(platform, eventType, payload, reservationId));
+    }
+
+    /**
+     * Emits in call order without blocking the caller: each event is sent only after the broker
+     * has answered the previous emitOrdered() event, so scenarios keep control of arrival order.
+     * A chaos-delayed event is detached onto the scheduler (its delay starts at its turn) and does
+     * not hold back the events after it, so it is the only one that can be overtaken.
+     * Call awaitPending() before reading the report.
+     */
+    public void emitOrdered(PlatformType platform, String eventType, Object payload, String reservationId) {
+        Emission emission = dispatch(newEvent(platform, eventType, payload, reservationId), orderedTail);
+        if (!emission.detached()) {
+            orderedTail = emission.delivered().exceptionally(e -> null);
+        }
+    }
+
+    private PlatformEvent newEvent(PlatformType platform, String eventType, Object payload, String reservationId) {
+        String eventId = RandomStreams.uuid(random.next("scenario.event-id")).toString();
+        return new PlatformEvent(eventId, platform, eventType, reservationId, payload, correlationId);
+    }
+
+    /**
+     * Emits after delayMs without blocking the caller, e.g. to model a platform's batch lag.
+     * Chaos is decided when the delay elapses.
+     */
+    public CompletableFuture<Void> emitAfter(long delayMs, PlatformType platform, String eventType,
+                                             Object payload, String reservationId) {
+        CompletableFuture<Void> delayed = scheduler.schedule(delayMs,
+                () -> emitAsync(platform, eventType, payload, reservationId));
+        pending.add(delayed);
+        return delayed;
     }
 
     /**
@@ -57,6 +106,25 @@ public class ScenarioContext {
      * 중복 전송 시 동일한 eventId를 가진 PlatformEvent가 여러 번 전송된다.
      */
     public void emitEvent(PlatformEvent event) {
+        scheduler.await(emitEventAsync(event));
+    }
+
+    /**
+     * emitEvent()의 비동기 버전.
+     * 직렬화는 한 번만 하고, 중복 사본은 앞선 전송의 응답 이후 순서대로 전송한다.
+     * Chaos delay는 timer에 예약하므로 호출 스레드는 바로 다음 이벤트를 보낼 수 있다.
+     */
+    public CompletableFuture<Void> emitEventAsync(PlatformEvent event) {
+        return dispatch(event, CompletableFuture.completedFuture(null)).delivered();
+    }
+
+    /**
+     * Chaos is decided here, on the caller thread, so seeded runs draw the same decisions in the same order.
+     * Sending starts once previous completes; a delayed event waits its delay after previous and is
+     * reported as detached.
+     */
+    private Emission dispatch(PlatformEvent event, CompletableFuture<Void> previous) {
+        long sequence = emitSequence.getAndIncrement();
         ChaosDecision decision = chaosEngine.decide();
         String chaosTag = decision.toString();
 
@@ -65,14 +133,13 @@ public class ScenarioContext {
                     event.getPlatform().displayName(), event.getEventType(), event.getEventId());
             report.addEntry(event.getPlatform(), event.getEventType(),
                     event.getEventId(), event.getReservationId(), chaosTag, false);
-            return;
+            return new Emission(CompletableFuture.completedFuture(null), true);
         }
 
         if (decision.isDelay()) {
             System.out.printf("  [CHAOS] %s | %s | eventId=%s | DELAY %d ms%n",
                     event.getPlatform().displayName(), event.getEventType(),
                     event.getEventId(), decision.getDelayMs());
-            sleep(decision.getDelayMs());
         }
 
         int sends = 1 + (decision.isDuplicate() ? decision.getDuplicateCount() : 0);
@@ -82,16 +149,52 @@ public class ScenarioContext {
                     event.getEventId(), sends);
         }
 
-        // 중복 전송 시 동일한 eventId로 여러 번 전송
+        EncodedEvent encoded = sender.encode(event);
+        CompletableFuture<Void> chain;
+        if (decision.isDelay()) {
+            chain = previous.thenCompose(ignored -> scheduler.after(decision.getDelayMs()))
+                    .thenCompose(ignored -> scheduler.track(deliver(event, encoded, sequence, chaosTag, sends)));
+        } else {
+            // 대기까지 포함해 track해야 virtual 모드에서 앞 이벤트 응답 전에 시계가 전진하지 않는다
+            chain = scheduler.track(previous.thenCompose(
+                    ignored -> deliver(event, encoded, sequence, chaosTag, sends)));
+        }
+        pending.add(chain);
+        return new Emission(chain, decision.isDelay());
+    }
+
+    /**
+     * @param detached true if later ordered events need not wait for this one (delayed or dropped)
+     */
+    private record Emission(CompletableFuture<Void> delivered, boolean detached) {
+    }
+
+    /**
+     * 중복 전송 시 동일한 eventId(동일한 바디)로 여러 번 전송.
+     * 두 번째 사본부터는 앞선 응답의 콜백(sender io 스레드)에서 send()가 호출된다.
+     * AsyncHttpEventSender는 io 스레드에서 전송 창을 기다리지 않으므로 창이 가득 차도 교착되지 않는다.
+     */
+    private CompletableFuture<Void> deliver(PlatformEvent event, EncodedEvent encoded, long sequence,
+                                            String chaosTag, int sends) {
+        report.markDispatched(sequence);
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
         for (int i = 0; i < sends; i++) {
-            boolean ok = sender.send(targetUrl, event);
-            report.addEntry(event.getPlatform(), event.getEventType(),
-                    event.getEventId(), event.getReservationId(),
-                    i == 0 ? chaosTag : "DUP_COPY", ok);
+            String tag = i == 0 ? chaosTag : "DUP_COPY";
+            chain = chain.thenCompose(ignored -> sender.send(targetUrl, encoded))
+                    .thenAccept(result -> {
+                        report.addEntry(event.getPlatform(), event.getEventType(),
+                                event.getEventId(), event.getReservationId(), tag, result.delivered(),
+                                result.statusCode(), result.latencyNanos());
+                        report.addServerTiming(result.serverTiming());
+                    });
         }
+        return chain;
     }
 
-    private void sleep(long ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    /**
+     * Wait for every pipelined send issued through this context.
+     */
+    public void awaitPending() {
+        scheduler.await(CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])));
     }
 }
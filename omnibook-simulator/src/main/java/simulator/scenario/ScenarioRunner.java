@@ -4,14 +4,20 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import simulator.chaos.ChaosEngine;
+import simulator.chaos.DeliveryScheduler;
 import simulator.platform.OtaPlatform;
 import simulator.platform.PlatformType;
+import simulator.random.RandomStreams;
+import simulator.report.EventSpill;
 import simulator.report.ExecutionReport;
 import simulator.report.ReportPrinter;
 import simulator.sender.EventSender;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Runs a single scenario with a fresh ScenarioContext and unique correlationId.
@@ -23,26 +29,52 @@ public class ScenarioRunner {
     private final Map<PlatformType, OtaPlatform> platforms;
     private final EventSender sender;
     private final ChaosEngine chaosEngine;
+    private final DeliveryScheduler scheduler;
+    private final RandomStreams random;
     private final ReportPrinter printer;
 
     @Value("${simulator.target-url}")
     private String targetUrl;
 
+    /** If set, each run's latency histograms are written here as <scenario>-<correlationId>.hlog */
+    @Value("${simulator.report.histogram-dir:}")
+    private String histogramDir;
+
+    /** If set, per-event detail is written here as rolling NDJSON instead of being kept in memory */
+    @Value("${simulator.report.spill-dir:}")
+    private String spillDir;
+
+    @Value("${simulator.report.spill-max-bytes:67108864}")
+    private long spillMaxBytes;
+
     public ScenarioResult run(Scenario scenario) {
-        String correlationId = UUID.randomUUID().toString();
-        ExecutionReport report = new ExecutionReport(scenario.name(), correlationId);
+        // 같은 seed로 띄운 simulator에서 같은 순서로 실행하면 같은 워크로드가 나온다
+        random.beginRun(scenario.name());
+        String correlationId = RandomStreams.uuid(random.next("scenario.correlation")).toString();
+        ExecutionReport report = new ExecutionReport(
+                scenario.name(), correlationId, random.seed(), createSpill(scenario, correlationId));
 
         ScenarioContext context = new ScenarioContext(
-                platforms, sender, chaosEngine, targetUrl, correlationId, report);
+                platforms, sender, chaosEngine, scheduler, random, targetUrl, correlationId, report);
 
         System.out.println();
         System.out.printf(">> Running scenario: %s%n", scenario.name());
         System.out.printf("   Correlation: %s%n", correlationId);
+        System.out.printf("   Seed: %d%n", random.seed());
         System.out.println("   ----------------------------------------");
 
+        long clockStart = scheduler.nowMs();
         ScenarioResult result = scenario.execute(context);
+        context.awaitPending();
+        // 지연 전송이 시나리오 종료 후에 끝날 수 있으므로 실제 마지막 응답 시각으로 갱신
+        report.markEnd();
+        if (scheduler.isVirtual()) {
+            report.markVirtualElapsed(scheduler.nowMs() - clockStart);
+        }
+        report.closeSpill();
 
         printer.print(report);
+        exportHistogramLog(report);
 
         if (!result.isSuccess()) {
             System.out.printf("   SCENARIO FAILED: %s%n", result.getErrorMessage());
@@ -50,4 +82,27 @@ public class ScenarioRunner {
 
         return result;
     }
+
+    private EventSpill createSpill(Scenario scenario, String correlationId) {
+        if (spillDir == null || spillDir.isBlank()) {
+            return null;
+        }
+        return new EventSpill(Path.of(spillDir), scenario.name() + "-" + correlationId, spillMaxBytes);
+    }
+
+    private void exportHistogramLog(ExecutionReport report) {
+        if (histogramDir == null || histogramDir.isBlank()) {
+            return;
+        }
+        Path file = Path.of(histogramDir, report.getScenarioName() + "-" + report.getCorrelationId() + ".hlog");
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                report.getLatencies().writeLog(out);
+            }
+            System.out.printf("   Histogram log: %s%n", file.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.printf("   Histogram log export failed: %s%n", e.getMessage());
+        }
+    }
 }
@@ -13,6 +13,7 @@ import simulator.scenario.ScenarioResult;
  * Airbnb event arrives promptly.
  * YeogiEottae events arrive late (simulating its batch-oriented nature).
  * Both platforms book the same room/dates — the broker sees a timing gap.
+ * Delays are scheduled, so the scenario thread never sleeps.
  */
 public class DelayedDeliveryScenario implements Scenario {
 
@@ -29,21 +30,18 @@ public class DelayedDeliveryScenario implements Scenario {
             // Airbnb books first — delivered immediately
             Object airbnbPayload = ctx.airbnb().book("R-401", "Yuna Lee", "2025-11-20", "2025-11-23");
             String airbnbId = ((AirbnbReservationPayload) airbnbPayload).getConfirmationCode();
-            ctx.emit(PlatformType.B, "BOOKING", airbnbPayload, airbnbId);
+            ctx.emitAsync(PlatformType.B, "BOOKING", airbnbPayload, airbnbId);
 
             // YeogiEottae books the same room — delivery is delayed (simulated batch lag)
             Object yeogiPayload = ctx.yeogieottae().book("R-401", "이유나", "2025-11-20", "2025-11-23");
             String yeogiId = ((YeogieottaeReservationPayload) yeogiPayload).getOrderId();
 
             System.out.printf("  [SCENARIO] Simulating YeogiEottae batch delay for %s%n", yeogiId);
-            sleep(2000); // hard-coded batch delay to demonstrate timing gap
+            ctx.emitAfter(2000, PlatformType.C, "BOOKING", yeogiPayload, yeogiId); // batch delay to demonstrate timing gap
 
-            ctx.emit(PlatformType.C, "BOOKING", yeogiPayload, yeogiId);
-
-            // YeogiEottae then cancels — also delayed
+            // YeogiEottae then cancels — also delayed, 1.5s after its booking
             Object yeogiCancel = ctx.yeogieottae().cancel(yeogiId);
-            sleep(1500);
-            ctx.emit(PlatformType.C, "CANCELLATION", yeogiCancel, yeogiId);
+            ctx.emitAfter(3500, PlatformType.C, "CANCELLATION", yeogiCancel, yeogiId);
 
             ctx.report().markEnd();
             return ScenarioResult.ok(name(), ctx.report());
@@ -52,8 +50,4 @@ public class DelayedDeliveryScenario implements Scenario {
             return ScenarioResult.fail(name(), ctx.report(), e.getMessage());
         }
     }
-
-    private void sleep(long ms) {
-        try { Thread.sleep(ms); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-    }
 }
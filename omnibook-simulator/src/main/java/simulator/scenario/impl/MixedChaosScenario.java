@@ -21,6 +21,8 @@ import java.util.List;
  * Events are reordered via chaos engine.
  * Individual events are subject to duplication, delay, and failure.
  * This is the most adversarial scenario for the broker.
+ * Events go out in list order (after any reordering), each once the previous one is answered.
+ * Only a chaos-delayed event is detached, so it alone can be overtaken by the ones after it.
  */
 public class MixedChaosScenario implements Scenario {
 
@@ -52,12 +54,12 @@ public class MixedChaosScenario implements Scenario {
 
             // Collect all events and reorder
             List<Runnable> events = new ArrayList<>();
-            events.add(() -> ctx.emit(PlatformType.A, "BOOKING",       yanoljaBook,   yanoljaId));
-            events.add(() -> ctx.emit(PlatformType.A, "CANCELLATION",  yanoljaCancel, yanoljaId));
-            events.add(() -> ctx.emit(PlatformType.B, "BOOKING",       airbnbBook,    airbnbId));
-            events.add(() -> ctx.emit(PlatformType.C, "BOOKING",       yeogiBook1,    yeogiId1));
-            events.add(() -> ctx.emit(PlatformType.C, "CANCELLATION",  yeogiCancel,   yeogiId1));
-            events.add(() -> ctx.emit(PlatformType.C, "BOOKING",       yeogiBook2,    yeogiId2));
+            events.add(() -> ctx.emitOrdered(PlatformType.A, "BOOKING",       yanoljaBook,   yanoljaId));
+            events.add(() -> ctx.emitOrdered(PlatformType.A, "CANCELLATION",  yanoljaCancel, yanoljaId));
+            events.add(() -> ctx.emitOrdered(PlatformType.B, "BOOKING",       airbnbBook,    airbnbId));
+            events.add(() -> ctx.emitOrdered(PlatformType.C, "BOOKING",       yeogiBook1,    yeogiId1));
+            events.add(() -> ctx.emitOrdered(PlatformType.C, "CANCELLATION",  yeogiCancel,   yeogiId1));
+            events.add(() -> ctx.emitOrdered(PlatformType.C, "BOOKING",       yeogiBook2,    yeogiId2));
 
             List<Runnable> reordered = ctx.chaosEngine().maybeReorder(events);
             for (Runnable r : reordered) {
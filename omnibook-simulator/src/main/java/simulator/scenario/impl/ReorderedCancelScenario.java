@@ -16,6 +16,8 @@ import java.util.List;
  * Yanolja and YeogiEottae both book and cancel.
  * Events are deliberately reordered so the broker receives CANCELLATION before BOOKING.
  * This tests whether the broker can handle out-of-order events.
+ * Events go out in list order (after any reordering), each once the previous one is answered.
+ * Only a chaos-delayed event is detached, so it alone can be overtaken by the ones after it.
  */
 public class ReorderedCancelScenario implements Scenario {
 
@@ -41,10 +43,10 @@ public class ReorderedCancelScenario implements Scenario {
 
             // Build event list and reorder via chaos engine
             List<Runnable> events = new ArrayList<>();
-            events.add(() -> ctx.emit(PlatformType.A, "BOOKING", yanoljaBook, yanoljaId));
-            events.add(() -> ctx.emit(PlatformType.A, "CANCELLATION", yanoljaCancel, yanoljaId));
-            events.add(() -> ctx.emit(PlatformType.C, "BOOKING", yeogiBook, yeogiId));
-            events.add(() -> ctx.emit(PlatformType.C, "CANCELLATION", yeogiCancel, yeogiId));
+            events.add(() -> ctx.emitOrdered(PlatformType.A, "BOOKING", yanoljaBook, yanoljaId));
+            events.add(() -> ctx.emitOrdered(PlatformType.A, "CANCELLATION", yanoljaCancel, yanoljaId));
+            events.add(() -> ctx.emitOrdered(PlatformType.C, "BOOKING", yeogiBook, yeogiId));
+            events.add(() -> ctx.emitOrdered(PlatformType.C, "CANCELLATION", yeogiCancel, yeogiId));
 
             // Reorder the event list
             List<Runnable> reordered = ctx.chaosEngine().maybeReorder(events);
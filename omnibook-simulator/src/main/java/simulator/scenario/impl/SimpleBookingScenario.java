@@ -13,6 +13,8 @@ import simulator.scenario.ScenarioResult;
  * with their distinct shapes.
  *
  * Chaos: applied via context (standard delivery disruption).
+ * All three bookings target the same room and dates, so they compete for the same inventory.
+ * They are emitted one after another so the winner is fixed by emission order, and seeded reruns agree.
  */
 public class SimpleBookingScenario implements Scenario {
 
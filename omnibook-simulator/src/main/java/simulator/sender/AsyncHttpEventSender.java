@@ -0,0 +1,137 @@
+package simulator.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import simulator.event.PlatformEvent;
+
+import jakarta.annotation.PreDestroy;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking HTTP event sender built on HttpClient.sendAsync (default).
+ *
+ * - HTTP/2 is requested; the client falls back to HTTP/1.1 if the broker does not upgrade.
+ * - At most max-in-flight requests are outstanding. send() blocks the caller only while
+ *   the window is full, which is the backpressure point for scenarios.
+ * - send() never waits on a client io thread: those threads release window permits, so a
+ *   continuation that sends from a response callback (e.g. duplicate copies chained with
+ *   thenCompose) could otherwise deadlock a full window. Such calls wait on a separate
+ *   sender-wait thread instead.
+ * - Bodies are pre-serialized (EncodedEvent). 2xx response bodies are discarded; error bodies are
+ *   read only for the broker error code.
+ * - No per-event console output; see stats().
+ */
+@Component
+@ConditionalOnProperty(name = "simulator.sender.type", havingValue = "async", matchIfMissing = true)
+public class AsyncHttpEventSender implements EventSender {
+
+    private final ObjectWriter writer = new ObjectMapper().writer();
+    private final SenderStats stats = new SenderStats();
+    private final Semaphore window;
+    private final Duration timeout;
+    private final ExecutorService clientExecutor;
+    private final ExecutorService windowWaiter;
+    private final HttpClient client;
+
+    private static final ThreadLocal<Boolean> ON_IO_THREAD = ThreadLocal.withInitial(() -> false);
+
+    public AsyncHttpEventSender(
+            @Value("${simulator.sender.max-in-flight:512}") int maxInFlight,
+            @Value("${simulator.sender.http2:true}") boolean http2,
+            @Value("${simulator.sender.timeout-ms:10000}") long timeoutMs,
+            @Value("${simulator.sender.io-threads:4}") int ioThreads) {
+        this.window = new Semaphore(maxInFlight);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        AtomicInteger seq = new AtomicInteger();
+        this.clientExecutor = Executors.newFixedThreadPool(ioThreads, r -> {
+            Thread t = new Thread(() -> {
+                ON_IO_THREAD.set(true);
+                r.run();
+            }, "sender-io-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger waiterSeq = new AtomicInteger();
+        this.windowWaiter = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "sender-wait-" + waiterSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.client = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @Override
+    public EncodedEvent encode(PlatformEvent event) {
+        return EncodedEvent.encode(event, writer);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> send(String targetUrl, EncodedEvent event) {
+        if (window.tryAcquire()) {
+            return dispatch(targetUrl, event);
+        }
+        if (ON_IO_THREAD.get()) {
+            return CompletableFuture.supplyAsync(() -> acquireAndDispatch(targetUrl, event), windowWaiter)
+                    .thenCompose(future -> future);
+        }
+        return acquireAndDispatch(targetUrl, event);
+    }
+
+    private CompletableFuture<SendResult> acquireAndDispatch(String targetUrl, EncodedEvent event) {
+        try {
+            window.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(SendResult.failure(e, 0));
+        }
+        return dispatch(targetUrl, event);
+    }
+
+    /**
+     * Sends with a window permit already held; the permit is released when the response completes.
+     */
+    private CompletableFuture<SendResult> dispatch(String targetUrl, EncodedEvent event) {
+        stats.onDispatch();
+        long start = System.nanoTime();
+        CompletableFuture<SendResult> future;
+        try {
+            future = client.sendAsync(HttpRequests.of(targetUrl, event, timeout), HttpRequests.ERROR_CODE)
+                    .handle((response, ex) -> ex == null
+                            ? SendResult.response(response.statusCode(), System.nanoTime() - start, response.body(),
+                                    HttpRequests.serverTiming(response.headers()))
+                            : SendResult.failure(ex, System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.completedFuture(SendResult.failure(e, System.nanoTime() - start));
+        }
+
+        return future.whenComplete((result, ex) -> {
+            window.release();
+            stats.onComplete(result);
+        });
+    }
+
+    @Override
+    public SenderStats stats() {
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowWaiter.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,74 @@
+package simulator.sender;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import simulator.event.PlatformEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A PlatformEvent serialized once into the wire body.
+ * Duplicate/retry sends reuse the same bytes instead of re-serializing the payload.
+ */
+public final class EncodedEvent {
+
+    private final PlatformEvent event;
+    private final RequestHeaders headers;
+    private final byte[] body;
+
+    private EncodedEvent(PlatformEvent event, RequestHeaders headers, byte[] body) {
+        this.event = event;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Body:
+     * {
+     *   "eventId": "...",
+     *   "reservationId": "...",
+     *   "payload": { OTA payload JSON }
+     * }
+     */
+    public static EncodedEvent encode(PlatformEvent event, ObjectWriter writer) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("eventId", event.getEventId());
+        body.put("reservationId", event.getReservationId());
+        body.put("payload", event.getPayload());
+        try {
+            return new EncodedEvent(event, RequestHeaders.of(event), writer.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("failed to serialize event " + event.getEventId(), e);
+        }
+    }
+
+    /**
+     * Wraps a body that was serialized earlier (e.g. read back from a corpus file).
+     * The event supplies the headers only; its payload is not used.
+     */
+    public static EncodedEvent prebuilt(PlatformEvent event, byte[] body) {
+        return new EncodedEvent(event, RequestHeaders.of(event), body);
+    }
+
+    /**
+     * Wraps a recorded request (e.g. from a raw_events dump) that is resent byte-for-byte.
+     * There is no PlatformEvent behind it, so event() returns null.
+     */
+    public static EncodedEvent recorded(RequestHeaders headers, byte[] body) {
+        return new EncodedEvent(null, headers, body);
+    }
+
+    /** The generated event, or null for recorded traffic. */
+    public PlatformEvent event() {
+        return event;
+    }
+
+    public RequestHeaders headers() {
+        return headers;
+    }
+
+    public byte[] body() {
+        return body;
+    }
+}
@@ -2,13 +2,21 @@ package simulator.sender;
 
 import simulator.event.PlatformEvent;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 플랫폼 이벤트를 브로커로 전송하는 인터페이스.
  */
 public interface EventSender {
 
     /**
-     * PlatformEvent를 브로커로 전송한다.
+     * PlatformEvent를 전송 가능한 바디로 한 번만 직렬화한다.
+     * 중복 전송 시 같은 EncodedEvent를 재사용한다.
+     */
+    EncodedEvent encode(PlatformEvent event);
+
+    /**
+     * 직렬화된 이벤트를 브로커로 전송한다.
      *
      * HTTP 전송 규칙:
      * Headers:
@@ -26,7 +34,13 @@ public interface EventSender {
      *
      * @param targetUrl 브로커 엔드포인트 URL
      * @param event     전송할 이벤트
-     * @return 전송 성공 여부 (HTTP 2xx면 true)
+     * @return 응답 시 완료되는 future (전송 실패도 예외가 아닌 SendResult로 완료)
      */
-    boolean send(String targetUrl, PlatformEvent event);
+    CompletableFuture<SendResult> send(String targetUrl, EncodedEvent event);
+
+    default CompletableFuture<SendResult> send(String targetUrl, PlatformEvent event) {
+        return send(targetUrl, encode(event));
+    }
+
+    SenderStats stats();
 }
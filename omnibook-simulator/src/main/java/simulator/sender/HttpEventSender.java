@@ -1,40 +1,30 @@
 package simulator.sender;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import simulator.event.PlatformEvent;
 
-import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * HTTP JSON event sender.
- *
- * 전송 규칙:
- * Headers:
- * - X-Event-Id = event.eventId
- * - X-Platform = event.platform
- * - X-Event-Type = event.eventType
- * - X-Correlation-Id = event.correlationId
- *
- * Body:
- * {
- *   "eventId": "...",
- *   "reservationId": "...",
- *   "payload": { OTA payload JSON }
- * }
+ * Blocking HTTP JSON event sender (simulator.sender.type=blocking).
+ * Sends on the caller thread and returns an already-completed future.
+ * Kept for debugging against a broker that misbehaves under pipelining.
  */
 @Component
+@ConditionalOnProperty(name = "simulator.sender.type", havingValue = "blocking")
 public class HttpEventSender implements EventSender {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
 
     private final HttpClient client;
+    private final SenderStats stats = new SenderStats();
 
     public HttpEventSender() {
         this.client = HttpClient.newBuilder()
@@ -43,40 +33,32 @@ public class HttpEventSender implements EventSender {
     }
 
     @Override
-    public boolean send(String targetUrl, PlatformEvent event) {
-        try {
-            // Body 구성: eventId, reservationId, payload
-            Map<String, Object> body = new LinkedHashMap<>();
-            body.put("eventId", event.getEventId());
-            body.put("reservationId", event.getReservationId());
-            body.put("payload", event.getPayload());
-
-            String json = MAPPER.writeValueAsString(body);
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(targetUrl))
-                    .header("Content-Type", "application/json")
-                    .header("X-Event-Id", event.getEventId())
-                    .header("X-Platform", event.getPlatform().name())
-                    .header("X-Event-Type", event.getEventType())
-                    .header("X-Correlation-Id", event.getCorrelationId())
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
-                    .timeout(Duration.ofSeconds(10))
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            int code = response.statusCode();
-
-            System.out.printf("  [SEND] %s | %s | eventId=%s | HTTP %d%n",
-                    event.getPlatform().displayName(), event.getEventType(),
-                    event.getEventId(), code);
+    public EncodedEvent encode(PlatformEvent event) {
+        return EncodedEvent.encode(event, WRITER);
+    }
 
-            return code >= 200 && code < 300;
+    @Override
+    public CompletableFuture<SendResult> send(String targetUrl, EncodedEvent event) {
+        stats.onDispatch();
+        long start = System.nanoTime();
+        SendResult result;
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequests.of(targetUrl, event, TIMEOUT), HttpRequests.ERROR_CODE);
+            result = SendResult.response(response.statusCode(), System.nanoTime() - start, response.body(),
+                    HttpRequests.serverTiming(response.headers()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = SendResult.failure(e, System.nanoTime() - start);
         } catch (Exception e) {
-            System.out.printf("  [SEND] %s | %s | eventId=%s | FAILED: %s%n",
-                    event.getPlatform().displayName(), event.getEventType(),
-                    event.getEventId(), e.getMessage());
-            return false;
+            result = SendResult.failure(e, System.nanoTime() - start);
         }
+        stats.onComplete(result);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    @Override
+    public SenderStats stats() {
+        return stats;
     }
 }
@@ -0,0 +1,93 @@
+package simulator.sender;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds the broker request from an encoded event. Shared by sender implementations.
+ */
+final class HttpRequests {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HttpRequests() {
+    }
+
+    /**
+     * Discards 2xx bodies; for anything else reads the broker ErrorResponse and keeps its "code".
+     */
+    static final HttpResponse.BodyHandler<String> ERROR_CODE = info ->
+            info.statusCode() >= 200 && info.statusCode() < 300
+                    ? HttpResponse.BodySubscribers.replacing(null)
+                    : HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), HttpRequests::errorCode);
+
+    static HttpRequest of(String targetUrl, EncodedEvent encoded, Duration timeout) {
+        RequestHeaders headers = encoded.headers();
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(targetUrl))
+                .header("Content-Type", "application/json");
+        header(builder, "X-Event-Id", headers.eventId());
+        header(builder, "X-Platform", headers.platform());
+        header(builder, "X-Event-Type", headers.eventType());
+        header(builder, "X-Correlation-Id", headers.correlationId());
+        return builder
+                .POST(HttpRequest.BodyPublishers.ofByteArray(encoded.body()))
+                .timeout(timeout)
+                .build();
+    }
+
+    /**
+     * Parses the broker's Server-Timing header ({@code raw-store;dur=0.84, parse;dur=0.05, ...})
+     * into metric name -> duration in ms, in header order. Metrics without a dur are skipped.
+     */
+    static Map<String, Double> serverTiming(HttpHeaders headers) {
+        Optional<String> value = headers.firstValue("Server-Timing");
+        if (value.isEmpty() || value.get().isBlank()) {
+            return Map.of();
+        }
+        Map<String, Double> timings = new LinkedHashMap<>();
+        for (String metric : value.get().split(",")) {
+            String[] parts = metric.split(";");
+            String name = parts[0].trim();
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("dur=")) {
+                    try {
+                        timings.put(name, Double.parseDouble(param.substring(4)));
+                    } catch (NumberFormatException ignored) {
+                        // malformed metric; keep the rest
+                    }
+                }
+            }
+        }
+        return timings;
+    }
+
+    private static void header(HttpRequest.Builder builder, String name, String value) {
+        if (value != null) {
+            builder.header(name, value);
+        }
+    }
+
+    private static String errorCode(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode code = MAPPER.readTree(body).get("code");
+            return code != null && code.isTextual() ? code.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package simulator.sender;
+
+import simulator.event.PlatformEvent;
+
+/**
+ * Broker request headers as sent on the wire. A null value means the header is omitted.
+ *
+ * Generated events always carry all four; replayed production traffic keeps whatever the
+ * original request had (e.g. platform "YANOLJA" instead of "A", no X-Event-Id).
+ */
+public record RequestHeaders(String eventId, String platform, String eventType, String correlationId) {
+
+    public static RequestHeaders of(PlatformEvent event) {
+        return new RequestHeaders(event.getEventId(), event.getPlatform().name(),
+                event.getEventType(), event.getCorrelationId());
+    }
+}
@@ -0,0 +1,39 @@
+package simulator.sender;
+
+import java.util.Map;
+
+/**
+ * Outcome of a single HTTP send.
+ *
+ * @param statusCode   HTTP status, or 0 if no response was received
+ * @param latencyNanos time from request dispatch to response (or failure)
+ * @param error        transport error message, null when a response was received
+ * @param errorCode    broker ErrorResponse code of a non-2xx response (e.g. DUPLICATE_RESERVATION), if any
+ * @param serverTiming broker stage durations in ms from the Server-Timing header; empty if absent
+ */
+public record SendResult(int statusCode, long latencyNanos, String error, String errorCode,
+                         Map<String, Double> serverTiming) {
+
+    public static SendResult response(int statusCode, long latencyNanos) {
+        return new SendResult(statusCode, latencyNanos, null, null, Map.of());
+    }
+
+    public static SendResult response(int statusCode, long latencyNanos, String errorCode) {
+        return new SendResult(statusCode, latencyNanos, null, errorCode, Map.of());
+    }
+
+    public static SendResult response(int statusCode, long latencyNanos, String errorCode,
+                                      Map<String, Double> serverTiming) {
+        return new SendResult(statusCode, latencyNanos, null, errorCode, serverTiming);
+    }
+
+    public static SendResult failure(Throwable cause, long latencyNanos) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return new SendResult(0, latencyNanos, message, null, Map.of());
+    }
+
+    /** HTTP 2xx. */
+    public boolean delivered() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
@@ -0,0 +1,43 @@
+package simulator.sender;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Send counters, replacing per-event console output.
+ */
+public class SenderStats {
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    void onDispatch() {
+        sent.increment();
+        inFlight.incrementAndGet();
+    }
+
+    void onComplete(SendResult result) {
+        inFlight.decrementAndGet();
+        if (result.delivered()) {
+            delivered.increment();
+        } else if (result.statusCode() > 0) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(sent.sum(), delivered.sum(), rejected.sum(), errors.sum(), inFlight.get());
+    }
+
+    /**
+     * @param rejected non-2xx responses
+     * @param errors   transport failures (no response)
+     */
+    public record Snapshot(long sent, long delivered, long rejected, long errors, long inFlight) {
+    }
+}
@@ -0,0 +1,13 @@
+package simulator.stub;
+
+import java.util.List;
+
+/**
+ * Availability batch pushed by the broker's channel sync dispatcher.
+ * changedAt is the epoch millis at which the broker recorded the change.
+ */
+public record AvailabilityPushRequest(String platform, List<Update> updates) {
+
+    public record Update(String platformRoomId, String startDate, String endDate, String action, long changedAt) {
+    }
+}
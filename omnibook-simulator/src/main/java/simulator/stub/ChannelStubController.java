@@ -0,0 +1,75 @@
+package simulator.stub;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import simulator.platform.OtaPlatform;
+import simulator.platform.PlatformType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stub endpoints that play the role of each OTA's availability API.
+ * The broker pushes CLOSE/OPEN ranges here; we apply them to the platform's
+ * in-memory state and measure propagation lag.
+ *
+ * Platform path variable uses the display name (YANOLJA, AIRBNB, YEOGIEOTTAE).
+ */
+@RestController
+@RequestMapping("/api/stubs")
+@RequiredArgsConstructor
+public class ChannelStubController {
+
+    private final Map<PlatformType, OtaPlatform> platforms;
+    private final PropagationLagRecorder lagRecorder;
+
+    @PostMapping("/{platform}/availability")
+    public ResponseEntity<Void> receiveAvailability(@PathVariable String platform,
+                                                    @RequestBody AvailabilityPushRequest request) {
+        PlatformType type = resolve(platform);
+        if (type == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        long receivedAt = System.currentTimeMillis();
+        OtaPlatform target = platforms.get(type);
+        for (AvailabilityPushRequest.Update update : request.updates()) {
+            target.applyAvailability(update.platformRoomId(), update.startDate(), update.endDate(),
+                    "CLOSE".equals(update.action()));
+            lagRecorder.record(type, update.changedAt(), receivedAt);
+        }
+        lagRecorder.recordBatch(type);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/lag")
+    public ResponseEntity<List<PropagationLagRecorder.LagSnapshot>> lag() {
+        List<PropagationLagRecorder.LagSnapshot> snapshots = Arrays.stream(PlatformType.values())
+                .map(lagRecorder::snapshot)
+                .toList();
+        return ResponseEntity.ok(snapshots);
+    }
+
+    @DeleteMapping("/lag")
+    public ResponseEntity<Void> resetLag() {
+        lagRecorder.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    private PlatformType resolve(String displayName) {
+        for (PlatformType type : PlatformType.values()) {
+            if (type.displayName().equalsIgnoreCase(displayName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package simulator.stub;
+
+import org.springframework.stereotype.Component;
+import simulator.platform.PlatformType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how long availability changes take to reach each stub platform
+ * (broker record time → stub receive time).
+ */
+@Component
+public class PropagationLagRecorder {
+
+    private final Map<PlatformType, Stats> stats = new EnumMap<>(PlatformType.class);
+
+    public PropagationLagRecorder() {
+        for (PlatformType type : PlatformType.values()) {
+            stats.put(type, new Stats());
+        }
+    }
+
+    public void record(PlatformType platform, long changedAtEpochMs, long receivedAtEpochMs) {
+        if (changedAtEpochMs <= 0) {
+            return;
+        }
+        long lagMs = Math.max(0, receivedAtEpochMs - changedAtEpochMs);
+        Stats s = stats.get(platform);
+        s.count.increment();
+        s.totalMs.add(lagMs);
+        s.maxMs.accumulateAndGet(lagMs, Math::max);
+    }
+
+    public void recordBatch(PlatformType platform) {
+        stats.get(platform).batches.increment();
+    }
+
+    public LagSnapshot snapshot(PlatformType platform) {
+        Stats s = stats.get(platform);
+        long count = s.count.sum();
+        long avg = count == 0 ? 0 : s.totalMs.sum() / count;
+        return new LagSnapshot(platform.displayName(), s.batches.sum(), count, avg, s.maxMs.get());
+    }
+
+    public void reset() {
+        stats.replaceAll((k, v) -> new Stats());
+    }
+
+    private static class Stats {
+        final LongAdder batches = new LongAdder();
+        final LongAdder count = new LongAdder();
+        final LongAdder totalMs = new LongAdder();
+        final AtomicLong maxMs = new AtomicLong();
+    }
+
+    public record LagSnapshot(String platform, long batches, long updates, long avgLagMs, long maxLagMs) {
+    }
+}
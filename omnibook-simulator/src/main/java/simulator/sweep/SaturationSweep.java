@@ -0,0 +1,288 @@
+package simulator.sweep;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import simulator.event.PlatformEvent;
+import simulator.load.Pacing;
+import simulator.load.PlatformPicker;
+import simulator.load.WorkloadEvents;
+import simulator.platform.OtaPlatform;
+import simulator.platform.PlatformType;
+import simulator.random.RandomStreams;
+import simulator.report.ReportPrinter;
+import simulator.sender.EventSender;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Steps offered load up until the broker saturates and reports the knee of the curve.
+ *
+ * Same open-loop model as LoadGenerator: one scheduler thread releases requests at their
+ * intended times, latency is measured from the intended time, and requests beyond maxInFlight
+ * are dropped (and counted as capacity errors) instead of delayed. Each step runs at a constant
+ * rate; the scheduler rolls a measurement window every windowSeconds and moves to the next step
+ * once the last two windows agree, so every row in the table is a steady-state measurement.
+ */
+@Service
+public class SaturationSweep {
+
+    private final EventSender sender;
+    private final RandomStreams random;
+    private final ReportPrinter reportPrinter;
+    private final String targetUrl;
+    private final String csvDir;
+    private final ExecutorService sendPool;
+    private final WorkloadEvents workload;
+
+    private volatile SweepRun current;
+    private volatile Thread schedulerThread;
+
+    public SaturationSweep(Map<PlatformType, OtaPlatform> platforms,
+                           EventSender sender,
+                           RandomStreams random,
+                           ReportPrinter reportPrinter,
+                           @Value("${simulator.target-url}") String targetUrl,
+                           @Value("${simulator.report.sweep-dir:}") String csvDir) {
+        this.sender = sender;
+        this.random = random;
+        this.reportPrinter = reportPrinter;
+        this.targetUrl = targetUrl;
+        this.csvDir = csvDir;
+        AtomicInteger seq = new AtomicInteger();
+        this.sendPool = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "sweep-send-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.workload = new WorkloadEvents(platforms, random, "sweep.request");
+    }
+
+    /**
+     * Starts a sweep in the background.
+     *
+     * @throws IllegalStateException if another sweep is still in progress
+     */
+    public synchronized SweepRun start(SweepSpec spec) {
+        if (current != null && current.state() == SweepRun.State.RUNNING) {
+            throw new IllegalStateException("sweep already in progress: " + current.runId());
+        }
+
+        random.beginRun("sweep");
+        workload.clear();
+        String runId = RandomStreams.uuid(random.next("sweep.run-id")).toString();
+        SweepRun run = new SweepRun(runId, spec, random.seed());
+        Thread scheduler = new Thread(() -> sweep(run), "sweep-scheduler");
+        scheduler.setDaemon(true);
+        current = run;
+        schedulerThread = scheduler;
+        scheduler.start();
+
+        System.out.printf(">> Sweep %s started: %.0f -> %.0f rps step %.0f, %ds windows, SLO p99 %.0f ms, errors %.1f%%, %s%n",
+                runId, spec.startRps(), spec.maxRps(), spec.stepRps(), spec.windowSeconds(),
+                spec.sloP99Ms(), spec.maxErrorRate() * 100, spec.workload());
+        return run;
+    }
+
+    public synchronized SweepRun stop() {
+        Thread scheduler = schedulerThread;
+        if (scheduler != null) {
+            scheduler.interrupt();
+        }
+        if (current != null && current.state() == SweepRun.State.RUNNING) {
+            current.finish(SweepRun.State.STOPPED, "stopped");
+            report(current);
+        }
+        return current;
+    }
+
+    public SweepRun current() {
+        return current;
+    }
+
+    private void sweep(SweepRun run) {
+        SweepSpec spec = run.spec();
+        PlatformPicker picker = new PlatformPicker(spec.platformMix(), random, "sweep.platform");
+        long windowNanos = spec.windowSeconds() * 1_000_000_000L;
+        long index = 0;
+
+        for (int step = 0; ; step++) {
+            double rps = spec.rateOf(step);
+            if (rps < 0) {
+                finish(run, "maxRps reached without breaching the SLO");
+                return;
+            }
+            run.beginStep(rps);
+
+            List<SweepRun.WindowResult> windows = new ArrayList<>();
+            long stepStart = System.nanoTime();
+            long windowStart = stepStart;
+            long windowEnd = stepStart + windowNanos;
+            requests:
+            for (long i = 0; ; i++) {
+                long intended = stepStart + (long) (i * 1_000_000_000L / rps);
+                while (intended >= windowEnd) {
+                    if (!Pacing.waitUntil(windowEnd)) {
+                        return;
+                    }
+                    windows.add(run.rollWindow(windowEnd - windowStart));
+                    if (settled(windows, spec)) {
+                        break requests;
+                    }
+                    windowStart = windowEnd;
+                    windowEnd += windowNanos;
+                }
+                if (!Pacing.waitUntil(intended)) {
+                    return;
+                }
+                if (!run.tryAcquireSlot()) {
+                    continue;
+                }
+                PlatformType platform = picker.pick();
+                long requestIndex = index++;
+                sendPool.execute(() -> fire(run, requestIndex, platform, intended));
+            }
+
+            SweepStep result = summarize(step, rps, windows, spec);
+            run.addStep(result);
+            System.out.printf(">> Sweep %s step %d: %.0f rps offered, %.1f achieved, p99 %.1f ms, errors %.2f%% -> %s%n",
+                    run.runId(), step, rps, result.achievedRps(), result.p99LatencyMs(),
+                    result.errorRate() * 100, result.verdict());
+            if (!result.ok()) {
+                finish(run, result.verdict() + " at " + (long) rps + " rps");
+                return;
+            }
+        }
+    }
+
+    private void fire(SweepRun run, long index, PlatformType platformType, long intendedNanos) {
+        PlatformEvent event;
+        try {
+            SweepSpec spec = run.spec();
+            event = random.withScope("sweep.request", index, () -> workload.next(
+                    platformType, spec.cancelRatio(), spec.workload(), "sweep-" + run.runId()));
+        } catch (RuntimeException e) {
+            run.onCompleted(0, null, System.nanoTime() - intendedNanos);
+            return;
+        }
+        sender.send(targetUrl, event).whenComplete((result, ex) -> {
+            int status = ex == null ? result.statusCode() : 0;
+            String errorCode = ex == null ? result.errorCode() : null;
+            run.onCompleted(status, errorCode, System.nanoTime() - intendedNanos);
+        });
+    }
+
+    /**
+     * Enough windows, and the last two agree on p99 and throughput (or maxWindows reached).
+     */
+    private boolean settled(List<SweepRun.WindowResult> windows, SweepSpec spec) {
+        int n = windows.size();
+        if (n < spec.minWindows()) {
+            return false;
+        }
+        if (n >= spec.maxWindows()) {
+            return true;
+        }
+        return stable(windows.get(n - 2), windows.get(n - 1), spec.stabilityTolerance());
+    }
+
+    private boolean stable(SweepRun.WindowResult previous, SweepRun.WindowResult last, double tolerance) {
+        // sub-millisecond p99 jitter is noise, not instability
+        double p99Base = Math.max(previous.p99Ms(), 1.0);
+        double rpsBase = Math.max(previous.achievedRps(), 1.0);
+        return Math.abs(last.p99Ms() - previous.p99Ms()) / p99Base <= tolerance
+                && Math.abs(last.achievedRps() - previous.achievedRps()) / rpsBase <= tolerance;
+    }
+
+    private SweepStep summarize(int step, double rps, List<SweepRun.WindowResult> windows, SweepSpec spec) {
+        int n = windows.size();
+        boolean stable = n >= 2 && stable(windows.get(n - 2), windows.get(n - 1), spec.stabilityTolerance());
+        List<SweepRun.WindowResult> measured = windows.subList(Math.max(0, n - 2), n);
+
+        Histogram latency = null;
+        long completed = 0, capacityErrors = 0, rejections = 0;
+        double seconds = 0;
+        Map<String, Long> errors = new TreeMap<>();
+        for (SweepRun.WindowResult w : measured) {
+            if (latency == null) {
+                latency = w.latencyMicros().copy();
+            } else {
+                latency.add(w.latencyMicros());
+            }
+            completed += w.counters().completed.sum();
+            capacityErrors += w.counters().capacityErrors.sum();
+            rejections += w.counters().rejections.sum();
+            seconds += w.seconds();
+            w.counters().errors.forEach((code, count) -> errors.merge(code, count.sum(), Long::sum));
+        }
+
+        // dropped requests never complete, so they are added to the denominator
+        long attempts = Math.max(1, completed + errors.getOrDefault(SweepWindow.DROPPED, 0L));
+        double errorRate = (double) capacityErrors / attempts;
+        double p99 = latency.getValueAtPercentile(99) / 1000.0;
+
+        String verdict;
+        if (errorRate > spec.maxErrorRate()) {
+            verdict = "ERROR_BREACH";
+        } else if (p99 > spec.sloP99Ms()) {
+            verdict = "SLO_BREACH";
+        } else if (!stable) {
+            verdict = "UNSTABLE";
+        } else {
+            verdict = "OK";
+        }
+
+        return new SweepStep(
+                step,
+                rps,
+                n,
+                stable,
+                completed / Math.max(seconds, 1e-9),
+                latency.getValueAtPercentile(50) / 1000.0,
+                p99,
+                latency.getMaxValue() / 1000.0,
+                errorRate,
+                (double) rejections / attempts,
+                errors,
+                verdict);
+    }
+
+    private void finish(SweepRun run, String reason) {
+        run.finish(SweepRun.State.COMPLETED, reason);
+        report(run);
+    }
+
+    private void report(SweepRun run) {
+        SweepStatus status = run.snapshot();
+        reportPrinter.print(status);
+        if (csvDir == null || csvDir.isBlank()) {
+            return;
+        }
+        Path file = Path.of(csvDir, "sweep-" + run.runId() + ".csv");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, status.toCsv(), StandardCharsets.UTF_8);
+            System.out.printf(">> Sweep CSV written: %s%n", file.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.printf(">> Sweep CSV not written (%s): %s%n", file, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+        sendPool.shutdownNow();
+    }
+}
@@ -0,0 +1,131 @@
+package simulator.sweep;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of one saturation sweep. The scheduler thread rolls windows and appends steps;
+ * sender completion threads record into the current window.
+ */
+public class SweepRun {
+
+    public enum State { RUNNING, COMPLETED, STOPPED }
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String runId;
+    private final SweepSpec spec;
+    private final long seed;
+    private volatile State state = State.RUNNING;
+    private volatile String stopReason;
+    private volatile double currentRps;
+
+    private volatile SweepWindow window = new SweepWindow();
+    private final Recorder latency = new Recorder(1, HIGHEST_TRACKABLE_MICROS, 3);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final List<SweepStep> steps = new CopyOnWriteArrayList<>();
+
+    SweepRun(String runId, SweepSpec spec, long seed) {
+        this.runId = runId;
+        this.spec = spec;
+        this.seed = seed;
+    }
+
+    public String runId()   { return runId; }
+    public SweepSpec spec() { return spec; }
+    public State state()    { return state; }
+
+    SweepWindow window() {
+        return window;
+    }
+
+    void beginStep(double offeredRps) {
+        currentRps = offeredRps;
+    }
+
+    /** @return false if the in-flight cap is reached; the request is counted as dropped */
+    boolean tryAcquireSlot() {
+        if (inFlight.incrementAndGet() > spec.maxInFlight()) {
+            inFlight.decrementAndGet();
+            window.onDropped();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param latencyNanos measured from the intended send time
+     */
+    void onCompleted(int statusCode, String errorCode, long latencyNanos) {
+        inFlight.decrementAndGet();
+        window.onCompleted(statusCode, errorCode);
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1), HIGHEST_TRACKABLE_MICROS);
+        latency.recordValue(micros);
+    }
+
+    /**
+     * Closes the current window and opens the next one.
+     *
+     * @return the closed window's counters and latency histogram (micros)
+     */
+    WindowResult rollWindow(long durationNanos) {
+        SweepWindow closed = window;
+        window = new SweepWindow();
+        Histogram histogram = latency.getIntervalHistogram();
+        return new WindowResult(closed, histogram, durationNanos);
+    }
+
+    void addStep(SweepStep step) {
+        steps.add(step);
+    }
+
+    void finish(State finalState, String reason) {
+        if (state == State.RUNNING) {
+            stopReason = reason;
+            currentRps = 0;
+            state = finalState;
+        }
+    }
+
+    public SweepStatus snapshot() {
+        SweepStep knee = null;
+        for (SweepStep step : steps) {
+            if (step.ok()) knee = step;
+        }
+        return new SweepStatus(
+                runId,
+                seed,
+                state.name(),
+                stopReason,
+                spec.sloP99Ms(),
+                spec.maxErrorRate(),
+                currentRps,
+                knee != null ? knee.offeredRps() : 0,
+                knee != null ? knee.achievedRps() : 0,
+                knee != null ? knee.p99LatencyMs() : 0,
+                List.copyOf(steps));
+    }
+
+    /**
+     * One closed window.
+     */
+    record WindowResult(SweepWindow counters, Histogram latencyMicros, long durationNanos) {
+
+        double seconds() {
+            return durationNanos / 1_000_000_000.0;
+        }
+
+        double achievedRps() {
+            return counters.completed.sum() / seconds();
+        }
+
+        double p99Ms() {
+            return latencyMicros.getValueAtPercentile(99) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package simulator.sweep;
+
+import simulator.load.WorkloadModel;
+import simulator.platform.PlatformType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Saturation sweep definition.
+ *
+ * Offered load starts at startRps and grows by stepRps up to maxRps. Each step is held for
+ * whole windows of windowSeconds until two consecutive windows agree on p99 and throughput
+ * within stabilityTolerance (at least minWindows, at most maxWindows). The sweep stops at the
+ * first step whose p99 exceeds sloP99Ms or whose capacity-error rate exceeds maxErrorRate.
+ *
+ * @param stabilityTolerance relative difference allowed between consecutive windows (0.15 = 15%)
+ * @param maxErrorRate       share (0.0-1.0) of requests failing for capacity reasons:
+ *                           5xx, 429, no response, or dropped at maxInFlight
+ */
+public record SweepSpec(
+        double startRps,
+        double stepRps,
+        double maxRps,
+        int windowSeconds,
+        int minWindows,
+        int maxWindows,
+        double stabilityTolerance,
+        double sloP99Ms,
+        double maxErrorRate,
+        Map<PlatformType, Integer> platformMix,
+        double cancelRatio,
+        WorkloadModel workload,
+        int maxInFlight
+) {
+
+    public SweepSpec {
+        if (startRps <= 0) throw new IllegalArgumentException("startRps must be > 0");
+        if (stepRps <= 0) throw new IllegalArgumentException("stepRps must be > 0");
+        if (maxRps < startRps) throw new IllegalArgumentException("maxRps must be >= startRps");
+        if (windowSeconds <= 0) throw new IllegalArgumentException("windowSeconds must be > 0");
+        if (minWindows < 2) throw new IllegalArgumentException("minWindows must be >= 2");
+        if (maxWindows < minWindows) throw new IllegalArgumentException("maxWindows must be >= minWindows");
+        if (stabilityTolerance <= 0) throw new IllegalArgumentException("stabilityTolerance must be > 0");
+        if (sloP99Ms <= 0) throw new IllegalArgumentException("sloP99Ms must be > 0");
+        if (maxErrorRate < 0 || maxErrorRate > 1) throw new IllegalArgumentException("maxErrorRate must be 0.0-1.0");
+        if (cancelRatio < 0 || cancelRatio > 1) throw new IllegalArgumentException("cancelRatio must be 0.0-1.0");
+        if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be > 0");
+        if (workload == null) workload = WorkloadModel.uniform(WorkloadModel.DEFAULT_ROOM_COUNT);
+
+        Map<PlatformType, Integer> mix = new EnumMap<>(PlatformType.class);
+        if (platformMix == null || platformMix.isEmpty()) {
+            for (PlatformType type : PlatformType.values()) mix.put(type, 1);
+        } else {
+            platformMix.forEach((type, weight) -> {
+                if (weight != null && weight > 0) mix.put(type, weight);
+            });
+        }
+        if (mix.isEmpty()) throw new IllegalArgumentException("platformMix needs at least one positive weight");
+        platformMix = Collections.unmodifiableMap(mix);
+    }
+
+    /** Offered rate of the given step (0-based), or -1 past maxRps. */
+    public double rateOf(int step) {
+        double rps = startRps + step * stepRps;
+        return rps <= maxRps ? rps : -1;
+    }
+}
@@ -0,0 +1,44 @@
+package simulator.sweep;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Point-in-time view of a saturation sweep, returned by the sweep API.
+ *
+ * The knee is the highest offered rate whose step stayed within the SLO and error threshold;
+ * 0 when even the first step failed.
+ *
+ * @param currentRps offered rate of the step in progress, 0 once finished
+ */
+public record SweepStatus(
+        String runId,
+        long seed,
+        String state,
+        String stopReason,
+        double sloP99Ms,
+        double maxErrorRate,
+        double currentRps,
+        double kneeRps,
+        double kneeAchievedRps,
+        double kneeP99LatencyMs,
+        List<SweepStep> steps
+) {
+
+    /** Knee-of-curve table as CSV, one row per step. */
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder(
+                "step,offered_rps,achieved_rps,p50_ms,p99_ms,max_ms,error_rate,reject_rate,windows,stable,verdict,errors\n");
+        for (SweepStep s : steps) {
+            StringBuilder errors = new StringBuilder();
+            s.errors().forEach((code, count) -> {
+                if (errors.length() > 0) errors.append(';');
+                errors.append(code).append('=').append(count);
+            });
+            csv.append(String.format(Locale.ROOT, "%d,%.1f,%.1f,%.2f,%.2f,%.2f,%.4f,%.4f,%d,%b,%s,%s%n",
+                    s.step(), s.offeredRps(), s.achievedRps(), s.p50LatencyMs(), s.p99LatencyMs(), s.maxLatencyMs(),
+                    s.errorRate(), s.rejectRate(), s.windows(), s.stable(), s.verdict(), errors));
+        }
+        return csv.toString();
+    }
+}
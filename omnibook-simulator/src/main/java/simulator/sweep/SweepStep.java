@@ -0,0 +1,34 @@
+package simulator.sweep;
+
+import java.util.Map;
+
+/**
+ * Result of one offered-load step, measured over its last two windows: the pair that agreed
+ * when the step settled. Earlier windows absorb the transition from the previous rate.
+ *
+ * @param windows     windows the step was held for
+ * @param stable      the last two windows agreed within the stability tolerance
+ * @param errorRate   capacity failures (5xx, 429, no response, dropped) / requests
+ * @param rejectRate  business rejections (other 4xx) / requests
+ * @param errors      non-2xx outcomes by broker ErrorCode (or HTTP_xxx / NO_RESPONSE / DROPPED)
+ * @param verdict     OK, SLO_BREACH, ERROR_BREACH or UNSTABLE
+ */
+public record SweepStep(
+        int step,
+        double offeredRps,
+        int windows,
+        boolean stable,
+        double achievedRps,
+        double p50LatencyMs,
+        double p99LatencyMs,
+        double maxLatencyMs,
+        double errorRate,
+        double rejectRate,
+        Map<String, Long> errors,
+        String verdict
+) {
+
+    public boolean ok() {
+        return "OK".equals(verdict);
+    }
+}
@@ -0,0 +1,51 @@
+package simulator.sweep;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one measurement window. Completions land in whichever window is current when
+ * the response arrives, so a slow response is charged to the window in which it hurt.
+ */
+class SweepWindow {
+
+    /** Outcomes that mean the broker (or the client window) ran out of capacity. */
+    static final String DROPPED = "DROPPED";
+    static final String NO_RESPONSE = "NO_RESPONSE";
+
+    final LongAdder completed = new LongAdder();
+    final LongAdder capacityErrors = new LongAdder();
+    final LongAdder rejections = new LongAdder();
+    final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void onDropped() {
+        capacityErrors.increment();
+        errors.computeIfAbsent(DROPPED, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @param errorCode broker ErrorResponse code, null for 2xx or bodies without one
+     */
+    void onCompleted(int statusCode, String errorCode) {
+        completed.increment();
+        if (statusCode >= 200 && statusCode < 300) {
+            return;
+        }
+        String reason = errorCode != null ? errorCode : statusCode > 0 ? "HTTP_" + statusCode : NO_RESPONSE;
+        errors.computeIfAbsent(reason, k -> new LongAdder()).increment();
+        if (isCapacityFailure(statusCode)) {
+            capacityErrors.increment();
+        } else {
+            rejections.increment();
+        }
+    }
+
+    /**
+     * 5xx, 429 and transport failures count against capacity. Other 4xx (ROOM_ALREADY_BOOKED,
+     * DUPLICATE_RESERVATION, ...) are business rejections that happen at any load.
+     */
+    static boolean isCapacityFailure(int statusCode) {
+        return statusCode == 0 || statusCode == 429 || statusCode >= 500;
+    }
+}
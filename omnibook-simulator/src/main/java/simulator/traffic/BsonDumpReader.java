@@ -0,0 +1,96 @@
+package simulator.traffic;
+
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * mongodump .bson: documents back to back, each prefixed by its little-endian int32 total length.
+ */
+class BsonDumpReader implements DumpReader {
+
+    private static final int MAX_DOCUMENT_BYTES = 16 * 1024 * 1024;
+
+    private final InputStream in;
+    private final byte[] lengthBytes = new byte[4];
+
+    BsonDumpReader(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public DumpDocument next() throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        lengthBytes[0] = (byte) first;
+        readFully(lengthBytes, 1, 3);
+        int length = (lengthBytes[0] & 0xff)
+                | (lengthBytes[1] & 0xff) << 8
+                | (lengthBytes[2] & 0xff) << 16
+                | (lengthBytes[3] & 0xff) << 24;
+        if (length < 5 || length > MAX_DOCUMENT_BYTES) {
+            throw new IOException("corrupt BSON dump: document length " + length);
+        }
+
+        byte[] bytes = new byte[length];
+        System.arraycopy(lengthBytes, 0, bytes, 0, 4);
+        readFully(bytes, 4, length - 4);
+        return new BsonDocumentView(new RawBsonDocument(bytes));
+    }
+
+    private void readFully(byte[] buffer, int offset, int length) throws IOException {
+        int read = in.readNBytes(buffer, offset, length);
+        if (read < length) {
+            throw new EOFException("truncated BSON dump");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private record BsonDocumentView(RawBsonDocument document) implements DumpDocument {
+
+        @Override
+        public String string(String field) {
+            BsonValue value = value(field);
+            return value != null && value.isString() ? value.asString().getValue() : null;
+        }
+
+        @Override
+        public String objectId(String field) {
+            BsonValue value = value(field);
+            return value != null && value.isObjectId() ? value.asObjectId().getValue().toHexString() : null;
+        }
+
+        @Override
+        public Instant instant(String field) {
+            BsonValue value = value(field);
+            return value != null && value.isDateTime() ? Instant.ofEpochMilli(value.asDateTime().getValue()) : null;
+        }
+
+        @Override
+        public Integer integer(String field) {
+            BsonValue value = value(field);
+            return value != null && value.isNumber() ? value.asNumber().intValue() : null;
+        }
+
+        @Override
+        public Boolean bool(String field) {
+            BsonValue value = value(field);
+            return value != null && value.isBoolean() ? value.asBoolean().getValue() : null;
+        }
+
+        private BsonValue value(String field) {
+            BsonValue value = document.get(field);
+            return value == null || value.isNull() ? null : value;
+        }
+    }
+}
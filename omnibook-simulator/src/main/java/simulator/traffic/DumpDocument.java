@@ -0,0 +1,21 @@
+package simulator.traffic;
+
+import java.time.Instant;
+
+/**
+ * One document of a MongoDB export, independent of the file format.
+ * Missing fields read as null.
+ */
+interface DumpDocument {
+
+    String string(String field);
+
+    /** ObjectId as its 24-character hex form. */
+    String objectId(String field);
+
+    Instant instant(String field);
+
+    Integer integer(String field);
+
+    Boolean bool(String field);
+}
@@ -0,0 +1,34 @@
+package simulator.traffic;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Sequential reader over a MongoDB collection export.
+ *
+ * - *.bson      mongodump output (concatenated BSON documents)
+ * - otherwise   mongoexport output (one Extended JSON document per line)
+ * - *.gz        either of the above, gzip-compressed
+ */
+interface DumpReader extends Closeable {
+
+    /**
+     * @return the next document, or null at end of file
+     */
+    DumpDocument next() throws IOException;
+
+    static DumpReader open(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 20);
+        if (name.endsWith(".gz")) {
+            in = new GZIPInputStream(in, 1 << 16);
+            name = name.substring(0, name.length() - ".gz".length());
+        }
+        return name.endsWith(".bson") ? new BsonDumpReader(in) : new NdjsonDumpReader(in);
+    }
+}
@@ -0,0 +1,99 @@
+package simulator.traffic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * mongoexport NDJSON. Understands both relaxed and canonical Extended JSON:
+ * {"$oid": ...}, {"$date": "ISO" | millis | {"$numberLong": ...}}, {"$numberInt": ...}.
+ */
+class NdjsonDumpReader implements DumpReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BufferedReader reader;
+    private long line;
+
+    NdjsonDumpReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    @Override
+    public DumpDocument next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return new JsonDocument(MAPPER.readTree(text));
+            } catch (IOException e) {
+                throw new IOException("invalid JSON on line " + line + ": " + e.getMessage(), e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private record JsonDocument(JsonNode node) implements DumpDocument {
+
+        @Override
+        public String string(String field) {
+            JsonNode value = value(field);
+            return value == null ? null : value.asText();
+        }
+
+        @Override
+        public String objectId(String field) {
+            JsonNode value = value(field);
+            if (value == null) return null;
+            return value.has("$oid") ? value.get("$oid").asText() : value.asText();
+        }
+
+        @Override
+        public Instant instant(String field) {
+            JsonNode value = value(field);
+            if (value == null) return null;
+            if (value.has("$date")) {
+                value = value.get("$date");
+            }
+            if (value.has("$numberLong")) {
+                return Instant.ofEpochMilli(Long.parseLong(value.get("$numberLong").asText()));
+            }
+            return value.isNumber() ? Instant.ofEpochMilli(value.asLong()) : Instant.parse(value.asText());
+        }
+
+        @Override
+        public Integer integer(String field) {
+            JsonNode value = value(field);
+            if (value == null) return null;
+            if (value.has("$numberInt")) {
+                return Integer.parseInt(value.get("$numberInt").asText());
+            }
+            return value.asInt();
+        }
+
+        @Override
+        public Boolean bool(String field) {
+            JsonNode value = value(field);
+            return value == null ? null : value.asBoolean();
+        }
+
+        private JsonNode value(String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package simulator.traffic;
+
+/**
+ * What the broker answered to one request: HTTP status plus ErrorResponse code on failure.
+ *
+ * @param httpStatus 0 when no response was received
+ */
+public record Outcome(int httpStatus, String errorCode) {
+
+    public static final String NO_ORIGINAL = "-";
+
+    /** e.g. "200", "409 DUPLICATE_RESERVATION", "NO_RESPONSE" */
+    public String label() {
+        if (httpStatus == 0) return "NO_RESPONSE";
+        return errorCode == null ? String.valueOf(httpStatus) : httpStatus + " " + errorCode;
+    }
+
+    static Outcome from(DumpDocument document) {
+        Integer status = document.integer("httpStatus");
+        return new Outcome(status != null ? status : 0, document.string("errorCode"));
+    }
+}
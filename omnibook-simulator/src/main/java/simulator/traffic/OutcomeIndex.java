@@ -0,0 +1,50 @@
+package simulator.traffic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Original broker outcomes from a raw_event_outcomes export, keyed by raw_events._id.
+ *
+ * Loaded fully into memory before the replay starts (tens of bytes per event), so the
+ * reader thread only does a hash lookup per request.
+ */
+class OutcomeIndex {
+
+    static final OutcomeIndex EMPTY = new OutcomeIndex(Map.of());
+
+    private final Map<String, Outcome> byRawEventId;
+
+    private OutcomeIndex(Map<String, Outcome> byRawEventId) {
+        this.byRawEventId = byRawEventId;
+    }
+
+    static OutcomeIndex load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("outcome file not found: " + file);
+        }
+        Map<String, Outcome> outcomes = new HashMap<>();
+        try (DumpReader reader = DumpReader.open(file)) {
+            DumpDocument document;
+            while ((document = reader.next()) != null) {
+                String rawEventId = document.objectId("rawEventId");
+                if (rawEventId != null) {
+                    outcomes.put(rawEventId, Outcome.from(document));
+                }
+            }
+        }
+        return new OutcomeIndex(outcomes);
+    }
+
+    /** @return the original outcome, or null if none was recorded for this event */
+    Outcome get(String rawEventId) {
+        return rawEventId == null ? null : byRawEventId.get(rawEventId);
+    }
+
+    int size() {
+        return byRawEventId.size();
+    }
+}
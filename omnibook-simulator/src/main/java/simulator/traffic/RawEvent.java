@@ -0,0 +1,49 @@
+package simulator.traffic;
+
+import simulator.platform.PlatformType;
+import simulator.sender.EncodedEvent;
+import simulator.sender.RequestHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * One broker request recorded in raw_events.
+ *
+ * Header values are kept exactly as received (platform may be "A" or "YANOLJA").
+ * eventId is the original X-Event-Id header; documents stored before the broker recorded it
+ * have none, in which case the header is omitted and the broker falls back to the body eventId
+ * just as it did originally.
+ *
+ * @param id raw_events._id (hex), the join key for raw_event_outcomes
+ */
+public record RawEvent(String id, String eventId, String platform, String eventType,
+                       String correlationId, String rawBody, Instant receivedAt) {
+
+    static RawEvent from(DumpDocument document) {
+        return new RawEvent(
+                document.objectId("_id"),
+                document.string("eventId"),
+                document.string("platform"),
+                document.string("eventType"),
+                document.string("correlationId"),
+                document.string("rawBody"),
+                document.instant("receivedAt"));
+    }
+
+    public EncodedEvent toEncoded() {
+        byte[] body = rawBody != null ? rawBody.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        return EncodedEvent.recorded(new RequestHeaders(eventId, platform, eventType, correlationId), body);
+    }
+
+    /** Simulator platform for the header value, or null if the broker would not recognise it either. */
+    public PlatformType platformType() {
+        if (platform == null) return null;
+        for (PlatformType type : PlatformType.values()) {
+            if (type.name().equalsIgnoreCase(platform) || type.displayName().equalsIgnoreCase(platform)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,158 @@
+package simulator.traffic;
+
+import org.HdrHistogram.Histogram;
+import simulator.platform.PlatformType;
+import simulator.report.LatencyRecorder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one raw_events replay. The schedule fields are written by the single reader
+ * thread; outcome counters are updated concurrently by sender completion threads.
+ */
+public class TrafficReplayRun {
+
+    public enum State { RUNNING, COMPLETED, STOPPED, FAILED }
+
+    private final String runId;
+    private final String file;
+    private final double speed;
+    private final int originals;
+    private final long startNanos;
+    private volatile long endNanos;
+    private volatile State state = State.RUNNING;
+    private volatile String error;
+
+    private volatile long recordedSpanMs;
+    private volatile long maxScheduleLagNanos;
+    private final LongAdder outOfOrder = new LongAdder();
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder diverged = new LongAdder();
+    private final LongAdder noOriginal = new LongAdder();
+    private final Map<TransitionKey, LongAdder> transitions = new ConcurrentHashMap<>();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+
+    TrafficReplayRun(String runId, String file, double speed, int originals, long startNanos) {
+        this.runId = runId;
+        this.file = file;
+        this.speed = speed;
+        this.originals = originals;
+        this.startNanos = startNanos;
+    }
+
+    public String runId()              { return runId; }
+    public State state()               { return state; }
+    public LatencyRecorder latencies() { return latencies; }
+
+    /**
+     * @param spanMs        recorded time between the first event and this one
+     * @param lagNanos      how late this send is against the scaled schedule
+     * @param reordered     receivedAt went backwards in the dump (sent immediately instead)
+     */
+    void onDispatched(long spanMs, long lagNanos, boolean reordered) {
+        dispatched.increment();
+        recordedSpanMs = spanMs;
+        if (lagNanos > maxScheduleLagNanos) {
+            maxScheduleLagNanos = lagNanos;
+        }
+        if (reordered) {
+            outOfOrder.increment();
+        }
+    }
+
+    /**
+     * @param original what the broker answered when the request was recorded, null if unknown
+     * @param latencyNanos from the scheduled send time, or from dispatch at max rate
+     */
+    void onCompleted(RawEvent event, Outcome original, Outcome replay, long latencyNanos) {
+        if (original == null) {
+            noOriginal.increment();
+        } else if (original.equals(replay)) {
+            matched.increment();
+        } else {
+            diverged.increment();
+        }
+        TransitionKey key = new TransitionKey(event.platform(), event.eventType(),
+                original != null ? original.label() : Outcome.NO_ORIGINAL, replay.label(),
+                original != null && original.equals(replay));
+        transitions.computeIfAbsent(key, k -> new LongAdder()).increment();
+
+        PlatformType platform = event.platformType();
+        if (platform != null) {
+            latencies.record(platform, event.eventType(), replay.httpStatus(), latencyNanos);
+        }
+    }
+
+    /**
+     * Waits for the responses of everything dispatched so far, so the final report is complete.
+     *
+     * @return false if interrupted (run stopped)
+     */
+    boolean awaitResponses(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (matched.sum() + diverged.sum() + noOriginal.sum() < dispatched.sum()
+                && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void finish(State finalState, String error) {
+        if (state == State.RUNNING) {
+            this.error = error;
+            endNanos = System.nanoTime();
+            state = finalState;
+        }
+    }
+
+    public TrafficReplayStatus snapshot() {
+        long end = state == State.RUNNING ? System.nanoTime() : endNanos;
+        long elapsedNanos = Math.max(1, end - startNanos);
+        long same = matched.sum();
+        long changed = diverged.sum();
+        long unknown = noOriginal.sum();
+        Histogram latency = latencies.total();
+
+        List<TrafficReplayStatus.Transition> rows = new ArrayList<>();
+        transitions.forEach((key, count) -> rows.add(new TrafficReplayStatus.Transition(
+                key.platform(), key.eventType(), key.original(), key.replay(), key.matched(), count.sum())));
+        rows.sort(Comparator.comparing(TrafficReplayStatus.Transition::matched)
+                .thenComparing(Comparator.comparingLong(TrafficReplayStatus.Transition::count).reversed()));
+
+        return new TrafficReplayStatus(
+                runId,
+                file,
+                state.name(),
+                error,
+                speed,
+                originals,
+                elapsedNanos / 1_000_000,
+                recordedSpanMs,
+                dispatched.sum(),
+                same + changed + unknown,
+                same,
+                changed,
+                unknown,
+                outOfOrder.sum(),
+                maxScheduleLagNanos / 1_000_000,
+                latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0,
+                latency.getMaxValue() / 1000.0,
+                rows);
+    }
+
+    private record TransitionKey(String platform, String eventType, String original, String replay, boolean matched) {
+    }
+}
@@ -0,0 +1,43 @@
+package simulator.traffic;
+
+import java.util.List;
+
+/**
+ * Point-in-time view of a raw_events replay, returned by the traffic API.
+ *
+ * @param speed          time compression (10 = ten times faster than recorded), 0 = max rate
+ * @param originals      outcomes loaded from the raw_event_outcomes export
+ * @param recordedSpanMs recorded time covered so far (receivedAt of the latest sent event minus the first)
+ * @param matched        same HTTP status and error code as originally
+ * @param diverged       different status or error code
+ * @param noOriginal     no recorded outcome to compare with
+ * @param outOfOrder     events whose receivedAt is earlier than a previous one in the dump
+ * @param maxScheduleLagMs how far the reader fell behind the scaled schedule (sender window saturated)
+ * @param transitions    original → replay outcome counts, divergences first
+ */
+public record TrafficReplayStatus(
+        String runId,
+        String file,
+        String state,
+        String error,
+        double speed,
+        int originals,
+        long elapsedMs,
+        long recordedSpanMs,
+        long dispatched,
+        long completed,
+        long matched,
+        long diverged,
+        long noOriginal,
+        long outOfOrder,
+        long maxScheduleLagMs,
+        double p50LatencyMs,
+        double p99LatencyMs,
+        double maxLatencyMs,
+        List<Transition> transitions
+) {
+
+    public record Transition(String platform, String eventType, String original, String replay,
+                             boolean matched, long count) {
+    }
+}
@@ -0,0 +1,150 @@
+package simulator.traffic;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import simulator.load.Pacing;
+import simulator.report.ReportPrinter;
+import simulator.sender.EventSender;
+import simulator.sender.SendResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Replays recorded production traffic (a raw_events export) against a broker.
+ *
+ * Each request is resent with its original headers and body at
+ * start + (receivedAt - first receivedAt) / speed, so bursts and gaps keep their shape at
+ * 1x, 10x, 100x... The dump must be in receivedAt order
+ * (mongoexport --sort '{receivedAt: 1}'); events that go backwards are sent immediately.
+ *
+ * With a raw_event_outcomes export, every response is compared with what the broker answered
+ * originally (HTTP status + error code).
+ *
+ * 원래 결과와 비교하려면 broker DB를 덤프 시작 시점 상태로 되돌린 뒤 재생해야 한다.
+ * 이미 처리된 DB에 재생하면 예약 이벤트는 모두 중복/충돌로 처리되어 DIVERGED로 집계된다.
+ */
+@Service
+public class TrafficReplayer {
+
+    private static final long RESPONSE_GRACE_MS = 30_000;
+
+    private final EventSender sender;
+    private final ReportPrinter reportPrinter;
+    private final String targetUrl;
+
+    private volatile TrafficReplayRun current;
+    private volatile Thread readerThread;
+
+    public TrafficReplayer(EventSender sender, ReportPrinter reportPrinter,
+                           @Value("${simulator.target-url}") String targetUrl) {
+        this.sender = sender;
+        this.reportPrinter = reportPrinter;
+        this.targetUrl = targetUrl;
+    }
+
+    /**
+     * Loads the outcomes (if given) and starts replaying in the background.
+     *
+     * @param outcomes raw_event_outcomes export, null to skip the comparison
+     * @param speed    time compression factor, 0 = as fast as the sender window allows
+     * @param limit    stop after this many events, 0 = whole dump
+     * @throws IllegalStateException    if another replay is still in progress
+     * @throws IllegalArgumentException if a file does not exist or speed is negative
+     */
+    public synchronized TrafficReplayRun start(Path dump, Path outcomes, double speed, long limit) throws IOException {
+        if (current != null && current.state() == TrafficReplayRun.State.RUNNING) {
+            throw new IllegalStateException("traffic replay already in progress: " + current.runId());
+        }
+        if (!Files.isRegularFile(dump)) {
+            throw new IllegalArgumentException("dump file not found: " + dump);
+        }
+        if (speed < 0) {
+            throw new IllegalArgumentException("speed must be >= 0");
+        }
+
+        OutcomeIndex originals = outcomes != null ? OutcomeIndex.load(outcomes) : OutcomeIndex.EMPTY;
+        TrafficReplayRun run = new TrafficReplayRun(UUID.randomUUID().toString(),
+                dump.toAbsolutePath().toString(), speed, originals.size(), System.nanoTime());
+        Thread reader = new Thread(() -> replay(run, dump, originals, speed, limit), "traffic-replay");
+        reader.setDaemon(true);
+        current = run;
+        readerThread = reader;
+        reader.start();
+
+        System.out.printf(">> Traffic replay %s started: %s at %s (%d original outcomes)%n",
+                run.runId(), dump.toAbsolutePath(), speed > 0 ? speed + "x" : "max rate", originals.size());
+        return run;
+    }
+
+    public synchronized TrafficReplayRun stop() {
+        Thread reader = readerThread;
+        if (reader != null) {
+            reader.interrupt();
+        }
+        if (current != null) {
+            current.finish(TrafficReplayRun.State.STOPPED, null);
+        }
+        return current;
+    }
+
+    public TrafficReplayRun current() {
+        return current;
+    }
+
+    private void replay(TrafficReplayRun run, Path dump, OutcomeIndex originals, double speed, long limit) {
+        long startNanos = System.nanoTime();
+        try (DumpReader reader = DumpReader.open(dump)) {
+            Instant first = null;
+            long lastOffsetNanos = 0;
+            DumpDocument document;
+            for (long i = 0; (limit <= 0 || i < limit) && (document = reader.next()) != null; i++) {
+                RawEvent event = RawEvent.from(document);
+                Instant receivedAt = event.receivedAt();
+                if (first == null && receivedAt != null) {
+                    first = receivedAt;
+                }
+
+                long offsetNanos = receivedAt != null && first != null
+                        ? Math.max(0, Duration.between(first, receivedAt).toNanos())
+                        : lastOffsetNanos;
+                boolean reordered = offsetNanos < lastOffsetNanos;
+                offsetNanos = Math.max(offsetNanos, lastOffsetNanos);
+                lastOffsetNanos = offsetNanos;
+
+                long intended = speed > 0 ? startNanos + (long) (offsetNanos / speed) : System.nanoTime();
+                if (speed > 0 && !Pacing.waitUntil(intended)) {
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                run.onDispatched(offsetNanos / 1_000_000, System.nanoTime() - intended, reordered);
+                send(run, event, originals.get(event.id()), intended);
+            }
+            if (!run.awaitResponses(RESPONSE_GRACE_MS)) {
+                return;
+            }
+            run.finish(TrafficReplayRun.State.COMPLETED, null);
+            reportPrinter.print(run.snapshot());
+        } catch (IOException | RuntimeException e) {
+            run.finish(TrafficReplayRun.State.FAILED, e.getMessage());
+            System.out.printf(">> Traffic replay %s failed: %s%n", run.runId(), e.getMessage());
+        }
+    }
+
+    private void send(TrafficReplayRun run, RawEvent event, Outcome original, long intendedNanos) {
+        sender.send(targetUrl, event.toEncoded()).whenComplete((result, ex) -> {
+            Outcome replay = ex == null ? outcomeOf(result) : new Outcome(0, null);
+            run.onCompleted(event, original, replay, System.nanoTime() - intendedNanos);
+        });
+    }
+
+    private Outcome outcomeOf(SendResult result) {
+        return new Outcome(result.statusCode(), result.delivered() ? null : result.errorCode());
+    }
+}